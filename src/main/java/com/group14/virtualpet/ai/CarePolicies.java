@@ -0,0 +1,95 @@
+/**
+ * Class providing care policies per pet type, computed once and cached on disk.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.ai;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.group14.virtualpet.model.PetType;
+
+/**
+ * Cache of care policies. A policy is loaded from the policy directory when a
+ * file with a matching fingerprint exists; otherwise it is solved (a few seconds)
+ * and written there for next time. Policies are also kept in memory, so each
+ * pet type is loaded or solved at most once per run.
+ */
+public final class CarePolicies {
+
+    private static final String POLICY_DIRECTORY = "policies";
+    private static final String POLICY_EXTENSION = ".policy";
+
+    private static final Map<String, CompletableFuture<CarePolicy>> CACHE = new ConcurrentHashMap<>();
+
+    private CarePolicies() {}
+
+    /**
+     * Gets the policy for a pet type, waiting for it to be loaded or solved if needed.
+     * @param type The pet type.
+     * @return The policy.
+     */
+    public static CarePolicy forType(PetType type) {
+        return load(type).join();
+    }
+
+    /**
+     * Starts loading or solving the policy for a pet type in the background.
+     * @param type The pet type.
+     * @return A future completed with the policy.
+     */
+    public static CompletableFuture<CarePolicy> load(PetType type) {
+        return CACHE.computeIfAbsent(type.getId(),
+                id -> CompletableFuture.supplyAsync(() -> loadOrSolve(type)));
+    }
+
+    private static CarePolicy loadOrSolve(PetType type) {
+        long fingerprint = CarePolicySolver.fingerprint(type);
+        File file = new File(POLICY_DIRECTORY, type.getId() + POLICY_EXTENSION);
+        if (file.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                CarePolicy policy = CarePolicy.readFrom(in);
+                if (policy.getFingerprint() == fingerprint && policy.getPetTypeId().equals(type.getId())) {
+                    System.out.println("Loaded care policy for " + type.getId() + " from " + file.getPath());
+                    return policy;
+                }
+                System.out.println("Care policy for " + type.getId() + " is out of date; solving again.");
+            } catch (IOException e) {
+                System.err.println("Error reading care policy " + file.getPath() + ": " + e.getMessage());
+            }
+        }
+
+        long start = System.nanoTime();
+        CarePolicySolver solver = new CarePolicySolver(type);
+        CarePolicy policy = solver.solve();
+        System.out.printf("Solved care policy for %s in %d sweeps (%.1f s)%n",
+                type.getId(), solver.getSweeps(), (System.nanoTime() - start) / 1e9);
+        save(policy, file);
+        return policy;
+    }
+
+    private static void save(CarePolicy policy, File file) {
+        File directory = file.getParentFile();
+        if (!directory.exists() && !directory.mkdirs()) {
+            System.err.println("Error: Could not create policy directory: " + directory.getPath());
+            return;
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            policy.writeTo(out);
+        } catch (IOException e) {
+            System.err.println("Error writing care policy " + file.getPath() + ": " + e.getMessage());
+        }
+    }
+}
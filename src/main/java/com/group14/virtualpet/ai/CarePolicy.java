@@ -0,0 +1,198 @@
+/**
+ * Class holding a precomputed caretaker policy for one pet type.
+ * Maps a coarse description of the game to the best command in constant time.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.ai;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.PetSnapshot;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetView;
+import com.group14.virtualpet.sim.GameCommand;
+
+/**
+ * Policy table produced by CarePolicySolver.
+ * The game is abstracted to: each stat in one of {@link #BINS} equal bins of its
+ * maximum, the pet's state (dead pets have no entry), whether play and the vet
+ * are off cooldown, and whether the inventory holds any food or gift.
+ * Each entry is one byte naming the command to issue, or none.
+ * The solver plans in steps of {@link #getEpochTicks()} ticks, but the table is
+ * best consulted every tick: reacting to a hungry pet at once saves health.
+ */
+public final class CarePolicy {
+
+    /** Number of bins each stat is divided into. */
+    public static final int BINS = 6;
+
+    static final int FLAG_PLAY_READY = 1;
+    static final int FLAG_VET_READY = 2;
+    static final int FLAG_HAS_FOOD = 4;
+    static final int FLAG_HAS_GIFT = 8;
+    static final int FLAG_COMBINATIONS = 16;
+
+    /** Pet states with a table entry (every state except DEAD). */
+    static final int LIVING_STATES = PetState.DEAD.ordinal();
+    /** Number of distinct (stat bins, state) combinations. */
+    static final int STAT_STATES = LIVING_STATES * BINS * BINS * BINS * BINS;
+    /** Number of table entries. */
+    static final int SIZE = STAT_STATES * FLAG_COMBINATIONS;
+
+    /** Table value meaning "do nothing"; other values are GameCommand.Type ordinals plus one. */
+    static final byte NO_ACTION = 0;
+
+    private static final int FILE_MAGIC = 0x504C4359; // "PLCY"
+    private static final GameCommand.Type[] TYPES = GameCommand.Type.values();
+
+    private final String petTypeId;
+    private final long fingerprint;
+    private final int epochTicks;
+    private final byte[] actions;
+
+    CarePolicy(String petTypeId, long fingerprint, int epochTicks, byte[] actions) {
+        if (actions.length != SIZE) {
+            throw new IllegalArgumentException("Policy table must have " + SIZE + " entries");
+        }
+        this.petTypeId = petTypeId;
+        this.fingerprint = fingerprint;
+        this.epochTicks = epochTicks;
+        this.actions = actions;
+    }
+
+    public String getPetTypeId() {
+        return petTypeId;
+    }
+
+    /** Identifies the game rules and solver settings the policy was computed for. */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /** Number of ticks per planning step the policy was computed with. */
+    public int getEpochTicks() {
+        return epochTicks;
+    }
+
+    /**
+     * Looks up the best command type for the given situation.
+     * @return The command type, or null if the pet is dead or the best choice is to wait.
+     */
+    public GameCommand.Type actionFor(PetView pet, boolean playReady, boolean vetReady,
+                                      boolean hasFood, boolean hasGift) {
+        PetState state = pet.getCurrentState();
+        if (state == PetState.DEAD) {
+            return null;
+        }
+        int flags = (playReady ? FLAG_PLAY_READY : 0) | (vetReady ? FLAG_VET_READY : 0)
+                | (hasFood ? FLAG_HAS_FOOD : 0) | (hasGift ? FLAG_HAS_GIFT : 0);
+        int statState = statIndex(state.ordinal(),
+                bin(pet.getHealth(), pet.getMaxHealth()), bin(pet.getSleep(), pet.getMaxSleep()),
+                bin(pet.getFullness(), pet.getMaxFullness()), bin(pet.getHappiness(), pet.getMaxHappiness()));
+        byte action = actions[statState * FLAG_COMBINATIONS + flags];
+        return action == NO_ACTION ? null : TYPES[action - 1];
+    }
+
+    /**
+     * Chooses the next command for a running game.
+     * Feed and gift use the item that best fills the gap to the stat's maximum.
+     * @param pet The latest snapshot of the pet.
+     * @param inventory The current inventory contents.
+     * @return The command to submit, or null to wait.
+     */
+    public GameCommand nextCommand(PetSnapshot pet, Map<Item, Integer> inventory) {
+        FoodItem food = null;
+        GiftItem gift = null;
+        int fullnessGap = pet.getMaxFullness() - pet.getFullness();
+        int happinessGap = pet.getMaxHappiness() - pet.getHappiness();
+        for (Item item : inventory.keySet()) {
+            if (item instanceof FoodItem candidate && (food == null
+                    || Math.abs(candidate.getFullnessValue() - fullnessGap)
+                        < Math.abs(food.getFullnessValue() - fullnessGap))) {
+                food = candidate;
+            } else if (item instanceof GiftItem candidate && (gift == null
+                    || Math.abs(candidate.getHappinessValue() - happinessGap)
+                        < Math.abs(gift.getHappinessValue() - happinessGap))) {
+                gift = candidate;
+            }
+        }
+        GameCommand.Type type = actionFor(pet, pet.playAvailable(), pet.vetAvailable(), food != null, gift != null);
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
+            case FEED -> GameCommand.feed(food);
+            case GIFT -> GameCommand.gift(gift);
+            default -> GameCommand.of(type);
+        };
+    }
+
+    /** Returns the bin (0 to BINS - 1) a stat value falls in. */
+    static int bin(int value, int max) {
+        if (value <= 0) {
+            return 0;
+        }
+        if (value >= max) {
+            return BINS - 1;
+        }
+        return (int) ((long) value * BINS / (max + 1));
+    }
+
+    /** Returns the lowest value in a bin. */
+    static int binLow(int bin, int max) {
+        return (int) (((long) bin * (max + 1) + BINS - 1) / BINS);
+    }
+
+    /** Returns the highest value in a bin. */
+    static int binHigh(int bin, int max) {
+        return bin == BINS - 1 ? max : binLow(bin + 1, max) - 1;
+    }
+
+    static int statIndex(int state, int health, int sleep, int fullness, int happiness) {
+        return (((state * BINS + health) * BINS + sleep) * BINS + fullness) * BINS + happiness;
+    }
+
+    /** Writes the policy in its binary cache format. */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(FILE_MAGIC);
+        out.writeUTF(petTypeId);
+        out.writeLong(fingerprint);
+        out.writeInt(epochTicks);
+        out.writeInt(actions.length);
+        out.write(actions);
+    }
+
+    /**
+     * Reads a policy written by {@link #writeTo(DataOutputStream)}.
+     * @throws IOException if the data is not a valid policy.
+     */
+    public static CarePolicy readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != FILE_MAGIC) {
+            throw new IOException("Not a care policy file");
+        }
+        String petTypeId = in.readUTF();
+        long fingerprint = in.readLong();
+        int epochTicks = in.readInt();
+        int length = in.readInt();
+        if (length != SIZE || epochTicks <= 0) {
+            throw new IOException("Care policy has an unexpected layout");
+        }
+        byte[] actions = new byte[length];
+        in.readFully(actions);
+        for (byte action : actions) {
+            if (action < 0 || action > TYPES.length) {
+                throw new IOException("Care policy contains an unknown action: " + action);
+            }
+        }
+        return new CarePolicy(petTypeId, fingerprint, epochTicks, actions);
+    }
+}
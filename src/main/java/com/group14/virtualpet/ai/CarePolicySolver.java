@@ -0,0 +1,384 @@
+/**
+ * Class computing caretaker policies offline by value iteration.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.ai;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.PackedPetState;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameRules;
+import com.group14.virtualpet.util.SimulatedClock;
+
+/**
+ * Value-iteration solver for the abstract game described in CarePolicy.
+ * <p>
+ * Stat transitions come from the real Pet: for every (stat bins, state) cell and
+ * command, a few pets are sampled inside the cell, given the command and ticked
+ * for one decision epoch, and the cells they end up in form the transition
+ * distribution. Feed and gift use an item with the average value of the item pool.
+ * Cooldowns and the inventory are modelled as flags that change randomly between
+ * decisions, with rates taken from the cooldown lengths and the item grant rules.
+ * The reward is one point per tick the pet stays alive plus the score of the command.
+ */
+public class CarePolicySolver {
+
+    /** Ticks per planning step. */
+    public static final int EPOCH_TICKS = 5;
+    /** Bump when the model changes so cached policies are recomputed. */
+    static final int SOLVER_VERSION = 1;
+
+    private static final int SAMPLES = 8;
+    private static final double DISCOUNT = 0.95;
+    private static final double ALIVE_REWARD_PER_TICK = 1.0;
+    private static final double TOLERANCE = 1e-4;
+    private static final int MAX_SWEEPS = 5_000;
+    /** Chance that feeding or gifting used the last item of its kind. */
+    private static final double LAST_ITEM_CHANCE = 0.5;
+
+    /** Commands considered, in order of preference when values tie. The first is "do nothing". */
+    private static final GameCommand.Type[] ACTIONS = {
+        null, GameCommand.Type.SLEEP, GameCommand.Type.FEED, GameCommand.Type.PLAY,
+        GameCommand.Type.GIFT, GameCommand.Type.VET, GameCommand.Type.EXERCISE
+    };
+
+    private static final PetState[] STATES = PetState.values();
+    private static final int HUNGRY = PetState.HUNGRY.ordinal();
+
+    private final PetType type;
+    // Per (stat state, action): successor stat states (-1 = dead), their probabilities and the expected reward.
+    private final int[][][] successors;
+    private final double[][][] probabilities;
+    private final double[][] immediateReward;
+    // Flag distribution between decisions: NATURAL[from][to].
+    private final double[][] naturalFlags;
+    private int sweeps;
+
+    /**
+     * Builds the transition model for a pet type.
+     * @param type The pet type to solve.
+     */
+    public CarePolicySolver(PetType type) {
+        this.type = type;
+        this.successors = new int[CarePolicy.STAT_STATES][ACTIONS.length][];
+        this.probabilities = new double[CarePolicy.STAT_STATES][ACTIONS.length][];
+        this.immediateReward = new double[CarePolicy.STAT_STATES][ACTIONS.length];
+        this.naturalFlags = naturalFlagTransitions();
+        buildStatModel();
+    }
+
+    /**
+     * Runs value iteration to convergence and extracts the policy table.
+     * @return The policy for this solver's pet type.
+     */
+    public CarePolicy solve() {
+        double[] values = new double[CarePolicy.SIZE];
+        double[] next = new double[CarePolicy.SIZE];
+        double[] afterFlags = new double[CarePolicy.SIZE];
+        for (sweeps = 1; sweeps <= MAX_SWEEPS; sweeps++) {
+            expectOverFlags(values, afterFlags);
+            double maxChange = 0;
+            for (int statState = 0; statState < CarePolicy.STAT_STATES; statState++) {
+                for (int flags = 0; flags < CarePolicy.FLAG_COMBINATIONS; flags++) {
+                    int index = statState * CarePolicy.FLAG_COMBINATIONS + flags;
+                    double best = Double.NEGATIVE_INFINITY;
+                    for (int action = 0; action < ACTIONS.length; action++) {
+                        if (isAvailable(statState, flags, action)) {
+                            best = Math.max(best, actionValue(statState, flags, action, afterFlags));
+                        }
+                    }
+                    next[index] = best;
+                    maxChange = Math.max(maxChange, Math.abs(best - values[index]));
+                }
+            }
+            double[] swap = values;
+            values = next;
+            next = swap;
+            if (maxChange < TOLERANCE) {
+                break;
+            }
+        }
+
+        expectOverFlags(values, afterFlags);
+        byte[] table = new byte[CarePolicy.SIZE];
+        for (int statState = 0; statState < CarePolicy.STAT_STATES; statState++) {
+            for (int flags = 0; flags < CarePolicy.FLAG_COMBINATIONS; flags++) {
+                double best = Double.NEGATIVE_INFINITY;
+                int bestAction = 0;
+                for (int action = 0; action < ACTIONS.length; action++) {
+                    if (isAvailable(statState, flags, action)) {
+                        double value = actionValue(statState, flags, action, afterFlags);
+                        if (value > best + 1e-9) {
+                            best = value;
+                            bestAction = action;
+                        }
+                    }
+                }
+                table[statState * CarePolicy.FLAG_COMBINATIONS + flags] =
+                        bestAction == 0 ? CarePolicy.NO_ACTION : (byte) (ACTIONS[bestAction].ordinal() + 1);
+            }
+        }
+        return new CarePolicy(type.getId(), fingerprint(type), EPOCH_TICKS, table);
+    }
+
+    /** Returns the number of sweeps the last solve() needed. */
+    public int getSweeps() {
+        return sweeps;
+    }
+
+    /**
+     * Identifies everything a policy depends on: the pet type's tuning, the game
+     * rules and this solver's settings. A cached policy with another fingerprint is stale.
+     */
+    public static long fingerprint(PetType type) {
+        long hash = SOLVER_VERSION;
+        long[] parts = {
+            type.getMaxHealth(), type.getMaxSleep(), type.getMaxFullness(), type.getMaxHappiness(),
+            type.getSleepDecline(), type.getFullnessDecline(), type.getHappinessDecline(),
+            Pet.PLAY_COOLDOWN_MS, Pet.VET_COOLDOWN_MS, GameRules.TICK_MILLIS, GameRules.ITEM_GRANT_INTERVAL_TICKS,
+            GameRules.EMERGENCY_RATION.getFullnessValue(), CarePolicy.BINS, EPOCH_TICKS, SAMPLES,
+            Double.doubleToLongBits(DISCOUNT)
+        };
+        for (long part : parts) {
+            hash = hash * 31 + part;
+        }
+        for (Item item : GameRules.AVAILABLE_ITEMS) {
+            hash = hash * 31 + item.getName().hashCode();
+            hash = hash * 31 + (item instanceof FoodItem food ? food.getFullnessValue()
+                    : item instanceof GiftItem gift ? gift.getHappinessValue() : 0);
+        }
+        return hash;
+    }
+
+    private boolean isAvailable(int statState, int flags, int action) {
+        GameCommand.Type command = ACTIONS[action];
+        if (command == null) {
+            return true;
+        }
+        if (!GameRules.isCommandAllowed(command, STATES[stateOf(statState)])) {
+            return false;
+        }
+        return switch (command) {
+            case FEED -> (flags & CarePolicy.FLAG_HAS_FOOD) != 0;
+            case GIFT -> (flags & CarePolicy.FLAG_HAS_GIFT) != 0;
+            case PLAY -> (flags & CarePolicy.FLAG_PLAY_READY) != 0;
+            case VET -> (flags & CarePolicy.FLAG_VET_READY) != 0;
+            default -> true;
+        };
+    }
+
+    /** Expected discounted value of taking an action, given the flag-averaged successor values. */
+    private double actionValue(int statState, int flags, int action, double[] afterFlags) {
+        GameCommand.Type command = ACTIONS[action];
+        int usedFlag = command == GameCommand.Type.FEED ? CarePolicy.FLAG_HAS_FOOD
+                : command == GameCommand.Type.GIFT ? CarePolicy.FLAG_HAS_GIFT
+                : command == GameCommand.Type.PLAY ? CarePolicy.FLAG_PLAY_READY
+                : command == GameCommand.Type.VET ? CarePolicy.FLAG_VET_READY : 0;
+        int[] next = successors[statState][action];
+        double[] weights = probabilities[statState][action];
+        double future = 0;
+        for (int k = 0; k < next.length; k++) {
+            if (next[k] < 0) {
+                continue; // The pet died; nothing more to gain.
+            }
+            int base = next[k] * CarePolicy.FLAG_COMBINATIONS;
+            double value;
+            if (usedFlag == CarePolicy.FLAG_HAS_FOOD || usedFlag == CarePolicy.FLAG_HAS_GIFT) {
+                value = LAST_ITEM_CHANCE * afterFlags[base + (flags & ~usedFlag)]
+                        + (1 - LAST_ITEM_CHANCE) * afterFlags[base + flags];
+            } else {
+                value = afterFlags[base + (flags & ~usedFlag)];
+            }
+            future += weights[k] * value;
+        }
+        double score = command == null ? 0 : GameRules.scoreFor(command);
+        return score + immediateReward[statState][action] + DISCOUNT * future;
+    }
+
+    /**
+     * For every successor cell and post-command flags, averages the values over
+     * how the flags change before the next decision (cooldowns ending, items found,
+     * emergency rations).
+     */
+    private void expectOverFlags(double[] values, double[] out) {
+        for (int statState = 0; statState < CarePolicy.STAT_STATES; statState++) {
+            boolean hungry = stateOf(statState) == HUNGRY;
+            int base = statState * CarePolicy.FLAG_COMBINATIONS;
+            for (int from = 0; from < CarePolicy.FLAG_COMBINATIONS; from++) {
+                double sum = 0;
+                for (int to = 0; to < CarePolicy.FLAG_COMBINATIONS; to++) {
+                    double p = naturalFlags[from][to];
+                    if (p != 0) {
+                        int flags = hungry ? to | CarePolicy.FLAG_HAS_FOOD : to;
+                        sum += p * values[base + flags];
+                    }
+                }
+                out[base + from] = sum;
+            }
+        }
+    }
+
+    private static double[][] naturalFlagTransitions() {
+        double epochMillis = (double) EPOCH_TICKS * GameRules.TICK_MILLIS;
+        double playReady = Math.min(1, epochMillis / Pet.PLAY_COOLDOWN_MS);
+        double vetReady = Math.min(1, epochMillis / Pet.VET_COOLDOWN_MS);
+        double grant = Math.min(1, (double) EPOCH_TICKS / GameRules.ITEM_GRANT_INTERVAL_TICKS);
+        long foodCount = GameRules.AVAILABLE_ITEMS.stream().filter(item -> item instanceof FoodItem).count();
+        // Half the grants are food only, the other half pick from the whole pool.
+        double foodShare = 0.5 + 0.5 * foodCount / GameRules.AVAILABLE_ITEMS.size();
+        double[] gain = new double[4];
+        gain[0] = playReady;
+        gain[1] = vetReady;
+        gain[2] = grant * foodShare;
+        gain[3] = grant * (1 - foodShare);
+
+        double[][] transitions = new double[CarePolicy.FLAG_COMBINATIONS][CarePolicy.FLAG_COMBINATIONS];
+        for (int from = 0; from < CarePolicy.FLAG_COMBINATIONS; from++) {
+            for (int to = 0; to < CarePolicy.FLAG_COMBINATIONS; to++) {
+                double p = 1;
+                for (int bit = 0; bit < 4; bit++) {
+                    boolean was = (from & (1 << bit)) != 0;
+                    boolean is = (to & (1 << bit)) != 0;
+                    if (was) {
+                        p *= is ? 1 : 0; // Flags are only cleared by commands.
+                    } else {
+                        p *= is ? gain[bit] : 1 - gain[bit];
+                    }
+                }
+                transitions[from][to] = p;
+            }
+        }
+        return transitions;
+    }
+
+    private void buildStatModel() {
+        FoodItem food = new FoodItem("Average food", averageValue(true));
+        GiftItem gift = new GiftItem("Average gift", averageValue(false));
+        int[] samples = new int[SAMPLES];
+        for (int statState = 0; statState < CarePolicy.STAT_STATES; statState++) {
+            PetState state = STATES[stateOf(statState)];
+            int healthBin = binOf(statState, 3);
+            int sleepBin = binOf(statState, 2);
+            int fullnessBin = binOf(statState, 1);
+            int happinessBin = binOf(statState, 0);
+            for (int action = 0; action < ACTIONS.length; action++) {
+                Random random = new Random(statState * 31L + 7);
+                double alive = 0;
+                for (int k = 0; k < SAMPLES; k++) {
+                    Pet pet = new Pet("Solver", type.getId());
+                    pet.setClock(new SimulatedClock());
+                    int fullness = state == PetState.HUNGRY ? 0 : sample(random, fullnessBin, type.getMaxFullness());
+                    PackedPetState.restore(pet, PackedPetState.encode(
+                            sample(random, healthBin, type.getMaxHealth()),
+                            sample(random, sleepBin, type.getMaxSleep()),
+                            fullness,
+                            sample(random, happinessBin, type.getMaxHappiness()),
+                            state));
+                    apply(pet, ACTIONS[action], food, gift);
+                    int ticks = 0;
+                    while (ticks < EPOCH_TICKS && pet.getCurrentState() != PetState.DEAD) {
+                        pet.liveOneTick();
+                        ticks++;
+                        if (pet.getCurrentState() != PetState.DEAD) {
+                            alive += ALIVE_REWARD_PER_TICK;
+                        }
+                    }
+                    samples[k] = pet.getCurrentState() == PetState.DEAD ? -1 : cellOf(pet);
+                }
+                immediateReward[statState][action] = alive / SAMPLES;
+                collapse(statState, action, samples);
+            }
+        }
+    }
+
+    /** Stores the distinct sampled successors with their frequencies. */
+    private void collapse(int statState, int action, int[] samples) {
+        int[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int k = 0; k < sorted.length; k++) {
+            if (k == 0 || sorted[k] != sorted[k - 1]) {
+                distinct++;
+            }
+        }
+        int[] next = new int[distinct];
+        double[] weights = new double[distinct];
+        int slot = -1;
+        for (int k = 0; k < sorted.length; k++) {
+            if (k == 0 || sorted[k] != sorted[k - 1]) {
+                next[++slot] = sorted[k];
+            }
+            weights[slot] += 1.0 / sorted.length;
+        }
+        successors[statState][action] = next;
+        probabilities[statState][action] = weights;
+    }
+
+    private static void apply(Pet pet, GameCommand.Type command, FoodItem food, GiftItem gift) {
+        if (command == null) {
+            return;
+        }
+        switch (command) {
+            case FEED -> pet.feed(food);
+            case GIFT -> pet.receiveGift(gift);
+            case PLAY -> pet.play();
+            case VET -> pet.takeToVet();
+            case EXERCISE -> pet.exercise();
+            case SLEEP -> pet.goToBed();
+            default -> { }
+        }
+    }
+
+    private int cellOf(Pet pet) {
+        return CarePolicy.statIndex(pet.getCurrentState().ordinal(),
+                CarePolicy.bin(pet.getHealth(), pet.getMaxHealth()),
+                CarePolicy.bin(pet.getSleep(), pet.getMaxSleep()),
+                CarePolicy.bin(pet.getFullness(), pet.getMaxFullness()),
+                CarePolicy.bin(pet.getHappiness(), pet.getMaxHappiness()));
+    }
+
+    private static int sample(Random random, int bin, int max) {
+        int low = CarePolicy.binLow(bin, max);
+        int high = CarePolicy.binHigh(bin, max);
+        return high <= low ? low : low + random.nextInt(high - low + 1);
+    }
+
+    private static int stateOf(int statState) {
+        return statState / (CarePolicy.BINS * CarePolicy.BINS * CarePolicy.BINS * CarePolicy.BINS);
+    }
+
+    /** Returns one stat's bin; position 3 is health, 2 sleep, 1 fullness and 0 happiness. */
+    private static int binOf(int statState, int position) {
+        int divisor = 1;
+        for (int i = 0; i < position; i++) {
+            divisor *= CarePolicy.BINS;
+        }
+        return statState / divisor % CarePolicy.BINS;
+    }
+
+    private static int averageValue(boolean foodItems) {
+        int sum = 0;
+        int count = 0;
+        for (Item item : GameRules.AVAILABLE_ITEMS) {
+            if (foodItems && item instanceof FoodItem food) {
+                sum += food.getFullnessValue();
+                count++;
+            } else if (!foodItems && item instanceof GiftItem gift) {
+                sum += gift.getHappinessValue();
+                count++;
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+}
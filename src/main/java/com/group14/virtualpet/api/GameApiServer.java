@@ -0,0 +1,540 @@
+/**
+ * Class providing a local HTTP/JSON API for headless game sessions.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetSnapshot;
+import com.group14.virtualpet.sim.EventSubscription;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameRules;
+import com.group14.virtualpet.sim.SessionEvent;
+import com.group14.virtualpet.sim.SessionHost;
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.state.GameStateSnapshot;
+import com.group14.virtualpet.util.SaveLoadUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves the sessions of a {@link SessionHost} over HTTP on the loopback interface,
+ * using the JDK's built-in server with one virtual thread per request.
+ * <p>
+ * Routes (parameters are query parameters):
+ * <pre>
+ * POST   /sessions?name=Rex&amp;type=friendly_robot   create a game with one pet
+ * POST   /sessions/load?file=slot1                 load a saved game, caught up to now, into a new session
+ * GET    /sessions/{id}                            current state
+ * POST   /sessions/{id}/{command}[?pet=0&amp;item=X]   feed, play, gift, vet, exercise or sleep
+ * POST   /sessions/{id}/save?file=slot1            save the current state
+ * GET    /sessions/{id}/events[?buffer=64&amp;policy=coalesce]   stream events
+ * DELETE /sessions/{id}                            stop the session
+ * </pre>
+ * Commands are queued with the session's loop and applied on its next turn, so a
+ * command request answers 202 with the tick it was queued at; fetch the state to
+ * see its effect. Feed and gift use the named item, or the first suitable item in
+ * the inventory.
+ * <p>
+ * Responses are written with Jackson's streaming {@link JsonGenerator} straight
+ * from the published snapshot, without building an object tree. Errors are reported as
+ * {@code {"error": "..."}} with a 4xx or 5xx status.
+ * <p>
+ * The events route is a server-sent event stream (text/event-stream) of the
+ * session's {@link SessionEvent}s, one JSON object per {@code data:} line, with a
+ * comment every {@value #KEEPALIVE_SECONDS} seconds while nothing happens. Each
+ * stream has its own bounded buffer ({@code buffer}, at most
+ * {@value #MAX_EVENT_BUFFER}) that either drops the oldest event
+ * ({@code policy=drop-oldest}) or merges stat changes ({@code policy=coalesce},
+ * the default) when the client falls behind; missed events are announced with a
+ * {@code dropped} event so the client can fetch the state again.
+ */
+public final class GameApiServer implements AutoCloseable {
+
+    /** Port used by {@link #main} when none is given. */
+    public static final int DEFAULT_PORT = 8080;
+
+    /** Events buffered per stream when the client does not say. */
+    public static final int DEFAULT_EVENT_BUFFER = 64;
+    /** Most events a client may ask to buffer per stream. */
+    public static final int MAX_EVENT_BUFFER = 1024;
+    /** Seconds between keep-alive comments on a quiet event stream. */
+    public static final int KEEPALIVE_SECONDS = 15;
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final String SESSIONS = "/sessions";
+
+    static {
+        // The JDK server writes the headers and the body separately; without TCP_NODELAY,
+        // Nagle's algorithm and delayed acknowledgements add about 40 ms to every response.
+        // Read once, when the first HttpServer in the process is created.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final SessionHost host;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a server bound to the loopback interface. Call {@link #start()} to serve.
+     * @param host The host whose sessions to serve; the server does not close it.
+     * @param port The port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public GameApiServer(SessionHost host, int port) throws IOException {
+        this.host = host;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(SESSIONS, this::handle);
+    }
+
+    /** Starts serving requests. */
+    public void start() {
+        server.start();
+        System.out.println("Game API listening on http://localhost:" + getPort() + SESSIONS);
+    }
+
+    /** Gets the port the server is bound to. */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /** Stops serving. Requests in progress are given a moment to finish. */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (ApiException e) {
+            writeError(exchange, e.status, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            writeError(exchange, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("Game API request failed: " + e.getMessage());
+            e.printStackTrace();
+            writeError(exchange, 500, "Internal error");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        if (!path.equals(SESSIONS) && !path.startsWith(SESSIONS + "/")) {
+            throw new ApiException(404, "No such resource: " + path);
+        }
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String[] parts = path.substring(SESSIONS.length()).split("/");
+        // parts[0] is the empty string before the first slash.
+        if (parts.length <= 1) {
+            expect(method, "POST");
+            long id = create(new GameState(new Pet(require(query, "name"), require(query, "type")), new Inventory(), 0));
+            writeState(exchange, 201, id);
+        } else if (parts.length == 2 && parts[1].equals("load")) {
+            expect(method, "POST");
+            GameState state = SaveLoadUtil.loadGame(fileName(query));
+            if (state == null) {
+                throw new ApiException(404, "No such save: " + query.get("file"));
+            }
+            // Offline time passes at the game's own tick rate, as when the Swing game loads a save.
+            state.catchUpOfflineTime(System.currentTimeMillis(), GameRules.TICK_MILLIS);
+            writeState(exchange, 201, create(state));
+        } else if (parts.length == 2) {
+            long id = parseId(parts[1]);
+            if (method.equals("GET")) {
+                writeState(exchange, 200, id);
+            } else if (method.equals("DELETE")) {
+                if (host.stop(id) == null) {
+                    throw new ApiException(404, "No such session: " + id);
+                }
+                writeStatus(exchange, 200, "stopped", id);
+            } else {
+                throw new ApiException(405, "Method not allowed: " + method);
+            }
+        } else if (parts.length == 3 && parts[2].equals("save")) {
+            expect(method, "POST");
+            long id = parseId(parts[1]);
+            if (!SaveLoadUtil.saveGame(view(id), fileName(query))) {
+                throw new ApiException(500, "Failed to save game");
+            }
+            writeStatus(exchange, 200, "saved", id);
+        } else if (parts.length == 3 && parts[2].equals("events")) {
+            expect(method, "GET");
+            streamEvents(exchange, parseId(parts[1]), query);
+        } else if (parts.length == 3) {
+            expect(method, "POST");
+            long id = parseId(parts[1]);
+            GameCommand command = parseCommand(parts[2], query, snapshot(id));
+            if (!host.submit(id, command)) {
+                throw new ApiException(429, "Too many pending commands");
+            }
+            writeStatus(exchange, 202, "queued", id);
+        } else {
+            throw new ApiException(404, "No such resource: " + path);
+        }
+    }
+
+    private long create(GameState state) {
+        try {
+            return host.create(state);
+        } catch (IllegalStateException e) {
+            throw new ApiException(503, e.getMessage());
+        }
+    }
+
+    /** Gets the exact state of a session; a client asking for it counts as looking at it. */
+    private GameStateSnapshot view(long id) {
+        GameStateSnapshot snapshot;
+        try {
+            snapshot = host.view(id);
+        } catch (IllegalStateException e) {
+            throw new ApiException(503, e.getMessage());
+        }
+        if (snapshot == null) {
+            throw new ApiException(404, "No such session: " + id);
+        }
+        return snapshot;
+    }
+
+    private GameStateSnapshot snapshot(long id) {
+        GameStateSnapshot snapshot = host.getSnapshot(id);
+        if (snapshot == null) {
+            throw new ApiException(404, "No such session: " + id);
+        }
+        return snapshot;
+    }
+
+    /** Builds a command for one of the household's pets from the request. */
+    private static GameCommand parseCommand(String name, Map<String, String> query, GameStateSnapshot snapshot) {
+        GameCommand.Type type;
+        try {
+            type = GameCommand.Type.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(404, "No such command: " + name);
+        }
+        int pet = query.containsKey("pet") ? parseInt(query.get("pet"), "pet") : 0;
+        if (pet < 0 || pet >= snapshot.pets().size()) {
+            throw new ApiException(400, "No such pet: " + pet);
+        }
+        GameCommand command = switch (type) {
+            case FEED -> GameCommand.feed((FoodItem) findItem(snapshot, query.get("item"), FoodItem.class));
+            case GIFT -> GameCommand.gift((GiftItem) findItem(snapshot, query.get("item"), GiftItem.class));
+            case GRANT -> throw new ApiException(404, "No such command: " + name);
+            default -> GameCommand.of(type);
+        };
+        return command.forPet(pet);
+    }
+
+    /** Finds an item of a kind in the inventory, by name or else the first one. */
+    private static Item findItem(GameStateSnapshot snapshot, String name, Class<? extends Item> kind) {
+        for (Item item : snapshot.inventory().keySet()) {
+            if (kind.isInstance(item) && (name == null || item.getName().equals(name))) {
+                return item;
+            }
+        }
+        String what = kind == FoodItem.class ? "food" : "gift";
+        throw new ApiException(409, name == null ? "No " + what + " in inventory" : "No " + what + " named " + name);
+    }
+
+    /** Streams a session's events until the client leaves or the session is stopped. */
+    private void streamEvents(HttpExchange exchange, long id, Map<String, String> query) throws IOException {
+        int capacity = query.containsKey("buffer") ? parseInt(query.get("buffer"), "buffer") : DEFAULT_EVENT_BUFFER;
+        if (capacity <= 0 || capacity > MAX_EVENT_BUFFER) {
+            throw new ApiException(400, "Buffer must be between 1 and " + MAX_EVENT_BUFFER + ": " + capacity);
+        }
+        EventSubscription.OverflowPolicy policy = parsePolicy(query.get("policy"));
+        EventSubscription subscription;
+        try {
+            subscription = host.subscribe(id, capacity, policy);
+        } catch (IllegalStateException e) {
+            throw new ApiException(429, e.getMessage());
+        }
+        if (subscription == null) {
+            throw new ApiException(404, "No such session: " + id);
+        }
+        try (subscription) {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+            body.write(": subscribed\n\n".getBytes(StandardCharsets.UTF_8));
+            body.flush();
+            while (true) {
+                SessionEvent event = subscription.poll(KEEPALIVE_SECONDS, TimeUnit.SECONDS);
+                long dropped = subscription.takeDroppedCount();
+                if (dropped > 0) {
+                    writeDropped(body, dropped);
+                }
+                if (event != null) {
+                    writeEvent(body, event);
+                } else if (subscription.isClosed()) {
+                    break;
+                } else {
+                    body.write(": keepalive\n\n".getBytes(StandardCharsets.UTF_8));
+                }
+                body.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // The client went away; closing the subscription is all that is left to do.
+        }
+    }
+
+    private static EventSubscription.OverflowPolicy parsePolicy(String text) {
+        if (text == null || text.equals("coalesce")) {
+            return EventSubscription.OverflowPolicy.COALESCE;
+        }
+        if (text.equals("drop-oldest")) {
+            return EventSubscription.OverflowPolicy.DROP_OLDEST;
+        }
+        throw new ApiException(400, "Policy must be coalesce or drop-oldest: " + text);
+    }
+
+    /** Writes one server-sent event with a single-line JSON payload. */
+    private static void writeEvent(OutputStream body, SessionEvent event) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream(256);
+        try (JsonGenerator json = JSON.createGenerator(data)) {
+            json.writeStartObject();
+            json.writeNumberField("tick", event.tick());
+            if (event.petIndex() >= 0) {
+                json.writeNumberField("pet", event.petIndex());
+            }
+            switch (event.type()) {
+                case STATE_CHANGED -> {
+                    json.writeStringField("from", event.previous().getCurrentState().name());
+                    json.writeStringField("to", event.pet().getCurrentState().name());
+                }
+                case STATS_CHANGED -> {
+                    PetSnapshot before = event.previous();
+                    PetSnapshot after = event.pet();
+                    json.writeObjectFieldStart("stats");
+                    json.writeNumberField("health", after.getHealth());
+                    json.writeNumberField("sleep", after.getSleep());
+                    json.writeNumberField("fullness", after.getFullness());
+                    json.writeNumberField("happiness", after.getHappiness());
+                    json.writeEndObject();
+                    json.writeObjectFieldStart("delta");
+                    json.writeNumberField("health", after.getHealth() - before.getHealth());
+                    json.writeNumberField("sleep", after.getSleep() - before.getSleep());
+                    json.writeNumberField("fullness", after.getFullness() - before.getFullness());
+                    json.writeNumberField("happiness", after.getHappiness() - before.getHappiness());
+                    json.writeEndObject();
+                }
+                case ITEM_GRANTED, EMERGENCY_RATION -> json.writeStringField("item", event.detail());
+                case COOLDOWN_EXPIRED -> json.writeStringField("command", event.detail());
+                case GAME_OVER -> {
+                    // The tick is all there is to say.
+                }
+            }
+            json.writeEndObject();
+        }
+        writeFrame(body, event.type().name().toLowerCase(Locale.ROOT), data);
+    }
+
+    private static void writeDropped(OutputStream body, long count) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream(32);
+        try (JsonGenerator json = JSON.createGenerator(data)) {
+            json.writeStartObject();
+            json.writeNumberField("count", count);
+            json.writeEndObject();
+        }
+        writeFrame(body, "dropped", data);
+    }
+
+    private static void writeFrame(OutputStream body, String name, ByteArrayOutputStream data) throws IOException {
+        body.write(("event: " + name + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+        data.writeTo(body);
+        body.write("\n\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeState(HttpExchange exchange, int status, long id) throws IOException {
+        GameStateSnapshot snapshot = view(id);
+        SessionHost.Status sessionStatus = host.getStatus(id);
+        try (JsonGenerator json = startJson(exchange, status)) {
+            json.writeStartObject();
+            json.writeNumberField("id", id);
+            json.writeStringField("status", sessionStatus != null ? sessionStatus.name() : "STOPPED");
+            json.writeNumberField("tick", snapshot.tick());
+            json.writeNumberField("score", snapshot.score());
+            json.writeArrayFieldStart("pets");
+            for (PetSnapshot pet : snapshot.pets()) {
+                json.writeStartObject();
+                json.writeStringField("name", pet.getName());
+                json.writeStringField("type", pet.getPetType());
+                json.writeStringField("state", pet.getCurrentState().name());
+                writeStat(json, "health", pet.getHealth(), pet.getMaxHealth());
+                writeStat(json, "sleep", pet.getSleep(), pet.getMaxSleep());
+                writeStat(json, "fullness", pet.getFullness(), pet.getMaxFullness());
+                writeStat(json, "happiness", pet.getHappiness(), pet.getMaxHappiness());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeArrayFieldStart("inventory");
+            for (Map.Entry<Item, Integer> entry : snapshot.inventory().entrySet()) {
+                json.writeStartObject();
+                json.writeStringField("name", entry.getKey().getName());
+                json.writeStringField("kind", entry.getKey() instanceof FoodItem ? "food" : "gift");
+                json.writeNumberField("count", entry.getValue());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeStat(JsonGenerator json, String name, int value, int max) throws IOException {
+        json.writeObjectFieldStart(name);
+        json.writeNumberField("value", value);
+        json.writeNumberField("max", max);
+        json.writeEndObject();
+    }
+
+    private void writeStatus(HttpExchange exchange, int status, String result, long id) throws IOException {
+        try (JsonGenerator json = startJson(exchange, status)) {
+            json.writeStartObject();
+            json.writeNumberField("id", id);
+            json.writeStringField("result", result);
+            long tick = host.getTickCount(id);
+            if (tick >= 0) {
+                json.writeNumberField("tick", tick);
+            }
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeError(HttpExchange exchange, int status, String message) throws IOException {
+        try (JsonGenerator json = startJson(exchange, status)) {
+            json.writeStartObject();
+            json.writeStringField("error", message != null ? message : "Error");
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns a generator for a JSON response. Closing the generator sends the
+     * response with a fixed length, which saves the extra packet that ends a
+     * chunked response.
+     */
+    private static JsonGenerator startJson(HttpExchange exchange, int status) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512) {
+            @Override
+            public void close() throws IOException {
+                exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+                exchange.sendResponseHeaders(status, count);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(buf, 0, count);
+                }
+            }
+        };
+        return JSON.createGenerator(buffer);
+    }
+
+    private static void expect(String method, String expected) {
+        if (!method.equals(expected)) {
+            throw new ApiException(405, "Method not allowed: " + method);
+        }
+    }
+
+    private static long parseId(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            throw new ApiException(404, "No such session: " + text);
+        }
+    }
+
+    private static int parseInt(String text, String name) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "Invalid " + name + ": " + text);
+        }
+    }
+
+    private static String require(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null || value.isBlank()) {
+            throw new ApiException(400, "Missing parameter: " + name);
+        }
+        return value;
+    }
+
+    /** Gets the save file name, sanitized the same way as the game's save dialog. */
+    private static String fileName(Map<String, String> query) {
+        return require(query, "file").trim().replaceAll("[^a-zA-Z0-9.-]", "_");
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals >= 0 ? pair.substring(0, equals) : pair;
+            String value = equals >= 0 ? pair.substring(equals + 1) : "";
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    /** A request that cannot be served, with the HTTP status to answer. */
+    private static final class ApiException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Runs the API until the process is stopped.
+     * @param args Optional port and session limit.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int maxSessions = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        SessionHost host = new SessionHost(GameRules.TICK_MILLIS, maxSessions);
+        GameApiServer server = new GameApiServer(host, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            host.close();
+        }));
+        server.start();
+    }
+}
@@ -24,13 +24,22 @@ public class FoodItem extends Item implements Serializable {
         this.fullnessValue = fullnessValue;
     }
 
+    /**
+     * Creates a food that also starts a timed effect.
+     * @param effect The effect, or null for none.
+     */
+    public FoodItem(String name, int fullnessValue, TimedEffect effect) {
+        super(name, effect);
+        this.fullnessValue = fullnessValue;
+    }
+
     public int getFullnessValue() {
         return fullnessValue;
     }
 
     @Override
     public String toString() {
-        return getName() + " (+ " + fullnessValue + " Fullness)";
+        return getName() + " (" + describeEffect("+ " + fullnessValue + " Fullness") + ")";
     }
 
     // Note: equals/hashCode are inherited from Item and should work correctly
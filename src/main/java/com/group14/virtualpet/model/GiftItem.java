@@ -25,13 +25,22 @@ public class GiftItem extends Item implements Serializable {
         this.happinessValue = happinessValue;
     }
 
+    /**
+     * Creates a gift that also starts a timed effect.
+     * @param effect The effect, or null for none.
+     */
+    public GiftItem(String name, int happinessValue, TimedEffect effect) {
+        super(name, effect);
+        this.happinessValue = happinessValue;
+    }
+
     public int getHappinessValue() {
         return happinessValue;
     }
 
     @Override
     public String toString() {
-        return getName() + " (+ " + happinessValue + " Happiness)";
+        return getName() + " (" + describeEffect("+ " + happinessValue + " Happiness") + ")";
     }
 
     // Note: equals/hashCode are inherited from Item and should work correctly
@@ -24,6 +24,9 @@ public class Inventory implements Serializable {
     // Using Item as key relies on Item's equals/hashCode implementation
     private final Map<Item, Integer> itemCounts;
 
+    // Receiver for add/remove events; not saved, defaults to PetEventSink.NONE.
+    private transient PetEventSink eventSink;
+
     public Inventory() {
         this.itemCounts = new HashMap<>();
     }
@@ -38,7 +41,7 @@ public class Inventory implements Serializable {
             return; // Or throw exception
         }
         itemCounts.put(item, itemCounts.getOrDefault(item, 0) + quantity);
-        System.out.println("Added " + quantity + "x " + item.getName() + " to inventory."); // Logging
+        getEventSink().onItemEvent(PetEvent.ITEM_ADDED, null, item, quantity);
     }
 
     /**
@@ -58,12 +61,25 @@ public class Inventory implements Serializable {
             } else {
                 itemCounts.put(item, currentCount - 1);
             }
-            System.out.println("Removed 1x " + item.getName() + " from inventory."); // Logging
+            getEventSink().onItemEvent(PetEvent.ITEM_REMOVED, null, item, 1);
             return true;
         }
         return false;
     }
 
+    /**
+     * Sets the sink that receives add and remove events.
+     * @param eventSink The sink to use, or null to discard events.
+     */
+    public void setEventSink(PetEventSink eventSink) {
+        this.eventSink = eventSink;
+    }
+
+    /** Gets the sink that receives add and remove events. */
+    public PetEventSink getEventSink() {
+        return eventSink != null ? eventSink : PetEventSink.NONE;
+    }
+
     /**
      * Gets the current count of a specific item in the inventory.
      * @param item The item to check.
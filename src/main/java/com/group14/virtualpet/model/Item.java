@@ -21,15 +21,32 @@ public abstract class Item implements Serializable {
     private static final long serialVersionUID = 1L;
 
     private final String name;
+    // Timed effect applied to the pet on use; null for a plain item (and in older saves).
+    private final TimedEffect effect;
 
     public Item(String name) {
+        this(name, null);
+    }
+
+    /**
+     * Creates an item that also starts a timed effect on the pet it is used on.
+     * @param name The item's name.
+     * @param effect The effect, or null for none.
+     */
+    public Item(String name, TimedEffect effect) {
         this.name = name;
+        this.effect = effect;
     }
 
     public String getName() {
         return name;
     }
 
+    /** Gets the timed effect this item starts, or null if it has none. */
+    public TimedEffect getEffect() {
+        return effect;
+    }
+
     // It's crucial to implement equals and hashCode if items are used as keys in Maps (like in Inventory)
     @Override
     public boolean equals(Object o) {
@@ -48,6 +65,11 @@ public abstract class Item implements Serializable {
     public String toString() {
         return name;
     }
+
+    /** Appends the effect, if any, to the description of an item's instant value. */
+    protected String describeEffect(String value) {
+        return effect == null ? value : value + ", " + effect;
+    }
     
     public Map<String, Object> toSavableData() {
         Map<String, Object> data = new HashMap<>();
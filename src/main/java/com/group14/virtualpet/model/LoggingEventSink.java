@@ -0,0 +1,56 @@
+/**
+ * Class that prints pet events to the console.
+ * Produces the same messages the game used to print directly.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+import java.io.PrintStream;
+
+/**
+ * PetEventSink adapter that writes one line per event to a PrintStream.
+ * Meant for the desktop game and debugging; it allocates a string per event.
+ */
+public class LoggingEventSink implements PetEventSink {
+
+    /** Shared sink writing to System.out. */
+    public static final LoggingEventSink STDOUT = new LoggingEventSink(System.out);
+
+    private final PrintStream out;
+
+    public LoggingEventSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onPetEvent(PetEvent event, Pet pet, PetState from, PetState to) {
+        String name = pet.getName();
+        switch (event) {
+            case STATE_CHANGED -> out.println("State changed from " + from + " to " + to);
+            case PASSED_OUT -> out.println(name + " passed out from exhaustion!");
+            case WOKE_UP -> out.println(name + " woke up!");
+            case WENT_TO_BED -> out.println(name + " is going to bed.");
+            case REVIVED -> out.println("Reviving " + name + "!");
+            case PLAYED -> out.println("Playing with " + name + "...");
+            case PLAY_ON_COOLDOWN -> out.println(name + " doesn't want to play right now (cooldown)...");
+            case VET_VISITED -> out.println("Taking " + name + " to the vet...");
+            case VET_ON_COOLDOWN -> out.println(name + " doesn't need the vet right now (cooldown)...");
+            case EXERCISED -> out.println("Exercising with " + name + "...");
+            default -> out.println(event + ": " + name);
+        }
+    }
+
+    @Override
+    public void onItemEvent(PetEvent event, Pet pet, Item item, int quantity) {
+        switch (event) {
+            case FED -> out.println("Feeding " + pet.getName() + " with " + item.getName() + "...");
+            case GIFT_RECEIVED -> out.println(pet.getName() + " receives a " + item.getName() + "!");
+            case ITEM_ADDED -> out.println("Added " + quantity + "x " + item.getName() + " to inventory.");
+            case ITEM_REMOVED -> out.println("Removed " + quantity + "x " + item.getName() + " from inventory.");
+            default -> out.println(event + ": " + quantity + "x " + item.getName());
+        }
+    }
+}
@@ -0,0 +1,381 @@
+/**
+ * Class storing pets outside the Java heap in fixed-size records.
+ * Uses the Foreign Function and Memory API, a preview feature in Java 21, so it is
+ * only compiled by the "preview" Maven profile.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Off-heap pet storage for very large simulations.
+ * Every pet is one {@link #RECORD} in a single native MemorySegment, so tens of
+ * millions of pets add nothing for the garbage collector to trace. Pets are
+ * addressed by index; names are not stored (keep them on the caller's side if needed).
+ * Ticking follows the same rules as Pet.liveOneTick(). Disjoint index ranges may be
+ * ticked from different threads. The store must be closed to free its memory.
+ */
+public final class OffHeapPetStore implements AutoCloseable {
+
+    /** Layout of one pet record. The two timestamps sit at the end, 8-byte aligned. */
+    public static final StructLayout RECORD = MemoryLayout.structLayout(
+            ValueLayout.JAVA_INT.withName("health"),
+            ValueLayout.JAVA_INT.withName("sleep"),
+            ValueLayout.JAVA_INT.withName("fullness"),
+            ValueLayout.JAVA_INT.withName("happiness"),
+            ValueLayout.JAVA_INT.withName("state"),
+            ValueLayout.JAVA_INT.withName("type"),
+            ValueLayout.JAVA_INT.withName("maxHealth"),
+            ValueLayout.JAVA_INT.withName("maxSleep"),
+            ValueLayout.JAVA_INT.withName("maxFullness"),
+            ValueLayout.JAVA_INT.withName("maxHappiness"),
+            ValueLayout.JAVA_INT.withName("sleepDecline"),
+            ValueLayout.JAVA_INT.withName("fullnessDecline"),
+            ValueLayout.JAVA_INT.withName("happinessDecline"),
+            MemoryLayout.paddingLayout(4),
+            ValueLayout.JAVA_LONG.withName("lastPlayTime"),
+            ValueLayout.JAVA_LONG.withName("lastVetTime"));
+
+    private static final long RECORD_SIZE = RECORD.byteSize();
+    private static final long HEALTH = offset("health");
+    private static final long SLEEP = offset("sleep");
+    private static final long FULLNESS = offset("fullness");
+    private static final long HAPPINESS = offset("happiness");
+    private static final long STATE = offset("state");
+    private static final long TYPE = offset("type");
+    private static final long MAX_HEALTH = offset("maxHealth");
+    private static final long MAX_SLEEP = offset("maxSleep");
+    private static final long MAX_FULLNESS = offset("maxFullness");
+    private static final long MAX_HAPPINESS = offset("maxHappiness");
+    private static final long SLEEP_DECLINE = offset("sleepDecline");
+    private static final long FULLNESS_DECLINE = offset("fullnessDecline");
+    private static final long HAPPINESS_DECLINE = offset("happinessDecline");
+    private static final long LAST_PLAY_TIME = offset("lastPlayTime");
+    private static final long LAST_VET_TIME = offset("lastVetTime");
+
+    // Snapshot file header: magic, version, record size, pet count.
+    private static final int FILE_MAGIC = 0x50455453; // "PETS"
+    private static final int FILE_VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 8;
+    private static final int IO_CHUNK = 1 << 26;
+
+    private static final int NORMAL = PetState.NORMAL.ordinal();
+    private static final int SLEEPING = PetState.SLEEPING.ordinal();
+    private static final int HUNGRY = PetState.HUNGRY.ordinal();
+    private static final int ANGRY = PetState.ANGRY.ordinal();
+    private static final int DEAD = PetState.DEAD.ordinal();
+    private static final PetState[] STATES = PetState.values();
+
+    private final Arena arena;
+    private final MemorySegment records;
+    private final int capacity;
+    private int size;
+
+    /**
+     * Allocates room for a fixed number of pets.
+     * @param capacity The maximum number of pets the store can hold.
+     */
+    public OffHeapPetStore(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.arena = Arena.ofShared();
+        this.records = arena.allocate(RECORD_SIZE * capacity, RECORD.byteAlignment());
+    }
+
+    private static long offset(String field) {
+        return RECORD.byteOffset(MemoryLayout.PathElement.groupElement(field));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Returns the number of bytes used per pet. */
+    public static long recordSize() {
+        return RECORD_SIZE;
+    }
+
+    /**
+     * Adds a pet of the given type with the same starting stats as {@code new Pet(name, type)}.
+     * @return The index of the new pet.
+     */
+    public int add(PetType type) {
+        return add(type, (int) (type.getMaxHealth() * 0.75), (int) (type.getMaxSleep() * 0.75),
+                (int) (type.getMaxFullness() * 0.75), (int) (type.getMaxHappiness() * 0.75),
+                PetState.NORMAL, Pet.NEVER, Pet.NEVER);
+    }
+
+    /**
+     * Copies the current values of an existing pet into the store.
+     * Stored pets tick at their type's base rates, so a pet with an active timed effect cannot be copied.
+     * @return The index of the copied pet.
+     * @throws IllegalArgumentException if the pet has an active timed effect.
+     */
+    public int add(Pet pet) {
+        if (!pet.getEffects().isEmpty()) {
+            throw new IllegalArgumentException("Pet " + pet.getName() + " has active effects (" + pet.getEffects()
+                    + "); stored pets tick at base rates");
+        }
+        return add(pet.getType(), pet.getHealth(), pet.getSleep(), pet.getFullness(), pet.getHappiness(),
+                pet.getCurrentState(), pet.getLastPlayTime(), pet.getLastVetTime());
+    }
+
+    private int add(PetType type, int health, int sleep, int fullness, int happiness, PetState state,
+                    long lastPlayTime, long lastVetTime) {
+        if (size == capacity) {
+            throw new IllegalStateException("Off-heap pet store is full (" + capacity + " pets)");
+        }
+        int index = size++;
+        long base = index * RECORD_SIZE;
+        setInt(base, HEALTH, health);
+        setInt(base, SLEEP, sleep);
+        setInt(base, FULLNESS, fullness);
+        setInt(base, HAPPINESS, happiness);
+        setInt(base, STATE, state.ordinal());
+        setInt(base, TYPE, type.getOrdinal());
+        setInt(base, MAX_HEALTH, type.getMaxHealth());
+        setInt(base, MAX_SLEEP, type.getMaxSleep());
+        setInt(base, MAX_FULLNESS, type.getMaxFullness());
+        setInt(base, MAX_HAPPINESS, type.getMaxHappiness());
+        setInt(base, SLEEP_DECLINE, type.getSleepDecline());
+        setInt(base, FULLNESS_DECLINE, type.getFullnessDecline());
+        setInt(base, HAPPINESS_DECLINE, type.getHappinessDecline());
+        records.set(ValueLayout.JAVA_LONG, base + LAST_PLAY_TIME, lastPlayTime);
+        records.set(ValueLayout.JAVA_LONG, base + LAST_VET_TIME, lastVetTime);
+        return index;
+    }
+
+    // --- Random-access reads ---
+
+    public int getHealth(int index) { return getInt(check(index), HEALTH); }
+    public int getSleep(int index) { return getInt(check(index), SLEEP); }
+    public int getFullness(int index) { return getInt(check(index), FULLNESS); }
+    public int getHappiness(int index) { return getInt(check(index), HAPPINESS); }
+    public PetState getState(int index) { return STATES[getInt(check(index), STATE)]; }
+    public PetType getType(int index) { return PetType.byOrdinal(getInt(check(index), TYPE)); }
+    public int getMaxHealth(int index) { return getInt(check(index), MAX_HEALTH); }
+    public int getMaxSleep(int index) { return getInt(check(index), MAX_SLEEP); }
+    public int getMaxFullness(int index) { return getInt(check(index), MAX_FULLNESS); }
+    public int getMaxHappiness(int index) { return getInt(check(index), MAX_HAPPINESS); }
+
+    public long getLastPlayTime(int index) {
+        return records.get(ValueLayout.JAVA_LONG, check(index) + LAST_PLAY_TIME);
+    }
+
+    public long getLastVetTime(int index) {
+        return records.get(ValueLayout.JAVA_LONG, check(index) + LAST_VET_TIME);
+    }
+
+    /** Returns the pet's dynamic state in the PackedPetState encoding. */
+    public long pack(int index) {
+        long base = check(index);
+        return PackedPetState.encode(getInt(base, HEALTH), getInt(base, SLEEP), getInt(base, FULLNESS),
+                getInt(base, HAPPINESS), STATES[getInt(base, STATE)]);
+    }
+
+    /**
+     * Materializes the pet at the given index as a standalone Pet object.
+     * @param name The name to give the pet, since names are not stored off-heap.
+     */
+    public Pet toPet(int index, String name) {
+        long base = check(index);
+        Pet pet = new Pet(name, PetType.byOrdinal(getInt(base, TYPE)).getId());
+        pet.restoreStats(getInt(base, HEALTH), getInt(base, SLEEP), getInt(base, FULLNESS),
+                getInt(base, HAPPINESS), STATES[getInt(base, STATE)],
+                records.get(ValueLayout.JAVA_LONG, base + LAST_PLAY_TIME),
+                records.get(ValueLayout.JAVA_LONG, base + LAST_VET_TIME));
+        return pet;
+    }
+
+    /** Counts the pets currently in the given state. */
+    public int countInState(PetState petState) {
+        int target = petState.ordinal();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (getInt(i * RECORD_SIZE, STATE) == target) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // --- Ticking ---
+
+    /** Advances every pet by one tick. */
+    public void tickAll() {
+        tickRange(0, size);
+    }
+
+    /**
+     * Advances the pets with indices in [from, to) by one tick.
+     * Uses the same rules as ScalarTickKernel, reading and writing the records in place.
+     */
+    public void tickRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for size " + size);
+        }
+        for (int i = from; i < to; i++) {
+            long base = i * RECORD_SIZE;
+            int st = getInt(base, STATE);
+            if (st == DEAD) {
+                continue;
+            }
+            int h = getInt(base, HEALTH);
+            int sl = getInt(base, SLEEP);
+            int f = getInt(base, FULLNESS);
+            int hap = getInt(base, HAPPINESS);
+            int maxSl = getInt(base, MAX_SLEEP);
+
+            if (st == SLEEPING) {
+                sl = Math.min(maxSl, sl + Pet.SLEEPING_SLEEP_RECOVERY_RATE);
+                f = Math.max(0, f - getInt(base, FULLNESS_DECLINE));
+                hap = Math.max(0, hap - getInt(base, HAPPINESS_DECLINE));
+                if (h <= 0) {
+                    st = DEAD;
+                } else if (sl >= maxSl) {
+                    st = f <= 0 ? HUNGRY : hap <= 0 ? ANGRY : NORMAL;
+                }
+            } else {
+                sl = Math.max(0, sl - getInt(base, SLEEP_DECLINE));
+                if (sl == 0) {
+                    if (h > 0) {
+                        h = Math.max(0, h - Pet.SLEEPING_HEALTH_PENALTY);
+                    }
+                    st = h <= 0 ? DEAD : SLEEPING;
+                }
+                f = Math.max(0, f - getInt(base, FULLNESS_DECLINE));
+                if (f == 0 && st != SLEEPING && st != DEAD) {
+                    st = h <= 0 ? DEAD : HUNGRY;
+                }
+                int happinessLoss = getInt(base, HAPPINESS_DECLINE);
+                if (st == HUNGRY) {
+                    happinessLoss *= Pet.HUNGRY_HAPPINESS_DECLINE_MULTIPLIER;
+                    h = Math.max(0, h - Pet.HUNGRY_HEALTH_DECLINE);
+                }
+                hap = Math.max(0, hap - happinessLoss);
+
+                if (h <= 0) {
+                    st = DEAD;
+                } else if (st != SLEEPING) {
+                    st = f <= 0 ? HUNGRY : hap <= 0 ? ANGRY : NORMAL;
+                }
+            }
+
+            setInt(base, HEALTH, h);
+            setInt(base, SLEEP, sl);
+            setInt(base, FULLNESS, f);
+            setInt(base, HAPPINESS, hap);
+            setInt(base, STATE, st);
+        }
+    }
+
+    // --- Bulk snapshot ---
+
+    /**
+     * Writes every record to a file, straight from native memory.
+     * The file starts with a small header and then holds the records in
+     * little-endian layout order, so it can be read back with {@link #readSnapshot(Path)}.
+     * @param file The file to create or overwrite.
+     */
+    public void writeSnapshot(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(FILE_MAGIC).putInt(FILE_VERSION).putInt((int) RECORD_SIZE).putLong(size).flip();
+            writeFully(channel, header);
+            long total = size * RECORD_SIZE;
+            for (long pos = 0; pos < total; pos += IO_CHUNK) {
+                writeFully(channel, records.asSlice(pos, Math.min(IO_CHUNK, total - pos)).asByteBuffer());
+            }
+        }
+    }
+
+    /**
+     * Reads a file written by {@link #writeSnapshot(Path)} into a new store
+     * whose capacity equals the number of pets in the file.
+     * @throws IOException if the file cannot be read or is not a pet snapshot.
+     */
+    public static OffHeapPetStore readSnapshot(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header);
+            header.flip();
+            if (header.getInt() != FILE_MAGIC || header.getInt() != FILE_VERSION
+                    || header.getInt() != RECORD_SIZE) {
+                throw new IOException("Not a compatible pet snapshot: " + file);
+            }
+            long count = header.getLong();
+            if (count < 0 || count > Integer.MAX_VALUE
+                    || channel.size() != HEADER_SIZE + count * RECORD_SIZE) {
+                throw new IOException("Corrupt pet snapshot (count " + count + "): " + file);
+            }
+            OffHeapPetStore store = new OffHeapPetStore((int) Math.max(1, count));
+            try {
+                long total = count * RECORD_SIZE;
+                for (long pos = 0; pos < total; pos += IO_CHUNK) {
+                    readFully(channel, store.records.asSlice(pos, Math.min(IO_CHUNK, total - pos)).asByteBuffer());
+                }
+                store.size = (int) count;
+                return store;
+            } catch (IOException | RuntimeException e) {
+                store.close();
+                throw e;
+            }
+        }
+    }
+
+    /** Frees the native memory. The store must not be used afterwards. */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private long check(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Pet index " + index + " out of bounds for size " + size);
+        }
+        return index * RECORD_SIZE;
+    }
+
+    private int getInt(long base, long field) {
+        return records.get(ValueLayout.JAVA_INT, base + field);
+    }
+
+    private void setInt(long base, long field, int value) {
+        records.set(ValueLayout.JAVA_INT, base + field, value);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of pet snapshot");
+            }
+        }
+    }
+}
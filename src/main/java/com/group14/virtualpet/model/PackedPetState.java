@@ -0,0 +1,157 @@
+/**
+ * Class for packing a pet's dynamic state into a single long.
+ * Used for dense population storage, change detection between ticks and compact save records.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+/**
+ * Static helpers for the packed pet state encoding.
+ * The four stats and the PetState ordinal share one long:
+ * <pre>
+ *  bits  0-14  health      (0..32767)
+ *  bits 15-29  sleep       (0..32767)
+ *  bits 30-44  fullness    (0..32767)
+ *  bits 45-59  happiness   (0..32767)
+ *  bits 60-62  state ordinal
+ *  bit  63     always 0, so packed values are never negative
+ * </pre>
+ * PetType caps maxima at 10,000, so every legal stat fits. Two pets have the
+ * same dynamic state exactly when their packed values are equal, and the
+ * field masks let callers test which parts changed with one XOR.
+ */
+public final class PackedPetState {
+
+    public static final int STAT_BITS = 15;
+    public static final int MAX_STAT = (1 << STAT_BITS) - 1;
+
+    private static final int HEALTH_SHIFT = 0;
+    private static final int SLEEP_SHIFT = STAT_BITS;
+    private static final int FULLNESS_SHIFT = STAT_BITS * 2;
+    private static final int HAPPINESS_SHIFT = STAT_BITS * 3;
+    private static final int STATE_SHIFT = STAT_BITS * 4;
+    private static final long STAT_MASK = MAX_STAT;
+
+    public static final long HEALTH_MASK = STAT_MASK << HEALTH_SHIFT;
+    public static final long SLEEP_MASK = STAT_MASK << SLEEP_SHIFT;
+    public static final long FULLNESS_MASK = STAT_MASK << FULLNESS_SHIFT;
+    public static final long HAPPINESS_MASK = STAT_MASK << HAPPINESS_SHIFT;
+    public static final long STATE_MASK = 0x7L << STATE_SHIFT;
+    public static final long STATS_MASK = HEALTH_MASK | SLEEP_MASK | FULLNESS_MASK | HAPPINESS_MASK;
+    public static final long ALL_MASK = STATS_MASK | STATE_MASK;
+
+    private static final PetState[] STATES = PetState.values();
+
+    private PackedPetState() {}
+
+    /**
+     * Packs the given stats and state.
+     * @throws IllegalArgumentException if a stat is outside [0, MAX_STAT].
+     */
+    public static long encode(int health, int sleep, int fullness, int happiness, PetState state) {
+        return ((long) checkStat(health, "health") << HEALTH_SHIFT)
+                | ((long) checkStat(sleep, "sleep") << SLEEP_SHIFT)
+                | ((long) checkStat(fullness, "fullness") << FULLNESS_SHIFT)
+                | ((long) checkStat(happiness, "happiness") << HAPPINESS_SHIFT)
+                | ((long) state.ordinal() << STATE_SHIFT);
+    }
+
+    /** Packs the current stats and state of a pet (or any other view of one). */
+    public static long encode(PetView pet) {
+        return encode(pet.getHealth(), pet.getSleep(), pet.getFullness(), pet.getHappiness(),
+                pet.getCurrentState());
+    }
+
+    public static int health(long packed) {
+        return (int) ((packed >>> HEALTH_SHIFT) & STAT_MASK);
+    }
+
+    public static int sleep(long packed) {
+        return (int) ((packed >>> SLEEP_SHIFT) & STAT_MASK);
+    }
+
+    public static int fullness(long packed) {
+        return (int) ((packed >>> FULLNESS_SHIFT) & STAT_MASK);
+    }
+
+    public static int happiness(long packed) {
+        return (int) ((packed >>> HAPPINESS_SHIFT) & STAT_MASK);
+    }
+
+    public static int stateOrdinal(long packed) {
+        return (int) ((packed & STATE_MASK) >>> STATE_SHIFT);
+    }
+
+    public static PetState state(long packed) {
+        return STATES[stateOrdinal(packed)];
+    }
+
+    /**
+     * Overwrites a pet's stats and state with packed values. Cooldowns are kept.
+     * Used when loading compact records.
+     */
+    public static void restore(Pet pet, long packed) {
+        pet.restoreStats(health(packed), sleep(packed), fullness(packed), happiness(packed), state(packed),
+                pet.getLastPlayTime(), pet.getLastVetTime());
+    }
+
+    // --- Bulk operations ---
+
+    /**
+     * Counts the packed values in [from, to) whose state matches.
+     */
+    public static int countInState(long[] packed, int from, int to, PetState state) {
+        long target = (long) state.ordinal() << STATE_SHIFT;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if ((packed[i] & STATE_MASK) == target) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the indices whose masked fields differ between two arrays, e.g. the
+     * packed population before and after a tick.
+     *
+     * @param before The earlier values.
+     * @param after The later values.
+     * @param length The number of entries to compare.
+     * @param fieldMask Which fields to compare, e.g. STATE_MASK for state transitions only.
+     * @param changed Receives the changed indices in ascending order; needs room for {@code length} entries.
+     * @return The number of changed indices written to {@code changed}.
+     */
+    public static int findChanged(long[] before, long[] after, int length, long fieldMask, int[] changed) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (((before[i] ^ after[i]) & fieldMask) != 0) {
+                changed[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the entries whose masked fields differ between two arrays.
+     */
+    public static int countChanged(long[] before, long[] after, int length, long fieldMask) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (((before[i] ^ after[i]) & fieldMask) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int checkStat(int value, String name) {
+        if (value < 0 || value > MAX_STAT) {
+            throw new IllegalArgumentException(name + " " + value + " does not fit in " + STAT_BITS + " bits");
+        }
+        return value;
+    }
+}
@@ -8,9 +8,14 @@
 
 package com.group14.virtualpet.model;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
-public class Pet implements Serializable {
+import com.group14.virtualpet.util.GameClock;
+
+public class Pet implements PetView, Serializable {
     private static final long serialVersionUID = 1L;
 
     public static final int DEFAULT_MAX_HEALTH = 100;
@@ -18,17 +23,17 @@ public class Pet implements Serializable {
     public static final int DEFAULT_MAX_FULLNESS = 100;
     public static final int DEFAULT_MAX_HAPPINESS = 100;
 
-    private static final int DEFAULT_SLEEP_DECLINE = 1;
-    private static final int DEFAULT_FULLNESS_DECLINE = 2;
-    private static final int DEFAULT_HAPPINESS_DECLINE = 1;
+    // Tick constants are package-private so PetPopulation can tick with identical rules.
+    // Per-type decline rates and maxima come from PetType.
+    static final int SLEEPING_HEALTH_PENALTY = 10;
+    static final int SLEEPING_SLEEP_RECOVERY_RATE = 5;
+    static final int HUNGRY_HAPPINESS_DECLINE_MULTIPLIER = 2;
+    static final int HUNGRY_HEALTH_DECLINE = 2;
 
-    private static final int SLEEPING_HEALTH_PENALTY = 10;
-    private static final int SLEEPING_SLEEP_RECOVERY_RATE = 5;
-    private static final int HUNGRY_HAPPINESS_DECLINE_MULTIPLIER = 2;
-    private static final int HUNGRY_HEALTH_DECLINE = 2;
-    private static final int ANGRY_MIN_HAPPINESS_EXIT = DEFAULT_MAX_HAPPINESS / 2;
+    private static final PetState[] STATES = PetState.values();
 
     private String petType;
+    private transient PetType type;
     private String name;
     private int health;
     private int sleep;
@@ -40,13 +45,33 @@ public class Pet implements Serializable {
     private int maxFullness;
     private int maxHappiness;
 
-    private long lastVetTime = 0;
-    private long lastPlayTime = 0;
+    // Cooldown timestamps in GameClock time; NEVER means the command has not been used yet.
+    private long lastVetTime = NEVER;
+    private long lastPlayTime = NEVER;
+
+    // Timed effects scaling the per-tick stat changes; missing (null) in saves made before effects existed.
+    private PetEffects effects = new PetEffects();
+
+    // Time source for cooldowns; not saved, defaults to the wall clock.
+    private transient GameClock clock;
 
+    // Receiver for events such as state changes; not saved, defaults to PetEventSink.NONE.
+    private transient PetEventSink eventSink;
+
+    /**
+     * Creates a pet of a registered type with its stats at 75% of the type's maxima.
+     * @param name The pet's name.
+     * @param petType The id of a type in the PetType registry.
+     * @throws IllegalArgumentException if the type is not registered.
+     */
     public Pet(String name, String petType) {
         this.name = name;
         this.petType = petType;
-        setInitialMaxValuesForPetType();
+        this.type = PetType.require(petType);
+        this.maxHealth = type.getMaxHealth();
+        this.maxSleep = type.getMaxSleep();
+        this.maxFullness = type.getMaxFullness();
+        this.maxHappiness = type.getMaxHappiness();
         
         this.health = (int) (maxHealth * 0.75);
         this.sleep = (int) (maxSleep * 0.75);
@@ -56,33 +81,74 @@ public class Pet implements Serializable {
         this.currentState = PetState.NORMAL;
     }
 
-    private void setInitialMaxValuesForPetType() {
-        switch (petType) {
-            case "friendly_robot":
-                this.maxHealth = DEFAULT_MAX_HEALTH;
-                this.maxSleep = DEFAULT_MAX_SLEEP;
-                this.maxFullness = DEFAULT_MAX_FULLNESS + 20;
-                this.maxHappiness = DEFAULT_MAX_HAPPINESS;
-                break;
-            case "balanced_robot":
-                this.maxHealth = DEFAULT_MAX_HEALTH;
-                this.maxSleep = DEFAULT_MAX_SLEEP + 20;
-                this.maxFullness = DEFAULT_MAX_FULLNESS;
-                this.maxHappiness = DEFAULT_MAX_HAPPINESS - 10;
-                break;
-            case "challenging_robot":
-                this.maxHealth = DEFAULT_MAX_HEALTH - 10;
-                this.maxSleep = DEFAULT_MAX_SLEEP;
-                this.maxFullness = DEFAULT_MAX_FULLNESS;
-                this.maxHappiness = DEFAULT_MAX_HAPPINESS + 20;
-                break;
-            default:
-                break;
+    /** Re-resolves the transient PetType after loading a save. */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.type = PetType.forId(petType);
+        if (type == null) {
+            throw new InvalidObjectException("Saved pet has unknown type: " + petType);
+        }
+        if (effects == null) {
+            effects = new PetEffects();
         }
     }
 
+    /**
+     * Overwrites the dynamic stats of this pet without running any state logic.
+     * Used when materializing a Pet from another representation such as PetPopulation.
+     */
+    void restoreStats(int health, int sleep, int fullness, int happiness, PetState state,
+                      long lastPlayTime, long lastVetTime) {
+        this.health = health;
+        this.sleep = sleep;
+        this.fullness = fullness;
+        this.happiness = happiness;
+        this.currentState = state;
+        this.lastPlayTime = lastPlayTime;
+        this.lastVetTime = lastVetTime;
+    }
+
+    /** Overwrites the timed effects of this pet with a copy of the given ones. */
+    void restoreEffects(PetEffects effects) {
+        this.effects.copyFrom(effects);
+    }
+
+    /**
+     * Sets the clock used for play and vet cooldowns.
+     * @param clock The clock to use, or null for the system clock.
+     */
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /** Gets the clock used for play and vet cooldowns. */
+    public GameClock getClock() {
+        return clock != null ? clock : GameClock.system();
+    }
+
+    /**
+     * Sets the sink that receives this pet's events.
+     * @param eventSink The sink to use, or null to discard events.
+     */
+    public void setEventSink(PetEventSink eventSink) {
+        this.eventSink = eventSink;
+    }
+
+    /** Gets the sink that receives this pet's events. */
+    public PetEventSink getEventSink() {
+        return eventSink != null ? eventSink : PetEventSink.NONE;
+    }
+
+    private void emit(PetEvent event) {
+        getEventSink().onPetEvent(event, this, currentState, currentState);
+    }
+
+    long getLastPlayTime() { return lastPlayTime; }
+    long getLastVetTime() { return lastVetTime; }
+
     public String getName() { return name; }
     public String getPetType() { return petType; }
+    public PetType getType() { return type; }
     public int getHealth() { return health; }
     public int getSleep() { return sleep; }
     public int getFullness() { return fullness; }
@@ -93,209 +159,363 @@ public class Pet implements Serializable {
     public int getMaxFullness() { return maxFullness; }
     public int getMaxHappiness() { return maxHappiness; }
 
-    public void liveOneTick() {
-        if (currentState == PetState.DEAD) {
+    /** Gets the pet's active timed effects (read-only outside this package). */
+    public PetEffects getEffects() { return effects; }
+
+    /**
+     * Starts a timed effect on the pet, replacing any active effect of the same kind.
+     * Does nothing for a null effect or a dead pet.
+     * @param effect The effect to apply.
+     */
+    public void applyEffect(TimedEffect effect) {
+        if (effect == null || currentState == PetState.DEAD) {
             return;
         }
+        effects.apply(effect);
+    }
 
-        int currentSleepDecline = DEFAULT_SLEEP_DECLINE;
-        int currentFullnessDecline = DEFAULT_FULLNESS_DECLINE;
-        int currentHappinessDecline = DEFAULT_HAPPINESS_DECLINE;
-
-        if ("friendly_robot".equals(petType)) {
-            currentFullnessDecline = 3;
-        } else if ("balanced_robot".equals(petType)) {
-            currentHappinessDecline = 0;
+    /**
+     * Runs one tick: stats decline (or sleep recovers), then the state is
+     * evaluated once through the transition table.
+     */
+    public void liveOneTick() {
+        if (currentState == PetState.DEAD) {
+            return;
         }
+        PetState previousState = currentState;
+        int fullnessDecline = type.getFullnessDecline();
+        int happinessDecline = type.getHappinessDecline();
+        effects.expire();
 
         if (currentState == PetState.SLEEPING) {
-            increaseSleep(SLEEPING_SLEEP_RECOVERY_RATE);
-            decreaseFullness(currentFullnessDecline);
-            decreaseHappiness(currentHappinessDecline);
+            sleep = Math.min(maxSleep, sleep + effects.take(StatEffect.SLEEP_RECOVERY, SLEEPING_SLEEP_RECOVERY_RATE));
+            fullness = Math.max(0, fullness - effects.take(StatEffect.FULLNESS_DECAY, fullnessDecline));
+            happiness = Math.max(0, happiness - effects.take(StatEffect.HAPPINESS_DECAY, happinessDecline));
         } else {
-            decreaseSleep(currentSleepDecline);
-            decreaseFullness(currentFullnessDecline);
+            sleep = Math.max(0, sleep - effects.take(StatEffect.SLEEP_DECAY, type.getSleepDecline()));
+            if (sleep == 0) {
+                // Exhausted: passes out before the rest of the tick is applied.
+                currentState = passOut();
+            }
+            fullness = Math.max(0, fullness - effects.take(StatEffect.FULLNESS_DECAY, fullnessDecline));
+
+            // A pet that is (or just became) hungry while awake suffers this tick already.
+            boolean hungry = currentState != PetState.SLEEPING && currentState != PetState.DEAD
+                    && (currentState == PetState.HUNGRY || fullness == 0);
+            int happinessLoss = happinessDecline;
+            if (hungry) {
+                happinessLoss *= HUNGRY_HAPPINESS_DECLINE_MULTIPLIER;
+                health = Math.max(0, health - HUNGRY_HEALTH_DECLINE);
+            }
+            happiness = Math.max(0, happiness - effects.take(StatEffect.HAPPINESS_DECAY, happinessLoss));
+        }
+        effects.advanceClock(1);
 
-            int happinessDecline = currentHappinessDecline;
-            if (currentState == PetState.HUNGRY) {
-                happinessDecline *= HUNGRY_HAPPINESS_DECLINE_MULTIPLIER;
-                decreaseHealth(HUNGRY_HEALTH_DECLINE);
+        transition(PetTransitions.TICK, previousState);
+    }
+
+    /**
+     * Advances the pet by the given number of ticks, producing exactly the same
+     * stats and state as calling liveOneTick() that many times.
+     * Runs of ticks in which no threshold is crossed are applied in closed form,
+     * so the cost is proportional to the number of state transitions rather than
+     * the number of ticks (e.g. catching up a pet that was away for a month).
+     * A run also ends where a timed effect ends, since the rates change there.
+     *
+     * @param ticks The number of ticks to advance (ignored if not positive).
+     */
+    public void advance(long ticks) {
+        long remaining = ticks;
+        while (remaining > 0 && currentState != PetState.DEAD) {
+            long quiet = Math.min(quietTicks(), remaining);
+            if (quiet > 0) {
+                applyQuietTicks(quiet);
+                remaining -= quiet;
+            }
+            if (remaining > 0) {
+                // The next tick crosses a threshold; run it through the regular rules.
+                liveOneTick();
+                remaining--;
             }
-            decreaseHappiness(happinessDecline);
         }
+    }
 
-        updateState();
+    /**
+     * Returns how many ticks from now the next threshold crossing (hungry, angry,
+     * exhaustion, wake-up or death) can happen, assuming no commands are issued.
+     * A value of 1 means the very next tick may change the state.
+     *
+     * @return The tick offset of the next possible transition, or Long.MAX_VALUE if the pet is dead.
+     */
+    public long ticksUntilNextEvent() {
+        long quiet = quietTicks();
+        return quiet == Long.MAX_VALUE ? Long.MAX_VALUE : quiet + 1;
     }
 
-    private void updateState() {
-        PetState previousState = this.currentState;
+    /**
+     * Counts the upcoming ticks during which every stat changes at a fixed rate
+     * (or stays clamped at zero), no timed effect ends and the state stays the same.
+     */
+    private long quietTicks() {
+        if (currentState == PetState.DEAD) {
+            return Long.MAX_VALUE;
+        }
         if (health <= 0) {
-            currentState = PetState.DEAD;
-        } else if (currentState == PetState.SLEEPING) {
+            return 0;
+        }
+        effects.expire();
+        int fullnessDecline = type.getFullnessDecline();
+        int happinessDecline = type.getHappinessDecline();
+
+        if (currentState == PetState.SLEEPING) {
             if (sleep >= maxSleep) {
-                wakeUp();
+                return 0;
             }
-        } else if (sleep <= 0) {
-             forceSleep();
-        } else if (fullness <= 0) {
-            currentState = PetState.HUNGRY;
-        } else if (happiness <= 0) {
-            currentState = PetState.ANGRY;        
+            long untilAwake = effects.ticksToChange(StatEffect.SLEEP_RECOVERY, SLEEPING_SLEEP_RECOVERY_RATE,
+                    maxSleep - sleep) - 1;
+            return Math.min(untilAwake, effects.ticksUntilExpiry());
+        }
+
+        // Awake: only safe to extrapolate if the state already matches the stats.
+        PetState expected = fullness <= 0 ? PetState.HUNGRY : happiness <= 0 ? PetState.ANGRY : PetState.NORMAL;
+        if (sleep <= 0 || currentState != expected) {
+            return 0;
+        }
+        boolean hungry = currentState == PetState.HUNGRY;
+        int happinessLoss = hungry ? happinessDecline * HUNGRY_HAPPINESS_DECLINE_MULTIPLIER : happinessDecline;
+
+        long quiet = Math.min(effects.ticksUntilExpiry(),
+                effects.ticksToChange(StatEffect.SLEEP_DECAY, type.getSleepDecline(), sleep) - 1);
+        if (fullness > 0) {
+            quiet = Math.min(quiet, effects.ticksToChange(StatEffect.FULLNESS_DECAY, fullnessDecline, fullness) - 1);
+        }
+        if (happiness > 0) {
+            quiet = Math.min(quiet, effects.ticksToChange(StatEffect.HAPPINESS_DECAY, happinessLoss, happiness) - 1);
+        }
+        if (hungry) {
+            quiet = Math.min(quiet, ceilDiv(health, HUNGRY_HEALTH_DECLINE) - 1);
+        }
+        return Math.max(0, quiet);
+    }
+
+    /** Applies {@code ticks} quiet ticks (as counted by quietTicks()) in one step. */
+    private void applyQuietTicks(long ticks) {
+        int fullnessDecline = type.getFullnessDecline();
+        int happinessDecline = type.getHappinessDecline();
+        if (currentState == PetState.SLEEPING) {
+            sleep = (int) Math.min(maxSleep,
+                    sleep + effects.take(StatEffect.SLEEP_RECOVERY, SLEEPING_SLEEP_RECOVERY_RATE, ticks));
+            fullness = (int) Math.max(0, fullness - effects.take(StatEffect.FULLNESS_DECAY, fullnessDecline, ticks));
+            happiness = (int) Math.max(0, happiness - effects.take(StatEffect.HAPPINESS_DECAY, happinessDecline, ticks));
         } else {
-            if (currentState == PetState.ANGRY && happiness >= ANGRY_MIN_HAPPINESS_EXIT) {
-                currentState = PetState.NORMAL;
-            } else if (currentState == PetState.HUNGRY && fullness > 0) {
-                currentState = PetState.NORMAL;
-            } else if (currentState != PetState.SLEEPING) {
-                 currentState = PetState.NORMAL;
+            boolean hungry = currentState == PetState.HUNGRY;
+            int happinessLoss = hungry ? happinessDecline * HUNGRY_HAPPINESS_DECLINE_MULTIPLIER : happinessDecline;
+            sleep = (int) (sleep - effects.take(StatEffect.SLEEP_DECAY, type.getSleepDecline(), ticks));
+            fullness = (int) Math.max(0, fullness - effects.take(StatEffect.FULLNESS_DECAY, fullnessDecline, ticks));
+            happiness = (int) Math.max(0, happiness - effects.take(StatEffect.HAPPINESS_DECAY, happinessLoss, ticks));
+            if (hungry) {
+                health = (int) (health - ticks * HUNGRY_HEALTH_DECLINE);
             }
         }
+        effects.advanceClock(ticks);
+    }
 
+    private static long ceilDiv(long value, long divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    /**
+     * Evaluates the transition table once for the current stats and applies the
+     * result, emitting WOKE_UP, PASSED_OUT and STATE_CHANGED as needed.
+     * @param phase PetTransitions.TICK or PetTransitions.COMMAND.
+     * @param previousState The state before the tick or command, for the change event.
+     */
+    private void transition(int phase, PetState previousState) {
+        int entry = PetTransitions.lookup(phase, currentState.ordinal(),
+                PetTransitions.flags(health, sleep, maxSleep, fullness, happiness));
+        if ((entry & PetTransitions.WAKE) != 0) {
+            emit(PetEvent.WOKE_UP);
+        }
+        if ((entry & PetTransitions.PASS_OUT) != 0) {
+            currentState = passOut();
+        } else {
+            currentState = STATES[entry & PetTransitions.STATE_MASK];
+        }
         if (previousState != currentState) {
-            System.out.println("State changed from " + previousState + " to " + currentState);
+            getEventSink().onPetEvent(PetEvent.STATE_CHANGED, this, previousState, currentState);
         }
     }
 
+    /** Applies the health penalty for passing out and returns the resulting state. */
+    private PetState passOut() {
+        emit(PetEvent.PASSED_OUT);
+        health = Math.max(0, health - SLEEPING_HEALTH_PENALTY);
+        return health == 0 ? PetState.DEAD : PetState.SLEEPING;
+    }
+
     public void forceSleep() {
         if (currentState != PetState.SLEEPING && currentState != PetState.DEAD) {
-            System.out.println(name + " passed out from exhaustion!");
-            decreaseHealth(SLEEPING_HEALTH_PENALTY);
-            this.currentState = PetState.SLEEPING;
-            updateState();
+            PetState previousState = currentState;
+            currentState = passOut();
+            transition(PetTransitions.COMMAND, previousState);
         }
     }
 
+    /** Wakes the pet up, but only once it has fully recovered its sleep. */
     public void wakeUp() {
-        if (currentState == PetState.SLEEPING) {
-             System.out.println(name + " woke up!");
-             this.currentState = PetState.NORMAL;
-             updateState();
+        if (currentState == PetState.SLEEPING && sleep >= maxSleep) {
+            transition(PetTransitions.COMMAND, currentState);
         }
     }
 
     public void goToBed() {
          if (currentState != PetState.SLEEPING && currentState != PetState.DEAD) {
-            System.out.println(name + " is going to bed.");
+            emit(PetEvent.WENT_TO_BED);
+            PetState previousState = currentState;
             this.currentState = PetState.SLEEPING;
-            updateState();
+            transition(PetTransitions.COMMAND, previousState);
         }
     }
 
     public void revive() {
-        System.out.println("Reviving " + this.name + "!");
+        emit(PetEvent.REVIVED);
         this.health = this.maxHealth;
         this.sleep = this.maxSleep;
         this.fullness = this.maxFullness;
         this.happiness = this.maxHappiness;
         this.currentState = PetState.NORMAL;
+        effects.clear();
     }
 
+    // Each stat change clamps the stat and then evaluates the state once.
+
     public void increaseHealth(int amount) {
-        this.health = Math.min(this.maxHealth, this.health + amount);
+        changeStats(amount, 0, 0, 0);
     }
 
     public void decreaseHealth(int amount) {
-        this.health = Math.max(0, this.health - amount);
-        if (this.health == 0) updateState();
+        changeStats(-amount, 0, 0, 0);
     }
 
     public void increaseSleep(int amount) {
-        this.sleep = Math.min(this.maxSleep, this.sleep + amount);
-        if (currentState == PetState.SLEEPING && this.sleep >= this.maxSleep) {
-             updateState();
-        }
+        changeStats(0, amount, 0, 0);
     }
 
     public void decreaseSleep(int amount) {
-        this.sleep = Math.max(0, this.sleep - amount);
-        if (this.sleep == 0 && currentState != PetState.SLEEPING) {
-            updateState();
-        }
+        changeStats(0, -amount, 0, 0);
     }
 
     public void increaseFullness(int amount) {
-        boolean wasHungry = (this.fullness <= 0);
-        this.fullness = Math.min(this.maxFullness, this.fullness + amount);
-        if (wasHungry && this.fullness > 0) {
-            updateState();
-        }
+        changeStats(0, 0, amount, 0);
     }
 
     public void decreaseFullness(int amount) {
-        this.fullness = Math.max(0, this.fullness - amount);
-        if (this.fullness == 0) updateState();
+        changeStats(0, 0, -amount, 0);
     }
 
     public void increaseHappiness(int amount) {
-        boolean wasAngry = (this.happiness <= 0);
-        this.happiness = Math.min(this.maxHappiness, this.happiness + amount);
-        if (wasAngry && this.happiness >= ANGRY_MIN_HAPPINESS_EXIT) {
-             updateState();
-        }
+        changeStats(0, 0, 0, amount);
     }
 
     public void decreaseHappiness(int amount) {
-        this.happiness = Math.max(0, this.happiness - amount);
-        if (this.happiness == 0) updateState();
+        changeStats(0, 0, 0, -amount);
+    }
+
+    /**
+     * Adds the given amounts to the stats, clamped to [0, max], and evaluates the
+     * state once. A dead pet is left unchanged.
+     */
+    private void changeStats(int healthDelta, int sleepDelta, int fullnessDelta, int happinessDelta) {
+        if (currentState == PetState.DEAD) {
+            return;
+        }
+        health = clamp(health + healthDelta, maxHealth);
+        sleep = clamp(sleep + sleepDelta, maxSleep);
+        fullness = clamp(fullness + fullnessDelta, maxFullness);
+        happiness = clamp(happiness + happinessDelta, maxHappiness);
+        transition(PetTransitions.COMMAND, currentState);
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(max, value));
     }
 
     public boolean isPlayAvailable() {
-        return System.currentTimeMillis() >= lastPlayTime + PLAY_COOLDOWN_MS;
+        return getClock().millis() >= getPlayAvailableAt();
     }
 
     public boolean isVetAvailable() {
-        return System.currentTimeMillis() >= lastVetTime + VET_COOLDOWN_MS;
+        return getClock().millis() >= getVetAvailableAt();
+    }
+
+    /** Gets the clock time (ms) at which the play cooldown ends; Long.MIN_VALUE if never played. */
+    public long getPlayAvailableAt() {
+        return lastPlayTime == NEVER ? NEVER : lastPlayTime + PLAY_COOLDOWN_MS;
+    }
+
+    /** Gets the clock time (ms) at which the vet cooldown ends; Long.MIN_VALUE if never visited. */
+    public long getVetAvailableAt() {
+        return lastVetTime == NEVER ? NEVER : lastVetTime + VET_COOLDOWN_MS;
     }
 
     public boolean play() {
+        if (currentState == PetState.DEAD) {
+            return false;
+        }
         if (!isPlayAvailable()) {
-            System.out.println(name + " doesn't want to play right now (cooldown)...");
+            emit(PetEvent.PLAY_ON_COOLDOWN);
             return false;
         }
-        System.out.println("Playing with " + name + "...");
+        emit(PetEvent.PLAYED);
         increaseHappiness(15);
-        lastPlayTime = System.currentTimeMillis();
+        lastPlayTime = getClock().millis();
         return true;
     }
 
     public boolean takeToVet() {
+        if (currentState == PetState.DEAD) {
+            return false;
+        }
         if (!isVetAvailable()) {
-            System.out.println(name + " doesn't need the vet right now (cooldown)...");
+            emit(PetEvent.VET_ON_COOLDOWN);
             return false;
         }
-        System.out.println("Taking " + name + " to the vet...");
+        emit(PetEvent.VET_VISITED);
         increaseHealth(30);
-        lastVetTime = System.currentTimeMillis();
+        lastVetTime = getClock().millis();
         return true;
     }
 
     public void exercise() {
-        System.out.println("Exercising with " + name + "...");
-        increaseHealth(5);
-        decreaseSleep(10);
-        decreaseFullness(15);
+        if (currentState == PetState.DEAD) return;
+        emit(PetEvent.EXERCISED);
+        changeStats(5, -10, -15, 0);
     }
 
     public void feed(FoodItem food) {
-        if (food == null) return;
-        System.out.println("Feeding " + name + " with " + food.getName() + "...");
+        if (food == null || currentState == PetState.DEAD) return;
+        getEventSink().onItemEvent(PetEvent.FED, this, food, 1);
         increaseFullness(food.getFullnessValue());
+        applyEffect(food.getEffect());
     }
 
     public void receiveGift(GiftItem gift) {
-        if (gift == null) return;
-        System.out.println(name + " receives a " + gift.getName() + "!");
+        if (gift == null || currentState == PetState.DEAD) return;
+        getEventSink().onItemEvent(PetEvent.GIFT_RECEIVED, this, gift, 1);
         increaseHappiness(gift.getHappinessValue());
+        applyEffect(gift.getEffect());
     }
 
     @Override
     public String toString() {
-        return String.format("Pet{name='%s', type='%s', state=%s, H=%d/%d, S=%d/%d, F=%d/%d, Hap=%d/%d}",
+        String effectText = effects.isEmpty() ? "" : ", effects=" + effects;
+        return String.format("Pet{name='%s', type='%s', state=%s, H=%d/%d, S=%d/%d, F=%d/%d, Hap=%d/%d%s}",
                 name, petType, currentState,
-                health, maxHealth, sleep, maxSleep, fullness, maxFullness, happiness, maxHappiness);
+                health, maxHealth, sleep, maxSleep, fullness, maxFullness, happiness, maxHappiness, effectText);
     }
     
     // Cooldown constants
-    private static final long VET_COOLDOWN_MS = 60 * 1000 * 5;
-    private static final long PLAY_COOLDOWN_MS = 60 * 1000 * 1;
+    public static final long VET_COOLDOWN_MS = 60 * 1000 * 5;
+    public static final long PLAY_COOLDOWN_MS = 60 * 1000 * 1;
+    static final long NEVER = Long.MIN_VALUE;
 }
@@ -0,0 +1,212 @@
+/**
+ * Class holding the timed stat effects currently active on one pet.
+ * Used by Pet to scale its per-tick stat changes.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Compact store of a pet's timed effects: one slot per {@link StatEffect}, so a
+ * new effect replaces an active one of the same kind. A slot is a rate and the
+ * tick at which it ends on the store's own clock, which counts the pet's ticks
+ * while any effect is active. Expiring an effect is a comparison with that
+ * clock, and ticking never allocates.
+ * <p>
+ * Scaled changes are worked out in hundredths of a point, and the part that does
+ * not make a whole point is carried to the next tick, so a decline of 1 at 50%
+ * costs a point every other tick. When the last effect ends the clock and the
+ * carries are reset, so a pet without effects ticks exactly at its base rates.
+ * <p>
+ * The mutators are package-private: only the owning Pet changes its effects.
+ */
+public final class PetEffects implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // Stats with a carried fraction, indexed by StatEffect.stat.
+    static final int SLEEP = 0;
+    static final int FULLNESS = 1;
+    static final int HAPPINESS = 2;
+    private static final int STATS = 3;
+
+    private static final StatEffect[] EFFECTS = StatEffect.values();
+    private static final int NORMAL_RATE = 100;
+
+    /** Shared empty value for snapshots of pets without effects; never changed. */
+    static final PetEffects NONE = new PetEffects();
+
+    private final int[] ratePercent = new int[EFFECTS.length];
+    private final long[] endTick = new long[EFFECTS.length];
+    // Hundredths of a point carried over per stat.
+    private final int[] carry = new int[STATS];
+    // Bit per StatEffect ordinal; when 0, tick and carry are all zero too.
+    private int active;
+    private long tick;
+
+    /** Starts an effect, replacing any active effect of the same kind. */
+    void apply(TimedEffect effect) {
+        int slot = effect.effect().ordinal();
+        ratePercent[slot] = effect.ratePercent();
+        endTick[slot] = tick + effect.durationTicks();
+        active |= 1 << slot;
+    }
+
+    /** Ends the effects whose time is up. Called before each tick or run of ticks. */
+    void expire() {
+        if (active == 0) {
+            return;
+        }
+        for (int slot = 0; slot < EFFECTS.length; slot++) {
+            if ((active & (1 << slot)) != 0 && tick >= endTick[slot]) {
+                active &= ~(1 << slot);
+                ratePercent[slot] = 0;
+                endTick[slot] = 0;
+            }
+        }
+        if (active == 0) {
+            clear();
+        }
+    }
+
+    /** Ends every effect. */
+    void clear() {
+        Arrays.fill(ratePercent, 0);
+        Arrays.fill(endTick, 0);
+        Arrays.fill(carry, 0);
+        active = 0;
+        tick = 0;
+    }
+
+    /**
+     * Works out one tick's change of a stat.
+     * @param effect The effect that may scale the change.
+     * @param rate The change per tick at the normal rate.
+     * @return The whole points to apply this tick.
+     */
+    int take(StatEffect effect, int rate) {
+        if (active == 0) {
+            return rate;
+        }
+        int total = carry[effect.stat] + rate * rateOf(effect);
+        carry[effect.stat] = total % NORMAL_RATE;
+        return total / NORMAL_RATE;
+    }
+
+    /** Works out the change of a stat over several ticks, as repeated calls to take() would. */
+    long take(StatEffect effect, int rate, long ticks) {
+        if (active == 0) {
+            return rate * ticks;
+        }
+        long total = carry[effect.stat] + ticks * rate * rateOf(effect);
+        carry[effect.stat] = (int) (total % NORMAL_RATE);
+        return total / NORMAL_RATE;
+    }
+
+    /**
+     * Counts the ticks until a stat has changed by at least the given points.
+     * @return The number of ticks, or Long.MAX_VALUE if the scaled rate is zero.
+     */
+    long ticksToChange(StatEffect effect, int rate, int points) {
+        long perTick = (long) rate * rateOf(effect);
+        if (perTick == 0) {
+            return Long.MAX_VALUE;
+        }
+        long needed = (long) points * NORMAL_RATE - carry[effect.stat];
+        return (needed + perTick - 1) / perTick;
+    }
+
+    /** Moves the effect clock forward; it only runs while an effect is active. */
+    void advanceClock(long ticks) {
+        if (active != 0) {
+            tick += ticks;
+        }
+    }
+
+    /** Counts the ticks until the next effect ends, or Long.MAX_VALUE if none is active. */
+    long ticksUntilExpiry() {
+        long next = Long.MAX_VALUE;
+        for (int slot = 0; slot < EFFECTS.length; slot++) {
+            if ((active & (1 << slot)) != 0) {
+                next = Math.min(next, endTick[slot] - tick);
+            }
+        }
+        return next;
+    }
+
+    /** Returns a copy, or the shared empty value if no effect is active. */
+    PetEffects copy() {
+        if (active == 0) {
+            return NONE;
+        }
+        PetEffects copy = new PetEffects();
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /** Overwrites this store with the values of another. */
+    void copyFrom(PetEffects other) {
+        System.arraycopy(other.ratePercent, 0, ratePercent, 0, ratePercent.length);
+        System.arraycopy(other.endTick, 0, endTick, 0, endTick.length);
+        System.arraycopy(other.carry, 0, carry, 0, carry.length);
+        active = other.active;
+        tick = other.tick;
+    }
+
+    private int rateOf(StatEffect effect) {
+        return (active & (1 << effect.ordinal())) != 0 ? ratePercent[effect.ordinal()] : NORMAL_RATE;
+    }
+
+    /** Returns true if no effect is active. */
+    public boolean isEmpty() {
+        return active == 0;
+    }
+
+    /** Gets the rate an effect sets as a percentage of normal, or 100 if it is not active. */
+    public int getRatePercent(StatEffect effect) {
+        return rateOf(effect);
+    }
+
+    /** Gets the number of ticks an effect has left, or 0 if it is not active. */
+    public long getRemainingTicks(StatEffect effect) {
+        int slot = effect.ordinal();
+        return (active & (1 << slot)) != 0 ? Math.max(0, endTick[slot] - tick) : 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PetEffects other)) return false;
+        return active == other.active && tick == other.tick
+                && Arrays.equals(ratePercent, other.ratePercent)
+                && Arrays.equals(endTick, other.endTick)
+                && Arrays.equals(carry, other.carry);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(ratePercent) + Arrays.hashCode(endTick)) + Arrays.hashCode(carry) + active;
+    }
+
+    @Override
+    public String toString() {
+        if (active == 0) {
+            return "none";
+        }
+        StringBuilder text = new StringBuilder();
+        for (StatEffect effect : EFFECTS) {
+            if ((active & (1 << effect.ordinal())) != 0) {
+                if (text.length() > 0) {
+                    text.append(", ");
+                }
+                text.append(getRatePercent(effect)).append("% ").append(effect.getLabel())
+                        .append(" (").append(getRemainingTicks(effect)).append(" ticks)");
+            }
+        }
+        return text.toString();
+    }
+}
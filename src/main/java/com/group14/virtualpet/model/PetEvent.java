@@ -0,0 +1,34 @@
+/**
+ * Enum of the things that can happen to a pet or its inventory.
+ * Reported to a PetEventSink instead of being printed directly.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+public enum PetEvent {
+    /** The pet's state changed; see the from/to states. */
+    STATE_CHANGED,
+    /** The pet ran out of sleep and passed out. */
+    PASSED_OUT,
+    WOKE_UP,
+    WENT_TO_BED,
+    REVIVED,
+    PLAYED,
+    /** The player tried to play while play was on cooldown. */
+    PLAY_ON_COOLDOWN,
+    VET_VISITED,
+    /** The player tried to visit the vet while the vet was on cooldown. */
+    VET_ON_COOLDOWN,
+    EXERCISED,
+    /** The pet was fed; the item is the food. */
+    FED,
+    /** The pet received a gift; the item is the gift. */
+    GIFT_RECEIVED,
+    /** Items were added to an inventory; the quantity is the amount added. */
+    ITEM_ADDED,
+    /** One item was removed from an inventory. */
+    ITEM_REMOVED
+}
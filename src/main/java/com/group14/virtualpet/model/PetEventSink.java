@@ -0,0 +1,41 @@
+/**
+ * Interface for receiving pet and inventory events.
+ * Replaces direct console logging so the tick path does not build strings.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+/**
+ * Receives typed events from Pet and Inventory.
+ * Events are delivered synchronously on the thread that caused them, with
+ * primitive and enum arguments only, so a sink that does not allocate keeps the
+ * whole tick allocation-free. Implementations must not call back into the pet.
+ */
+public interface PetEventSink {
+
+    /** Sink that ignores every event. Used when no sink has been set. */
+    PetEventSink NONE = new PetEventSink() { };
+
+    /**
+     * Called for events about the pet itself.
+     * @param event What happened.
+     * @param pet The pet it happened to.
+     * @param from The state before the event.
+     * @param to The state after the event (same as from unless the state changed).
+     */
+    default void onPetEvent(PetEvent event, Pet pet, PetState from, PetState to) {
+    }
+
+    /**
+     * Called for events that involve an item (feeding, gifts and inventory changes).
+     * @param event What happened.
+     * @param pet The pet involved, or null for inventory events.
+     * @param item The item involved.
+     * @param quantity How many items were involved.
+     */
+    default void onItemEvent(PetEvent event, Pet pet, Item item, int quantity) {
+    }
+}
@@ -0,0 +1,313 @@
+/**
+ * Class holding a large population of pets in parallel primitive arrays.
+ * Ticks every pet in a single loop using the same rules as Pet.liveOneTick().
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays storage for many pets hosted in one process.
+ * Each pet is identified by its index. Stats, maxima and state live in
+ * parallel int arrays so that {@link #tickAll()} touches only primitives
+ * and never re-enters the per-pet state logic of {@link Pet}. The loop itself
+ * is a {@link TickKernel}: scalar by default, or SIMD when available.
+ * The results of a tick are identical to calling liveOneTick() on the
+ * equivalent Pet objects.
+ */
+public class PetPopulation {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private static final PetState[] STATES = PetState.values();
+
+    private int size;
+    private TickKernel kernel = TickKernels.preferred();
+
+    private String[] names;
+    private String[] petTypes;
+    // Package-private so the tick kernels in this package can work on the columns directly.
+    int[] health;
+    int[] sleep;
+    int[] fullness;
+    int[] happiness;
+    int[] state;
+    private int[] maxHealth;
+    int[] maxSleep;
+    private int[] maxFullness;
+    private int[] maxHappiness;
+    int[] sleepDecline;
+    int[] fullnessDecline;
+    int[] happinessDecline;
+    private long[] lastPlayTime;
+    private long[] lastVetTime;
+
+    public PetPopulation() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty population with room for the given number of pets.
+     * @param initialCapacity The number of pets to allocate storage for up front.
+     */
+    public PetPopulation(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        names = new String[capacity];
+        petTypes = new String[capacity];
+        health = new int[capacity];
+        sleep = new int[capacity];
+        fullness = new int[capacity];
+        happiness = new int[capacity];
+        state = new int[capacity];
+        maxHealth = new int[capacity];
+        maxSleep = new int[capacity];
+        maxFullness = new int[capacity];
+        maxHappiness = new int[capacity];
+        sleepDecline = new int[capacity];
+        fullnessDecline = new int[capacity];
+        happinessDecline = new int[capacity];
+        lastPlayTime = new long[capacity];
+        lastVetTime = new long[capacity];
+    }
+
+    /** Returns the number of pets in the population. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates a new pet of the given type with the same starting stats as {@code new Pet(name, petType)}.
+     * @return The index of the new pet.
+     */
+    public int add(String name, String petType) {
+        return add(new Pet(name, petType));
+    }
+
+    /**
+     * Copies the current values of an existing pet into the population.
+     * The Pet object itself is not retained. Population pets always tick at their
+     * type's base rates, so a pet with an active timed effect cannot be copied.
+     * @param pet The pet to copy.
+     * @return The index of the copied pet.
+     * @throws IllegalArgumentException if the pet has an active timed effect.
+     */
+    public int add(Pet pet) {
+        if (!pet.getEffects().isEmpty()) {
+            throw new IllegalArgumentException("Pet " + pet.getName() + " has active effects (" + pet.getEffects()
+                    + "); population pets tick at base rates");
+        }
+        if (size == names.length) {
+            grow();
+        }
+        int i = size++;
+        names[i] = pet.getName();
+        petTypes[i] = pet.getPetType();
+        health[i] = pet.getHealth();
+        sleep[i] = pet.getSleep();
+        fullness[i] = pet.getFullness();
+        happiness[i] = pet.getHappiness();
+        state[i] = pet.getCurrentState().ordinal();
+        maxHealth[i] = pet.getMaxHealth();
+        maxSleep[i] = pet.getMaxSleep();
+        maxFullness[i] = pet.getMaxFullness();
+        maxHappiness[i] = pet.getMaxHappiness();
+        PetType type = pet.getType();
+        sleepDecline[i] = type.getSleepDecline();
+        fullnessDecline[i] = type.getFullnessDecline();
+        happinessDecline[i] = type.getHappinessDecline();
+        lastPlayTime[i] = pet.getLastPlayTime();
+        lastVetTime[i] = pet.getLastVetTime();
+        return i;
+    }
+
+    private void grow() {
+        int capacity = names.length * 2;
+        names = Arrays.copyOf(names, capacity);
+        petTypes = Arrays.copyOf(petTypes, capacity);
+        health = Arrays.copyOf(health, capacity);
+        sleep = Arrays.copyOf(sleep, capacity);
+        fullness = Arrays.copyOf(fullness, capacity);
+        happiness = Arrays.copyOf(happiness, capacity);
+        state = Arrays.copyOf(state, capacity);
+        maxHealth = Arrays.copyOf(maxHealth, capacity);
+        maxSleep = Arrays.copyOf(maxSleep, capacity);
+        maxFullness = Arrays.copyOf(maxFullness, capacity);
+        maxHappiness = Arrays.copyOf(maxHappiness, capacity);
+        sleepDecline = Arrays.copyOf(sleepDecline, capacity);
+        fullnessDecline = Arrays.copyOf(fullnessDecline, capacity);
+        happinessDecline = Arrays.copyOf(happinessDecline, capacity);
+        lastPlayTime = Arrays.copyOf(lastPlayTime, capacity);
+        lastVetTime = Arrays.copyOf(lastVetTime, capacity);
+    }
+
+    /** Advances every pet in the population by one tick. */
+    public void tickAll() {
+        tickRange(0, size);
+    }
+
+    /**
+     * Advances the pets with indices in [from, to) by one tick.
+     * Ranges may be ticked concurrently as long as they do not overlap.
+     */
+    public void tickRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for size " + size);
+        }
+        kernel.tick(this, from, to);
+    }
+
+    /**
+     * Re-evaluates the states of the pets with indices in [from, to) from their
+     * current stats, as Pet does after a command. Use after changing stats in
+     * bulk outside a tick, e.g. after unpacking save records.
+     */
+    public void evaluateStates(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for size " + size);
+        }
+        PetTransitions.evaluate(PetTransitions.COMMAND, state, health, sleep, maxSleep, fullness, happiness,
+                from, to);
+    }
+
+    /** Returns the kernel used to tick this population. */
+    public TickKernel getTickKernel() {
+        return kernel;
+    }
+
+    /**
+     * Sets the kernel used to tick this population.
+     * @param kernel The kernel to use, or null for TickKernels.preferred().
+     */
+    public void setTickKernel(TickKernel kernel) {
+        this.kernel = kernel != null ? kernel : TickKernels.preferred();
+    }
+
+    /**
+     * Returns a read-only view of the pet at the given index.
+     * The view reads through to the population, so it always reflects the latest tick.
+     */
+    public PetView view(int index) {
+        checkIndex(index);
+        return new IndexedView(index);
+    }
+
+    /**
+     * Materializes the pet at the given index as a standalone Pet object,
+     * e.g. for saving through SaveLoadUtil.
+     */
+    public Pet toPet(int index) {
+        checkIndex(index);
+        Pet pet = new Pet(names[index], petTypes[index]);
+        pet.restoreStats(health[index], sleep[index], fullness[index], happiness[index],
+                STATES[state[index]], lastPlayTime[index], lastVetTime[index]);
+        return pet;
+    }
+
+    /**
+     * Returns the packed dynamic state of one pet (see PackedPetState).
+     */
+    public long pack(int index) {
+        checkIndex(index);
+        return PackedPetState.encode(health[index], sleep[index], fullness[index], happiness[index],
+                STATES[state[index]]);
+    }
+
+    /**
+     * Packs the dynamic state of every pet into an array, e.g. before and after
+     * a tick so PackedPetState.findChanged can report which pets changed.
+     * @param out Destination with room for at least size() entries.
+     */
+    public void packAll(long[] out) {
+        if (out.length < size) {
+            throw new IllegalArgumentException("Need room for " + size + " entries, got " + out.length);
+        }
+        for (int i = 0; i < size; i++) {
+            out[i] = PackedPetState.encode(health[i], sleep[i], fullness[i], happiness[i], STATES[state[i]]);
+        }
+    }
+
+    /**
+     * Overwrites one pet's stats and state from a packed value, e.g. a compact save record.
+     * @throws IllegalArgumentException if the value is negative, its state ordinal is not a
+     *         PetState or a stat is above the pet's maximum; the pet is left unchanged.
+     */
+    public void unpack(int index, long packed) {
+        checkIndex(index);
+        if (packed < 0) {
+            throw new IllegalArgumentException("Packed pet state must not be negative: " + packed);
+        }
+        int stateOrdinal = PackedPetState.stateOrdinal(packed);
+        if (stateOrdinal >= STATES.length) {
+            throw new IllegalArgumentException("Invalid state ordinal " + stateOrdinal + " in packed value");
+        }
+        int packedHealth = checkStat(PackedPetState.health(packed), maxHealth[index], "health");
+        int packedSleep = checkStat(PackedPetState.sleep(packed), maxSleep[index], "sleep");
+        int packedFullness = checkStat(PackedPetState.fullness(packed), maxFullness[index], "fullness");
+        int packedHappiness = checkStat(PackedPetState.happiness(packed), maxHappiness[index], "happiness");
+        health[index] = packedHealth;
+        sleep[index] = packedSleep;
+        fullness[index] = packedFullness;
+        happiness[index] = packedHappiness;
+        state[index] = stateOrdinal;
+    }
+
+    private static int checkStat(int value, int max, String name) {
+        if (value > max) {
+            throw new IllegalArgumentException(name + " " + value + " exceeds the pet's maximum of " + max);
+        }
+        return value;
+    }
+
+    /** Counts the pets currently in the given state. */
+    public int countInState(PetState petState) {
+        int target = petState.ordinal();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (state[i] == target) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Pet index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * Flyweight view onto a single index of the population.
+     */
+    private final class IndexedView implements PetView {
+        private final int index;
+
+        IndexedView(int index) {
+            this.index = index;
+        }
+
+        @Override public String getName() { return names[index]; }
+        @Override public String getPetType() { return petTypes[index]; }
+        @Override public int getHealth() { return health[index]; }
+        @Override public int getSleep() { return sleep[index]; }
+        @Override public int getFullness() { return fullness[index]; }
+        @Override public int getHappiness() { return happiness[index]; }
+        @Override public PetState getCurrentState() { return STATES[state[index]]; }
+        @Override public int getMaxHealth() { return maxHealth[index]; }
+        @Override public int getMaxSleep() { return maxSleep[index]; }
+        @Override public int getMaxFullness() { return maxFullness[index]; }
+        @Override public int getMaxHappiness() { return maxHappiness[index]; }
+
+        @Override
+        public String toString() {
+            return String.format("PetView{name='%s', type='%s', state=%s, H=%d/%d, S=%d/%d, F=%d/%d, Hap=%d/%d}",
+                    getName(), getPetType(), getCurrentState(),
+                    getHealth(), getMaxHealth(), getSleep(), getMaxSleep(),
+                    getFullness(), getMaxFullness(), getHappiness(), getMaxHappiness());
+        }
+    }
+}
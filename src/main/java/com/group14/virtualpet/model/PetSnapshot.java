@@ -0,0 +1,70 @@
+/**
+ * Record holding an immutable copy of a pet's values at one moment.
+ * Published by the game loop so other threads can read a pet without locking.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+/**
+ * Immutable, consistent view of a pet taken between ticks.
+ * Cooldown availability is evaluated against the pet's clock when the snapshot is taken.
+ * The effects are a private copy that nothing changes.
+ */
+public record PetSnapshot(
+        String name,
+        String petType,
+        int health,
+        int sleep,
+        int fullness,
+        int happiness,
+        PetState state,
+        int maxHealth,
+        int maxSleep,
+        int maxFullness,
+        int maxHappiness,
+        long lastPlayTime,
+        long lastVetTime,
+        boolean playAvailable,
+        boolean vetAvailable,
+        PetEffects effects) implements PetView {
+
+    /**
+     * Copies the current values of a pet.
+     * Must be called by the thread that owns the pet (e.g. the game loop).
+     */
+    public static PetSnapshot of(Pet pet) {
+        return new PetSnapshot(pet.getName(), pet.getPetType(),
+                pet.getHealth(), pet.getSleep(), pet.getFullness(), pet.getHappiness(),
+                pet.getCurrentState(),
+                pet.getMaxHealth(), pet.getMaxSleep(), pet.getMaxFullness(), pet.getMaxHappiness(),
+                pet.getLastPlayTime(), pet.getLastVetTime(),
+                pet.isPlayAvailable(), pet.isVetAvailable(),
+                pet.getEffects().copy());
+    }
+
+    /**
+     * Creates a new Pet with this snapshot's values, e.g. for saving.
+     * The new pet uses the system clock and no event sink.
+     */
+    public Pet toPet() {
+        Pet pet = new Pet(name, petType);
+        pet.restoreStats(health, sleep, fullness, happiness, state, lastPlayTime, lastVetTime);
+        pet.restoreEffects(effects);
+        return pet;
+    }
+
+    @Override public String getName() { return name; }
+    @Override public String getPetType() { return petType; }
+    @Override public int getHealth() { return health; }
+    @Override public int getSleep() { return sleep; }
+    @Override public int getFullness() { return fullness; }
+    @Override public int getHappiness() { return happiness; }
+    @Override public PetState getCurrentState() { return state; }
+    @Override public int getMaxHealth() { return maxHealth; }
+    @Override public int getMaxSleep() { return maxSleep; }
+    @Override public int getMaxFullness() { return maxFullness; }
+    @Override public int getMaxHappiness() { return maxHappiness; }
+}
@@ -0,0 +1,151 @@
+/**
+ * Class holding the precomputed state transition table for pets.
+ * Used by Pet after every tick and command, and in bulk by PetPopulation.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+/**
+ * Table-driven pet state machine. The next state depends only on the current
+ * state, a handful of threshold flags and whether the change happens at the end
+ * of a tick or after a command, so all outcomes are computed once when the class
+ * loads and each evaluation is a single array lookup.
+ * <p>
+ * The rules, in order of priority:
+ * <ul>
+ *   <li>a dead pet stays dead, and a pet with no health dies;</li>
+ *   <li>a sleeping pet wakes up at full sleep and otherwise keeps sleeping;</li>
+ *   <li>an awake pet with no sleep passes out (losing health) and falls asleep;</li>
+ *   <li>an awake pet with no fullness is hungry, and with no happiness is angry;</li>
+ *   <li>otherwise the pet is normal, except that after a command an angry pet
+ *       only calms down once its happiness reaches {@link #ANGRY_MIN_HAPPINESS_EXIT}
+ *       (at the end of a tick any happiness is enough).</li>
+ * </ul>
+ * Each table entry holds the next state ordinal plus flags for the side effects
+ * the caller applies: waking up and passing out.
+ */
+final class PetTransitions {
+
+    /** Happiness an angry pet needs before a command calms it down. */
+    static final int ANGRY_MIN_HAPPINESS_EXIT = Pet.DEFAULT_MAX_HAPPINESS / 2;
+
+    // Threshold flags, combined into the low bits of the table index.
+    static final int HEALTH_ZERO = 1;
+    static final int SLEEP_ZERO = 1 << 1;
+    static final int SLEEP_FULL = 1 << 2;
+    static final int FULLNESS_ZERO = 1 << 3;
+    static final int HAPPINESS_ZERO = 1 << 4;
+    static final int CALM = 1 << 5;
+    private static final int FLAG_BITS = 6;
+    private static final int FLAG_COMBINATIONS = 1 << FLAG_BITS;
+
+    // When the table is evaluated.
+    static final int TICK = 0;
+    static final int COMMAND = 1;
+
+    // Entry layout: bits 0-2 next state ordinal, then the side-effect flags.
+    static final int STATE_MASK = 0x7;
+    static final int WAKE = 1 << 3;
+    static final int PASS_OUT = 1 << 4;
+
+    private static final PetState[] STATES = PetState.values();
+    private static final byte[] TABLE = new byte[2 * STATES.length * FLAG_COMBINATIONS];
+
+    static {
+        for (int phase = TICK; phase <= COMMAND; phase++) {
+            for (PetState state : STATES) {
+                for (int flags = 0; flags < FLAG_COMBINATIONS; flags++) {
+                    TABLE[index(phase, state.ordinal(), flags)] = (byte) rule(phase, state, flags);
+                }
+            }
+        }
+    }
+
+    private PetTransitions() {}
+
+    /**
+     * Computes the threshold flags for a pet's stats.
+     * @return A combination of HEALTH_ZERO, SLEEP_ZERO, SLEEP_FULL, FULLNESS_ZERO, HAPPINESS_ZERO and CALM.
+     */
+    static int flags(int health, int sleep, int maxSleep, int fullness, int happiness) {
+        // Branch-free: (x - 1) >>> 31 is 1 exactly when x <= 0 (stats are small, so nothing overflows).
+        return ((health - 1) >>> 31)
+                | ((sleep - 1) >>> 31) << 1
+                | ((maxSleep - 1 - sleep) >>> 31) << 2
+                | ((fullness - 1) >>> 31) << 3
+                | ((happiness - 1) >>> 31) << 4
+                | ((ANGRY_MIN_HAPPINESS_EXIT - 1 - happiness) >>> 31) << 5;
+    }
+
+    /**
+     * Looks up the transition for a state and its flags.
+     * @param phase TICK or COMMAND.
+     * @param state The current state ordinal.
+     * @param flags The threshold flags from {@link #flags}.
+     * @return The table entry: next state ordinal (STATE_MASK) plus WAKE and PASS_OUT.
+     */
+    static int lookup(int phase, int state, int flags) {
+        return TABLE[index(phase, state, flags)];
+    }
+
+    /**
+     * Bulk evaluator: runs the table over pets stored as columns, for indices in
+     * [from, to). Pets that pass out lose {@link Pet#SLEEPING_HEALTH_PENALTY}
+     * health and die if that leaves them with none. Wake-ups have no side effect
+     * on the columns.
+     * @param phase TICK or COMMAND.
+     */
+    static void evaluate(int phase, int[] state, int[] health, int[] sleep, int[] maxSleep,
+                         int[] fullness, int[] happiness, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int entry = TABLE[index(phase, state[i],
+                    flags(health[i], sleep[i], maxSleep[i], fullness[i], happiness[i]))];
+            int next = entry & STATE_MASK;
+            if ((entry & PASS_OUT) != 0) {
+                health[i] = Math.max(0, health[i] - Pet.SLEEPING_HEALTH_PENALTY);
+                if (health[i] == 0) {
+                    next = PetState.DEAD.ordinal();
+                }
+            }
+            state[i] = next;
+        }
+    }
+
+    private static int index(int phase, int state, int flags) {
+        return ((phase * STATES.length + state) << FLAG_BITS) | flags;
+    }
+
+    /** The transition rules the table is built from. */
+    private static int rule(int phase, PetState state, int flags) {
+        if (state == PetState.DEAD || (flags & HEALTH_ZERO) != 0) {
+            return PetState.DEAD.ordinal();
+        }
+        if (state == PetState.SLEEPING) {
+            if ((flags & SLEEP_FULL) != 0) {
+                // A woken pet is evaluated as a normal pet with the same stats.
+                return WAKE | awakeRule(phase, PetState.NORMAL, flags);
+            }
+            return PetState.SLEEPING.ordinal();
+        }
+        return awakeRule(phase, state, flags);
+    }
+
+    private static int awakeRule(int phase, PetState state, int flags) {
+        if ((flags & SLEEP_ZERO) != 0) {
+            return PASS_OUT | PetState.SLEEPING.ordinal();
+        }
+        if ((flags & FULLNESS_ZERO) != 0) {
+            return PetState.HUNGRY.ordinal();
+        }
+        if ((flags & HAPPINESS_ZERO) != 0) {
+            return PetState.ANGRY.ordinal();
+        }
+        if (phase == COMMAND && state == PetState.ANGRY && (flags & CALM) == 0) {
+            return PetState.ANGRY.ordinal();
+        }
+        return PetState.NORMAL.ordinal();
+    }
+}
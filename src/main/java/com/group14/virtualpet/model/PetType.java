@@ -0,0 +1,243 @@
+/**
+ * Class describing a kind of pet: its stat maxima, decline rates, sprites and display text.
+ * All types are loaded once from the pets/pet_types.properties resource.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Data-driven pet type registry.
+ * Each type is validated once when the registry is first used and exposes its
+ * values as precomputed primitive fields, so the tick path never compares strings.
+ * Types are numbered by their position in the resource file ({@link #getOrdinal()}).
+ */
+public final class PetType {
+
+    /** Classpath location of the registry file. */
+    public static final String RESOURCE = "/pets/pet_types.properties";
+
+    private static final PetState[] STATES = PetState.values();
+
+    private final String id;
+    private final int ordinal;
+    private final String displayName;
+    private final String difficulty;
+    private final String summary;
+    private final String description;
+    private final int themeColorRgb;
+    private final int hungerRating;
+    private final int sleepRating;
+    private final int moodRating;
+    private final int maxHealth;
+    private final int maxSleep;
+    private final int maxFullness;
+    private final int maxHappiness;
+    private final int sleepDecline;
+    private final int fullnessDecline;
+    private final int happinessDecline;
+    // Indexed by state ordinal * 2 + (movement ? 1 : 0); null if no sprite exists.
+    private final String[] spritePaths;
+
+    private PetType(String id, int ordinal, Properties props) {
+        this.id = id;
+        this.ordinal = ordinal;
+        this.displayName = requireText(props, id, "displayName");
+        this.difficulty = requireText(props, id, "difficulty");
+        this.summary = requireText(props, id, "summary");
+        this.description = requireText(props, id, "description");
+        this.themeColorRgb = requireColor(props, id, "themeColor");
+        this.hungerRating = requireInt(props, id, "rating.hunger", 0, 5);
+        this.sleepRating = requireInt(props, id, "rating.sleep", 0, 5);
+        this.moodRating = requireInt(props, id, "rating.mood", 0, 5);
+        this.maxHealth = requireInt(props, id, "maxHealth", 1, 10_000);
+        this.maxSleep = requireInt(props, id, "maxSleep", 1, 10_000);
+        this.maxFullness = requireInt(props, id, "maxFullness", 1, 10_000);
+        this.maxHappiness = requireInt(props, id, "maxHappiness", 1, 10_000);
+        this.sleepDecline = requireInt(props, id, "sleepDecline", 1, 10_000);
+        this.fullnessDecline = requireInt(props, id, "fullnessDecline", 0, 10_000);
+        this.happinessDecline = requireInt(props, id, "happinessDecline", 0, 10_000);
+        this.spritePaths = resolveSprites(props, id, requireText(props, id, "spriteDirectory"));
+    }
+
+    public String getId() { return id; }
+    public int getOrdinal() { return ordinal; }
+    public String getDisplayName() { return displayName; }
+    public String getDifficulty() { return difficulty; }
+    public String getSummary() { return summary; }
+    public String getDescription() { return description; }
+    /** Theme color as 0xRRGGBB, kept free of AWT so the model stays headless. */
+    public int getThemeColorRgb() { return themeColorRgb; }
+    public int getHungerRating() { return hungerRating; }
+    public int getSleepRating() { return sleepRating; }
+    public int getMoodRating() { return moodRating; }
+    public int getMaxHealth() { return maxHealth; }
+    public int getMaxSleep() { return maxSleep; }
+    public int getMaxFullness() { return maxFullness; }
+    public int getMaxHappiness() { return maxHappiness; }
+    public int getSleepDecline() { return sleepDecline; }
+    public int getFullnessDecline() { return fullnessDecline; }
+    public int getHappinessDecline() { return happinessDecline; }
+
+    /**
+     * Gets the classpath path of the sprite for a state.
+     * @param state The pet state.
+     * @param movement Whether the movement variant is wanted.
+     * @return The sprite path, or null if this type has no sprite for the state.
+     */
+    public String getSpritePath(PetState state, boolean movement) {
+        return spritePaths[state.ordinal() * 2 + (movement ? 1 : 0)];
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+
+    // --- Registry ---
+
+    /**
+     * Looks up a type by its id.
+     * @param id The type id, e.g. "friendly_robot".
+     * @return The type, or null if no such type is registered.
+     */
+    public static PetType forId(String id) {
+        return id == null ? null : Registry.BY_ID.get(id);
+    }
+
+    /**
+     * Looks up a type by its id, failing if it is not registered.
+     * @throws IllegalArgumentException if the id is unknown.
+     */
+    public static PetType require(String id) {
+        PetType type = forId(id);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown pet type: " + id);
+        }
+        return type;
+    }
+
+    /** Looks up a type by its ordinal. */
+    public static PetType byOrdinal(int ordinal) {
+        return Registry.ALL.get(ordinal);
+    }
+
+    /** Gets all registered types in file order. */
+    public static List<PetType> all() {
+        return Registry.ALL;
+    }
+
+    /** Gets the type offered by default (the first one in the file). */
+    public static PetType defaultType() {
+        return Registry.ALL.get(0);
+    }
+
+    /** Holder so the resource is read and validated exactly once, on first use. */
+    private static final class Registry {
+        static final List<PetType> ALL;
+        static final Map<String, PetType> BY_ID;
+
+        static {
+            Properties props = new Properties();
+            try (InputStream in = PetType.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("Pet type registry not found: " + RESOURCE);
+                }
+                try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                    props.load(reader);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read pet type registry " + RESOURCE, e);
+            }
+
+            String list = props.getProperty("types", "").trim();
+            if (list.isEmpty()) {
+                throw new IllegalStateException("Pet type registry defines no types");
+            }
+            List<PetType> types = new ArrayList<>();
+            Map<String, PetType> byId = new HashMap<>();
+            for (String rawId : list.split(",")) {
+                String id = rawId.trim();
+                if (id.isEmpty() || byId.containsKey(id)) {
+                    throw new IllegalStateException("Empty or duplicate pet type id: '" + id + "'");
+                }
+                PetType type = new PetType(id, types.size(), props);
+                types.add(type);
+                byId.put(id, type);
+            }
+            ALL = Collections.unmodifiableList(types);
+            BY_ID = Collections.unmodifiableMap(byId);
+        }
+    }
+
+    // --- Validation helpers ---
+
+    private static String requireText(Properties props, String id, String key) {
+        String value = props.getProperty(id + "." + key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("Pet type '" + id + "' is missing " + key);
+        }
+        return value.trim();
+    }
+
+    private static int requireInt(Properties props, String id, String key, int min, int max) {
+        String text = requireText(props, id, key);
+        int value;
+        try {
+            value = Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Pet type '" + id + "' has non-numeric " + key + ": " + text);
+        }
+        if (value < min || value > max) {
+            throw new IllegalStateException("Pet type '" + id + "' has " + key + " " + value
+                    + " outside [" + min + ", " + max + "]");
+        }
+        return value;
+    }
+
+    private static int requireColor(Properties props, String id, String key) {
+        String text = requireText(props, id, key);
+        try {
+            return Integer.parseInt(text.startsWith("#") ? text.substring(1) : text, 16) & 0xFFFFFF;
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Pet type '" + id + "' has invalid " + key + ": " + text);
+        }
+    }
+
+    private static String[] resolveSprites(Properties props, String id, String directory) {
+        String[] paths = new String[STATES.length * 2];
+        for (PetState state : STATES) {
+            String suffix = state == PetState.NORMAL ? ""
+                    : "_" + state.name().charAt(0) + state.name().substring(1).toLowerCase();
+            String still = spritePath(props, id, directory, state.name(), id + suffix + ".png");
+            String movement = spritePath(props, id, directory, state.name() + ".movement",
+                    id + suffix + "_movement.png");
+            if (still == null && state == PetState.NORMAL) {
+                throw new IllegalStateException("Pet type '" + id + "' has no sprite in " + directory);
+            }
+            paths[state.ordinal() * 2] = still;
+            paths[state.ordinal() * 2 + 1] = movement != null ? movement : still;
+        }
+        return paths;
+    }
+
+    private static String spritePath(Properties props, String id, String directory, String key, String defaultName) {
+        String fileName = props.getProperty(id + ".sprite." + key, defaultName).trim();
+        String path = directory + "/" + fileName;
+        return PetType.class.getResource(path) != null ? path : null;
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Read-only view of a virtual pet's name, type, stats and state.
+ * Implemented by Pet itself and by the per-pet views handed out by PetPopulation.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+/**
+ * Read-only accessors shared by every representation of a pet.
+ * UI panels and save code should depend on this rather than on Pet
+ * when they only need to display or copy the pet's current values.
+ */
+public interface PetView {
+
+    String getName();
+
+    String getPetType();
+
+    int getHealth();
+
+    int getSleep();
+
+    int getFullness();
+
+    int getHappiness();
+
+    PetState getCurrentState();
+
+    int getMaxHealth();
+
+    int getMaxSleep();
+
+    int getMaxFullness();
+
+    int getMaxHappiness();
+}
@@ -0,0 +1,127 @@
+/**
+ * Class that records the most recent pet events in preallocated arrays.
+ * Recording an event never allocates, so it can stay installed on the tick path.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size event recorder. When full, new events overwrite the oldest ones.
+ * Each field of an event is kept in its own preallocated array slot, and
+ * {@link #forEach(Visitor)} hands them back the same way, so neither recording
+ * nor reading creates objects. Not thread-safe: record and read from the thread
+ * that drives the pets (e.g. the game loop).
+ */
+public class RingBufferEventSink implements PetEventSink {
+
+    private static final PetEvent[] EVENTS = PetEvent.values();
+    private static final PetState[] STATES = PetState.values();
+
+    /**
+     * Receives recorded events, oldest first.
+     * Pet-only events have a null item and quantity 0; item events have from/to set to null.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(long sequence, PetEvent event, Pet pet, PetState from, PetState to, Item item, int quantity);
+    }
+
+    private final int mask;
+    private final byte[] events;
+    private final byte[] fromStates;
+    private final byte[] toStates;
+    private final Pet[] pets;
+    private final Item[] items;
+    private final int[] quantities;
+    private long written;
+
+    /**
+     * Creates a buffer holding at least the given number of events.
+     * @param capacity The minimum capacity; rounded up to a power of two.
+     */
+    public RingBufferEventSink(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be in [1, 2^30]: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.events = new byte[size];
+        this.fromStates = new byte[size];
+        this.toStates = new byte[size];
+        this.pets = new Pet[size];
+        this.items = new Item[size];
+        this.quantities = new int[size];
+    }
+
+    @Override
+    public void onPetEvent(PetEvent event, Pet pet, PetState from, PetState to) {
+        int slot = (int) (written++ & mask);
+        events[slot] = (byte) event.ordinal();
+        fromStates[slot] = (byte) from.ordinal();
+        toStates[slot] = (byte) to.ordinal();
+        pets[slot] = pet;
+        items[slot] = null;
+        quantities[slot] = 0;
+    }
+
+    @Override
+    public void onItemEvent(PetEvent event, Pet pet, Item item, int quantity) {
+        int slot = (int) (written++ & mask);
+        events[slot] = (byte) event.ordinal();
+        fromStates[slot] = -1;
+        toStates[slot] = -1;
+        pets[slot] = pet;
+        items[slot] = item;
+        quantities[slot] = quantity;
+    }
+
+    /** Returns the number of events the buffer can hold. */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /** Returns the number of events currently held. */
+    public int size() {
+        return (int) Math.min(written, capacity());
+    }
+
+    /** Returns the total number of events recorded since creation or the last clear. */
+    public long getWrittenCount() {
+        return written;
+    }
+
+    /** Returns how many events were overwritten before they could be read. */
+    public long getOverwrittenCount() {
+        return Math.max(0, written - capacity());
+    }
+
+    /**
+     * Visits every held event from oldest to newest.
+     * @param visitor The visitor to call for each event.
+     */
+    public void forEach(Visitor visitor) {
+        for (long seq = written - size(); seq < written; seq++) {
+            int slot = (int) (seq & mask);
+            byte from = fromStates[slot];
+            byte to = toStates[slot];
+            visitor.visit(seq, EVENTS[events[slot]], pets[slot],
+                    from < 0 ? null : STATES[from], to < 0 ? null : STATES[to],
+                    items[slot], quantities[slot]);
+        }
+    }
+
+    /** Drops all held events and the references they keep. */
+    public void clear() {
+        Arrays.fill(pets, null);
+        Arrays.fill(items, null);
+        written = 0;
+    }
+}
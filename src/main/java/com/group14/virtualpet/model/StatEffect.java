@@ -0,0 +1,34 @@
+/**
+ * Enum listing the kinds of timed effect that can change how fast a pet's stats move.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+/**
+ * A per-tick stat change that a {@link TimedEffect} can scale.
+ * Sleep decay and sleep recovery never apply on the same tick, so they share
+ * the sleep stat's carried fraction in {@link PetEffects}.
+ */
+public enum StatEffect {
+    SLEEP_DECAY(PetEffects.SLEEP, "sleep decay"),           // Sleep lost per tick while awake
+    SLEEP_RECOVERY(PetEffects.SLEEP, "sleep recovery"),     // Sleep recovered per tick while sleeping
+    FULLNESS_DECAY(PetEffects.FULLNESS, "fullness decay"),  // Fullness lost per tick
+    HAPPINESS_DECAY(PetEffects.HAPPINESS, "happiness decay"); // Happiness lost per tick, including the hungry multiplier
+
+    // The stat whose carried fraction this effect uses.
+    final int stat;
+    private final String label;
+
+    StatEffect(int stat, String label) {
+        this.stat = stat;
+        this.label = label;
+    }
+
+    /** Gets a short lower-case description for the UI. */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,27 @@
+/**
+ * Interface for the loop that advances a PetPopulation by one tick.
+ * Lets the scalar loop and the SIMD loop be swapped at runtime.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+/**
+ * A bulk tick implementation for PetPopulation.
+ * Every kernel must produce exactly the same stats and states as calling
+ * Pet.liveOneTick() on each pet. Kernels are stateless and thread-safe;
+ * disjoint ranges of one population may be ticked concurrently.
+ */
+public interface TickKernel {
+
+    /** Gets a short name for logs and benchmarks, e.g. "scalar". */
+    String getName();
+
+    /**
+     * Advances the pets with indices in [from, to) by one tick.
+     * The range has already been checked by PetPopulation.tickRange().
+     */
+    void tick(PetPopulation population, int from, int to);
+}
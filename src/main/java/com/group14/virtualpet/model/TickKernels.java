@@ -0,0 +1,74 @@
+/**
+ * Class that picks the tick kernel to use for pet populations.
+ * Prefers the SIMD kernel when it was compiled in and the JVM can run it.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+/**
+ * Runtime selection of TickKernel implementations.
+ * The Vector API kernel is only built by the "vector" Maven profile and needs
+ * the JVM to be started with {@code --add-modules jdk.incubator.vector}; in
+ * every other case the scalar kernel is used. Set the system property
+ * {@value #KERNEL_PROPERTY} to "scalar" to force the scalar kernel.
+ */
+public final class TickKernels {
+
+    /** System property that forces a kernel ("scalar" or "vector"). */
+    public static final String KERNEL_PROPERTY = "virtualpet.tickKernel";
+
+    private static final String VECTOR_KERNEL_CLASS = "com.group14.virtualpet.model.VectorTickKernel";
+
+    private TickKernels() {}
+
+    /** Gets the scalar kernel, which is always available. */
+    public static TickKernel scalar() {
+        return ScalarTickKernel.INSTANCE;
+    }
+
+    /**
+     * Gets the Vector API kernel.
+     * @return The kernel, or null if it was not compiled in or the incubator module is missing.
+     */
+    public static TickKernel vector() {
+        return VectorHolder.KERNEL;
+    }
+
+    /** Gets the kernel new populations use by default. */
+    public static TickKernel preferred() {
+        return PreferredHolder.KERNEL;
+    }
+
+    private static final class VectorHolder {
+        static final TickKernel KERNEL = loadVectorKernel();
+    }
+
+    private static final class PreferredHolder {
+        static final TickKernel KERNEL = choosePreferred();
+    }
+
+    private static TickKernel choosePreferred() {
+        String requested = System.getProperty(KERNEL_PROPERTY, "");
+        if (requested.equalsIgnoreCase("scalar")) {
+            return scalar();
+        }
+        TickKernel vector = vector();
+        if (vector == null && requested.equalsIgnoreCase("vector")) {
+            System.err.println("Vector tick kernel requested but not available; using scalar kernel.");
+        }
+        return vector != null ? vector : scalar();
+    }
+
+    private static TickKernel loadVectorKernel() {
+        try {
+            Class<?> kernelClass = Class.forName(VECTOR_KERNEL_CLASS);
+            return (TickKernel) kernelClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Not compiled in, module not added, or no usable vector shape on this CPU.
+            return null;
+        }
+    }
+}
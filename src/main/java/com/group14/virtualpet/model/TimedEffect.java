@@ -0,0 +1,43 @@
+/**
+ * Record describing a timed effect that an item or action applies to a pet.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+import java.io.Serializable;
+
+/**
+ * Scales one per-tick stat change to a percentage of its normal rate for a
+ * number of ticks. 50 halves the change ("+50% decay resistance"), 200 doubles it
+ * ("sleep recovers 2x") and 0 stops it.
+ *
+ * @param effect The stat change to scale.
+ * @param ratePercent The rate as a percentage of normal, from 0 to {@link #MAX_RATE_PERCENT}.
+ * @param durationTicks The number of the pet's ticks the effect lasts; must be positive.
+ */
+public record TimedEffect(StatEffect effect, int ratePercent, int durationTicks) implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Highest rate an effect may set (ten times normal). */
+    public static final int MAX_RATE_PERCENT = 1000;
+
+    public TimedEffect {
+        if (effect == null) {
+            throw new IllegalArgumentException("Effect must not be null");
+        }
+        if (ratePercent < 0 || ratePercent > MAX_RATE_PERCENT) {
+            throw new IllegalArgumentException("Rate must be between 0 and " + MAX_RATE_PERCENT + "%: " + ratePercent);
+        }
+        if (durationTicks <= 0) {
+            throw new IllegalArgumentException("Duration must be positive: " + durationTicks);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ratePercent + "% " + effect.getLabel() + " for " + durationTicks + " ticks";
+    }
+}
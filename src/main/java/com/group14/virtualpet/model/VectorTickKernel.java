@@ -0,0 +1,121 @@
+/**
+ * Class implementing the population tick with the incubating Vector API.
+ * Only compiled by the "vector" Maven profile; see TickKernels for how it is selected.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.model;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD TickKernel. Both the sleeping and the awake rules are evaluated for a
+ * whole vector of pets, and masks pick the result that applies to each lane,
+ * which gives exactly the per-pet results of ScalarTickKernel without branches.
+ * The part of a range that does not fill a vector is finished by the scalar kernel.
+ */
+final class VectorTickKernel implements TickKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private static final int NORMAL = PetState.NORMAL.ordinal();
+    private static final int SLEEPING = PetState.SLEEPING.ordinal();
+    private static final int HUNGRY = PetState.HUNGRY.ordinal();
+    private static final int ANGRY = PetState.ANGRY.ordinal();
+    private static final int DEAD = PetState.DEAD.ordinal();
+
+    VectorTickKernel() {
+        if (SPECIES.length() < 2) {
+            throw new UnsupportedOperationException("No multi-lane int vectors on this platform");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "vector-" + SPECIES.length();
+    }
+
+    @Override
+    public void tick(PetPopulation population, int from, int to) {
+        int[] health = population.health;
+        int[] sleep = population.sleep;
+        int[] fullness = population.fullness;
+        int[] happiness = population.happiness;
+        int[] state = population.state;
+        int[] maxSleep = population.maxSleep;
+        int[] sleepDecline = population.sleepDecline;
+        int[] fullnessDecline = population.fullnessDecline;
+        int[] happinessDecline = population.happinessDecline;
+
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector st = IntVector.fromArray(SPECIES, state, i);
+            VectorMask<Integer> dead = st.compare(VectorOperators.EQ, DEAD);
+            if (dead.allTrue()) {
+                continue;
+            }
+            VectorMask<Integer> sleeping = st.compare(VectorOperators.EQ, SLEEPING);
+            VectorMask<Integer> awake = dead.or(sleeping).not();
+
+            IntVector h = IntVector.fromArray(SPECIES, health, i);
+            IntVector sl = IntVector.fromArray(SPECIES, sleep, i);
+            IntVector f = IntVector.fromArray(SPECIES, fullness, i);
+            IntVector hap = IntVector.fromArray(SPECIES, happiness, i);
+            IntVector maxSl = IntVector.fromArray(SPECIES, maxSleep, i);
+            IntVector happinessLoss = IntVector.fromArray(SPECIES, happinessDecline, i);
+
+            // Fullness declines the same way whether the pet is asleep or awake.
+            IntVector newF = f.sub(IntVector.fromArray(SPECIES, fullnessDecline, i)).max(0);
+            VectorMask<Integer> noFood = newF.compare(VectorOperators.LE, 0);
+
+            // --- Sleeping pets: recover sleep, wake up when full ---
+            IntVector sleptSl = sl.add(Pet.SLEEPING_SLEEP_RECOVERY_RATE).min(maxSl);
+            IntVector sleptHap = hap.sub(happinessLoss).max(0);
+            IntVector sleptSt = classify(noFood, sleptHap)
+                    .blend(SLEEPING, sleptSl.compare(VectorOperators.LT, maxSl))
+                    .blend(DEAD, h.compare(VectorOperators.LE, 0));
+
+            // --- Awake pets ---
+            IntVector awakeSl = sl.sub(IntVector.fromArray(SPECIES, sleepDecline, i)).max(0);
+            // Exhausted: passes out before the rest of the tick is applied.
+            VectorMask<Integer> exhausted = awakeSl.compare(VectorOperators.EQ, 0);
+            IntVector awakeH = h.blend(h.sub(Pet.SLEEPING_HEALTH_PENALTY).max(0),
+                    exhausted.and(h.compare(VectorOperators.GT, 0)));
+            VectorMask<Integer> noHealth = awakeH.compare(VectorOperators.LE, 0);
+            IntVector awakeSt = st.blend(SLEEPING, exhausted).blend(DEAD, exhausted.and(noHealth));
+            // Running out of food makes an awake pet hungry.
+            VectorMask<Integer> starving = noFood
+                    .and(awakeSt.compare(VectorOperators.NE, SLEEPING))
+                    .and(awakeSt.compare(VectorOperators.NE, DEAD));
+            awakeSt = awakeSt.blend(HUNGRY, starving).blend(DEAD, starving.and(noHealth));
+            VectorMask<Integer> hungry = awakeSt.compare(VectorOperators.EQ, HUNGRY);
+            awakeH = awakeH.blend(awakeH.sub(Pet.HUNGRY_HEALTH_DECLINE).max(0), hungry);
+            IntVector awakeHap = hap.sub(happinessLoss.blend(
+                    happinessLoss.mul(Pet.HUNGRY_HAPPINESS_DECLINE_MULTIPLIER), hungry)).max(0);
+            awakeSt = classify(noFood, awakeHap)
+                    .blend(SLEEPING, awakeSt.compare(VectorOperators.EQ, SLEEPING))
+                    .blend(DEAD, awakeH.compare(VectorOperators.LE, 0));
+
+            // Dead lanes keep their old values; the others take their branch's result.
+            h.blend(awakeH, awake).intoArray(health, i);
+            sl.blend(sleptSl, sleeping).blend(awakeSl, awake).intoArray(sleep, i);
+            f.blend(newF, dead.not()).intoArray(fullness, i);
+            hap.blend(sleptHap, sleeping).blend(awakeHap, awake).intoArray(happiness, i);
+            st.blend(sleptSt, sleeping).blend(awakeSt, awake).intoArray(state, i);
+        }
+        ScalarTickKernel.INSTANCE.tick(population, i, to);
+    }
+
+    /** The state of an awake pet given its stats: hungry, angry or normal. */
+    private static IntVector classify(VectorMask<Integer> noFood, IntVector happiness) {
+        return IntVector.broadcast(SPECIES, NORMAL)
+                .blend(ANGRY, happiness.compare(VectorOperators.LE, 0))
+                .blend(HUNGRY, noFood);
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * Class that simulates many pets by jumping from one state transition to the next.
+ * Pets are only touched when a threshold is crossed or when they are explicitly read or commanded.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetState;
+
+/**
+ * Next-event simulation mode for hosts with many mostly idle pets.
+ * For every pet the simulator knows the tick at which its next state transition
+ * can happen (see Pet#ticksUntilNextEvent()) and keeps pets in a priority queue
+ * keyed by that tick. Advancing the clock only processes pets whose event is due;
+ * all other pets stay lazily behind until they are read through {@link #materialize(Pet)}
+ * or changed through {@link #command(Pet, Consumer)}. Total work is proportional to
+ * transitions and player commands, not to pets times ticks.
+ */
+public class EventDrivenSimulator {
+
+    /**
+     * Callback invoked when a scheduled event changes a pet's state.
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+        void onTransition(Pet pet, long tick, PetState from, PetState to);
+    }
+
+    /** Per-pet bookkeeping: the tick the pet's fields are valid for and its schedule version. */
+    private static final class Entry {
+        final Pet pet;
+        long syncedTick;
+        long eventTick;
+        int version;
+
+        Entry(Pet pet, long syncedTick) {
+            this.pet = pet;
+            this.syncedTick = syncedTick;
+        }
+    }
+
+    /** A queued event. Stale nodes (version mismatch) are skipped when polled. */
+    private record Scheduled(long eventTick, Entry entry, int version) { }
+
+    private final PriorityQueue<Scheduled> queue =
+            new PriorityQueue<>((a, b) -> Long.compare(a.eventTick(), b.eventTick()));
+    private final Map<Pet, Entry> entries = new IdentityHashMap<>();
+    private TransitionListener listener;
+    private long currentTick;
+    private long processedEvents;
+
+    /** Sets the listener notified of state transitions (may be null). */
+    public void setTransitionListener(TransitionListener listener) {
+        this.listener = listener;
+    }
+
+    /** Returns the simulation's current tick. */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /** Returns the number of pets managed by the simulator. */
+    public int size() {
+        return entries.size();
+    }
+
+    /** Returns how many scheduled events have been processed so far. */
+    public long getProcessedEventCount() {
+        return processedEvents;
+    }
+
+    /**
+     * Adds a pet whose fields are current as of the simulator's current tick.
+     * @param pet The pet to manage.
+     */
+    public void add(Pet pet) {
+        if (entries.containsKey(pet)) {
+            return;
+        }
+        Entry entry = new Entry(pet, currentTick);
+        entries.put(pet, entry);
+        schedule(entry);
+    }
+
+    /**
+     * Stops managing a pet, first bringing it up to date with the current tick.
+     * @param pet The pet to remove.
+     */
+    public void remove(Pet pet) {
+        Entry entry = entries.remove(pet);
+        if (entry != null) {
+            syncTo(entry, currentTick);
+            entry.version++; // Invalidate any queued event.
+        }
+    }
+
+    /**
+     * Returns the tick of the earliest pending event, or Long.MAX_VALUE if nothing is scheduled.
+     * Hosts can use this to sleep until there is work to do.
+     */
+    public long peekNextEventTick() {
+        discardStale();
+        Scheduled head = queue.peek();
+        return head == null ? Long.MAX_VALUE : head.eventTick();
+    }
+
+    /**
+     * Moves the simulation forward by the given number of ticks.
+     * @param ticks The number of ticks to advance.
+     */
+    public void advance(long ticks) {
+        if (ticks > 0) {
+            advanceTo(currentTick + ticks);
+        }
+    }
+
+    /**
+     * Moves the simulation forward to the given tick, processing every event due by then.
+     * @param tick The target tick (must not be in the past).
+     */
+    public void advanceTo(long tick) {
+        if (tick < currentTick) {
+            throw new IllegalArgumentException("Cannot move back from tick " + currentTick + " to " + tick);
+        }
+        while (true) {
+            discardStale();
+            Scheduled head = queue.peek();
+            if (head == null || head.eventTick() > tick) {
+                break;
+            }
+            queue.poll();
+            Entry entry = head.entry();
+            PetState before = entry.pet.getCurrentState();
+            syncTo(entry, head.eventTick());
+            processedEvents++;
+            PetState after = entry.pet.getCurrentState();
+            if (before != after && listener != null) {
+                listener.onTransition(entry.pet, head.eventTick(), before, after);
+            }
+            schedule(entry);
+        }
+        currentTick = tick;
+    }
+
+    /**
+     * Brings a pet's fields up to date with the current tick so they can be read.
+     * @param pet A pet managed by this simulator.
+     * @return The same pet, for chaining.
+     */
+    public Pet materialize(Pet pet) {
+        Entry entry = requireEntry(pet);
+        syncTo(entry, currentTick);
+        return pet;
+    }
+
+    /**
+     * Applies a player command to a pet at the current tick and reschedules its next event.
+     * @param pet A pet managed by this simulator.
+     * @param action The command to run against the up-to-date pet.
+     */
+    public void command(Pet pet, Consumer<Pet> action) {
+        Entry entry = requireEntry(pet);
+        syncTo(entry, currentTick);
+        PetState before = pet.getCurrentState();
+        action.accept(pet);
+        PetState after = pet.getCurrentState();
+        if (before != after && listener != null) {
+            listener.onTransition(pet, currentTick, before, after);
+        }
+        schedule(entry);
+    }
+
+    private Entry requireEntry(Pet pet) {
+        Entry entry = entries.get(pet);
+        if (entry == null) {
+            throw new IllegalArgumentException("Pet is not managed by this simulator: " + pet.getName());
+        }
+        return entry;
+    }
+
+    private void syncTo(Entry entry, long tick) {
+        if (tick > entry.syncedTick) {
+            entry.pet.advance(tick - entry.syncedTick);
+            entry.syncedTick = tick;
+        }
+    }
+
+    private void schedule(Entry entry) {
+        entry.version++;
+        long delay = entry.pet.ticksUntilNextEvent();
+        if (delay == Long.MAX_VALUE) {
+            return; // Dead pets never change again on their own.
+        }
+        entry.eventTick = entry.syncedTick + delay;
+        queue.add(new Scheduled(entry.eventTick, entry, entry.version));
+    }
+
+    private void discardStale() {
+        Scheduled head;
+        while ((head = queue.peek()) != null && head.version() != head.entry().version) {
+            queue.poll();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * Class buffering the events of one game session for one subscriber.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Bounded per-subscriber event buffer. The session's loop thread adds events and
+ * never waits: when the buffer is full, the {@link OverflowPolicy} decides what
+ * gives way, so one slow subscriber never stalls the simulation or other
+ * subscribers. The subscriber takes events with {@link #poll}, and
+ * {@link #takeDroppedCount} tells it how many it missed so it can fetch the full
+ * state again.
+ * <p>
+ * The lock is only held to add or remove one event. It is a ReentrantLock
+ * rather than a monitor so a subscriber waiting on a virtual thread does not pin
+ * its carrier.
+ */
+public final class EventSubscription implements AutoCloseable {
+
+    /** What happens when an event arrives and the buffer is full. */
+    public enum OverflowPolicy {
+        /** The oldest waiting event is dropped. */
+        DROP_OLDEST,
+        /**
+         * Stat changes of a pet are merged into the one already waiting for that
+         * pet, whether or not the buffer is full; if it is still full, the
+         * oldest waiting event is dropped.
+         */
+        COALESCE
+    }
+
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final Consumer<EventSubscription> onClose;
+    private final ArrayDeque<SessionEvent> events;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private long dropped;
+    private boolean closed;
+
+    EventSubscription(int capacity, OverflowPolicy policy, Consumer<EventSubscription> onClose) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Overflow policy must not be null");
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+        this.onClose = onClose;
+        this.events = new ArrayDeque<>(Math.min(capacity, 64));
+    }
+
+    /** Adds an event without waiting. Called on the session's loop thread. */
+    void offer(SessionEvent event) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (policy == OverflowPolicy.COALESCE && coalesce(event)) {
+                return;
+            }
+            if (events.size() >= capacity) {
+                events.pollFirst();
+                dropped++;
+            }
+            events.addLast(event);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Merges a stat change into a waiting one for the same pet. Caller holds the lock. */
+    private boolean coalesce(SessionEvent event) {
+        if (event.type() != SessionEvent.Type.STATS_CHANGED) {
+            return false;
+        }
+        // Walk from the newest: only merge if no state change of the pet came in between.
+        for (Iterator<SessionEvent> it = events.descendingIterator(); it.hasNext(); ) {
+            SessionEvent waiting = it.next();
+            if (waiting.petIndex() != event.petIndex()) {
+                continue;
+            }
+            if (!waiting.canMerge(event)) {
+                return false;
+            }
+            it.remove();
+            events.addLast(waiting.mergeWith(event));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Takes the oldest event, waiting up to the given time for one to arrive.
+     * @return The event, or null if none arrived in time or the subscription is closed.
+     */
+    public SessionEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (events.isEmpty()) {
+                if (closed || nanos <= 0) {
+                    return null;
+                }
+                nanos = available.awaitNanos(nanos);
+            }
+            return events.pollFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns how many events were dropped since the last call, and resets the count. */
+    public long takeDroppedCount() {
+        lock.lock();
+        try {
+            long count = dropped;
+            dropped = 0;
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns true once the subscription or its session has ended. */
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    /** Ends the subscription; events still waiting can be polled, new ones are ignored. */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (onClose != null) {
+            onClose.accept(this);
+        }
+    }
+}
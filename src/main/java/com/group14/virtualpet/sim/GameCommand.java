@@ -0,0 +1,141 @@
+/**
+ * Record describing a player action to apply to the game state.
+ * Commands are queued by the UI and applied on the simulation thread.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.state.GameState;
+
+/**
+ * A single player action. Feed and gift commands carry the item to use;
+ * the other commands have no item. GRANT is not a player action: it adds an
+ * item to the shared inventory, so found items and rations also go through the loop.
+ * Every command targets one pet of the household by its position; GRANT ignores it.
+ *
+ * @param type The kind of action.
+ * @param item The food or gift to use, or null for actions without an item.
+ * @param petIndex The position of the target pet in the household.
+ */
+public record GameCommand(Type type, Item item, int petIndex) {
+
+    /** The player actions available in the game. */
+    public enum Type {
+        FEED, PLAY, GIFT, VET, EXERCISE, SLEEP, GRANT
+    }
+
+    public GameCommand {
+        if (type == null) {
+            throw new IllegalArgumentException("Command type must not be null");
+        }
+        if (type == Type.FEED && !(item instanceof FoodItem)) {
+            throw new IllegalArgumentException("Feed command needs a food item");
+        }
+        if (type == Type.GIFT && !(item instanceof GiftItem)) {
+            throw new IllegalArgumentException("Gift command needs a gift item");
+        }
+        if (type == Type.GRANT && item == null) {
+            throw new IllegalArgumentException("Grant command needs an item");
+        }
+        if (type != Type.FEED && type != Type.GIFT && type != Type.GRANT && item != null) {
+            throw new IllegalArgumentException(type + " command does not take an item");
+        }
+        if (petIndex < 0) {
+            throw new IllegalArgumentException("Pet index must not be negative: " + petIndex);
+        }
+    }
+
+    /** Creates a command for the household's first pet. */
+    public GameCommand(Type type, Item item) {
+        this(type, item, 0);
+    }
+
+    /** Creates a command that does not use an item (play, vet, exercise or sleep). */
+    public static GameCommand of(Type type) {
+        return new GameCommand(type, null);
+    }
+
+    public static GameCommand feed(FoodItem food) {
+        return new GameCommand(Type.FEED, food);
+    }
+
+    public static GameCommand gift(GiftItem gift) {
+        return new GameCommand(Type.GIFT, gift);
+    }
+
+    /** Creates a command that adds one of the item to the inventory. */
+    public static GameCommand grant(Item item) {
+        return new GameCommand(Type.GRANT, item);
+    }
+
+    /** Returns a copy of this command aimed at another pet of the household. */
+    public GameCommand forPet(int petIndex) {
+        return petIndex == this.petIndex ? this : new GameCommand(type, item, petIndex);
+    }
+
+    /**
+     * Applies this command to the target pet and the inventory of a game state.
+     * Feed and gift commands consume one of their item from the inventory.
+     *
+     * @param state The game state to change.
+     * @return true if the command took effect; false if the target pet is missing
+     *         or dead (for GRANT: if every pet is dead), the item is not in the
+     *         inventory, or play/vet is on cooldown.
+     */
+    public boolean applyTo(GameState state) {
+        Inventory inventory = state.getInventory();
+        if (type == Type.GRANT) {
+            if (inventory == null || state.isHouseholdDead()) {
+                return false;
+            }
+            inventory.addItem(item, 1);
+            return true;
+        }
+        Pet pet = state.getPet(petIndex);
+        if (pet == null || pet.getCurrentState() == PetState.DEAD) {
+            return false;
+        }
+        switch (type) {
+            case FEED -> {
+                if (inventory == null || !inventory.removeItem(item)) {
+                    return false;
+                }
+                pet.feed((FoodItem) item);
+                return true;
+            }
+            case GIFT -> {
+                if (inventory == null || !inventory.removeItem(item)) {
+                    return false;
+                }
+                pet.receiveGift((GiftItem) item);
+                return true;
+            }
+            case PLAY -> {
+                return pet.play();
+            }
+            case VET -> {
+                return pet.takeToVet();
+            }
+            case EXERCISE -> {
+                pet.exercise();
+                return true;
+            }
+            case SLEEP -> {
+                pet.goToBed();
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/**
+ * Class that runs the game simulation on its own thread at a fixed timestep.
+ * Player actions are queued as GameCommands and applied between ticks.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.state.GameStateSnapshot;
+import com.group14.virtualpet.util.MpscMailbox;
+
+/**
+ * Fixed-timestep simulation thread for one {@link GameSession}.
+ * Ticks are scheduled against System.nanoTime(), so a tick that runs late is
+ * followed by the missed ticks rather than shifting the whole schedule; slow
+ * listeners or a blocked UI never change how many ticks happen per second.
+ * <p>
+ * The loop is the session's single writer: while it runs, only its thread touches
+ * the session. Other threads send it messages through a lock-free
+ * {@link MpscMailbox}, either commands or any other change to make on the loop
+ * thread ({@link #execute}, {@link #call}), and read the immutable
+ * {@link GameStateSnapshot} published after every tick and every message.
+ * Between ticks the loop thread parks, and a sender only unparks it when it is
+ * actually waiting.
+ * <p>
+ * The loop runs on a platform thread by default, or on any thread a
+ * {@link Thread.Builder} makes, e.g. a virtual thread in a {@link SessionHost}.
+ * A paused loop blocks until a command arrives or it is resumed, so a suspended
+ * game costs no CPU at all.
+ * <p>
+ * Because the session's game clock moves forward by exactly one tick length per
+ * tick, a game only depends on its starting state and on which commands arrived
+ * after which tick. That is what lets a {@link SessionRecorder} capture a session
+ * and a {@link SessionReplayer} reproduce it exactly.
+ */
+public class GameLoop {
+
+    /**
+     * Callbacks made on the simulation thread. Implementations must return quickly
+     * and hand any UI work to the UI thread. The session callbacks (cooldowns,
+     * granted items, game over) arrive during a tick, before it is published.
+     */
+    public interface Listener extends GameSession.Listener {
+        /** Called after each tick with the number of ticks run so far. */
+        default void onTick(long tickCount) {
+        }
+
+        /** Called after a command has been applied. */
+        default void onCommand(GameCommand command, boolean accepted) {
+        }
+    }
+
+    /** Most messages that can wait to be handled; keeps a flooded loop's memory bounded. */
+    public static final int MAX_PENDING_COMMANDS = 256;
+
+    private final GameSession session;
+    private final long tickNanos;
+    private final Listener listener;
+    private final MpscMailbox<Runnable> mailbox = new MpscMailbox<>(MAX_PENDING_COMMANDS);
+
+    private volatile boolean running;
+    private volatile boolean paused;
+    // Set by the loop thread just before it parks, so senders know to unpark it.
+    private volatile boolean waiting;
+    private final AtomicReference<GameStateSnapshot> snapshot = new AtomicReference<>();
+    private volatile Thread thread;
+
+    /**
+     * Creates a loop that only ticks the game state and applies commands; item
+     * grants and emergency rations are left to the caller.
+     * Call {@link #start()} to begin ticking.
+     * @param state The game state to simulate.
+     * @param tickMillis The length of one tick in milliseconds.
+     * @param listener Receiver for tick and command callbacks, or null.
+     */
+    public GameLoop(GameState state, long tickMillis, Listener listener) {
+        this(new GameSession(state, tickMillis, false), listener);
+    }
+
+    /**
+     * Creates a loop that drives a session, including its game rules.
+     * Call {@link #start()} to begin ticking.
+     * @param session The session to run; the loop becomes its listener.
+     * @param listener Receiver for the loop's and the session's callbacks, or null.
+     */
+    public GameLoop(GameSession session, Listener listener) {
+        this.session = session;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(session.getTickMillis());
+        this.listener = listener != null ? listener : new Listener() { };
+        session.setListener(this.listener);
+        publish();
+    }
+
+    /** Starts the simulation thread. The first tick runs immediately. */
+    public void start() {
+        start(Thread.ofPlatform().name("game-loop").daemon(true));
+    }
+
+    /**
+     * Starts the simulation on a thread made by the given builder.
+     * @param threadBuilder The builder, e.g. {@code Thread.ofVirtual()}.
+     */
+    public synchronized void start(Thread.Builder threadBuilder) {
+        if (thread != null) {
+            throw new IllegalStateException("Game loop already started");
+        }
+        running = true;
+        thread = threadBuilder.unstarted(this::run);
+        thread.start();
+    }
+
+    /**
+     * Starts recording this game so it can be replayed later.
+     * Must be called before {@link #start()}.
+     * @return The recorder, which can produce the recording at any time.
+     */
+    public synchronized SessionRecorder enableRecording() {
+        if (thread != null) {
+            throw new IllegalStateException("Recording must be enabled before the loop starts");
+        }
+        return session.enableRecording();
+    }
+
+    /** Returns the recorder of this loop, or null if recording is not enabled. */
+    public synchronized SessionRecorder getRecorder() {
+        return session.getRecorder();
+    }
+
+    /** Returns the session this loop drives. Only touch it while the loop is stopped. */
+    public GameSession getSession() {
+        return session;
+    }
+
+    /**
+     * Stops the simulation thread and waits briefly for it to finish.
+     * Messages still in the mailbox are dropped.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Pauses or resumes ticking. Messages are still handled while paused.
+     * After resuming, the next tick is one full tick length away.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (!paused) {
+            wake();
+        }
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Returns how many ticks have run since the loop started. */
+    public long getTickCount() {
+        return session.getTickCount();
+    }
+
+    /**
+     * Returns the latest published snapshot of the game state.
+     * Safe to call from any thread; the snapshot never changes.
+     */
+    public GameStateSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Queues a command to be applied on the simulation thread.
+     * @param command The command to apply.
+     * @throws IllegalStateException if {@value #MAX_PENDING_COMMANDS} messages are already waiting.
+     */
+    public void submit(GameCommand command) {
+        if (!offer(command)) {
+            throw new IllegalStateException("Too many pending commands");
+        }
+    }
+
+    /**
+     * Queues a command to be applied on the simulation thread, unless
+     * {@value #MAX_PENDING_COMMANDS} messages are already waiting.
+     * @param command The command to apply.
+     * @return true if the command was queued.
+     */
+    public boolean offer(GameCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command must not be null");
+        }
+        return send(() -> applyCommand(command));
+    }
+
+    /**
+     * Queues a change to make on the simulation thread, between ticks. Every pet
+     * is caught up first, so the action may change the session freely; the state
+     * is published afterwards.
+     * Changes made this way are not recorded, so a recorded game should only
+     * change through commands.
+     * @param action The change to make.
+     * @return false if {@value #MAX_PENDING_COMMANDS} messages are already waiting.
+     */
+    public boolean execute(Consumer<GameSession> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action must not be null");
+        }
+        return send(() -> {
+            session.catchUp();
+            action.accept(session);
+            publish();
+        });
+    }
+
+    /**
+     * Queues a function to run on the simulation thread, between ticks, and
+     * returns its result. As with {@link #execute}, changes are not recorded.
+     * @param function The function to run.
+     * @return A future that completes with the result on the simulation thread,
+     *         or fails if the function throws or the mailbox is full.
+     */
+    public <R> CompletableFuture<R> call(Function<GameSession, R> function) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        boolean sent = execute(s -> {
+            try {
+                result.complete(function.apply(s));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        if (!sent) {
+            result.completeExceptionally(new IllegalStateException("Too many pending commands"));
+        }
+        return result;
+    }
+
+    private boolean send(Runnable message) {
+        if (!mailbox.offer(message)) {
+            return false;
+        }
+        if (waiting) {
+            wake();
+        }
+        return true;
+    }
+
+    private void wake() {
+        Thread loopThread = thread;
+        if (loopThread != null) {
+            LockSupport.unpark(loopThread);
+        }
+    }
+
+    private void run() {
+        long nextTick = System.nanoTime();
+        try {
+            while (running) {
+                if (paused) {
+                    if (!handleNext()) {
+                        await(0);
+                    }
+                    nextTick = System.nanoTime() + tickNanos;
+                    continue;
+                }
+                long wait = nextTick - System.nanoTime();
+                if (wait > 0) {
+                    if (!handleNext()) {
+                        await(wait);
+                    }
+                    continue;
+                }
+                // Handle messages that arrived before this tick was due first, but no more
+                // than a full mailbox, so senders that keep it full cannot hold back the tick.
+                for (int handled = 0; handled < MAX_PENDING_COMMANDS && handleNext(); handled++) {
+                    // Keep going until the mailbox is empty or the limit is reached.
+                }
+                tick();
+                nextTick += tickNanos;
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Game loop stopped after an error: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            running = false;
+        }
+    }
+
+    /**
+     * Parks the loop thread until a message arrives, the loop is resumed or
+     * stopped, or the time is up.
+     * @param nanos The longest wait, or 0 to wait with no limit.
+     */
+    private void await(long nanos) {
+        waiting = true;
+        // Check again after announcing the wait, so a message sent just before is not missed.
+        if (mailbox.isEmpty() && running && paused == (nanos == 0)) {
+            if (nanos == 0) {
+                LockSupport.park(this);
+            } else {
+                LockSupport.parkNanos(this, nanos);
+            }
+        }
+        waiting = false;
+    }
+
+    private void tick() {
+        session.tick();
+        publish();
+        listener.onTick(session.getTickCount());
+    }
+
+    private void publish() {
+        snapshot.set(session.snapshot());
+    }
+
+    /** Handles the oldest message, if any. Returns false if the mailbox was empty. */
+    private boolean handleNext() {
+        Runnable message = mailbox.poll();
+        if (message == null) {
+            return false;
+        }
+        message.run();
+        return true;
+    }
+
+    private void applyCommand(GameCommand command) {
+        boolean accepted = session.apply(command);
+        publish();
+        listener.onCommand(command, accepted);
+    }
+}
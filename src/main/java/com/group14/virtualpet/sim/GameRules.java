@@ -0,0 +1,103 @@
+/**
+ * Class holding the gameplay rules that sit outside the pet model:
+ * the item pool, item grants, emergency rations, scoring and command availability.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.StatEffect;
+import com.group14.virtualpet.model.TimedEffect;
+
+/**
+ * Shared game rules. The GameplayPanel and the headless balance lab both use
+ * these, so tuning a value here changes the real game and the simulations alike.
+ */
+public final class GameRules {
+
+    /** Length of one game tick in milliseconds. */
+    public static final int TICK_MILLIS = 1000;
+
+    /** Number of ticks between random item grants (about 15 seconds). */
+    public static final int ITEM_GRANT_INTERVAL_TICKS = 15;
+
+    /** Predefined pool of items that can be granted (both food and gifts). */
+    public static final List<Item> AVAILABLE_ITEMS = List.of(
+            new FoodItem("Basic Kibble", 20),
+            new FoodItem("Tasty Treat", 40),
+            new FoodItem("Luxury Meal", 75),
+            new GiftItem("Squeaky Toy", 15, new TimedEffect(StatEffect.HAPPINESS_DECAY, 50, 60)),
+            new GiftItem("Cozy Blanket", 30, new TimedEffect(StatEffect.SLEEP_RECOVERY, 200, 30)),
+            new GiftItem("Sparkling Jewel", 60)
+    );
+
+    /** The food granted when the pet is hungry and there is no food in the inventory. */
+    public static final FoodItem EMERGENCY_RATION = new FoodItem("Emergency Ration", 30);
+
+    private static final List<FoodItem> AVAILABLE_FOOD = AVAILABLE_ITEMS.stream()
+            .filter(item -> item instanceof FoodItem)
+            .map(item -> (FoodItem) item)
+            .toList();
+
+    private GameRules() {}
+
+    /**
+     * Picks the item for a random grant. Food is prioritized when the score is even.
+     * @param score The current score.
+     * @param random The random source to use.
+     */
+    public static Item chooseGrantedItem(int score, Random random) {
+        if (score % 2 == 0) {
+            return AVAILABLE_FOOD.get(random.nextInt(AVAILABLE_FOOD.size()));
+        }
+        return AVAILABLE_ITEMS.get(random.nextInt(AVAILABLE_ITEMS.size()));
+    }
+
+    /**
+     * Checks whether an emergency ration should be granted: the pet is hungry
+     * and there is no food in the inventory.
+     */
+    public static boolean needsEmergencyRation(PetState state, Map<Item, Integer> inventory) {
+        return state == PetState.HUNGRY
+                && inventory.keySet().stream().noneMatch(item -> item instanceof FoodItem);
+    }
+
+    /** Returns the score change for an accepted command. */
+    public static int scoreFor(GameCommand.Type type) {
+        return switch (type) {
+            case FEED -> 10;
+            case GIFT -> 15;
+            case VET -> -5;
+            case PLAY -> 5;
+            case EXERCISE -> 3;
+            case SLEEP, GRANT -> 0;
+        };
+    }
+
+    /**
+     * Checks whether the player may issue a command while the pet is in the given state.
+     * Cooldowns are checked separately by the pet.
+     * Normal and hungry pets accept every command, angry pets only gifts and play,
+     * and sleeping or dead pets none. GRANT is not a player command and is always allowed.
+     */
+    public static boolean isCommandAllowed(GameCommand.Type type, PetState state) {
+        if (type == GameCommand.Type.GRANT) {
+            return true;
+        }
+        return switch (state) {
+            case NORMAL, HUNGRY -> true;
+            case ANGRY -> type == GameCommand.Type.GIFT || type == GameCommand.Type.PLAY;
+            case SLEEPING, DEAD -> false;
+        };
+    }
+}
@@ -0,0 +1,413 @@
+/**
+ * Class holding one headless game: ticks, item grants, emergency rations,
+ * scoring and command handling, without any UI or thread of its own.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.state.GameStateSnapshot;
+import com.group14.virtualpet.util.SimulatedClock;
+import com.group14.virtualpet.util.TimingWheel;
+
+/**
+ * One game, driven by whichever thread owns it: a {@link GameLoop} for the Swing
+ * game, a {@link SessionHost} virtual thread for a kiosk, or a replay. The session
+ * is not thread-safe; {@link #tick()} and {@link #apply} must be called by one
+ * thread at a time.
+ * <p>
+ * A tick runs every pet of the household, fires cooldown expiries from a
+ * {@link TimingWheel} and then applies the game rules: a random item every
+ * {@link GameRules#ITEM_GRANT_INTERVAL_TICKS} ticks, and an emergency ration
+ * when a pet is hungry and there is no food. Rule grants are applied as GRANT
+ * commands, so a recording captures them like any other command and a replay,
+ * which only steps and applies commands, reproduces them without re-running the rules.
+ * <p>
+ * Accepted commands add their {@link GameRules#scoreFor score} to the game
+ * state, so snapshots and saves carry the current score.
+ * <p>
+ * The pets' cooldowns run on a game clock that moves forward by exactly one tick
+ * length per tick, so a game only depends on its starting state and on which
+ * commands arrived after which tick.
+ * <p>
+ * With {@link #setLevelOfDetail level of detail} on, pets nobody is looking at are
+ * simulated at a lower {@link SimulationTier}. A pet drops from FULL to BACKGROUND
+ * after {@value #BACKGROUND_AFTER_TICKS} ticks without being touched (a command
+ * or a view), and to DORMANT after {@value #DORMANT_AFTER_TICKS}; touching it
+ * catches it up and makes it FULL again. A lagging pet is caught up with
+ * Pet.advance(), which gives the same stats as ticking it one tick at a time,
+ * and always before the first tick on which its state could change, so the game
+ * rules, which only look at pet states, see exactly what they would at full
+ * rate. Lagging pets' stats in a {@link #snapshot()} are as of their last step;
+ * call {@link #catchUp()} first for exact stats. Recording needs every pet's stats
+ * on every tick, so a recorded session always runs at full detail.
+ */
+public class GameSession {
+
+    /**
+     * Callbacks made on the thread that drives the session. Implementations
+     * must return quickly.
+     */
+    public interface Listener {
+        /**
+         * Called after the tick on which a pet's play or vet cooldown ended.
+         * @param petIndex The pet's position in the household.
+         * @param type PLAY or VET.
+         */
+        default void onCooldownExpired(int petIndex, GameCommand.Type type) {
+        }
+
+        /**
+         * Called after the game rules granted an item.
+         * @param item The item added to the inventory.
+         * @param emergency true for an emergency ration, false for a regular grant.
+         */
+        default void onItemGranted(Item item, boolean emergency) {
+        }
+
+        /** Called once, after the tick on which the last living pet died. */
+        default void onGameOver() {
+        }
+    }
+
+    /** A cooldown that ends at a scheduled time. */
+    private record Cooldown(int petIndex, GameCommand.Type type) {
+    }
+
+    /** Ticks without a touch after which a pet is simulated in the background. */
+    public static final int BACKGROUND_AFTER_TICKS = 60;
+    /** Ticks without a touch after which a pet is dormant. */
+    public static final int DORMANT_AFTER_TICKS = 600;
+    /** Most ticks a background pet lags behind before it is advanced. */
+    public static final int BACKGROUND_STEP_TICKS = 10;
+
+    private static final Listener NO_LISTENER = new Listener() { };
+
+    private final GameState state;
+    private final long tickMillis;
+    private final boolean rulesEnabled;
+    private final SimulatedClock gameClock;
+    private final TimingWheel<Cooldown> cooldowns;
+    // Cooldowns that ended during the current tick, reported after it.
+    private final List<Cooldown> expired = new ArrayList<>();
+    private final Consumer<Cooldown> expiredHandler = expired::add;
+    private Listener listener = NO_LISTENER;
+    private SessionRecorder recorder;
+    private int ticksSinceLastItemGrant;
+    private boolean gameOver;
+    // Level of detail per pet, indexed like the household.
+    private boolean levelOfDetail;
+    private SimulationTier[] tiers = new SimulationTier[0];
+    // Ticks each pet is behind the session.
+    private long[] lag = new long[0];
+    // Ticks after the last catch-up until the pet's state may change (Pet.ticksUntilNextEvent()).
+    private long[] horizon = new long[0];
+    // Ticks since each pet was last touched.
+    private long[] idle = new long[0];
+    // Read by other threads through GameLoop.getTickCount().
+    private volatile long tickCount;
+
+    /**
+     * Creates a session that runs the full game rules.
+     * @param state The game state to simulate.
+     * @param tickMillis The length of one tick in milliseconds.
+     */
+    public GameSession(GameState state, long tickMillis) {
+        this(state, tickMillis, true);
+    }
+
+    /**
+     * Creates a session.
+     * @param rulesEnabled false to only tick and apply commands, leaving item
+     *        grants and emergency rations to the caller.
+     */
+    GameSession(GameState state, long tickMillis, boolean rulesEnabled) {
+        if (state == null || state.getPetCount() == 0) {
+            throw new IllegalArgumentException("Game state with a pet is required");
+        }
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive: " + tickMillis);
+        }
+        this.state = state;
+        this.tickMillis = tickMillis;
+        this.rulesEnabled = rulesEnabled;
+        // Continue from the first pet's current time, so cooldowns carry over between sessions.
+        this.gameClock = new SimulatedClock(state.getPet().getClock().millis());
+        for (Pet pet : state.getPets()) {
+            pet.setClock(gameClock);
+        }
+        this.cooldowns = new TimingWheel<>(tickMillis, gameClock.millis());
+        for (int i = 0; i < state.getPetCount(); i++) {
+            scheduleCooldown(i, GameCommand.Type.PLAY);
+            scheduleCooldown(i, GameCommand.Type.VET);
+        }
+        this.gameOver = state.isHouseholdDead();
+        trackPets();
+    }
+
+    /**
+     * Sets the receiver of cooldown, item and game-over callbacks.
+     * @param listener The listener, or null for none.
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    /**
+     * Starts recording this session so it can be replayed later.
+     * @return The recorder, which can produce the recording at any time.
+     */
+    public SessionRecorder enableRecording() {
+        if (recorder == null) {
+            setLevelOfDetail(false);
+            recorder = new SessionRecorder(state, tickMillis, gameClock.millis());
+        }
+        return recorder;
+    }
+
+    /** Returns the recorder of this session, or null if recording is not enabled. */
+    public SessionRecorder getRecorder() {
+        return recorder;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /** Returns how many ticks have run in this session. Safe to call from any thread. */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /** Returns true once every pet of the household has died. */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Takes an immutable snapshot of the game state. Pets below full detail
+     * show their stats as of their last step.
+     */
+    public GameStateSnapshot snapshot() {
+        return GameStateSnapshot.of(state, tickCount);
+    }
+
+    /**
+     * Turns level of detail on or off. Turning it off catches every pet up and
+     * makes it FULL. Ignored (left off) while the session is recorded.
+     */
+    public void setLevelOfDetail(boolean enabled) {
+        if (enabled && recorder != null) {
+            return;
+        }
+        if (!enabled) {
+            touchAll();
+        }
+        levelOfDetail = enabled;
+    }
+
+    public boolean isLevelOfDetail() {
+        return levelOfDetail;
+    }
+
+    /** Gets the tier a pet is simulated at. */
+    public SimulationTier getTier(int petIndex) {
+        trackPets();
+        return tiers[petIndex];
+    }
+
+    /**
+     * Brings every pet's stats up to the current tick without changing its tier.
+     * Call before reading or changing pets directly.
+     */
+    public void catchUp() {
+        trackPets();
+        for (int i = 0; i < tiers.length; i++) {
+            catchUp(i);
+        }
+    }
+
+    /** Catches a pet up and makes it FULL, as when it is shown on screen or commanded. */
+    public void touch(int petIndex) {
+        trackPets();
+        if (petIndex < 0 || petIndex >= tiers.length) {
+            return;
+        }
+        catchUp(petIndex);
+        tiers[petIndex] = SimulationTier.FULL;
+        idle[petIndex] = 0;
+    }
+
+    /** Touches every pet of the household. */
+    public void touchAll() {
+        trackPets();
+        for (int i = 0; i < tiers.length; i++) {
+            touch(i);
+        }
+    }
+    /**
+     * Runs one tick: the pets, then the game rules, then the listener callbacks
+     * for cooldowns that ended and items that were granted.
+     */
+    public void tick() {
+        step();
+        if (!gameOver && state.isHouseholdDead()) {
+            gameOver = true;
+            listener.onGameOver();
+        }
+        if (rulesEnabled && !gameOver) {
+            applyRules();
+        }
+        for (int i = 0; i < expired.size(); i++) {
+            listener.onCooldownExpired(expired.get(i).petIndex(), expired.get(i).type());
+        }
+        expired.clear();
+    }
+
+    /**
+     * Runs one tick of the pets and the cooldown wheel, without the game rules.
+     * Used by SessionReplayer, since the rules' grants are part of the recording.
+     */
+    void step() {
+        state.addPlaytimeMillis(tickMillis);
+        gameClock.advance(tickMillis);
+        expired.clear();
+        cooldowns.advanceTo(gameClock.millis(), expiredHandler);
+        List<Pet> pets = state.getPets();
+        if (levelOfDetail) {
+            trackPets();
+            for (int i = 0; i < pets.size(); i++) {
+                stepPet(i, pets.get(i));
+            }
+        } else {
+            for (int i = 0; i < pets.size(); i++) {
+                pets.get(i).liveOneTick();
+            }
+        }
+        tickCount++;
+        if (recorder != null) {
+            recorder.recordTick(tickCount, state);
+        }
+    }
+
+    /**
+     * Applies one command. An accepted command changes the score and, for play
+     * and vet, starts the pet's cooldown.
+     * @param command The command to apply.
+     * @return true if the command was accepted.
+     */
+    public boolean apply(GameCommand command) {
+        if (command.type() != GameCommand.Type.GRANT) {
+            touch(command.petIndex());
+        }
+        boolean accepted = command.applyTo(state);
+        if (accepted) {
+            state.addScore(GameRules.scoreFor(command.type()));
+            if (command.type() == GameCommand.Type.PLAY || command.type() == GameCommand.Type.VET) {
+                scheduleCooldown(command.petIndex(), command.type());
+            }
+        }
+        if (recorder != null) {
+            recorder.recordCommand(tickCount, command, accepted, state);
+        }
+        return accepted;
+    }
+
+    /** Grants the regular item when it is due, and an emergency ration when a pet is starving. */
+    private void applyRules() {
+        if (++ticksSinceLastItemGrant >= GameRules.ITEM_GRANT_INTERVAL_TICKS) {
+            ticksSinceLastItemGrant = 0;
+            grant(GameRules.chooseGrantedItem(state.getScore(), state.nextRandom()), false);
+        }
+        List<Pet> pets = state.getPets();
+        for (int i = 0; i < pets.size(); i++) {
+            if (pets.get(i).getCurrentState() == PetState.HUNGRY) {
+                if (GameRules.needsEmergencyRation(PetState.HUNGRY, state.getInventory().getAllItems())) {
+                    grant(GameRules.EMERGENCY_RATION, true);
+                }
+                break;
+            }
+        }
+    }
+
+    private void grant(Item item, boolean emergency) {
+        if (apply(GameCommand.grant(item))) {
+            listener.onItemGranted(item, emergency);
+        }
+    }
+
+    /**
+     * Runs one tick of a pet at its tier. A lagging pet is advanced when its step
+     * is due, and always on the tick on which its state may change.
+     */
+    private void stepPet(int i, Pet pet) {
+        idle[i]++;
+        if (tiers[i] == SimulationTier.FULL && idle[i] >= BACKGROUND_AFTER_TICKS) {
+            tiers[i] = SimulationTier.BACKGROUND;
+            // A FULL pet is never behind, so its horizon starts from now.
+            horizon[i] = pet.ticksUntilNextEvent();
+        } else if (tiers[i] == SimulationTier.BACKGROUND && idle[i] >= DORMANT_AFTER_TICKS) {
+            tiers[i] = SimulationTier.DORMANT;
+        }
+        if (tiers[i] == SimulationTier.FULL && lag[i] == 0) {
+            pet.liveOneTick();
+            return;
+        }
+        lag[i]++;
+        if (tiers[i] == SimulationTier.FULL || lag[i] >= horizon[i]
+                || (tiers[i] == SimulationTier.BACKGROUND && lag[i] >= BACKGROUND_STEP_TICKS)) {
+            catchUp(i);
+        }
+    }
+
+    /** Advances a lagging pet to the current tick and works out its next horizon. */
+    private void catchUp(int i) {
+        Pet pet = state.getPet(i);
+        if (lag[i] > 0) {
+            pet.advance(lag[i]);
+            lag[i] = 0;
+        }
+        horizon[i] = pet.ticksUntilNextEvent();
+    }
+
+    /** Grows the level-of-detail arrays when pets have joined the household; new pets start FULL. */
+    private void trackPets() {
+        int count = state.getPetCount();
+        if (tiers.length == count) {
+            return;
+        }
+        int old = tiers.length;
+        tiers = Arrays.copyOf(tiers, count);
+        lag = Arrays.copyOf(lag, count);
+        horizon = Arrays.copyOf(horizon, count);
+        idle = Arrays.copyOf(idle, count);
+        for (int i = old; i < count; i++) {
+            tiers[i] = SimulationTier.FULL;
+            horizon[i] = state.getPet(i).ticksUntilNextEvent();
+        }
+    }
+
+    /** Schedules the end of one of a pet's cooldowns (PLAY or VET), if it is running. */
+    private void scheduleCooldown(int petIndex, GameCommand.Type type) {
+        Pet pet = state.getPet(petIndex);
+        long availableAt = type == GameCommand.Type.PLAY ? pet.getPlayAvailableAt() : pet.getVetAvailableAt();
+        if (availableAt > gameClock.millis()) {
+            cooldowns.schedule(availableAt, new Cooldown(petIndex, type));
+        }
+    }
+}
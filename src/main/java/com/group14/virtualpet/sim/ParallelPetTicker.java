@@ -0,0 +1,177 @@
+/**
+ * Class that ticks large collections of pets across multiple cores.
+ * Splits the pets into fixed-size shards and runs each shard on an executor.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetPopulation;
+
+/**
+ * Parallel tick service for any number of pets.
+ * Every pet is ticked exactly once per call by exactly one shard, and a pet's
+ * tick only reads and writes that pet's own fields, so the outcome is identical
+ * to calling liveOneTick() serially no matter how many cores are used.
+ * Shard boundaries depend only on the shard size, never on the thread count.
+ */
+public class ParallelPetTicker {
+
+    /** Default number of pets per shard; large enough to amortize task overhead. */
+    public static final int DEFAULT_SHARD_SIZE = 16_384;
+
+    private final ExecutorService executor;
+    private final int shardSize;
+
+    /** Creates a ticker backed by the common ForkJoinPool with the default shard size. */
+    public ParallelPetTicker() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SHARD_SIZE);
+    }
+
+    /**
+     * Creates a ticker backed by the given executor.
+     * @param executor The executor that runs the shards. It is not shut down by this class.
+     * @param shardSize The number of pets per shard (must be positive).
+     */
+    public ParallelPetTicker(ExecutorService executor, int shardSize) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        if (shardSize <= 0) {
+            throw new IllegalArgumentException("Shard size must be positive: " + shardSize);
+        }
+        this.executor = executor;
+        this.shardSize = shardSize;
+    }
+
+    /**
+     * Ticks every pet in the list once.
+     * @param pets The pets to tick. The list must not be modified during the call.
+     * @return Timing information for the tick.
+     */
+    public TickReport tick(List<? extends Pet> pets) {
+        return runShards(pets.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                pets.get(i).liveOneTick();
+            }
+        });
+    }
+
+    /**
+     * Ticks every pet in the array once.
+     * @param pets The pets to tick.
+     * @return Timing information for the tick.
+     */
+    public TickReport tick(Pet[] pets) {
+        return tick(Arrays.asList(pets));
+    }
+
+    /**
+     * Ticks every pet in a struct-of-arrays population once.
+     * @param population The population to tick.
+     * @return Timing information for the tick.
+     */
+    public TickReport tick(PetPopulation population) {
+        return runShards(population.size(), population::tickRange);
+    }
+
+    private TickReport runShards(int count, ShardBody body) {
+        long start = System.nanoTime();
+        int shardCount = (count + shardSize - 1) / shardSize;
+        long[] shardNanos = new long[shardCount];
+
+        if (shardCount <= 1) {
+            // Not worth a hand-off; run on the calling thread.
+            if (shardCount == 1) {
+                long shardStart = System.nanoTime();
+                body.run(0, count);
+                shardNanos[0] = System.nanoTime() - shardStart;
+            }
+            return new TickReport(count, shardNanos, System.nanoTime() - start);
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            final int index = shard;
+            final int from = shard * shardSize;
+            final int to = Math.min(count, from + shardSize);
+            tasks.add(() -> {
+                long shardStart = System.nanoTime();
+                body.run(from, to);
+                shardNanos[index] = System.nanoTime() - shardStart;
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while ticking pets", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Pet tick failed", cause);
+        }
+        return new TickReport(count, shardNanos, System.nanoTime() - start);
+    }
+
+    /** A unit of work covering the pet indices [from, to). */
+    @FunctionalInterface
+    private interface ShardBody {
+        void run(int from, int to);
+    }
+
+    /**
+     * Timing information for one parallel tick.
+     * @param petCount The number of pets ticked.
+     * @param shardNanos The wall time each shard spent ticking, indexed by shard.
+     * @param totalNanos The wall time of the whole tick including scheduling.
+     */
+    public record TickReport(int petCount, long[] shardNanos, long totalNanos) {
+
+        public int shardCount() {
+            return shardNanos.length;
+        }
+
+        /** Returns the slowest shard's time, which bounds the tick's critical path. */
+        public long maxShardNanos() {
+            long max = 0;
+            for (long nanos : shardNanos) {
+                max = Math.max(max, nanos);
+            }
+            return max;
+        }
+
+        /** Returns the summed CPU-side time of all shards. */
+        public long totalShardNanos() {
+            long sum = 0;
+            for (long nanos : shardNanos) {
+                sum += nanos;
+            }
+            return sum;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("TickReport{pets=%d, shards=%d, total=%.3f ms, slowestShard=%.3f ms}",
+                    petCount, shardCount(), totalNanos / 1e6, maxShardNanos() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Record describing something that happened in a hosted game session, for event subscribers.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import com.group14.virtualpet.model.PetSnapshot;
+
+/**
+ * One event of a session, as delivered to an {@link EventSubscription}.
+ *
+ * @param type What happened.
+ * @param tick The session tick at which it happened.
+ * @param petIndex The pet it concerns, or -1 for the whole game.
+ * @param pet The pet after the event, or null for item grants and game over.
+ * @param previous The pet before the event, for state and stat changes; otherwise null.
+ * @param detail The granted item's name, or the command whose cooldown ended; otherwise null.
+ */
+public record SessionEvent(Type type, long tick, int petIndex, PetSnapshot pet, PetSnapshot previous, String detail) {
+
+    /** The kinds of session event. */
+    public enum Type {
+        /** A pet's state changed (e.g. NORMAL to HUNGRY). */
+        STATE_CHANGED,
+        /** A pet's stats changed; {@code previous} and {@code pet} give the deltas. */
+        STATS_CHANGED,
+        /** The game granted an item. */
+        ITEM_GRANTED,
+        /** An emergency ration was granted to a starving household. */
+        EMERGENCY_RATION,
+        /** A pet's play or vet cooldown ended. */
+        COOLDOWN_EXPIRED,
+        /** Every pet of the household has died. */
+        GAME_OVER
+    }
+
+    /**
+     * Merges a later stat change of the same pet into this one, keeping this
+     * event's starting point, so the deltas cover both.
+     */
+    SessionEvent mergeWith(SessionEvent later) {
+        return new SessionEvent(type, later.tick, petIndex, later.pet, previous, detail);
+    }
+
+    /** Returns true if a later event may be merged into this one. */
+    boolean canMerge(SessionEvent later) {
+        return type == Type.STATS_CHANGED && later.type == Type.STATS_CHANGED && petIndex == later.petIndex;
+    }
+}
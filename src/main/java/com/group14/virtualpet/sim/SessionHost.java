@@ -0,0 +1,387 @@
+/**
+ * Class that hosts many headless games in one process, each on its own virtual thread.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.PetSnapshot;
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.state.GameStateSnapshot;
+
+/**
+ * Runs up to a fixed number of {@link GameSession}s, each driven by a
+ * {@link GameLoop} on a virtual thread. A waiting virtual thread is parked rather
+ * than holding an OS thread, so a host can keep a hundred thousand games ticking
+ * once a second on a handful of carrier threads.
+ * <p>
+ * Sessions are identified by the id {@link #create} returns. Other threads only
+ * see a session through its published snapshots and change it by submitting
+ * commands, exactly like the Swing game. A suspended session's thread blocks
+ * until it is resumed, and a session whose household has died is suspended and
+ * marked finished, so neither uses any CPU; both keep their last snapshot until
+ * they are stopped.
+ * <p>
+ * Hosted sessions run with level of detail on: a pet nobody views or commands
+ * drops to background and then dormant simulation, and {@link #view} brings the
+ * session back to full detail. {@link #getSnapshot} is the cheap, possibly
+ * slightly stale read; {@link #view} is the exact one.
+ * <p>
+ * Clients can {@link #subscribe} to a session's events (state and stat changes,
+ * item grants, cooldown expiries, game over) instead of polling. Each subscriber
+ * has its own bounded {@link EventSubscription}, filled on the loop thread
+ * without waiting, so a slow subscriber only loses its own events. A session
+ * with subscribers counts as on screen and stays at full detail.
+ * <p>
+ * Memory per session is bounded: the hosted loops never record, and each
+ * loop's mailbox holds at most {@value GameLoop#MAX_PENDING_COMMANDS} messages,
+ * and a session has at most {@value #MAX_SUBSCRIBERS} subscribers with bounded buffers.
+ */
+public final class SessionHost implements AutoCloseable {
+
+    /** The lifecycle state of a hosted session. */
+    public enum Status {
+        RUNNING,
+        SUSPENDED,
+        FINISHED
+    }
+
+    /** Most event subscribers one session may have. */
+    public static final int MAX_SUBSCRIBERS = 16;
+
+    /** One hosted game, its status and its event subscribers. */
+    private static final class HostedSession implements GameLoop.Listener {
+        private GameLoop loop;
+        private Status status = Status.RUNNING;
+        private final List<EventSubscription> subscribers = new CopyOnWriteArrayList<>();
+        // The pets as last reported to subscribers; only used on the loop thread.
+        private List<PetSnapshot> reportedPets;
+
+        @Override
+        public void onGameOver() {
+            synchronized (this) {
+                status = Status.FINISHED;
+                loop.setPaused(true);
+            }
+            publish(new SessionEvent(SessionEvent.Type.GAME_OVER, loop.getTickCount(), -1, null, null, null));
+        }
+
+        @Override
+        public void onTick(long tickCount) {
+            if (subscribers.isEmpty()) {
+                reportedPets = null;
+                return;
+            }
+            reportChanges();
+            // Watched sessions are on screen: keep every pet at full detail.
+            loop.getSession().touchAll();
+        }
+
+        @Override
+        public void onCommand(GameCommand command, boolean accepted) {
+            if (accepted && !subscribers.isEmpty()) {
+                reportChanges();
+            }
+        }
+
+        @Override
+        public void onItemGranted(Item item, boolean emergency) {
+            SessionEvent.Type type = emergency ? SessionEvent.Type.EMERGENCY_RATION : SessionEvent.Type.ITEM_GRANTED;
+            publish(new SessionEvent(type, loop.getTickCount(), -1, null, null, item.getName()));
+        }
+
+        @Override
+        public void onCooldownExpired(int petIndex, GameCommand.Type type) {
+            publish(new SessionEvent(SessionEvent.Type.COOLDOWN_EXPIRED, loop.getTickCount(), petIndex,
+                    null, null, type.name()));
+        }
+
+        /** Compares the published pets with the ones last reported and sends the differences. */
+        private void reportChanges() {
+            GameStateSnapshot snapshot = loop.getSnapshot();
+            List<PetSnapshot> pets = snapshot.pets();
+            if (reportedPets != null) {
+                for (int i = 0; i < pets.size() && i < reportedPets.size(); i++) {
+                    PetSnapshot before = reportedPets.get(i);
+                    PetSnapshot after = pets.get(i);
+                    if (before.getCurrentState() != after.getCurrentState()) {
+                        publish(new SessionEvent(SessionEvent.Type.STATE_CHANGED, snapshot.tick(), i, after, before, null));
+                    }
+                    if (before.getHealth() != after.getHealth() || before.getSleep() != after.getSleep()
+                            || before.getFullness() != after.getFullness() || before.getHappiness() != after.getHappiness()) {
+                        publish(new SessionEvent(SessionEvent.Type.STATS_CHANGED, snapshot.tick(), i, after, before, null));
+                    }
+                }
+            }
+            reportedPets = pets;
+        }
+
+        private void publish(SessionEvent event) {
+            for (EventSubscription subscription : subscribers) {
+                subscription.offer(event);
+            }
+        }
+
+        synchronized boolean suspend() {
+            if (status != Status.RUNNING) {
+                return false;
+            }
+            status = Status.SUSPENDED;
+            loop.setPaused(true);
+            return true;
+        }
+
+        synchronized boolean resume() {
+            if (status != Status.SUSPENDED) {
+                return false;
+            }
+            status = Status.RUNNING;
+            loop.setPaused(false);
+            return true;
+        }
+
+        synchronized Status getStatus() {
+            return status;
+        }
+    }
+
+    // How long view() waits for a session's loop before it gives up.
+    private static final long VIEW_TIMEOUT_MILLIS = 1000;
+
+    private final long tickMillis;
+    private final int maxSessions;
+    private final Map<Long, HostedSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    // Sessions created and not yet stopped, counted before they are added to the map.
+    private final AtomicInteger reserved = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * Creates an empty host.
+     * @param tickMillis The length of one tick in milliseconds, for every session.
+     * @param maxSessions The most sessions that may be hosted at once.
+     */
+    public SessionHost(long tickMillis, int maxSessions) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive: " + tickMillis);
+        }
+        if (maxSessions <= 0) {
+            throw new IllegalArgumentException("Session limit must be positive: " + maxSessions);
+        }
+        this.tickMillis = tickMillis;
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Starts a new session with the full game rules. The host takes over the game
+     * state; the caller must not touch it afterwards.
+     * @param state The game state to run.
+     * @return The id of the new session.
+     * @throws IllegalStateException if the host is closed or full.
+     */
+    public long create(GameState state) {
+        if (closed) {
+            throw new IllegalStateException("Session host is closed");
+        }
+        if (reserved.incrementAndGet() > maxSessions) {
+            reserved.decrementAndGet();
+            throw new IllegalStateException("Session limit reached: " + maxSessions);
+        }
+        long id = nextId.getAndIncrement();
+        HostedSession hosted = new HostedSession();
+        try {
+            GameSession session = new GameSession(state, tickMillis);
+            session.setLevelOfDetail(true);
+            hosted.loop = new GameLoop(session, hosted);
+            sessions.put(id, hosted);
+            hosted.loop.start(Thread.ofVirtual().name("session-" + id));
+        } catch (RuntimeException e) {
+            sessions.remove(id);
+            reserved.decrementAndGet();
+            throw e;
+        }
+        return id;
+    }
+
+    /**
+     * Stops a running session from ticking; commands are still applied.
+     * @return true if the session was running.
+     */
+    public boolean suspend(long id) {
+        HostedSession hosted = sessions.get(id);
+        return hosted != null && hosted.suspend();
+    }
+
+    /**
+     * Lets a suspended session tick again. A finished session cannot be resumed.
+     * @return true if the session was suspended.
+     */
+    public boolean resume(long id) {
+        HostedSession hosted = sessions.get(id);
+        return hosted != null && hosted.resume();
+    }
+
+    /**
+     * Stops a session, ends its thread and forgets it.
+     * @return The session's last snapshot, or null if there is no such session.
+     */
+    public GameStateSnapshot stop(long id) {
+        HostedSession hosted = sessions.remove(id);
+        if (hosted == null) {
+            return null;
+        }
+        hosted.loop.stop();
+        for (EventSubscription subscription : hosted.subscribers) {
+            subscription.close();
+        }
+        reserved.decrementAndGet();
+        return hosted.loop.getSnapshot();
+    }
+
+    /**
+     * Queues a command for a session.
+     * @return false if there is no such session or its mailbox is full.
+     */
+    public boolean submit(long id, GameCommand command) {
+        HostedSession hosted = sessions.get(id);
+        return hosted != null && hosted.loop.offer(command);
+    }
+
+    /**
+     * Queues a change that is not a command (e.g. a parental setting) to make on
+     * a session's loop thread.
+     * @return false if there is no such session or its mailbox is full.
+     */
+    public boolean execute(long id, Consumer<GameSession> action) {
+        HostedSession hosted = sessions.get(id);
+        return hosted != null && hosted.loop.execute(action);
+    }
+
+    /**
+     * Subscribes to a session's events. The subscription ends when it is closed
+     * or the session is stopped.
+     * @param id The session.
+     * @param capacity The most events to buffer for this subscriber.
+     * @param policy What gives way when the buffer is full.
+     * @return The subscription, or null if there is no such session.
+     * @throws IllegalStateException if the session already has {@value #MAX_SUBSCRIBERS} subscribers.
+     */
+    public EventSubscription subscribe(long id, int capacity, EventSubscription.OverflowPolicy policy) {
+        HostedSession hosted = sessions.get(id);
+        if (hosted == null) {
+            return null;
+        }
+        synchronized (hosted) {
+            if (hosted.subscribers.size() >= MAX_SUBSCRIBERS) {
+                throw new IllegalStateException("Too many subscribers: " + MAX_SUBSCRIBERS);
+            }
+            EventSubscription subscription = new EventSubscription(capacity, policy, hosted.subscribers::remove);
+            hosted.subscribers.add(subscription);
+            // Bring the session to full detail right away rather than on its next tick.
+            hosted.loop.execute(GameSession::touchAll);
+            if (!sessions.containsKey(id)) {
+                // Stopped meanwhile.
+                subscription.close();
+            }
+            return subscription;
+        }
+    }
+
+    /**
+     * Shows a session on screen: its pets are caught up and simulated at full
+     * detail until they are left alone again, and the snapshot is exact.
+     * Waits for the session's loop to handle the request.
+     * @return The snapshot, or null if there is no such session.
+     * @throws IllegalStateException if the session's loop is too busy to answer in time.
+     */
+    public GameStateSnapshot view(long id) {
+        HostedSession hosted = sessions.get(id);
+        if (hosted == null) {
+            return null;
+        }
+        try {
+            return hosted.loop.call(session -> {
+                session.touchAll();
+                return session.snapshot();
+            }).get(VIEW_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while viewing session " + id, e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Session " + id + " did not answer within " + VIEW_TIMEOUT_MILLIS + " ms", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Could not view session " + id, cause);
+        }
+    }
+
+    /**
+     * Gets the latest published snapshot of a session without waking it. Pets
+     * below full detail show their stats as of their last step.
+     * @return The snapshot, or null if there is no such session.
+     */
+    public GameStateSnapshot getSnapshot(long id) {
+        HostedSession hosted = sessions.get(id);
+        return hosted != null ? hosted.loop.getSnapshot() : null;
+    }
+
+    /** Gets the status of a session, or null if there is no such session. */
+    public Status getStatus(long id) {
+        HostedSession hosted = sessions.get(id);
+        return hosted != null ? hosted.getStatus() : null;
+    }
+
+    /** Gets the number of ticks a session has run, or -1 if there is no such session. */
+    public long getTickCount(long id) {
+        HostedSession hosted = sessions.get(id);
+        return hosted != null ? hosted.loop.getTickCount() : -1;
+    }
+
+    /** Gets the total number of ticks run by all hosted sessions. */
+    public long getTotalTicks() {
+        long total = 0;
+        for (HostedSession hosted : sessions.values()) {
+            total += hosted.loop.getTickCount();
+        }
+        return total;
+    }
+
+    /** Gets the number of hosted sessions. */
+    public int size() {
+        return sessions.size();
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /** Stops every session. No new sessions can be created afterwards. */
+    @Override
+    public void close() {
+        closed = true;
+        for (Long id : sessions.keySet()) {
+            stop(id);
+        }
+    }
+}
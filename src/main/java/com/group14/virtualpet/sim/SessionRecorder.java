@@ -0,0 +1,138 @@
+/**
+ * Class that records a running game session for later replay.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.PackedPetState;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.state.GameState;
+
+/**
+ * Records a game session as it is played. The starting state is serialized when
+ * the recorder is created; after that only the tick number and command of every
+ * action are logged, because ticks themselves are deterministic. A rolling checksum
+ * of the game state is updated after every tick and command and written out every
+ * {@link #CHECKPOINT_INTERVAL_TICKS} ticks, so a replay can tell where it diverged.
+ * <p>
+ * The recorder is fed by the GameLoop thread; {@link #toRecording()} may be called
+ * from any thread.
+ */
+public class SessionRecorder {
+
+    /** Number of ticks between checksum checkpoints. */
+    public static final int CHECKPOINT_INTERVAL_TICKS = 60;
+
+    private final byte[] initialState;
+    private final long tickMillis;
+    private final long clockStartMillis;
+    private final List<SessionRecording.Entry> entries = new ArrayList<>();
+    private long tickCount;
+    private long checksum;
+
+    /**
+     * Creates a recorder for a game that has not started yet.
+     * @param state The starting game state; it is serialized right away.
+     * @param tickMillis The length of one tick in milliseconds.
+     * @param clockStartMillis The game clock time at the start.
+     */
+    public SessionRecorder(GameState state, long tickMillis, long clockStartMillis) {
+        this.initialState = serialize(state);
+        this.tickMillis = tickMillis;
+        this.clockStartMillis = clockStartMillis;
+        this.checksum = update(0, state);
+    }
+
+    /** Called after each tick. */
+    public synchronized void recordTick(long tick, GameState state) {
+        tickCount = tick;
+        checksum = update(checksum, state);
+        if (tick % CHECKPOINT_INTERVAL_TICKS == 0) {
+            entries.add(SessionRecording.Entry.checkpoint(SessionRecording.Kind.CHECKPOINT, tick, checksum));
+        }
+    }
+
+    /** Called after each command, with the number of ticks run so far. */
+    public synchronized void recordCommand(long tick, GameCommand command, boolean accepted, GameState state) {
+        tickCount = tick;
+        checksum = update(checksum, state);
+        entries.add(SessionRecording.Entry.command(tick, command, accepted));
+    }
+
+    /** Gets the current rolling checksum. */
+    public synchronized long getChecksum() {
+        return checksum;
+    }
+
+    /** Gets the number of ticks recorded so far. */
+    public synchronized long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns everything recorded so far, closed with an end marker.
+     * Recording continues; a later call returns a longer recording.
+     */
+    public synchronized SessionRecording toRecording() {
+        List<SessionRecording.Entry> all = new ArrayList<>(entries.size() + 1);
+        all.addAll(entries);
+        all.add(SessionRecording.Entry.checkpoint(SessionRecording.Kind.END, tickCount, checksum));
+        return new SessionRecording(initialState, tickMillis, clockStartMillis, all);
+    }
+
+    /**
+     * Folds the parts of a game state that the simulation changes into a checksum.
+     * Covers every pet's stats, state and cooldowns, the inventory and the playtime.
+     */
+    static long update(long checksum, GameState state) {
+        long digest = state.getPetCount();
+        List<Pet> pets = state.getPets();
+        for (int i = 0; i < pets.size(); i++) {
+            Pet pet = pets.get(i);
+            digest = digest * 31 + PackedPetState.encode(pet);
+            digest = digest * 31 + (pet.isPlayAvailable() ? 1 : 0);
+            digest = digest * 31 + (pet.isVetAvailable() ? 1 : 0);
+        }
+        digest = digest * 31 + state.getTotalPlaytimeMillis();
+        if (state.getInventory() != null) {
+            // Order-independent, so the inventory's map order does not matter.
+            long items = 0;
+            for (Map.Entry<Item, Integer> item : state.getInventory().getAllItems().entrySet()) {
+                items += mix(item.getKey().getClass().getName().hashCode() * 31L
+                        + item.getKey().getName().hashCode()) * item.getValue();
+            }
+            digest = digest * 31 + items;
+        }
+        return mix(checksum ^ digest);
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static byte[] serialize(GameState state) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(state);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not record the starting game state", e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,307 @@
+/**
+ * Class holding a recorded game session: the starting state and every action taken.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.StatEffect;
+import com.group14.virtualpet.model.TimedEffect;
+import com.group14.virtualpet.state.GameState;
+
+/**
+ * An immutable recording of one game session.
+ * The starting GameState is kept as its serialized save bytes; everything after
+ * that is a list of entries in the order they happened. Commands carry the tick
+ * after which they were applied and whether they were accepted; checkpoints and
+ * the end marker carry the rolling checksum of the game state at that point.
+ * <p>
+ * The file format is compact: ticks are stored as variable-length deltas, so a
+ * typical entry takes two or three bytes plus its item, and an hour of play at
+ * one tick per second fits in a few kilobytes besides the starting state.
+ */
+public final class SessionRecording {
+
+    private static final int FILE_MAGIC = 0x50524543; // "PREC"
+    // Version 2 added the target pet to every command, version 3 the items' timed effects.
+    private static final int FORMAT_VERSION = 3;
+
+    private static final int NO_ITEM = 0;
+    private static final int FOOD_ITEM = 1;
+    private static final int GIFT_ITEM = 2;
+
+    private static final GameCommand.Type[] TYPES = GameCommand.Type.values();
+    private static final Kind[] KINDS = Kind.values();
+    private static final StatEffect[] EFFECTS = StatEffect.values();
+
+    /** The kinds of recorded entries. */
+    public enum Kind {
+        /** A command applied after the given tick. */
+        COMMAND,
+        /** The game state checksum right after the given tick. */
+        CHECKPOINT,
+        /** The game state checksum when recording stopped. */
+        END
+    }
+
+    /**
+     * One recorded entry.
+     *
+     * @param kind The kind of entry.
+     * @param tick The number of ticks run when the entry was recorded.
+     * @param command The applied command (COMMAND only, otherwise null).
+     * @param accepted Whether the command took effect (COMMAND only).
+     * @param checksum The rolling checksum (CHECKPOINT and END only).
+     */
+    public record Entry(Kind kind, long tick, GameCommand command, boolean accepted, long checksum) {
+
+        static Entry command(long tick, GameCommand command, boolean accepted) {
+            return new Entry(Kind.COMMAND, tick, command, accepted, 0);
+        }
+
+        static Entry checkpoint(Kind kind, long tick, long checksum) {
+            return new Entry(kind, tick, null, false, checksum);
+        }
+    }
+
+    private final byte[] initialState;
+    private final long tickMillis;
+    private final long clockStartMillis;
+    private final List<Entry> entries;
+
+    SessionRecording(byte[] initialState, long tickMillis, long clockStartMillis, List<Entry> entries) {
+        this.initialState = initialState.clone();
+        this.tickMillis = tickMillis;
+        this.clockStartMillis = clockStartMillis;
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Rebuilds the game state the session started from. Each call returns a new copy.
+     * @throws IOException if the stored state cannot be deserialized.
+     */
+    public GameState restoreInitialState() throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(initialState))) {
+            return (GameState) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Recording does not contain a game state", e);
+        }
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /** Gets the game clock time (ms) at which the session started. */
+    public long getClockStartMillis() {
+        return clockStartMillis;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /** Gets the number of ticks recorded, or 0 if the recording has no end marker. */
+    public long getTickCount() {
+        if (entries.isEmpty() || entries.get(entries.size() - 1).kind() != Kind.END) {
+            return 0;
+        }
+        return entries.get(entries.size() - 1).tick();
+    }
+
+    /** Counts the recorded commands. */
+    public int getCommandCount() {
+        int count = 0;
+        for (Entry entry : entries) {
+            if (entry.kind() == Kind.COMMAND) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes this recording in the compact binary format.
+     * @param out The stream to write to.
+     * @throws IOException if writing fails.
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(FILE_MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(tickMillis);
+        out.writeLong(clockStartMillis);
+        out.writeInt(initialState.length);
+        out.write(initialState);
+        out.writeInt(entries.size());
+        long lastTick = 0;
+        for (Entry entry : entries) {
+            out.writeByte(entry.kind().ordinal());
+            writeVarLong(out, entry.tick() - lastTick);
+            lastTick = entry.tick();
+            if (entry.kind() == Kind.COMMAND) {
+                // Type and accepted flag share one byte.
+                out.writeByte(entry.command().type().ordinal() << 1 | (entry.accepted() ? 1 : 0));
+                writeItem(out, entry.command().item());
+                writeVarLong(out, entry.command().petIndex());
+            } else {
+                out.writeLong(entry.checksum());
+            }
+        }
+    }
+
+    /**
+     * Reads a recording written by {@link #writeTo(DataOutputStream)}.
+     * @throws IOException if the data is not a valid recording.
+     */
+    public static SessionRecording readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != FILE_MAGIC) {
+            throw new IOException("Not a session recording");
+        }
+        int version = in.readInt();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException("Unsupported recording version: " + version);
+        }
+        long tickMillis = in.readLong();
+        long clockStartMillis = in.readLong();
+        int stateLength = in.readInt();
+        if (tickMillis <= 0 || stateLength <= 0) {
+            throw new IOException("Session recording has an unexpected layout");
+        }
+        byte[] initialState = new byte[stateLength];
+        in.readFully(initialState);
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Session recording has an unexpected layout");
+        }
+        List<Entry> entries = new ArrayList<>(Math.min(count, 1 << 16));
+        long tick = 0;
+        for (int i = 0; i < count; i++) {
+            int kindIndex = in.readUnsignedByte();
+            if (kindIndex >= KINDS.length) {
+                throw new IOException("Unknown entry kind in recording: " + kindIndex);
+            }
+            Kind kind = KINDS[kindIndex];
+            tick += readVarLong(in);
+            if (kind == Kind.COMMAND) {
+                int packed = in.readUnsignedByte();
+                int typeIndex = packed >>> 1;
+                if (typeIndex >= TYPES.length) {
+                    throw new IOException("Unknown command in recording: " + typeIndex);
+                }
+                Item item = readItem(in, version);
+                long petIndex = version >= 2 ? readVarLong(in) : 0;
+                if (petIndex >= GameState.MAX_PETS) {
+                    throw new IOException("Invalid pet in recording: " + petIndex);
+                }
+                try {
+                    entries.add(Entry.command(tick, new GameCommand(TYPES[typeIndex], item, (int) petIndex),
+                            (packed & 1) != 0));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Invalid command in recording: " + e.getMessage(), e);
+                }
+            } else {
+                entries.add(Entry.checkpoint(kind, tick, in.readLong()));
+            }
+        }
+        return new SessionRecording(initialState, tickMillis, clockStartMillis, entries);
+    }
+
+    private static void writeItem(DataOutputStream out, Item item) throws IOException {
+        if (item instanceof FoodItem food) {
+            out.writeByte(FOOD_ITEM);
+            out.writeUTF(food.getName());
+            writeVarLong(out, food.getFullnessValue());
+            writeEffect(out, food.getEffect());
+        } else if (item instanceof GiftItem gift) {
+            out.writeByte(GIFT_ITEM);
+            out.writeUTF(gift.getName());
+            writeVarLong(out, gift.getHappinessValue());
+            writeEffect(out, gift.getEffect());
+        } else if (item == null) {
+            out.writeByte(NO_ITEM);
+        } else {
+            throw new IOException("Cannot record item of type " + item.getClass().getSimpleName());
+        }
+    }
+
+    private static Item readItem(DataInputStream in, int version) throws IOException {
+        int kind = in.readUnsignedByte();
+        return switch (kind) {
+            case NO_ITEM -> null;
+            case FOOD_ITEM -> new FoodItem(in.readUTF(), (int) readVarLong(in), readEffect(in, version));
+            case GIFT_ITEM -> new GiftItem(in.readUTF(), (int) readVarLong(in), readEffect(in, version));
+            default -> throw new IOException("Unknown item kind in recording: " + kind);
+        };
+    }
+
+    /** Writes an item's timed effect: 0 for none, otherwise the effect ordinal + 1, rate and duration. */
+    private static void writeEffect(DataOutputStream out, TimedEffect effect) throws IOException {
+        if (effect == null) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeByte(effect.effect().ordinal() + 1);
+        writeVarLong(out, effect.ratePercent());
+        writeVarLong(out, effect.durationTicks());
+    }
+
+    private static TimedEffect readEffect(DataInputStream in, int version) throws IOException {
+        if (version < 3) {
+            return null;
+        }
+        int kind = in.readUnsignedByte();
+        if (kind == 0) {
+            return null;
+        }
+        if (kind > EFFECTS.length) {
+            throw new IOException("Unknown effect in recording: " + kind);
+        }
+        long rate = readVarLong(in);
+        long duration = readVarLong(in);
+        if (rate > TimedEffect.MAX_RATE_PERCENT || duration > Integer.MAX_VALUE) {
+            throw new IOException("Invalid effect in recording");
+        }
+        try {
+            return new TimedEffect(EFFECTS[kind - 1], (int) rate, (int) duration);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid effect in recording: " + e.getMessage(), e);
+        }
+    }
+
+    /** Writes a non-negative value in 7-bit groups, low group first. */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        if (value < 0) {
+            throw new IOException("Cannot record a negative value: " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number in recording");
+    }
+}
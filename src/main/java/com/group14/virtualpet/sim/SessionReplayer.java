@@ -0,0 +1,108 @@
+/**
+ * Class that replays recorded game sessions headlessly and checks them against their checksums.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.util.SimulatedClock;
+
+/**
+ * Re-executes a {@link SessionRecording} as fast as possible, without a UI or a
+ * timer thread. Ticks and commands go through the same GameSession steps as a live
+ * game (the game rules' item grants are recorded as commands), and the rolling checksum is compared at every checkpoint and at the end.
+ * The replay stops at the first entry that does not match.
+ */
+public final class SessionReplayer {
+
+    /**
+     * The outcome of a replay.
+     *
+     * @param matched true if every command result and checksum matched.
+     * @param ticksReplayed The number of ticks run.
+     * @param commandsReplayed The number of commands applied.
+     * @param divergedAtTick The tick of the first mismatch, or -1 if none.
+     * @param message A short description of the outcome.
+     * @param finalState The game state at the end of the replay.
+     */
+    public record Result(boolean matched, long ticksReplayed, int commandsReplayed,
+            long divergedAtTick, String message, GameState finalState) {
+    }
+
+    private SessionReplayer() {}
+
+    /**
+     * Replays a recording from its starting state.
+     * @param recording The recording to replay.
+     * @return The outcome of the replay.
+     * @throws IOException if the starting state cannot be restored.
+     */
+    public static Result replay(SessionRecording recording) throws IOException {
+        GameState state = recording.restoreInitialState();
+        // The session continues from the first pet's clock, so start it where the recording did.
+        state.getPet().setClock(new SimulatedClock(recording.getClockStartMillis()));
+        GameSession session = new GameSession(state, recording.getTickMillis(), false);
+        SessionRecorder checker = session.enableRecording();
+
+        int commands = 0;
+        for (SessionRecording.Entry entry : recording.getEntries()) {
+            if (entry.tick() < session.getTickCount()) {
+                return diverged(session, commands, entry.tick(), "entries are out of order", state);
+            }
+            while (session.getTickCount() < entry.tick()) {
+                session.step();
+            }
+            if (entry.kind() == SessionRecording.Kind.COMMAND) {
+                boolean accepted = session.apply(entry.command());
+                commands++;
+                if (accepted != entry.accepted()) {
+                    return diverged(session, commands, entry.tick(), entry.command().type()
+                            + " was " + (entry.accepted() ? "accepted" : "rejected")
+                            + " in the recording but not in the replay", state);
+                }
+            } else if (checker.getChecksum() != entry.checksum()) {
+                return diverged(session, commands, entry.tick(), "state checksum differs", state);
+            }
+        }
+        return new Result(true, session.getTickCount(), commands, -1,
+                "Replay matched " + session.getTickCount() + " ticks and " + commands + " commands", state);
+    }
+
+    private static Result diverged(GameSession session, int commands, long tick, String reason, GameState state) {
+        return new Result(false, session.getTickCount(), commands, tick,
+                "Replay diverged at tick " + tick + ": " + reason, state);
+    }
+
+    /**
+     * Replays recording files and prints the outcome of each.
+     * @param args Paths of .rec files.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: SessionReplayer <recording.rec>...");
+            System.exit(2);
+        }
+        boolean allMatched = true;
+        for (String path : args) {
+            SessionRecording recording;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+                recording = SessionRecording.readFrom(in);
+            }
+            long start = System.nanoTime();
+            Result result = replay(recording);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%s: %s (%.3f s, %.0f ticks/s)%n", path, result.message(), seconds,
+                    result.ticksReplayed() / Math.max(seconds, 1e-9));
+            allMatched &= result.matched();
+        }
+        System.exit(allMatched ? 0 : 1);
+    }
+}
@@ -0,0 +1,22 @@
+/**
+ * Enum listing the levels of detail at which a game session simulates a pet.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim;
+
+/**
+ * How closely a {@link GameSession} follows a pet between ticks. At every tier the
+ * pet's state is exact on every tick, and its stats are exact whenever it is
+ * caught up; the tiers only differ in how often the stats are brought up to date.
+ */
+public enum SimulationTier {
+    /** On screen or recently active: the pet runs liveOneTick() on every tick. */
+    FULL,
+    /** Off screen: the pet is advanced in steps of several ticks with Pet.advance(). */
+    BACKGROUND,
+    /** Idle for a long time: the pet is only advanced when its state may change or it is touched. */
+    DORMANT
+}
@@ -0,0 +1,36 @@
+/**
+ * Record describing a command sequence that broke a model invariant.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.fuzz;
+
+import java.util.List;
+
+/**
+ * A failing sequence and what went wrong.
+ *
+ * @param invariant The name of the broken invariant, e.g. DEAD_ABSORBING.
+ * @param message What was observed.
+ * @param petType The pet type the sequence ran with.
+ * @param seed The seed the sequence was generated from.
+ * @param steps The steps up to and including the failing one.
+ */
+public record FuzzFailure(String invariant, String message, String petType, long seed, List<FuzzStep> steps) {
+
+    public FuzzFailure {
+        steps = List.copyOf(steps);
+    }
+
+    /** Returns a copy of this failure for a shrunk sequence. */
+    FuzzFailure withSteps(List<FuzzStep> shrunk, String shrunkMessage) {
+        return new FuzzFailure(invariant, shrunkMessage, petType, seed, shrunk);
+    }
+
+    @Override
+    public String toString() {
+        return invariant + " after " + steps.size() + " steps on " + petType + ": " + message;
+    }
+}
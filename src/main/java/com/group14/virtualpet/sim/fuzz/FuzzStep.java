@@ -0,0 +1,159 @@
+/**
+ * Record describing one step of a fuzzed command sequence.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.fuzz;
+
+import java.util.List;
+import java.util.Random;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameRules;
+
+/**
+ * One action applied to a fuzzed game. Steps either go through GameCommand, like
+ * the game loop does, or call Pet directly, so the model's own guards are tested
+ * and not only the ones in GameCommand. The argument selects an item, a command,
+ * or a number of ticks or seconds, depending on the operation.
+ *
+ * @param op The operation.
+ * @param arg The operation's argument (0 if it has none).
+ */
+public record FuzzStep(Op op, int arg) {
+
+    /** Largest argument for ADVANCE (ticks) and WAIT (seconds). */
+    public static final int MAX_DURATION = 400;
+
+    /** Food items the fuzzer feeds, including the emergency ration. */
+    static final List<FoodItem> FOODS = List.of(
+            new FoodItem("Basic Kibble", 20),
+            new FoodItem("Tasty Treat", 40),
+            new FoodItem("Luxury Meal", 75),
+            GameRules.EMERGENCY_RATION);
+
+    /** Gift items the fuzzer gives. */
+    static final List<GiftItem> GIFTS = GameRules.AVAILABLE_ITEMS.stream()
+            .filter(item -> item instanceof GiftItem)
+            .map(item -> (GiftItem) item)
+            .toList();
+
+    /** Commands without an item, for the COMMAND operation. */
+    static final List<GameCommand.Type> PLAIN_COMMANDS = List.of(
+            GameCommand.Type.PLAY, GameCommand.Type.VET, GameCommand.Type.EXERCISE, GameCommand.Type.SLEEP);
+
+    /** The operations a step can perform. */
+    public enum Op {
+        /** One regular tick, plus one tick length on the clock. */
+        TICK(0),
+        /** Pet.advance(arg), plus arg tick lengths on the clock. */
+        ADVANCE(MAX_DURATION),
+        /** Moves the clock arg seconds forward without ticking. */
+        WAIT(MAX_DURATION),
+        /** Feed command with FOODS[arg]. */
+        FEED(FOODS.size()),
+        /** Gift command with GIFTS[arg]. */
+        GIFT(GIFTS.size()),
+        /** Grant command with item arg (FOODS, then GIFTS). */
+        GRANT(FOODS.size() + GIFTS.size()),
+        /** Command of type PLAIN_COMMANDS[arg]. */
+        COMMAND(PLAIN_COMMANDS.size()),
+        /** Pet.feed(FOODS[arg]) without using the inventory. */
+        PET_FEED(FOODS.size()),
+        /** Pet.receiveGift(GIFTS[arg]) without using the inventory. */
+        PET_GIFT(GIFTS.size()),
+        PET_PLAY(0),
+        PET_VET(0),
+        PET_EXERCISE(0),
+        PET_GO_TO_BED(0),
+        PET_WAKE_UP(0),
+        PET_FORCE_SLEEP(0),
+        /** Replaces the game state with a copy made through GameStateSnapshot. */
+        SNAPSHOT(0);
+
+        private final int argBound;
+
+        Op(int argBound) {
+            this.argBound = argBound;
+        }
+
+        /** Gets the exclusive upper bound of the argument, or 0 if the operation has none. */
+        public int getArgBound() {
+            return argBound;
+        }
+    }
+
+    private static final Op[] OPS = Op.values();
+
+    public FuzzStep {
+        if (op == null) {
+            throw new IllegalArgumentException("Operation must not be null");
+        }
+        if (op.argBound == 0 ? arg != 0 : arg < 0 || arg >= op.argBound) {
+            throw new IllegalArgumentException("Argument out of range for " + op + ": " + arg);
+        }
+    }
+
+    /** Creates a step for an operation without an argument. */
+    public FuzzStep(Op op) {
+        this(op, 0);
+    }
+
+    /**
+     * Creates a random step. Ticks are weighted up so pets live long enough to
+     * reach every state.
+     */
+    public static FuzzStep random(Random random) {
+        Op op = random.nextInt(4) == 0 ? Op.TICK : OPS[random.nextInt(OPS.length)];
+        if (op == Op.ADVANCE || op == Op.WAIT) {
+            // Mostly short durations, sometimes long ones.
+            int bound = random.nextInt(8) == 0 ? op.argBound : 20;
+            return new FuzzStep(op, 1 + random.nextInt(bound - 1));
+        }
+        return new FuzzStep(op, op.argBound == 0 ? 0 : random.nextInt(op.argBound));
+    }
+
+    /** Gets the item a GRANT step adds. */
+    Item grantedItem() {
+        return arg < FOODS.size() ? FOODS.get(arg) : GIFTS.get(arg - FOODS.size());
+    }
+
+    /**
+     * Returns simpler versions of this step for shrinking: shorter durations and
+     * lower item or command indexes.
+     */
+    List<FuzzStep> simpler() {
+        if (arg == 0) {
+            return List.of();
+        }
+        if (op == Op.ADVANCE || op == Op.WAIT) {
+            if (arg == 1) {
+                return List.of();
+            }
+            return arg / 2 > 1 ? List.of(new FuzzStep(op, 1), new FuzzStep(op, arg / 2), new FuzzStep(op, arg - 1))
+                    : List.of(new FuzzStep(op, 1));
+        }
+        return List.of(new FuzzStep(op, 0));
+    }
+
+    /**
+     * Parses a step written by {@link #toString()}.
+     * @throws IllegalArgumentException if the text is not a valid step.
+     */
+    public static FuzzStep parse(String text) {
+        String[] parts = text.trim().split("\\s+");
+        Op op = Op.valueOf(parts[0]);
+        int arg = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+        return new FuzzStep(op, arg);
+    }
+
+    @Override
+    public String toString() {
+        return op.argBound == 0 ? op.name() : op.name() + " " + arg;
+    }
+}
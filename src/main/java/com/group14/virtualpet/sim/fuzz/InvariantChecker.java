@@ -0,0 +1,245 @@
+/**
+ * Class that runs a command sequence against the pet model and checks its invariants after every step.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.fuzz;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetSnapshot;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameRules;
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.state.GameStateSnapshot;
+import com.group14.virtualpet.util.SimulatedClock;
+
+/**
+ * Plays one sequence of {@link FuzzStep}s on a fresh GameState and checks after
+ * every step that:
+ * <ul>
+ *   <li>STAT_RANGE: every stat is within [0, max];</li>
+ *   <li>DEAD_ABSORBING: a dead pet stays dead and its stats do not change;</li>
+ *   <li>SLEEP_EXIT: a sleeping pet only wakes up at full sleep (or dies);</li>
+ *   <li>PLAY_COOLDOWN / VET_COOLDOWN: play and vet are only accepted once their cooldown has passed;</li>
+ *   <li>INVENTORY: item counts are positive and match what was granted and used,
+ *       and a feed or gift is only accepted if the item was there;</li>
+ *   <li>ADVANCE: Pet.advance(n) gives the same pet as n calls to liveOneTick();</li>
+ *   <li>SNAPSHOT: copying the state through a snapshot keeps the pet and inventory.</li>
+ * </ul>
+ * An exception thrown by the model is reported as EXCEPTION.
+ * Pet.revive() is deliberately not fuzzed: it is the one way out of DEAD.
+ */
+public final class InvariantChecker {
+
+    /** A broken invariant and what was observed. */
+    private record Violation(String invariant, String message) {
+    }
+
+    private static final long CLOCK_START_MILLIS = 1_000_000L;
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final String petType;
+    private final SimulatedClock clock = new SimulatedClock(CLOCK_START_MILLIS);
+    private final Map<Item, Integer> expectedItems = new HashMap<>();
+    private GameState state;
+    private long lastPlay = NEVER;
+    private long lastVet = NEVER;
+
+    private InvariantChecker(String petType) {
+        this.petType = petType;
+        this.state = new GameState(new Pet("Fuzzy", petType), new Inventory(), 0);
+        state.setClock(clock);
+    }
+
+    /**
+     * Runs a sequence and returns the first broken invariant.
+     * @param petType The id of the pet type to use.
+     * @param seed The seed the sequence came from, for the report.
+     * @param steps The steps to run.
+     * @return The failure, with the steps cut after the failing one, or null if all invariants held.
+     */
+    public static FuzzFailure check(String petType, long seed, List<FuzzStep> steps) {
+        InvariantChecker checker = new InvariantChecker(petType);
+        for (int i = 0; i < steps.size(); i++) {
+            Violation broken;
+            try {
+                broken = checker.apply(steps.get(i));
+            } catch (RuntimeException e) {
+                broken = new Violation("EXCEPTION", e.toString());
+            }
+            if (broken != null) {
+                return new FuzzFailure(broken.invariant(), broken.message(), petType, seed, steps.subList(0, i + 1));
+            }
+        }
+        return null;
+    }
+
+    /** Applies one step; returns the broken invariant, or null if all held. */
+    private Violation apply(FuzzStep step) {
+        Pet pet = state.getPet();
+        PetSnapshot before = PetSnapshot.of(pet);
+        Violation broken = null;
+
+        switch (step.op()) {
+            case TICK -> {
+                state.addPlaytimeMillis(GameRules.TICK_MILLIS);
+                clock.advance(GameRules.TICK_MILLIS);
+                pet.liveOneTick();
+            }
+            case ADVANCE -> {
+                Pet reference = before.toPet();
+                reference.setClock(clock);
+                clock.advance((long) step.arg() * GameRules.TICK_MILLIS);
+                pet.advance(step.arg());
+                for (int t = 0; t < step.arg(); t++) {
+                    reference.liveOneTick();
+                }
+                if (!PetSnapshot.of(reference).equals(PetSnapshot.of(pet))) {
+                    return broken("ADVANCE", "advance(" + step.arg() + ") gave " + pet
+                            + " but ticking gave " + reference);
+                }
+            }
+            case WAIT -> clock.advance(step.arg() * 1000L);
+            case FEED -> broken = useItem(GameCommand.feed(FuzzStep.FOODS.get(step.arg())), before.state());
+            case GIFT -> broken = useItem(GameCommand.gift(FuzzStep.GIFTS.get(step.arg())), before.state());
+            case GRANT -> {
+                Item item = step.grantedItem();
+                if (GameCommand.grant(item).applyTo(state)) {
+                    expectedItems.merge(item, 1, Integer::sum);
+                } else if (before.state() != PetState.DEAD) {
+                    return broken("INVENTORY", "grant of " + item + " was rejected");
+                }
+            }
+            case COMMAND -> {
+                GameCommand.Type type = FuzzStep.PLAIN_COMMANDS.get(step.arg());
+                boolean accepted = GameCommand.of(type).applyTo(state);
+                if (type == GameCommand.Type.PLAY) {
+                    broken = checkCooldown("PLAY_COOLDOWN", accepted, true);
+                } else if (type == GameCommand.Type.VET) {
+                    broken = checkCooldown("VET_COOLDOWN", accepted, false);
+                }
+            }
+            case PET_FEED -> pet.feed(FuzzStep.FOODS.get(step.arg()));
+            case PET_GIFT -> pet.receiveGift(FuzzStep.GIFTS.get(step.arg()));
+            case PET_PLAY -> broken = checkCooldown("PLAY_COOLDOWN", pet.play(), true);
+            case PET_VET -> broken = checkCooldown("VET_COOLDOWN", pet.takeToVet(), false);
+            case PET_EXERCISE -> pet.exercise();
+            case PET_GO_TO_BED -> pet.goToBed();
+            case PET_WAKE_UP -> pet.wakeUp();
+            case PET_FORCE_SLEEP -> pet.forceSleep();
+            case SNAPSHOT -> {
+                GameState copy = GameStateSnapshot.of(state, 0).toGameState();
+                copy.setClock(clock);
+                if (!PetSnapshot.of(copy.getPet()).equals(before)) {
+                    return broken("SNAPSHOT", "copy has " + copy.getPet() + " instead of " + pet);
+                }
+                if (!copy.getInventory().getAllItems().equals(state.getInventory().getAllItems())) {
+                    return broken("SNAPSHOT", "copy has " + copy.getInventory() + " instead of " + state.getInventory());
+                }
+                state = copy;
+            }
+        }
+        if (broken != null) {
+            return broken;
+        }
+        return checkState(before, step);
+    }
+
+    /** Checks the invariants that hold after any step. */
+    private Violation checkState(PetSnapshot before, FuzzStep step) {
+        Pet pet = state.getPet();
+        if (!inRange(pet.getHealth(), pet.getMaxHealth()) || !inRange(pet.getSleep(), pet.getMaxSleep())
+                || !inRange(pet.getFullness(), pet.getMaxFullness())
+                || !inRange(pet.getHappiness(), pet.getMaxHappiness())) {
+            return broken("STAT_RANGE", "stat out of range: " + pet);
+        }
+        if (before.state() == PetState.DEAD) {
+            PetSnapshot after = PetSnapshot.of(pet);
+            if (after.state() != PetState.DEAD) {
+                return broken("DEAD_ABSORBING", step + " turned a dead pet " + after.state());
+            }
+            if (after.health() != before.health() || after.sleep() != before.sleep()
+                    || after.fullness() != before.fullness() || after.happiness() != before.happiness()) {
+                return broken("DEAD_ABSORBING", step + " changed a dead pet: " + pet);
+            }
+        }
+        // A single ADVANCE can wake up and run on past full sleep, so only single ticks are checked.
+        boolean singleStep = step.op() != FuzzStep.Op.ADVANCE || step.arg() == 1;
+        if (singleStep && before.state() == PetState.SLEEPING
+                && pet.getCurrentState() != PetState.SLEEPING && pet.getCurrentState() != PetState.DEAD
+                && pet.getSleep() < pet.getMaxSleep()) {
+            return broken("SLEEP_EXIT", step + " woke the pet at sleep " + pet.getSleep() + "/" + pet.getMaxSleep());
+        }
+        for (Map.Entry<Item, Integer> entry : state.getInventory().getAllItems().entrySet()) {
+            if (entry.getValue() <= 0) {
+                return broken("INVENTORY", entry.getKey() + " has count " + entry.getValue());
+            }
+        }
+        if (!state.getInventory().getAllItems().equals(expectedItems)) {
+            return broken("INVENTORY", "inventory is " + state.getInventory() + " but expected " + expectedItems);
+        }
+        return null;
+    }
+
+    /** Applies a feed or gift command and checks it against the expected inventory. */
+    private Violation useItem(GameCommand command, PetState stateBefore) {
+        Item item = command.item();
+        int available = expectedItems.getOrDefault(item, 0);
+        boolean accepted = command.applyTo(state);
+        if (accepted) {
+            if (available == 0) {
+                return broken("INVENTORY", command.type() + " with " + item + " accepted without the item");
+            }
+            if (available == 1) {
+                expectedItems.remove(item);
+            } else {
+                expectedItems.put(item, available - 1);
+            }
+        } else if (available > 0 && stateBefore != PetState.DEAD) {
+            return broken("INVENTORY", command.type() + " with " + item + " rejected although there are " + available);
+        }
+        return null;
+    }
+
+    /** Checks that an accepted play or vet visit was off cooldown, and remembers when it happened. */
+    private Violation checkCooldown(String invariant, boolean accepted, boolean play) {
+        if (!accepted) {
+            return null;
+        }
+        long now = clock.millis();
+        long last = play ? lastPlay : lastVet;
+        long cooldown = play ? Pet.PLAY_COOLDOWN_MS : Pet.VET_COOLDOWN_MS;
+        if (last != NEVER && now < last + cooldown) {
+            return broken(invariant, "accepted " + (now - last) + " ms after the last one (cooldown "
+                    + cooldown + " ms)");
+        }
+        if (play) {
+            lastPlay = now;
+        } else {
+            lastVet = now;
+        }
+        return null;
+    }
+
+    private static boolean inRange(int value, int max) {
+        return value >= 0 && value <= max;
+    }
+
+    private static Violation broken(String invariant, String message) {
+        return new Violation(invariant, message);
+    }
+
+    @Override
+    public String toString() {
+        return "InvariantChecker{" + petType + ", " + state.getPet() + "}";
+    }
+}
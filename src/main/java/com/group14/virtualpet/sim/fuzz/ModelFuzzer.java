@@ -0,0 +1,217 @@
+/**
+ * Class running a parallel property-based fuzzer against the pet model.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.fuzz;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import com.group14.virtualpet.model.PetType;
+
+/**
+ * Property-based fuzzer for Pet, Inventory and GameState. Runs many random step
+ * sequences in parallel on the common ForkJoinPool, each on a fresh game with a
+ * random pet type, and checks the model invariants after every step (see
+ * {@link InvariantChecker}). The shortest failure per invariant is shrunk to a
+ * minimal reproducer and written to the failure directory, from where it can be
+ * replayed with {@code --replay}.
+ * Every sequence gets its own seed derived from the fuzzer seed and its index,
+ * so results do not depend on the number of cores.
+ * <p>
+ * Usage: {@code java -cp ... com.group14.virtualpet.sim.fuzz.ModelFuzzer
+ * [sequences] [max steps] [seed]} or {@code ... ModelFuzzer --replay <file>...}.
+ */
+public class ModelFuzzer {
+
+    public static final int DEFAULT_SEQUENCES = 1_000_000;
+    public static final int DEFAULT_MAX_STEPS = 200;
+    public static final long DEFAULT_SEED = 1606L;
+
+    private static final String FAILURE_DIRECTORY = "fuzz-failures";
+    private static final String FAILURE_EXTENSION = ".txt";
+
+    private final int sequences;
+    private final int maxSteps;
+    private final long seed;
+    private final List<String> petTypes;
+    private final LongAdder stepsRun = new LongAdder();
+
+    /**
+     * Creates a fuzzer over all registered pet types.
+     * @param sequences The number of sequences to run.
+     * @param maxSteps The maximum length of a sequence.
+     * @param seed The seed all sequence seeds are derived from.
+     */
+    public ModelFuzzer(int sequences, int maxSteps, long seed) {
+        if (sequences <= 0 || maxSteps <= 0) {
+            throw new IllegalArgumentException("Sequences and steps must be positive");
+        }
+        this.sequences = sequences;
+        this.maxSteps = maxSteps;
+        this.seed = seed;
+        this.petTypes = PetType.all().stream().map(PetType::getId).sorted().toList();
+    }
+
+    /**
+     * Runs all sequences.
+     * @return The shortest unshrunk failure per invariant, by invariant name.
+     */
+    public Map<String, FuzzFailure> run() {
+        Map<String, FuzzFailure> failures = new ConcurrentHashMap<>();
+        IntStream.range(0, sequences).parallel().forEach(index -> {
+            long sequenceSeed = mix(seed + index);
+            Random random = new Random(sequenceSeed);
+            String petType = petTypes.get(random.nextInt(petTypes.size()));
+            int length = 1 + random.nextInt(maxSteps);
+            List<FuzzStep> steps = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                steps.add(FuzzStep.random(random));
+            }
+            FuzzFailure failure = InvariantChecker.check(petType, sequenceSeed, steps);
+            stepsRun.add(failure == null ? length : failure.steps().size());
+            if (failure != null) {
+                failures.merge(failure.invariant(), failure,
+                        (a, b) -> b.steps().size() < a.steps().size() ? b : a);
+            }
+        });
+        return new TreeMap<>(failures);
+    }
+
+    /** Gets the number of steps run so far. */
+    public long getStepsRun() {
+        return stepsRun.sum();
+    }
+
+    /**
+     * Shrinks a failure to a minimal sequence that breaks the same invariant.
+     * @param failure The failure to shrink.
+     * @return The shrunk failure.
+     */
+    public static FuzzFailure shrink(FuzzFailure failure) {
+        List<FuzzStep> shrunk = Shrinker.shrink(failure.steps(), candidate -> {
+            FuzzFailure result = InvariantChecker.check(failure.petType(), failure.seed(), candidate);
+            return result != null && result.invariant().equals(failure.invariant());
+        }, FuzzStep::simpler);
+        FuzzFailure result = InvariantChecker.check(failure.petType(), failure.seed(), shrunk);
+        return failure.withSteps(result.steps(), result.message());
+    }
+
+    /**
+     * Writes a failure as a reproducer file that {@link #readReproducer(Path)} can load.
+     * @param failure The failure to write.
+     * @param directory The directory to write to; created if needed.
+     * @return The file written.
+     * @throws IOException if writing fails.
+     */
+    public static Path writeReproducer(FuzzFailure failure, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(failure.invariant() + "-" + failure.petType() + "-"
+                + Long.toHexString(failure.seed()) + FAILURE_EXTENSION);
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write("# " + failure.invariant() + ": " + failure.message().replace('\n', ' '));
+            out.newLine();
+            out.write("# Replay with: java ... " + ModelFuzzer.class.getName() + " --replay " + file);
+            out.newLine();
+            out.write("type " + failure.petType());
+            out.newLine();
+            out.write("seed " + failure.seed());
+            out.newLine();
+            for (FuzzStep step : failure.steps()) {
+                out.write(step.toString());
+                out.newLine();
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Reads a reproducer and runs it again.
+     * @param file A file written by {@link #writeReproducer(FuzzFailure, Path)}.
+     * @return The failure it still produces, or null if it now passes.
+     * @throws IOException if the file cannot be read or is not a reproducer.
+     */
+    public static FuzzFailure readReproducer(Path file) throws IOException {
+        String petType = null;
+        long sequenceSeed = 0;
+        List<FuzzStep> steps = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            line = line.trim();
+            try {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                } else if (line.startsWith("type ")) {
+                    petType = line.substring(5).trim();
+                } else if (line.startsWith("seed ")) {
+                    sequenceSeed = Long.parseLong(line.substring(5).trim());
+                } else {
+                    steps.add(FuzzStep.parse(line));
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid line in reproducer " + file + ": " + line, e);
+            }
+        }
+        if (petType == null || PetType.forId(petType) == null) {
+            throw new IOException("Reproducer " + file + " has no known pet type");
+        }
+        return InvariantChecker.check(petType, sequenceSeed, steps);
+    }
+
+    /** SplitMix64 finalizer, used to turn consecutive numbers into independent seeds. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--replay")) {
+            boolean allPassed = true;
+            for (int i = 1; i < args.length; i++) {
+                FuzzFailure failure = readReproducer(Paths.get(args[i]));
+                System.out.println(args[i] + ": " + (failure == null ? "passes" : "fails: " + failure));
+                allPassed &= failure == null;
+            }
+            System.exit(allPassed ? 0 : 1);
+        }
+
+        int sequences = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SEQUENCES;
+        int maxSteps = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_STEPS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+        System.out.printf("Model fuzzer: %,d sequences of up to %,d steps, seed %d, %d cores%n",
+                sequences, maxSteps, seed, Runtime.getRuntime().availableProcessors());
+        ModelFuzzer fuzzer = new ModelFuzzer(sequences, maxSteps, seed);
+        long start = System.nanoTime();
+        Map<String, FuzzFailure> failures = fuzzer.run();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Ran %,d steps in %.1f s (%,.0f steps/s)%n",
+                fuzzer.getStepsRun(), seconds, fuzzer.getStepsRun() / seconds);
+
+        if (failures.isEmpty()) {
+            System.out.println("All invariants held.");
+            return;
+        }
+        for (FuzzFailure failure : failures.values()) {
+            FuzzFailure shrunk = shrink(failure);
+            Path file = writeReproducer(shrunk, Paths.get(FAILURE_DIRECTORY));
+            System.out.printf("%s: shrunk %d -> %d steps, written to %s%n  %s%n",
+                    failure.invariant(), failure.steps().size(), shrunk.steps().size(), file, shrunk.message());
+        }
+        System.exit(1);
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Class that shrinks a failing sequence to a minimal reproducer.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.fuzz;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Delta-debugging shrinker. It first removes chunks of steps, halving the chunk
+ * size down to single steps, and then replaces single steps with simpler ones,
+ * keeping every change after which the sequence still fails. This repeats until
+ * nothing more can be removed or simplified, so the result is 1-minimal: removing
+ * any one step or simplifying any one step makes the failure go away.
+ */
+public final class Shrinker {
+
+    private Shrinker() {}
+
+    /**
+     * Shrinks a failing sequence.
+     * @param steps The failing sequence.
+     * @param fails Tells whether a candidate sequence still fails the same way.
+     * @param simpler Returns simpler replacements for one step, simplest first.
+     * @return The shrunk sequence.
+     */
+    public static <T> List<T> shrink(List<T> steps, Predicate<List<T>> fails, Function<T, List<T>> simpler) {
+        List<T> current = new ArrayList<>(steps);
+        boolean changed = true;
+        while (changed) {
+            changed = removeChunks(current, fails);
+            changed |= simplifySteps(current, fails, simpler);
+        }
+        return current;
+    }
+
+    private static <T> boolean removeChunks(List<T> current, Predicate<List<T>> fails) {
+        boolean changed = false;
+        for (int chunk = Math.max(1, current.size() / 2); chunk >= 1; chunk /= 2) {
+            int start = 0;
+            while (start < current.size()) {
+                int end = Math.min(start + chunk, current.size());
+                List<T> candidate = new ArrayList<>(current.subList(0, start));
+                candidate.addAll(current.subList(end, current.size()));
+                if (fails.test(candidate)) {
+                    // Keep the removal and try the steps that moved into this position.
+                    current.clear();
+                    current.addAll(candidate);
+                    changed = true;
+                } else {
+                    start += chunk;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static <T> boolean simplifySteps(List<T> current, Predicate<List<T>> fails, Function<T, List<T>> simpler) {
+        boolean changed = false;
+        for (int i = 0; i < current.size(); i++) {
+            for (T replacement : simpler.apply(current.get(i))) {
+                List<T> candidate = new ArrayList<>(current);
+                candidate.set(i, replacement);
+                if (fails.test(candidate)) {
+                    current.set(i, replacement);
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,183 @@
+/**
+ * Class running headless Monte Carlo simulations to tune pet types and the item economy.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.lab;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import com.group14.virtualpet.model.PackedPetState;
+import com.group14.virtualpet.model.PetPopulation;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
+import com.group14.virtualpet.sim.ParallelPetTicker;
+
+/**
+ * Balance lab: plays many complete games for every combination of pet type and
+ * caretaker strategy, in parallel on the common ForkJoinPool, and reports how
+ * long pets survive, how they spend their time and what players score.
+ * Every game gets its own seed derived from the lab seed and the game index,
+ * so results do not depend on the number of cores.
+ * <p>
+ * Each pet type also gets an {@value #UNATTENDED} baseline: pets left alone from
+ * random stats, held in one PetPopulation and ticked in shards by a ParallelPetTicker.
+ * <p>
+ * Usage: {@code java -cp ... com.group14.virtualpet.sim.lab.BalanceLab
+ * [games per cell] [tick limit] [seed] [strategy;...] [pet type,...]}.
+ * Strategies are separated by semicolons because scripted schedules contain commas.
+ */
+public class BalanceLab {
+
+    public static final int DEFAULT_GAMES = 100_000;
+    /** Default tick limit: two hours of play at one tick per second. */
+    public static final int DEFAULT_MAX_TICKS = 2 * 60 * 60;
+    public static final long DEFAULT_SEED = 2212L;
+    /** Strategy name reported for pets nobody looks after. */
+    public static final String UNATTENDED = "unattended";
+
+    private static final PetState[] STATES = PetState.values();
+    private static final int DEAD = PetState.DEAD.ordinal();
+
+    private final int games;
+    private final int maxTicks;
+    private final long seed;
+    private final ParallelPetTicker ticker = new ParallelPetTicker();
+
+    /**
+     * Creates a lab.
+     * @param games The number of games per pet type and strategy.
+     * @param maxTicks The tick limit per game.
+     * @param seed The seed all game seeds are derived from.
+     */
+    public BalanceLab(int games, int maxTicks, long seed) {
+        if (games <= 0 || maxTicks <= 0) {
+            throw new IllegalArgumentException("Games and tick limit must be positive");
+        }
+        this.games = games;
+        this.maxTicks = maxTicks;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays all games for one pet type and strategy.
+     * @return The aggregated results.
+     */
+    public BalanceReport run(PetType type, CaretakerStrategy strategy) {
+        BalanceReport report = new BalanceReport(type, strategy.getName(), games, maxTicks);
+        long cellSeed = mix(seed ^ mix(type.getId().hashCode()) ^ mix(strategy.getName().hashCode() * 31L));
+        long start = System.nanoTime();
+        IntStream.range(0, games).parallel().forEach(game ->
+                report.record(game, new SimulatedGame(type, strategy, mix(cellSeed + game), maxTicks).play()));
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Measures how long pets of one type last once nobody looks after them.
+     * Every game starts a pet from random stats and issues no commands. All the
+     * pets live in one PetPopulation, ticked by the parallel ticker until every
+     * pet is dead or the tick limit is reached.
+     * @return The aggregated results, reported under the strategy name {@value #UNATTENDED}.
+     */
+    public BalanceReport runUnattended(PetType type) {
+        BalanceReport report = new BalanceReport(type, UNATTENDED, games, maxTicks);
+        long cellSeed = mix(seed ^ mix(type.getId().hashCode()) ^ mix(UNATTENDED.hashCode() * 31L));
+        long start = System.nanoTime();
+        PetPopulation population = new PetPopulation(games);
+        String name = "Lab " + type.getDisplayName();
+        for (int game = 0; game < games; game++) {
+            Random random = new Random(mix(cellSeed + game));
+            int index = population.add(name, type.getId());
+            population.unpack(index, PackedPetState.encode(
+                    1 + random.nextInt(type.getMaxHealth()),
+                    1 + random.nextInt(type.getMaxSleep()),
+                    1 + random.nextInt(type.getMaxFullness()),
+                    1 + random.nextInt(type.getMaxHappiness()),
+                    PetState.NORMAL));
+        }
+        population.evaluateStates(0, games);
+
+        // Counted after each tick until the pet dies, as SimulatedGame does.
+        int[][] ticksInState = new int[games][STATES.length];
+        int[] ticksSurvived = new int[games];
+        long[] packed = new long[games];
+        int alive = games;
+        for (int tick = 1; tick <= maxTicks && alive > 0; tick++) {
+            ticker.tick(population);
+            population.packAll(packed);
+            for (int game = 0; game < games; game++) {
+                if (ticksInState[game][DEAD] == 0) {
+                    int state = PackedPetState.stateOrdinal(packed[game]);
+                    ticksInState[game][state]++;
+                    ticksSurvived[game] = tick;
+                    if (state == DEAD) {
+                        alive--;
+                    }
+                }
+            }
+        }
+        for (int game = 0; game < games; game++) {
+            report.record(game, new GameResult(ticksSurvived[game], ticksInState[game][DEAD] > 0, 0,
+                    ticksInState[game], 0, 0));
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Plays all games for every combination of the given types and strategies.
+     * @return One report per combination, grouped by pet type.
+     */
+    public List<BalanceReport> runAll(List<PetType> types, List<CaretakerStrategy> strategies) {
+        List<BalanceReport> reports = new ArrayList<>();
+        for (PetType type : types) {
+            for (CaretakerStrategy strategy : strategies) {
+                reports.add(run(type, strategy));
+            }
+        }
+        return reports;
+    }
+
+    /** SplitMix64 finalizer, used to turn consecutive numbers into independent seeds. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int maxTicks = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_TICKS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+        List<CaretakerStrategy> strategies = new ArrayList<>();
+        List<String> strategyNames = args.length > 3 ? List.of(args[3].split(";")) : CaretakerStrategies.names();
+        for (String name : strategyNames) {
+            strategies.add(CaretakerStrategies.forName(name));
+        }
+        List<PetType> types = new ArrayList<>();
+        if (args.length > 4) {
+            for (String id : args[4].split(",")) {
+                types.add(PetType.require(id));
+            }
+        } else {
+            types.addAll(PetType.all());
+        }
+
+        System.out.printf("Balance lab: %,d games per cell, %,d tick limit, seed %d, %d cores%n",
+                games, maxTicks, seed, Runtime.getRuntime().availableProcessors());
+        BalanceLab lab = new BalanceLab(games, maxTicks, seed);
+        for (PetType type : types) {
+            for (CaretakerStrategy strategy : strategies) {
+                lab.run(type, strategy).print(System.out);
+            }
+            lab.runUnattended(type).print(System.out);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Class collecting the results of many simulated games for one pet type and strategy.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.lab;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
+
+/**
+ * Aggregated results for one (pet type, caretaker) cell of the balance lab:
+ * the survival-time distribution, time spent in each PetState, and score percentiles.
+ * Results are recorded by game index, so games can be recorded from many threads at once.
+ */
+public class BalanceReport {
+
+    private static final PetState[] STATES = PetState.values();
+    private static final double[] PERCENTILES = {10, 25, 50, 75, 90, 99};
+    private static final int HISTOGRAM_BUCKETS = 10;
+
+    private final PetType petType;
+    private final String strategyName;
+    private final int maxTicks;
+    private final int[] ticksSurvived;
+    private final int[] scores;
+    private final LongAdder[] ticksInState = new LongAdder[STATES.length];
+    private final LongAdder deaths = new LongAdder();
+    private final LongAdder acceptedCommands = new LongAdder();
+    private final LongAdder rejectedCommands = new LongAdder();
+    private long elapsedNanos;
+    private boolean sorted;
+
+    /**
+     * Creates an empty report.
+     * @param petType The pet type simulated.
+     * @param strategyName The caretaker strategy used.
+     * @param games The number of games that will be recorded.
+     * @param maxTicks The tick limit per game.
+     */
+    public BalanceReport(PetType petType, String strategyName, int games, int maxTicks) {
+        this.petType = petType;
+        this.strategyName = strategyName;
+        this.maxTicks = maxTicks;
+        this.ticksSurvived = new int[games];
+        this.scores = new int[games];
+        for (int i = 0; i < ticksInState.length; i++) {
+            ticksInState[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the result of one game. Each index must be recorded exactly once.
+     * @param game The game's index, from 0 to games - 1.
+     * @param result The game's outcome.
+     */
+    public void record(int game, GameResult result) {
+        ticksSurvived[game] = result.ticksSurvived();
+        scores[game] = result.score();
+        for (int i = 0; i < STATES.length; i++) {
+            ticksInState[i].add(result.ticksInState()[i]);
+        }
+        if (result.died()) {
+            deaths.increment();
+        }
+        acceptedCommands.add(result.acceptedCommands());
+        rejectedCommands.add(result.rejectedCommands());
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public PetType getPetType() {
+        return petType;
+    }
+
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    public int getGames() {
+        return scores.length;
+    }
+
+    public int getMaxTicks() {
+        return maxTicks;
+    }
+
+    public long getDeaths() {
+        return deaths.sum();
+    }
+
+    /** Returns the fraction of games in which the pet was still alive at the tick limit. */
+    public double getSurvivalRate() {
+        return getGames() == 0 ? 0 : 1.0 - (double) getDeaths() / getGames();
+    }
+
+    /** Returns the total ticks all games spent in the given state. */
+    public long getTicksInState(PetState state) {
+        return ticksInState[state.ordinal()].sum();
+    }
+
+    /** Returns the share of all played ticks spent in the given state. */
+    public double getStateShare(PetState state) {
+        long total = 0;
+        for (LongAdder adder : ticksInState) {
+            total += adder.sum();
+        }
+        return total == 0 ? 0 : (double) getTicksInState(state) / total;
+    }
+
+    public double getMeanTicksSurvived() {
+        return Arrays.stream(ticksSurvived).average().orElse(0);
+    }
+
+    /** Returns the given percentile (0-100, nearest rank) of ticks survived. */
+    public int ticksSurvivedPercentile(double percentile) {
+        sortOnce();
+        return percentile(ticksSurvived, percentile);
+    }
+
+    /** Returns the given percentile (0-100, nearest rank) of final scores. */
+    public int scorePercentile(double percentile) {
+        sortOnce();
+        return percentile(scores, percentile);
+    }
+
+    /**
+     * Counts games by ticks survived in equal-width buckets up to the tick limit.
+     * The last bucket holds the games that reached the limit.
+     */
+    public long[] survivalHistogram() {
+        long[] buckets = new long[HISTOGRAM_BUCKETS + 1];
+        for (int ticks : ticksSurvived) {
+            int bucket = ticks >= maxTicks ? HISTOGRAM_BUCKETS
+                    : (int) ((long) ticks * HISTOGRAM_BUCKETS / maxTicks);
+            buckets[bucket]++;
+        }
+        return buckets;
+    }
+
+    /** Prints the report as a short text block. */
+    public void print(PrintStream out) {
+        out.printf("== %s / %s: %,d games, limit %,d ticks, %.1f s ==%n", petType.getId(), strategyName,
+                getGames(), maxTicks, elapsedNanos / 1e9);
+        out.printf("  survived to limit: %.2f%%   mean ticks survived: %.1f%n",
+                100 * getSurvivalRate(), getMeanTicksSurvived());
+        out.print("  ticks survived  ");
+        for (double p : PERCENTILES) {
+            out.printf(" p%-2.0f=%-7d", p, ticksSurvivedPercentile(p));
+        }
+        out.println();
+        out.print("  score           ");
+        for (double p : PERCENTILES) {
+            out.printf(" p%-2.0f=%-7d", p, scorePercentile(p));
+        }
+        out.println();
+        out.print("  time in state   ");
+        for (PetState state : STATES) {
+            out.printf(" %s=%.1f%%", state, 100 * getStateShare(state));
+        }
+        out.println();
+        out.print("  survival histogram");
+        long[] histogram = survivalHistogram();
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            out.printf(" [%d,%d)=%d", (long) i * maxTicks / HISTOGRAM_BUCKETS,
+                    (long) (i + 1) * maxTicks / HISTOGRAM_BUCKETS, histogram[i]);
+        }
+        out.printf(" limit=%d%n", histogram[HISTOGRAM_BUCKETS]);
+        out.printf("  commands: %,d accepted, %,d rejected%n", acceptedCommands.sum(), rejectedCommands.sum());
+    }
+
+    private synchronized void sortOnce() {
+        if (!sorted) {
+            Arrays.sort(ticksSurvived);
+            Arrays.sort(scores);
+            sorted = true;
+        }
+    }
+
+    private static int percentile(int[] sortedValues, double percentile) {
+        if (sortedValues.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(0, Math.min(sortedValues.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Interface giving caretaker strategies a read-only view of a simulated game.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.lab;
+
+import java.util.Random;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.PetView;
+
+/**
+ * What a caretaker can see when deciding on its next command:
+ * the pet, its cooldowns, the inventory and the game's random source.
+ */
+public interface CaretakerContext {
+
+    /** The pet being cared for. */
+    PetView pet();
+
+    /** The number of ticks played so far. */
+    long tick();
+
+    boolean isPlayAvailable();
+
+    boolean isVetAvailable();
+
+    /** The food in the inventory with the highest fullness value, or null if there is none. */
+    FoodItem largestFood();
+
+    /** The food in the inventory with the lowest fullness value, or null if there is none. */
+    FoodItem smallestFood();
+
+    /** The gift in the inventory with the highest happiness value, or null if there is none. */
+    GiftItem largestGift();
+
+    /** The game's random source. Strategies must use this one so runs are reproducible. */
+    Random random();
+}
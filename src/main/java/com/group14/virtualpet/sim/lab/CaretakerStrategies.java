@@ -0,0 +1,293 @@
+/**
+ * Class providing the built-in caretaker strategies for the balance lab.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.lab;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.group14.virtualpet.ai.CarePolicies;
+import com.group14.virtualpet.ai.CarePolicy;
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
+import com.group14.virtualpet.model.PetView;
+import com.group14.virtualpet.sim.GameCommand;
+
+/**
+ * Factory for the standard caretakers:
+ * <ul>
+ *   <li>greedy: acts every tick, keeping stats up and taking every scoring action it safely can;</li>
+ *   <li>lazy: only looks at the pet every so often and only fixes emergencies;</li>
+ *   <li>random: issues a random command now and then;</li>
+ *   <li>scripted: repeats a fixed schedule such as "30:FEED,30:PLAY,60:SLEEP";</li>
+ *   <li>ai: follows the precomputed CarePolicy for the pet's type.</li>
+ * </ul>
+ */
+public final class CaretakerStrategies {
+
+    /** Ticks between checks for the default lazy caretaker. */
+    public static final int DEFAULT_LAZY_INTERVAL = 60;
+    /** Chance per tick that the default random caretaker acts. */
+    public static final double DEFAULT_RANDOM_RATE = 0.1;
+    /** Schedule used by the default scripted caretaker. */
+    public static final String DEFAULT_SCRIPT = "20:FEED,20:PLAY,20:GIFT,20:FEED,20:EXERCISE,60:SLEEP";
+
+    private static final GameCommand.Type[] PLAYER_COMMANDS = {
+        GameCommand.Type.FEED, GameCommand.Type.PLAY, GameCommand.Type.GIFT,
+        GameCommand.Type.VET, GameCommand.Type.EXERCISE, GameCommand.Type.SLEEP
+    };
+
+    private CaretakerStrategies() {}
+
+    /**
+     * Returns the names of the hand-written strategies. {@link #forName(String)}
+     * also accepts "ai", which needs the care policies to be solved or cached first.
+     */
+    public static List<String> names() {
+        return List.of("greedy", "lazy", "random", "scripted");
+    }
+
+    /**
+     * Looks up a strategy by name. "scripted:SCHEDULE" uses a custom schedule.
+     * @throws IllegalArgumentException if the name is unknown.
+     */
+    public static CaretakerStrategy forName(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (lower.startsWith("scripted:")) {
+            return scripted(name.substring("scripted:".length()));
+        }
+        return switch (lower) {
+            case "greedy" -> greedy();
+            case "lazy" -> lazy(DEFAULT_LAZY_INTERVAL);
+            case "random" -> random(DEFAULT_RANDOM_RATE);
+            case "scripted" -> scripted(DEFAULT_SCRIPT);
+            case "ai" -> ai();
+            default -> throw new IllegalArgumentException("Unknown caretaker strategy: " + name);
+        };
+    }
+
+    /** A caretaker that acts every tick to keep stats high and collect points. */
+    public static CaretakerStrategy greedy() {
+        return new CaretakerStrategy() {
+            @Override
+            public String getName() {
+                return "greedy";
+            }
+
+            @Override
+            public GameCommand nextCommand(CaretakerContext context) {
+                PetView pet = context.pet();
+                if (pet.getCurrentState() == PetState.SLEEPING) {
+                    return null;
+                }
+                if (pet.getCurrentState() == PetState.ANGRY) {
+                    GiftItem gift = context.largestGift();
+                    if (gift != null) {
+                        return GameCommand.gift(gift);
+                    }
+                    return context.isPlayAvailable() ? GameCommand.of(GameCommand.Type.PLAY) : null;
+                }
+                if (pet.getSleep() < pet.getMaxSleep() / 5) {
+                    return GameCommand.of(GameCommand.Type.SLEEP);
+                }
+                if (pet.getHealth() < pet.getMaxHealth() / 2 && context.isVetAvailable()) {
+                    return GameCommand.of(GameCommand.Type.VET);
+                }
+                FoodItem food = context.largestFood();
+                if (food != null && (pet.getFullness() + food.getFullnessValue() <= pet.getMaxFullness()
+                        || pet.getFullness() < pet.getMaxFullness() / 2)) {
+                    return GameCommand.feed(food);
+                }
+                if (context.isPlayAvailable()) {
+                    return GameCommand.of(GameCommand.Type.PLAY);
+                }
+                GiftItem gift = context.largestGift();
+                if (gift != null && pet.getHappiness() + gift.getHappinessValue() <= pet.getMaxHappiness()) {
+                    return GameCommand.gift(gift);
+                }
+                if (pet.getHealth() < pet.getMaxHealth()
+                        && pet.getSleep() > pet.getMaxSleep() / 2
+                        && pet.getFullness() > pet.getMaxFullness() / 2) {
+                    return GameCommand.of(GameCommand.Type.EXERCISE);
+                }
+                return null;
+            }
+        };
+    }
+
+    /**
+     * A caretaker that only checks on the pet every {@code interval} ticks
+     * and then only deals with the most urgent problem.
+     */
+    public static CaretakerStrategy lazy(int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: " + interval);
+        }
+        return new CaretakerStrategy() {
+            @Override
+            public String getName() {
+                return interval == DEFAULT_LAZY_INTERVAL ? "lazy" : "lazy/" + interval;
+            }
+
+            @Override
+            public GameCommand nextCommand(CaretakerContext context) {
+                if (context.tick() % interval != 0) {
+                    return null;
+                }
+                PetView pet = context.pet();
+                switch (pet.getCurrentState()) {
+                    case HUNGRY -> {
+                        FoodItem food = context.largestFood();
+                        return food == null ? null : GameCommand.feed(food);
+                    }
+                    case ANGRY -> {
+                        GiftItem gift = context.largestGift();
+                        return gift == null ? null : GameCommand.gift(gift);
+                    }
+                    case NORMAL -> {
+                        if (pet.getSleep() < pet.getMaxSleep() / 4) {
+                            return GameCommand.of(GameCommand.Type.SLEEP);
+                        }
+                        if (pet.getHealth() < pet.getMaxHealth() / 4 && context.isVetAvailable()) {
+                            return GameCommand.of(GameCommand.Type.VET);
+                        }
+                        FoodItem food = context.smallestFood();
+                        if (food != null && pet.getFullness() < pet.getMaxFullness() / 4) {
+                            return GameCommand.feed(food);
+                        }
+                        return null;
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * A caretaker that, with the given chance per tick, issues a uniformly random
+     * player command. Feed uses the largest or smallest food at random, gift the largest gift.
+     */
+    public static CaretakerStrategy random(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Rate must be between 0 and 1: " + rate);
+        }
+        return new CaretakerStrategy() {
+            @Override
+            public String getName() {
+                return rate == DEFAULT_RANDOM_RATE ? "random" : "random/" + rate;
+            }
+
+            @Override
+            public GameCommand nextCommand(CaretakerContext context) {
+                if (context.random().nextDouble() >= rate) {
+                    return null;
+                }
+                GameCommand.Type type = PLAYER_COMMANDS[context.random().nextInt(PLAYER_COMMANDS.length)];
+                return commandFor(type, context, context.random().nextBoolean());
+            }
+        };
+    }
+
+    /**
+     * A caretaker that repeats a fixed schedule. The schedule is a comma-separated
+     * list of "WAIT:COMMAND" steps: wait that many ticks, then issue the command.
+     * Feed and gift use the largest matching item in the inventory.
+     * @throws IllegalArgumentException if the schedule cannot be parsed.
+     */
+    public static CaretakerStrategy scripted(String schedule) {
+        List<GameCommand.Type> commands = new ArrayList<>();
+        List<Integer> dueTicks = new ArrayList<>();
+        int cycle = 0;
+        for (String step : schedule.split(",")) {
+            String[] parts = step.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Bad schedule step '" + step + "', expected WAIT:COMMAND");
+            }
+            int wait;
+            GameCommand.Type type;
+            try {
+                wait = Integer.parseInt(parts[0].trim());
+                type = GameCommand.Type.valueOf(parts[1].trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Bad schedule step '" + step + "': " + e.getMessage(), e);
+            }
+            if (wait <= 0 || type == GameCommand.Type.GRANT) {
+                throw new IllegalArgumentException("Bad schedule step '" + step + "'");
+            }
+            cycle += wait;
+            commands.add(type);
+            dueTicks.add(cycle);
+        }
+        final int cycleLength = cycle;
+        final String name = schedule.equals(DEFAULT_SCRIPT) ? "scripted" : "scripted:" + schedule;
+        return new CaretakerStrategy() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public GameCommand nextCommand(CaretakerContext context) {
+                long offset = context.tick() % cycleLength;
+                if (offset == 0) {
+                    offset = cycleLength;
+                }
+                int step = dueTicks.indexOf((int) offset);
+                return step < 0 ? null : commandFor(commands.get(step), context, true);
+            }
+        };
+    }
+
+    /**
+     * A caretaker that looks up its command in the CarePolicy for the pet's type
+     * every tick. Feed and gift use the largest matching item.
+     */
+    public static CaretakerStrategy ai() {
+        return new CaretakerStrategy() {
+            @Override
+            public String getName() {
+                return "ai";
+            }
+
+            @Override
+            public GameCommand nextCommand(CaretakerContext context) {
+                PetView pet = context.pet();
+                CarePolicy policy = CarePolicies.forType(PetType.require(pet.getPetType()));
+                FoodItem food = context.largestFood();
+                GiftItem gift = context.largestGift();
+                GameCommand.Type type = policy.actionFor(pet, context.isPlayAvailable(), context.isVetAvailable(),
+                        food != null, gift != null);
+                return type == null ? null : switch (type) {
+                    case FEED -> GameCommand.feed(food);
+                    case GIFT -> GameCommand.gift(gift);
+                    default -> GameCommand.of(type);
+                };
+            }
+        };
+    }
+
+    /** Builds a command of the given type, picking an item for feed and gift. */
+    private static GameCommand commandFor(GameCommand.Type type, CaretakerContext context, boolean largest) {
+        return switch (type) {
+            case FEED -> {
+                FoodItem food = largest ? context.largestFood() : context.smallestFood();
+                yield food == null ? null : GameCommand.feed(food);
+            }
+            case GIFT -> {
+                GiftItem gift = context.largestGift();
+                yield gift == null ? null : GameCommand.gift(gift);
+            }
+            case GRANT -> null;
+            default -> GameCommand.of(type);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Interface for automated players used by the balance lab.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.lab;
+
+import com.group14.virtualpet.sim.GameCommand;
+
+/**
+ * Decides what a simulated player does on each tick.
+ * One strategy instance is shared by all games running in parallel, so
+ * implementations must not keep per-game state; everything they need is in the context.
+ */
+public interface CaretakerStrategy {
+
+    /** Short name used in reports and on the command line. */
+    String getName();
+
+    /**
+     * Picks the command for this tick.
+     * @param context The current game.
+     * @return The command to issue, or null to do nothing this tick.
+     */
+    GameCommand nextCommand(CaretakerContext context);
+}
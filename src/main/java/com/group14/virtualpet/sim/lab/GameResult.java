@@ -0,0 +1,22 @@
+/**
+ * Record holding the outcome of one simulated game.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.lab;
+
+/**
+ * Outcome of a simulated game.
+ *
+ * @param ticksSurvived Ticks played until the pet died or the tick limit was reached.
+ * @param died True if the pet died; false if it was still alive at the tick limit.
+ * @param score The final score.
+ * @param ticksInState Ticks spent in each PetState, indexed by ordinal, counted after each tick.
+ * @param acceptedCommands Commands that took effect.
+ * @param rejectedCommands Commands refused because of the pet's state, a cooldown or a missing item.
+ */
+public record GameResult(int ticksSurvived, boolean died, int score, int[] ticksInState,
+                         int acceptedCommands, int rejectedCommands) {
+}
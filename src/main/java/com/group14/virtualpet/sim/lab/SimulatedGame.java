@@ -0,0 +1,169 @@
+/**
+ * Class that plays one complete game headlessly for the balance lab.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.sim.lab;
+
+import java.util.Random;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
+import com.group14.virtualpet.model.PetView;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameRules;
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.util.SimulatedClock;
+
+/**
+ * A single game played by a caretaker strategy.
+ * Uses the real Pet, Inventory and item classes and applies commands through
+ * GameCommand, with the GameplayPanel's rules from GameRules: one tick per second,
+ * a random item every ITEM_GRANT_INTERVAL_TICKS, emergency rations, command
+ * availability by state and the same score values. Cooldowns run on a simulated clock.
+ * Each tick the pet lives one tick, then items are granted, then the caretaker may
+ * issue one command.
+ */
+public class SimulatedGame implements CaretakerContext {
+
+    private static final PetState[] STATES = PetState.values();
+
+    private final Pet pet;
+    private final Inventory inventory;
+    private final GameState state;
+    private final SimulatedClock clock = new SimulatedClock();
+    private final CaretakerStrategy strategy;
+    private final Random random;
+    private final int maxTicks;
+
+    private long tick;
+    private int score;
+
+    /**
+     * Sets up a new game.
+     * @param type The pet type to play.
+     * @param strategy The caretaker making the decisions.
+     * @param seed Seed for item grants and the caretaker's random choices.
+     * @param maxTicks The tick limit; games still running then count as survived.
+     */
+    public SimulatedGame(PetType type, CaretakerStrategy strategy, long seed, int maxTicks) {
+        this.pet = new Pet("Lab " + type.getDisplayName(), type.getId());
+        this.inventory = new Inventory();
+        this.state = new GameState(pet, inventory, 0);
+        this.state.setClock(clock);
+        this.strategy = strategy;
+        this.random = new Random(seed);
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Plays the game until the pet dies or the tick limit is reached.
+     * @return The outcome of the game.
+     */
+    public GameResult play() {
+        int[] ticksInState = new int[STATES.length];
+        int ticksSinceLastItemGrant = 0;
+        int accepted = 0;
+        int rejected = 0;
+
+        while (tick < maxTicks) {
+            tick++;
+            clock.advance(GameRules.TICK_MILLIS);
+            state.addPlaytimeMillis(GameRules.TICK_MILLIS);
+            pet.liveOneTick();
+            PetState current = pet.getCurrentState();
+            ticksInState[current.ordinal()]++;
+            if (current == PetState.DEAD) {
+                break;
+            }
+
+            if (++ticksSinceLastItemGrant >= GameRules.ITEM_GRANT_INTERVAL_TICKS) {
+                ticksSinceLastItemGrant = 0;
+                inventory.addItem(GameRules.chooseGrantedItem(score, random), 1);
+            }
+            if (GameRules.needsEmergencyRation(current, inventory.getAllItems())) {
+                inventory.addItem(GameRules.EMERGENCY_RATION, 1);
+            }
+
+            GameCommand command = strategy.nextCommand(this);
+            if (command != null) {
+                if (GameRules.isCommandAllowed(command.type(), pet.getCurrentState()) && command.applyTo(state)) {
+                    score += GameRules.scoreFor(command.type());
+                    accepted++;
+                } else {
+                    rejected++;
+                }
+            }
+        }
+        return new GameResult((int) tick, pet.getCurrentState() == PetState.DEAD, score, ticksInState,
+                accepted, rejected);
+    }
+
+    @Override
+    public PetView pet() {
+        return pet;
+    }
+
+    @Override
+    public long tick() {
+        return tick;
+    }
+
+    @Override
+    public boolean isPlayAvailable() {
+        return pet.isPlayAvailable();
+    }
+
+    @Override
+    public boolean isVetAvailable() {
+        return pet.isVetAvailable();
+    }
+
+    @Override
+    public FoodItem largestFood() {
+        FoodItem best = null;
+        for (Item item : inventory.getUniqueItems()) {
+            if (item instanceof FoodItem food
+                    && (best == null || food.getFullnessValue() > best.getFullnessValue())) {
+                best = food;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public FoodItem smallestFood() {
+        FoodItem best = null;
+        for (Item item : inventory.getUniqueItems()) {
+            if (item instanceof FoodItem food
+                    && (best == null || food.getFullnessValue() < best.getFullnessValue())) {
+                best = food;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public GiftItem largestGift() {
+        GiftItem best = null;
+        for (Item item : inventory.getUniqueItems()) {
+            if (item instanceof GiftItem gift
+                    && (best == null || gift.getHappinessValue() > best.getHappinessValue())) {
+                best = gift;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public Random random() {
+        return random;
+    }
+}
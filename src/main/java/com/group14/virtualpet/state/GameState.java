@@ -1,5 +1,5 @@
 /**
- * Class representing the overall game state, including the pet's state and inventory.
+ * Class representing the overall game state, including the household's pets and inventory.
  * Manages game progress and saving/loading game data.
  * 
  * @author Group 14
@@ -8,22 +8,39 @@
 
 package com.group14.virtualpet.state;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.group14.virtualpet.model.Inventory;
 import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetEventSink;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.util.GameClock;
 
 /**
  * Represents the complete state of the game that can be saved or loaded.
+ * A game is a household of up to {@link #MAX_PETS} pets that share one
+ * inventory, score and set of parental statistics.
  * Requirement: 3.1.5, 3.1.11.1, 3.1.11.2
  */
 public class GameState implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    /** Largest number of pets one household can hold. */
+    public static final int MAX_PETS = 20;
+
+    // Only set while reading a save from before households; moved into pets on load.
     private Pet pet;
+    private List<Pet> pets = new ArrayList<>();
     private Inventory inventory;
-    private int score; // Make score mutable if needed, e.g., for parental stats reset
+    private int score; // Changed by the game session as commands are accepted
 
     private Date playtimeStart;
     private Date playtimeEnd;
@@ -36,25 +53,216 @@ public class GameState implements Serializable {
     private long totalPlaytimeMillis = 0;
     private int sessionCount = 0; // Added field to track the number of play sessions
 
+    // Wall-clock time of the last save, used to catch the pet up on load (0 = unknown)
+    private long lastSavedTimeMillis = 0;
+
+    // Seed for random game events such as item grants; saved so a game can be reproduced.
+    private long randomSeed = new Random().nextLong();
+    // Random sources handed out so far; saved so the sequence continues after loading.
+    // Atomic because the UI draws from it while the game loop owns the rest of the state.
+    private AtomicLong randomDraws = new AtomicLong();
+
     // Transient field: Not saved, reset on load/start
     private transient long currentSessionStartTimeMillis = -1; // -1 indicates session not started
 
+    // Time source for session timing; not saved, defaults to the wall clock.
+    private transient GameClock clock;
+    // Sink given to the pets and inventory; not saved, kept so adopted pets get it too.
+    private transient PetEventSink eventSink;
+
     /**
-     * Creates a GameState snapshot.
-     * @param pet The current pet.
+     * Creates a GameState snapshot for a single pet.
+     * @param pet The current pet, or null for an empty household.
      * @param inventory The current inventory.
      * @param score The current score.
      */
     public GameState(Pet pet, Inventory inventory, int score) {
-        this.pet = pet;
+        this(pet == null ? List.of() : List.of(pet), inventory, score);
+    }
+
+    /**
+     * Creates a GameState snapshot for a household.
+     * @param pets The household's pets, in display order.
+     * @param inventory The shared inventory.
+     * @param score The current score.
+     */
+    public GameState(List<Pet> pets, Inventory inventory, int score) {
+        if (pets.size() > MAX_PETS) {
+            throw new IllegalArgumentException("A household holds at most " + MAX_PETS + " pets");
+        }
+        this.pets.addAll(pets);
         this.inventory = inventory;
         this.score = score;
         // Time limits default to disabled (false, 30 min)
         // Session start time is implicitly -1
     }
 
+    /**
+     * Rebuilds a game state from a snapshot. The session timer is not running
+     * in the new state, as with a state loaded from a save.
+     * @param snapshot The snapshot to copy.
+     * @return A new GameState with its own Pet and Inventory.
+     */
+    public static GameState fromSnapshot(GameStateSnapshot snapshot) {
+        Inventory inventory = new Inventory();
+        snapshot.inventory().forEach(inventory::addItem);
+        List<Pet> pets = new ArrayList<>(snapshot.pets().size());
+        snapshot.pets().forEach(pet -> pets.add(pet.toPet()));
+        GameState state = new GameState(pets, inventory, snapshot.score());
+        state.timeLimitEnabled = snapshot.timeLimitEnabled();
+        state.maxPlaytimeMinutes = snapshot.maxPlaytimeMinutes();
+        state.totalPlaytimeMillis = snapshot.totalPlaytimeMillis();
+        state.sessionCount = snapshot.sessionCount();
+        state.lastSavedTimeMillis = snapshot.lastSavedTimeMillis();
+        state.randomSeed = snapshot.randomSeed();
+        state.randomDraws.set(snapshot.randomDraws());
+        if (snapshot.playtimeStartMillis() != GameStateSnapshot.NO_TIME) {
+            state.playtimeStart = new Date(snapshot.playtimeStartMillis());
+        }
+        if (snapshot.playtimeEndMillis() != GameStateSnapshot.NO_TIME) {
+            state.playtimeEnd = new Date(snapshot.playtimeEndMillis());
+        }
+        return state;
+    }
+
+    /**
+     * Moves the single pet of saves from before households into the pet list,
+     * and gives saves from before seeded randomness a seed of their own.
+     * A loaded state's session timer is not running.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // Transient fields come back as 0, which is a valid start time on a simulated clock.
+        currentSessionStartTimeMillis = -1;
+        if (pets == null) {
+            pets = new ArrayList<>();
+            if (pet != null) {
+                pets.add(pet);
+            }
+        }
+        pet = null;
+        if (randomDraws == null) {
+            randomDraws = new AtomicLong();
+            randomSeed = new Random().nextLong();
+        }
+    }
+
+    /**
+     * Returns a random source for one game event, such as an item grant.
+     * Each call derives a new source from the game's seed and a counter, so the
+     * same seed always produces the same sequence of events, also across saves.
+     * Safe to call from any thread.
+     */
+    public Random nextRandom() {
+        long draw = randomDraws.getAndIncrement();
+        // SplitMix64 finalizer, so consecutive draws get unrelated seeds.
+        long z = randomSeed + (draw + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return new Random(z ^ (z >>> 31));
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * Restarts the game's random events from a seed, e.g. to reproduce a session.
+     * @param randomSeed The seed to use.
+     */
+    public void setRandomSeed(long randomSeed) {
+        this.randomSeed = randomSeed;
+        this.randomDraws.set(0);
+    }
+
+    /** Gets the number of random sources handed out by nextRandom(). */
+    public long getRandomDraws() {
+        return randomDraws.get();
+    }
+
+    /**
+     * Sets the clock used for session timing and for the pet's cooldowns.
+     * @param clock The clock to use, or null for the system clock.
+     */
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+        for (Pet pet : pets) {
+            pet.setClock(clock);
+        }
+    }
+
+    /** Gets the clock used for session timing. */
+    public GameClock getClock() {
+        return clock != null ? clock : GameClock.system();
+    }
+
+    /**
+     * Sets the sink that receives events from the pet and the inventory.
+     * @param eventSink The sink to use, or null to discard events.
+     */
+    public void setEventSink(PetEventSink eventSink) {
+        this.eventSink = eventSink;
+        for (Pet pet : pets) {
+            pet.setEventSink(eventSink);
+        }
+        if (inventory != null) {
+            inventory.setEventSink(eventSink);
+        }
+    }
+
+    /** Gets the household's first pet, or null if it has none. */
     public Pet getPet() {
-        return pet;
+        return pets.isEmpty() ? null : pets.get(0);
+    }
+
+    /**
+     * Gets one of the household's pets.
+     * @param index The pet's position in the household.
+     * @return The pet, or null if there is no pet at that position.
+     */
+    public Pet getPet(int index) {
+        return index >= 0 && index < pets.size() ? pets.get(index) : null;
+    }
+
+    /** Gets the household's pets in display order; the list cannot be modified. */
+    public List<Pet> getPets() {
+        return Collections.unmodifiableList(pets);
+    }
+
+    public int getPetCount() {
+        return pets.size();
+    }
+
+    /**
+     * Adds a pet to the household. The pet gets the state's clock and event sink.
+     * Must not be called while a GameLoop is running this state.
+     * @param newPet The pet to add.
+     * @return The new pet's position in the household.
+     * @throws IllegalStateException if the household is full.
+     */
+    public int addPet(Pet newPet) {
+        if (newPet == null) {
+            throw new IllegalArgumentException("Pet must not be null");
+        }
+        if (pets.size() >= MAX_PETS) {
+            throw new IllegalStateException("A household holds at most " + MAX_PETS + " pets");
+        }
+        if (clock != null) {
+            newPet.setClock(clock);
+        }
+        newPet.setEventSink(eventSink);
+        pets.add(newPet);
+        return pets.size() - 1;
+    }
+
+    /** Returns true if the household has no living pet left. */
+    public boolean isHouseholdDead() {
+        for (Pet pet : pets) {
+            if (pet.getCurrentState() != PetState.DEAD) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public Inventory getInventory() {
@@ -65,6 +273,14 @@ public class GameState implements Serializable {
         return score;
     }
 
+    /**
+     * Adds points to the score; negative points take them away.
+     * @param points The score change.
+     */
+    public void addScore(int points) {
+        this.score += points;
+    }
+
     // --- Time Limit Getters/Setters (Req 3.1.11.1) ---
 
     public boolean isTimeLimitEnabled() {
@@ -126,7 +342,7 @@ public class GameState implements Serializable {
 
     /** Resets the session timer, called when a new game/session starts. */
     public void startSessionTimer() {
-        this.currentSessionStartTimeMillis = System.currentTimeMillis();
+        this.currentSessionStartTimeMillis = getClock().millis();
         System.out.println("Session timer started at: " + this.currentSessionStartTimeMillis);
     }
 
@@ -135,8 +351,8 @@ public class GameState implements Serializable {
      * This method adds the elapsed session time to total playtime and increments the session count.
      */
     public void stopSessionTimer() {
-        if (currentSessionStartTimeMillis > 0) {
-            long elapsedMillis = System.currentTimeMillis() - currentSessionStartTimeMillis;
+        if (currentSessionStartTimeMillis >= 0) {
+            long elapsedMillis = getClock().millis() - currentSessionStartTimeMillis;
             addPlaytimeMillis(elapsedMillis);
             sessionCount++;
             System.out.println("Session ended. Elapsed time: " + elapsedMillis +
@@ -147,13 +363,47 @@ public class GameState implements Serializable {
 
     /** Calculates the elapsed time in the current session in minutes. */
     public long getElapsedSessionTimeMinutes() {
-        if (currentSessionStartTimeMillis <= 0) {
+        if (currentSessionStartTimeMillis < 0) {
             return 0; // Session not started or already stopped
         }
-        long elapsedMillis = System.currentTimeMillis() - currentSessionStartTimeMillis;
+        long elapsedMillis = getClock().millis() - currentSessionStartTimeMillis;
         return elapsedMillis / (1000 * 60);
     }
 
+    /** Gets the wall-clock time (ms since epoch) this state was last saved, or 0 if never. */
+    public long getLastSavedTimeMillis() {
+        return lastSavedTimeMillis;
+    }
+
+    /** Records the wall-clock time (ms since epoch) at which this state is being saved. */
+    public void setLastSavedTimeMillis(long lastSavedTimeMillis) {
+        this.lastSavedTimeMillis = lastSavedTimeMillis;
+    }
+
+    /**
+     * Advances every pet by the game ticks that elapsed in real time since the save,
+     * as if the game had kept running. Call once, right after loading.
+     * Uses Pet.advance, which skips quiet stretches analytically instead of ticking one by one.
+     *
+     * @param nowMillis The current wall-clock time (ms since epoch).
+     * @param tickMillis The length of one game tick in milliseconds.
+     * @return The number of ticks the pets were advanced; 0 for saves without a timestamp.
+     */
+    public long catchUpOfflineTime(long nowMillis, long tickMillis) {
+        if (lastSavedTimeMillis <= 0) {
+            return 0; // Older save without a timestamp.
+        }
+        long missedTicks = (nowMillis - lastSavedTimeMillis) / tickMillis;
+        if (missedTicks <= 0) {
+            return 0;
+        }
+        System.out.println("Catching up " + missedTicks + " ticks since last save...");
+        for (Pet pet : pets) {
+            pet.advance(missedTicks);
+        }
+        return missedTicks;
+    }
+
     public Date getPlaytimeStart() {
         return playtimeStart;
     }
@@ -0,0 +1,111 @@
+/**
+ * Record holding an immutable copy of the whole game state at one moment.
+ * Published once per tick by the game loop for the UI and for saving.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.state;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetSnapshot;
+
+/**
+ * Immutable, consistent view of a GameState.
+ * Readers on any thread can use a snapshot without locking; it never changes
+ * after it is created. Date fields are stored as epoch milliseconds, with
+ * {@link #NO_TIME} meaning "not set".
+ *
+ * @param tick The game loop tick the snapshot was taken after.
+ * @param pets The values of the household's pets, in display order; unmodifiable.
+ * @param inventory Item counts; unmodifiable.
+ * @param randomSeed The seed of the game's random events.
+ * @param randomDraws The number of random sources handed out so far.
+ */
+public record GameStateSnapshot(
+        long tick,
+        List<PetSnapshot> pets,
+        Map<Item, Integer> inventory,
+        int score,
+        boolean timeLimitEnabled,
+        int maxPlaytimeMinutes,
+        long totalPlaytimeMillis,
+        int sessionCount,
+        long sessionStartTimeMillis,
+        long lastSavedTimeMillis,
+        long playtimeStartMillis,
+        long playtimeEndMillis,
+        long randomSeed,
+        long randomDraws) {
+
+    /** Marker for time fields that are not set. */
+    public static final long NO_TIME = -1;
+
+    public GameStateSnapshot {
+        pets = pets == null ? List.of() : List.copyOf(pets);
+        inventory = inventory == null ? Map.of() : Map.copyOf(inventory);
+    }
+
+    /**
+     * Copies the current values of a game state.
+     * Must be called by the thread that owns the state (e.g. the game loop).
+     * @param state The state to copy.
+     * @param tick The tick to record in the snapshot.
+     */
+    public static GameStateSnapshot of(GameState state, long tick) {
+        List<PetSnapshot> pets = new ArrayList<>(state.getPetCount());
+        for (Pet pet : state.getPets()) {
+            pets.add(PetSnapshot.of(pet));
+        }
+        return new GameStateSnapshot(tick,
+                pets,
+                state.getInventory() == null ? null : state.getInventory().getAllItems(),
+                state.getScore(),
+                state.isTimeLimitEnabled(),
+                state.getMaxPlaytimeMinutes(),
+                state.getTotalPlaytimeMillis(),
+                state.getSessionCount(),
+                state.getCurrentSessionStartTimeMillis(),
+                state.getLastSavedTimeMillis(),
+                state.getPlaytimeStart() == null ? NO_TIME : state.getPlaytimeStart().getTime(),
+                state.getPlaytimeEnd() == null ? NO_TIME : state.getPlaytimeEnd().getTime(),
+                state.getRandomSeed(),
+                state.getRandomDraws());
+    }
+
+    /** Gets the values of the household's first pet, or null if it has none. */
+    public PetSnapshot pet() {
+        return pets.isEmpty() ? null : pets.get(0);
+    }
+
+    /**
+     * Gets the values of one of the household's pets.
+     * @param index The pet's position in the household.
+     * @return The pet's values, or null if there is no pet at that position.
+     */
+    public PetSnapshot pet(int index) {
+        return index >= 0 && index < pets.size() ? pets.get(index) : null;
+    }
+
+    /**
+     * Calculates the elapsed time in the session in minutes.
+     * @param nowMillis The current time on the game state's clock.
+     */
+    public long elapsedSessionTimeMinutes(long nowMillis) {
+        if (sessionStartTimeMillis < 0) {
+            return 0;
+        }
+        return (nowMillis - sessionStartTimeMillis) / (1000 * 60);
+    }
+
+    /** Creates a new, independent GameState with this snapshot's values, e.g. for saving. */
+    public GameState toGameState() {
+        return GameState.fromSnapshot(this);
+    }
+}
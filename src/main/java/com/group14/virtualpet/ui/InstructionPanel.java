@@ -28,6 +28,7 @@ import javax.swing.JScrollPane;
 import javax.swing.SwingConstants;
 
 import com.group14.virtualpet.Main; // For card name constants
+import com.group14.virtualpet.model.PetType;
 import com.group14.virtualpet.util.AudioManager;
 
 /**
@@ -97,7 +98,8 @@ public class InstructionPanel extends JPanel implements ActionListener {
             "• Give Gift - Boosts Happiness (requires gift from inventory).\n" +
             "• Take to Vet - Increases Health (has cooldown period).\n" +
             "• Play - Boosts Happiness (has cooldown period).\n" +
-            "• Exercise - Boosts Health, but lowers Sleep & Fullness.\n\n" +
+            "• Exercise - Boosts Health, but lowers Sleep & Fullness.\n" +
+            "• AI Care - Lets the AI choose commands for you until switched off.\n\n" +
             "Note: Some commands are disabled depending on pet state."));
         
         // Add the new controls section
@@ -196,6 +198,8 @@ public class InstructionPanel extends JPanel implements ActionListener {
         controlsGrid.add(createControlEntry("Give Gift", "Shortcut to give your pet a gift", "G"));
         controlsGrid.add(Box.createRigidArea(new Dimension(0, 15)));
         controlsGrid.add(createControlEntry("Exercise", "Shortcut to exercise your pet", "E"));
+        controlsGrid.add(Box.createRigidArea(new Dimension(0, 15)));
+        controlsGrid.add(createControlEntry("AI Auto-Care", "Let the AI look after your pet", "A"));
         
         sectionPanel.add(titleLabel);
         sectionPanel.add(Box.createRigidArea(new Dimension(0, 10)));
@@ -380,14 +384,14 @@ public class InstructionPanel extends JPanel implements ActionListener {
         titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         // Create a grid for the pet types
-        JPanel typesGrid = new JPanel(new GridLayout(3, 1, 0, 10));
+        JPanel typesGrid = new JPanel(new GridLayout(PetType.all().size(), 1, 0, 10));
         typesGrid.setBackground(SECTION_COLOR);
         typesGrid.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         // Add each pet type with difficulty indicator
-        typesGrid.add(createPetTypeRow("RoboFriend", "Easy. Great for beginners.", new Color(144, 238, 144))); // Light green
-        typesGrid.add(createPetTypeRow("MechaMate", "Medium difficulty.", new Color(255, 165, 0))); // Orange
-        typesGrid.add(createPetTypeRow("Tech Titan", "Hard. Best for experienced players.", new Color(255, 99, 71))); // Tomato red
+        for (PetType type : PetType.all()) {
+            typesGrid.add(createPetTypeRow(type.getDisplayName(), type.getSummary(), new Color(type.getThemeColorRgb())));
+        }
         
         sectionPanel.add(titleLabel);
         sectionPanel.add(Box.createRigidArea(new Dimension(0, 10)));
@@ -36,6 +36,8 @@ import javax.swing.SwingConstants;
 import com.group14.virtualpet.Main;
 import com.group14.virtualpet.MainFrame;
 import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
 import com.group14.virtualpet.state.GameState;
 import com.group14.virtualpet.util.SaveLoadUtil;
 
@@ -71,6 +73,7 @@ public class ParentalControlsPanel extends JPanel implements ActionListener {
     // Statistics Components (Req 3.1.11.2)
     private JLabel totalPlaytimeLabel;
     private JLabel averageSessionLabel;
+    private JLabel householdLabel;
     private JButton resetStatsButton;
     // Play as Parent Section
     private JButton playAsParentButton;
@@ -145,14 +148,14 @@ public class ParentalControlsPanel extends JPanel implements ActionListener {
 
         // --- Revive Pet Section (Req 3.1.11.3) ---
         JPanel revivePanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
-        revivePanel.setBorder(BorderFactory.createTitledBorder("Revive Pet"));
+        revivePanel.setBorder(BorderFactory.createTitledBorder("Revive Pets"));
         revivePanel.add(new JLabel("Select Save File:"));
         saveFileDropdown = new JComboBox<>();
         // Dropdown will be populated when panel is shown
         revivePanel.add(saveFileDropdown);
-        reviveButton = new JButton("Revive Selected Pet");
+        reviveButton = new JButton("Revive Pets");
         reviveButton.setBackground(java.awt.Color.GREEN);
-        reviveButton.setToolTipText("Revive the pet and reset its stats.");
+        reviveButton.setToolTipText("Revive the pets in the save and reset their stats.");
         reviveButton.addActionListener(this);
         revivePanel.add(reviveButton);
         controlsArea.add(revivePanel);
@@ -207,6 +210,9 @@ public class ParentalControlsPanel extends JPanel implements ActionListener {
         averageSessionLabel = new JLabel("Average Session: (Select Save)");
         averageSessionLabel.setForeground(java.awt.Color.GREEN);
         statsPanel.add(averageSessionLabel);
+        householdLabel = new JLabel("Household: (Select Save)");
+        householdLabel.setForeground(java.awt.Color.GREEN);
+        statsPanel.add(householdLabel);
         resetStatsButton = new JButton("Reset Playtime Stats");
         resetStatsButton.setBackground(java.awt.Color.GREEN);
         resetStatsButton.addActionListener(this);
@@ -306,19 +312,20 @@ public class ParentalControlsPanel extends JPanel implements ActionListener {
         }
         String selectedSave = selectedItem.toString();
         int confirm = JOptionPane.showConfirmDialog(this,
-                "Are you sure you want to revive the pet in '" + selectedSave + "'?\n" +
-                "This will reset its stats and save the changes.",
+                "Are you sure you want to revive the pets in '" + selectedSave + "'?\n" +
+                "This will reset their stats and save the changes.",
                 "Confirm Revive",
                 JOptionPane.YES_NO_OPTION,
                 JOptionPane.WARNING_MESSAGE);
         if (confirm == JOptionPane.YES_OPTION) {
             GameState loadedState = SaveLoadUtil.loadGame(selectedSave);
-            if (loadedState != null && loadedState.getPet() != null) {
-                Pet petToRevive = loadedState.getPet();
-                petToRevive.revive();
+            if (loadedState != null && loadedState.getPetCount() > 0) {
+                for (Pet petToRevive : loadedState.getPets()) {
+                    petToRevive.revive();
+                }
                 boolean saveSuccess = SaveLoadUtil.saveGame(loadedState, selectedSave);
                 if (saveSuccess) {
-                    JOptionPane.showMessageDialog(this, "Pet in '" + selectedSave + "' has been revived successfully!", "Revive Success", JOptionPane.INFORMATION_MESSAGE);
+                    JOptionPane.showMessageDialog(this, "Pets in '" + selectedSave + "' have been revived successfully!", "Revive Success", JOptionPane.INFORMATION_MESSAGE);
                 } else {
                     JOptionPane.showMessageDialog(this, "Failed to save the revived pet state.", "Revive Error", JOptionPane.ERROR_MESSAGE);
                 }
@@ -411,9 +418,12 @@ public class ParentalControlsPanel extends JPanel implements ActionListener {
             long avgMillis = state.getAverageSessionMillis(); // Assumes GameState provides this method
             String avgFormatted = formatDuration(avgMillis);
             averageSessionLabel.setText("Average Session: " + avgFormatted);
+            long alive = state.getPets().stream().filter(pet -> pet.getCurrentState() != PetState.DEAD).count();
+            householdLabel.setText("Household: " + state.getPetCount() + " pets, " + alive + " alive");
         } else {
             totalPlaytimeLabel.setText("Total Playtime: (Select Save)");
             averageSessionLabel.setText("Average Session: (Select Save)");
+            householdLabel.setText("Household: (Select Save)");
         }
     }
 
@@ -471,9 +481,8 @@ public class ParentalControlsPanel extends JPanel implements ActionListener {
 
         // 2. If no valid save loaded, create a new default GameState.
         if (gameState == null) {
-            // Adjust this to match your actual Pet/Inventory constructors.
             gameState = new GameState(
-                new com.group14.virtualpet.model.Pet("ParentPet", "DefaultType"),
+                new com.group14.virtualpet.model.Pet("ParentPet", PetType.defaultType().getId()),
                 new com.group14.virtualpet.model.Inventory(),
                 0
             );
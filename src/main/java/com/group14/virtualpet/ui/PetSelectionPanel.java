@@ -34,6 +34,8 @@ import javax.swing.SwingConstants;
 
 import com.group14.virtualpet.Main;
 import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
 
 /**
  * Panel for selecting a pet type and naming the new pet.
@@ -50,18 +52,13 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
 
     // Pet selection panels
     private JPanel petCardsPanel;
-    private JRadioButton roboFriendRadio;
-    private JRadioButton mechaMateRadio;
-    private JRadioButton techTitanRadio;
+    private JRadioButton defaultTypeRadio;
     private ButtonGroup petTypeGroup;
     
-    private String selectedPetType = "friendly_robot"; // Default selection
+    private String selectedPetType = PetType.defaultType().getId(); // Default selection
     
     // Color definitions
     private final Color BACKGROUND_COLOR = new Color(240, 248, 255); // Light blue
-    private final Color EASY_COLOR = new Color(144, 238, 144); // Light green
-    private final Color MEDIUM_COLOR = new Color(255, 165, 0); // Orange
-    private final Color HARD_COLOR = new Color(255, 99, 71); // Tomato red
 
     public PetSelectionPanel(Consumer<String> navigateCallback, Consumer<Pet> startGameCallback) {
         this.navigateCallback = navigateCallback;
@@ -86,36 +83,15 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
         add(titlePanel, BorderLayout.NORTH);
 
         // --- Center: Pet Selection Cards ---
-        petCardsPanel = new JPanel(new GridLayout(1, 3, 10, 0));
+        petCardsPanel = new JPanel(new GridLayout(1, PetType.all().size(), 10, 0));
         petCardsPanel.setBackground(BACKGROUND_COLOR);
         
         petTypeGroup = new ButtonGroup();
         
-        // Create pet cards
-        JPanel roboFriendCard = createPetCard(
-                "friendly_robot", 
-                "Easy", 
-                "A friendly robot companion that's easy to care for and very forgiving. Perfect for beginners.", 
-                EASY_COLOR, 
-                2, 3, 4);
-                
-        JPanel mechaMateCard = createPetCard(
-                "balanced_robot", 
-                "Medium", 
-                "A balanced robot pet with moderate needs. Great for most players!", 
-                MEDIUM_COLOR, 
-                3, 4, 3);
-                
-        JPanel techTitanCard = createPetCard(
-                "challenging_robot", 
-                "Hard", 
-                "An advanced robot pet that requires careful attention and skill. For experienced players only!", 
-                HARD_COLOR, 
-                5, 4, 2);
-        
-        petCardsPanel.add(roboFriendCard);
-        petCardsPanel.add(mechaMateCard);
-        petCardsPanel.add(techTitanCard);
+        // Create one card per registered pet type
+        for (PetType type : PetType.all()) {
+            petCardsPanel.add(createPetCard(type));
+        }
         add(petCardsPanel, BorderLayout.CENTER);
 
         // --- Bottom: Name Your Pet ---
@@ -174,7 +150,9 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
         add(bottomPanel, BorderLayout.SOUTH);
     }
     
-    private JPanel createPetCard(String petType, String difficulty, String description, Color themeColor, int hungerValue, int sleepValue, int happyValue) {
+    private JPanel createPetCard(PetType type) {
+        String petType = type.getId();
+        Color themeColor = new Color(type.getThemeColorRgb());
         JPanel card = new JPanel();
         card.setBorder(BorderFactory.createLineBorder(themeColor, 2));
         card.setBackground(Color.WHITE);
@@ -188,7 +166,7 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
         imagePanel.setBackground(Color.WHITE);
         JLabel imageLabel = new JLabel();
         
-        ImageIcon petIcon = loadPetImage(petType);
+        ImageIcon petIcon = loadPetImage(type);
         if (petIcon != null) {
             imageLabel.setIcon(petIcon);
         } else {
@@ -198,13 +176,12 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
         imagePanel.add(imageLabel);
         card.add(imagePanel);
         
-        String displayName = getPetDisplayName(petType);
-        JLabel nameLabel = new JLabel(displayName);
+        JLabel nameLabel = new JLabel(type.getDisplayName());
         nameLabel.setFont(new Font("Arial", Font.BOLD, 16));
         nameLabel.setAlignmentX(CENTER_ALIGNMENT);
         card.add(nameLabel);
         
-        JLabel diffLabel = new JLabel("Difficulty: " + difficulty);
+        JLabel diffLabel = new JLabel("Difficulty: " + type.getDifficulty());
         diffLabel.setForeground(themeColor);
         diffLabel.setFont(new Font("Arial", Font.BOLD, 12));
         diffLabel.setAlignmentX(CENTER_ALIGNMENT);
@@ -212,9 +189,9 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
         
         card.add(Box.createRigidArea(new Dimension(0, 10)));
         
-        JPanel statPanel1 = createSquareStatBar("Hunger Rate:", hungerValue, 5, themeColor);
-        JPanel statPanel2 = createSquareStatBar("Energy Need:", sleepValue, 5, themeColor);
-        JPanel statPanel3 = createSquareStatBar("Mood:", happyValue, 5, themeColor);
+        JPanel statPanel1 = createSquareStatBar("Hunger Rate:", type.getHungerRating(), 5, themeColor);
+        JPanel statPanel2 = createSquareStatBar("Energy Need:", type.getSleepRating(), 5, themeColor);
+        JPanel statPanel3 = createSquareStatBar("Mood:", type.getMoodRating(), 5, themeColor);
         
         statPanel1.setAlignmentX(CENTER_ALIGNMENT);
         statPanel2.setAlignmentX(CENTER_ALIGNMENT);
@@ -226,7 +203,7 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
         
         card.add(Box.createRigidArea(new Dimension(0, 10)));
         
-        JLabel descLabel = new JLabel("<html><div style='width:200px; text-align:center'>" + description + "</div></html>");
+        JLabel descLabel = new JLabel("<html><div style='width:200px; text-align:center'>" + type.getDescription() + "</div></html>");
         descLabel.setFont(new Font("Arial", Font.PLAIN, 11));
 
         JPanel descWrapperPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 0)); 
@@ -249,13 +226,9 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
         
         petTypeGroup.add(selectButton);
         
-        if (petType.equals("friendly_robot")) {
-            roboFriendRadio = selectButton;
-            roboFriendRadio.setSelected(true); 
-        } else if (petType.equals("balanced_robot")) {
-            mechaMateRadio = selectButton;
-        } else if (petType.equals("challenging_robot")) {
-            techTitanRadio = selectButton;
+        if (type == PetType.defaultType()) {
+            defaultTypeRadio = selectButton;
+            defaultTypeRadio.setSelected(true); 
         }
         
         selectButton.addActionListener(e -> selectedPetType = petType);
@@ -295,26 +268,9 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
         return statPanel;
     }
     
-    private ImageIcon loadPetImage(String petType) {
-        if (petType == null) return null;
-        
-        String imagePath;
-        switch (petType) {
-            case "friendly_robot":
-                imagePath = "/images/pets/friendly_robot/friendly_robot.png";
-                break;
-            case "balanced_robot":
-                imagePath = "/images/pets/balanced_robot/balanced_robot.png";
-                break;
-            case "challenging_robot":
-                imagePath = "/images/pets/challenging_robot/challenging_robot.png";
-                break;
-            default:
-                imagePath = "/images/pets/" + petType + ".png";
-                break;
-        }
-        
-        URL imageURL = getClass().getResource(imagePath);
+    private ImageIcon loadPetImage(PetType type) {
+        String imagePath = type.getSpritePath(PetState.NORMAL, false);
+        URL imageURL = imagePath != null ? getClass().getResource(imagePath) : null;
         if (imageURL != null) {
             ImageIcon icon = new ImageIcon(imageURL);
             return new ImageIcon(icon.getImage().getScaledInstance(150, 150, java.awt.Image.SCALE_SMOOTH));
@@ -327,15 +283,6 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
         return selectedPetType;
     }
 
-    private String getPetDisplayName(String petType) {
-        switch (petType) {
-            case "friendly_robot": return "RoboFriend";
-            case "balanced_robot": return "MechaMate";
-            case "challenging_robot": return "TechTitan";
-            default: return petType;
-        }
-    }
-
     @Override
     public void actionPerformed(ActionEvent e) {
         Object source = e.getSource();
@@ -375,9 +322,9 @@ public class PetSelectionPanel extends JPanel implements ActionListener {
 
     public void resetFields() {
         petNameField.setText("Enter pet name...");
-        if (roboFriendRadio != null) {
-            roboFriendRadio.setSelected(true);
-            selectedPetType = "friendly_robot";
+        if (defaultTypeRadio != null) {
+            defaultTypeRadio.setSelected(true);
+            selectedPetType = PetType.defaultType().getId();
         }
     }
 } 
\ No newline at end of file
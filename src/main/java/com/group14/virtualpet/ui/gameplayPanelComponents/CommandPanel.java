@@ -22,8 +22,10 @@ import javax.swing.Box;
 import javax.swing.JButton;
 import javax.swing.JPanel;
 
-import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetSnapshot;
 import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameRules;
 
 /**
  * Panel that contains command buttons for interacting with the pet.
@@ -36,10 +38,20 @@ public class CommandPanel extends JPanel {
     private JButton vetButton;
     private JButton playButton;
     private JButton exerciseButton;
+    private JButton autoCareButton;
     private JButton saveButton;
     private JButton mainMenuButton;
     
     private final GameplayPanel gameplayPanel;
+
+    // Whether the shown pet's play and vet cooldowns are running. Set when a command
+    // starts one and cleared by the game loop's expiry event, not by polling.
+    private boolean playCoolingDown;
+    private boolean vetCoolingDown;
+    private PetSnapshot shownPet;
+
+    private static final Color AUTO_CARE_OFF_COLOR = new Color(134, 142, 150);
+    private static final Color AUTO_CARE_ON_COLOR = new Color(32, 201, 151);
     
     public CommandPanel(GameplayPanel gameplayPanel) {
         this.gameplayPanel = gameplayPanel;
@@ -58,6 +70,7 @@ public class CommandPanel extends JPanel {
         vetButton = createStyledButton("Take to Vet", new Color(108, 117, 125));
         playButton = createStyledButton("Play", new Color(23, 162, 184));
         exerciseButton = createStyledButton("Exercise", new Color(111, 66, 193));
+        autoCareButton = createStyledButton("AI Care: Off", AUTO_CARE_OFF_COLOR);
         saveButton = createStyledButton("Save Game", new Color(52, 58, 64));
         mainMenuButton = createStyledButton("Main Menu", new Color(220, 53, 69));
         
@@ -74,6 +87,8 @@ public class CommandPanel extends JPanel {
         add(Box.createRigidArea(new Dimension(10, 0)));
         add(exerciseButton);
         add(Box.createRigidArea(new Dimension(10, 0)));
+        add(autoCareButton);
+        add(Box.createRigidArea(new Dimension(10, 0)));
         add(saveButton);
         add(Box.createRigidArea(new Dimension(10, 0)));
         add(mainMenuButton);
@@ -95,16 +110,45 @@ public class CommandPanel extends JPanel {
     }
     
     /**
-     * Enables or disables buttons based on the pet's state.
+     * Shows the cooldowns of a newly shown pet. Afterwards they are kept up to date
+     * with {@link #setCooldownActive}.
+     * 
+     * @param pet A snapshot of the pet
+     */
+    public void showCooldowns(PetSnapshot pet) {
+        playCoolingDown = pet != null && !pet.playAvailable();
+        vetCoolingDown = pet != null && !pet.vetAvailable();
+        updateCommandAvailability(pet);
+    }
+
+    /**
+     * Marks a cooldown of the shown pet as started or ended and updates its button.
+     * 
+     * @param type PLAY or VET
+     * @param active true when the cooldown starts, false when it expires
+     */
+    public void setCooldownActive(GameCommand.Type type, boolean active) {
+        if (type == GameCommand.Type.PLAY) {
+            playCoolingDown = active;
+        } else if (type == GameCommand.Type.VET) {
+            vetCoolingDown = active;
+        }
+        updateCommandAvailability(shownPet);
+    }
+
+    /**
+     * Enables or disables buttons based on the pet's state and the known cooldowns.
      * 
-     * @param pet The current pet
+     * @param pet The latest snapshot of the current pet
      */
-    public void updateCommandAvailability(Pet pet) {
+    public void updateCommandAvailability(PetSnapshot pet) {
+        shownPet = pet;
         if (pet == null) {
             setAllCommandsEnabled(false);
             // Even if there's no pet, we still want to enable the save button and main menu button
             saveButton.setEnabled(true);
             mainMenuButton.setEnabled(true);
+            autoCareButton.setEnabled(false);
             return;
         }
         
@@ -116,28 +160,26 @@ public class CommandPanel extends JPanel {
         // Save button and main menu button are always enabled
         saveButton.setEnabled(true);
         mainMenuButton.setEnabled(true);
+        // Auto-care can be switched on or off while the pet is alive
+        autoCareButton.setEnabled(state != PetState.DEAD);
         
-        // Enable buttons based on pet state using rule-based switch
-        switch (state) {
-            case NORMAL, HUNGRY -> {
-                // All commands available
-                feedButton.setEnabled(true);
-                goToBedButton.setEnabled(true);
-                giveGiftButton.setEnabled(true);
-                vetButton.setEnabled(pet.isVetAvailable());
-                playButton.setEnabled(pet.isPlayAvailable());
-                exerciseButton.setEnabled(true);
-            }
-            case ANGRY -> {
-                // Only Give Gift and Play available
-                giveGiftButton.setEnabled(true);
-                playButton.setEnabled(pet.isPlayAvailable());
-            }
-            case SLEEPING, DEAD -> {
-                // No commands available
-                // All buttons remain disabled, except save and main menu
-            }
-        }
+        // Enable buttons based on pet state using the shared game rules
+        feedButton.setEnabled(GameRules.isCommandAllowed(GameCommand.Type.FEED, state));
+        goToBedButton.setEnabled(GameRules.isCommandAllowed(GameCommand.Type.SLEEP, state));
+        giveGiftButton.setEnabled(GameRules.isCommandAllowed(GameCommand.Type.GIFT, state));
+        vetButton.setEnabled(GameRules.isCommandAllowed(GameCommand.Type.VET, state) && !vetCoolingDown);
+        playButton.setEnabled(GameRules.isCommandAllowed(GameCommand.Type.PLAY, state) && !playCoolingDown);
+        exerciseButton.setEnabled(GameRules.isCommandAllowed(GameCommand.Type.EXERCISE, state));
+    }
+    
+    /**
+     * Updates the auto-care button to show whether AI auto-care is on.
+     * 
+     * @param active true if auto-care is on
+     */
+    public void setAutoCareActive(boolean active) {
+        autoCareButton.setText(active ? "AI Care: On" : "AI Care: Off");
+        autoCareButton.setBackground(active ? AUTO_CARE_ON_COLOR : AUTO_CARE_OFF_COLOR);
     }
     
     private void setAllCommandsEnabled(boolean enabled) {
@@ -194,6 +236,10 @@ public class CommandPanel extends JPanel {
         return exerciseButton;
     }
     
+    public JButton getAutoCareButton() {
+        return autoCareButton;
+    }
+    
     public JButton getSaveButton() {
         return saveButton;
     }
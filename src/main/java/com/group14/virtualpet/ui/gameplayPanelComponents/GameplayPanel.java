@@ -12,9 +12,11 @@ import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.swing.AbstractAction;
@@ -25,28 +27,40 @@ import javax.swing.JComponent;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.KeyStroke;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 
+import com.group14.virtualpet.ai.CarePolicies;
+import com.group14.virtualpet.ai.CarePolicy;
 import com.group14.virtualpet.model.FoodItem;
 import com.group14.virtualpet.model.GiftItem;
 import com.group14.virtualpet.model.Inventory;
 import com.group14.virtualpet.model.Item;
+import com.group14.virtualpet.model.LoggingEventSink;
 import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetSnapshot;
 import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameRules;
+import com.group14.virtualpet.sim.GameLoop;
+import com.group14.virtualpet.sim.GameSession;
+import com.group14.virtualpet.sim.SessionRecorder;
 import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.state.GameStateSnapshot;
 import com.group14.virtualpet.util.AudioManager;
 import com.group14.virtualpet.util.SaveLoadUtil;
 
 /**
  * GameplayPanel is responsible for managing and updating the game loop,
  * handling user commands, updating pet status, and controlling sprite animations.
- * It also grants random items, processes key bindings, and handles game state changes.
+ * It also shows the items the game session grants, processes key bindings, and handles game state changes.
+ * The game rules themselves (ticks, item grants, emergency rations, scoring) run in a GameSession.
  */
 public class GameplayPanel extends JPanel implements ActionListener {
 
-    // Constants for game loop timing and item grant interval.
-    private static final int GAME_TICK_MS = 1000; // 1 second per tick
-    private static final int ITEM_GRANT_INTERVAL_TICKS = 15; // Approximately 15 seconds per item grant
+    // Constant for game loop timing.
+    private static final int GAME_TICK_MS = GameRules.TICK_MILLIS; // 1 second per tick
     private static final double LOW_STAT_THRESHOLD = 0.25; // Threshold for low stat warning
 
     // Modern color scheme constants.
@@ -56,18 +70,8 @@ public class GameplayPanel extends JPanel implements ActionListener {
     public static final Color LIGHT_COLOR = new Color(248, 249, 250);    // Bootstrap light
     public static final Color DARK_COLOR = new Color(33, 37, 41);        // Bootstrap dark
 
-    // Predefined pool of available items (both food and gifts).
-    private static final List<Item> AVAILABLE_ITEMS = List.of(
-            new FoodItem("Basic Kibble", 20),
-            new FoodItem("Tasty Treat", 40),
-            new FoodItem("Luxury Meal", 75),
-            new GiftItem("Squeaky Toy", 15),
-            new GiftItem("Cozy Blanket", 30),
-            new GiftItem("Sparkling Jewel", 60)
-    );
-    
-    // Random instance for random item granting and movement mode toggling.
-    private static final Random random = new Random();
+    // File name timestamp for session recordings.
+    private static final DateTimeFormatter RECORDING_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
 
     // Keyboard control constants.
     private static final char KEY_FEED = 'F';
@@ -75,14 +79,29 @@ public class GameplayPanel extends JPanel implements ActionListener {
     private static final char KEY_SLEEP = 'S';
     private static final char KEY_GIFT = 'G';
     private static final char KEY_EXERCISE = 'E';
+    private static final char KEY_AUTO_CARE = 'A';
 
     // Game state fields.
-    private Pet currentPet;
     private Inventory playerInventory;
     private GameState currentGameState;
+    // Position of the household pet that is shown and that commands target.
+    private int selectedPetIndex = 0;
     
-    // Timers for the main game loop and sprite animation.
-    private final Timer gameTimer;
+    // Simulation thread for the current game; null when no game is running.
+    private GameLoop gameLoop;
+    // Set while a refresh from the game loop is queued on the EDT, so ticks coalesce.
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    // Latest snapshot shown on screen; the EDT never reads the live pet or inventory.
+    private GameStateSnapshot displayedSnapshot;
+
+    // AI auto-care: when on, the care policy for the pet's type picks a command every tick.
+    private boolean autoCareEnabled = false;
+    // Policy in use; null until it has been loaded or solved in the background.
+    private CarePolicy autoCarePolicy;
+    // Set while an auto-care command is queued, so at most one is in flight.
+    private boolean autoCarePending = false;
+
+    // Timer for sprite animation.
     private final Timer spriteTimer;
     
     // Used for alternating sprite images rapidly if needed.
@@ -93,7 +112,8 @@ public class GameplayPanel extends JPanel implements ActionListener {
     // Callback to return to main menu.
     private Runnable returnToMainMenuCallback;
 
-    // Panel components for displaying pet info, sprite, inventory, and commands.
+    // Panel components for displaying the household, pet info, sprite, inventory, and commands.
+    private HouseholdPanel householdPanel;
     private PetInfoPanel petInfoPanel;
     private PetSpritePanel petSpritePanel;
     private InventoryPanel inventoryPanel;
@@ -104,10 +124,6 @@ public class GameplayPanel extends JPanel implements ActionListener {
     private boolean movementMode = false;
     // Counter to determine when to trigger the movement mode.
     private int movementTimerCounter = 0;
-    
-    // Game score and item grant counter.
-    private int score;
-    private int ticksSinceLastItemGrant = 0;
 
     /**
      * Constructor: Initializes the panel layout, key bindings, and game components.
@@ -122,6 +138,10 @@ public class GameplayPanel extends JPanel implements ActionListener {
         // Setup key bindings for game commands.
         setupKeyBindings();
 
+        // Create and add the household strip (displayed at the top).
+        householdPanel = new HouseholdPanel(this::selectPet, this::handleAdoptCommand);
+        add(householdPanel, BorderLayout.NORTH);
+
         // Create and add the pet information panel (displayed on the right side).
         petInfoPanel = new PetInfoPanel();
         add(petInfoPanel, BorderLayout.EAST);
@@ -145,10 +165,6 @@ public class GameplayPanel extends JPanel implements ActionListener {
         commandPanel = new CommandPanel(this);
         add(commandPanel, BorderLayout.SOUTH);
 
-        // Initialize the game loop timer (ticks every second).
-        gameTimer = new Timer(GAME_TICK_MS, this);
-        gameTimer.setInitialDelay(0);
-
         // Initialize the sprite timer (ticks every 500ms).
         spriteTimer = new Timer(500, this);
         spriteTimer.setInitialDelay(500);
@@ -181,6 +197,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
         addKeyBinding(inputMap, actionMap, KEY_SLEEP, "sleep", e -> handleGoToBedCommand());
         addKeyBinding(inputMap, actionMap, KEY_GIFT, "gift", e -> handleGiveGiftCommand());
         addKeyBinding(inputMap, actionMap, KEY_EXERCISE, "exercise", e -> handleExerciseCommand());
+        addKeyBinding(inputMap, actionMap, KEY_AUTO_CARE, "autoCare", e -> toggleAutoCare());
     }
 
     /**
@@ -198,7 +215,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
         actionMap.put(actionKey, new AbstractAction() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                if (currentPet != null && currentPet.getCurrentState() != PetState.DEAD) {
+                if (currentGameState != null && displayedState() != PetState.DEAD) {
                     // Play sound effect for key binding commands.
                     AudioManager.getInstance().playSoundEffect("mainButtonSound.mp3");
                     action.actionPerformed(e);
@@ -213,15 +230,15 @@ public class GameplayPanel extends JPanel implements ActionListener {
      * @param pet The Pet object representing the pet to start the game with.
      */
     public void startGame(Pet pet) {
-        this.currentPet = pet;
+        this.selectedPetIndex = 0;
         this.playerInventory = new Inventory();
-        this.score = 0;
-        this.currentGameState = new GameState(pet, playerInventory, score);
+        this.currentGameState = new GameState(pet, playerInventory, 0);
+        this.currentGameState.setEventSink(LoggingEventSink.STDOUT);
         this.currentGameState.startSessionTimer();
         this.lastDisplayedState = null;
         this.spriteFlipFlop = false;
+        startGameLoop();
         updatePetStatusDisplay();
-        gameTimer.start();
         spriteTimer.start();
         this.repaint(); // Force repaint after starting the game.
     }
@@ -237,49 +254,144 @@ public class GameplayPanel extends JPanel implements ActionListener {
             return;
         }
         this.currentGameState = state;
-        this.currentPet = state.getPet();
+        this.selectedPetIndex = 0;
         this.playerInventory = state.getInventory();
-        this.score = state.getScore();
-        if (this.currentPet == null || this.playerInventory == null) {
+        if (state.getPetCount() == 0 || this.playerInventory == null) {
             System.err.println("GameplayPanel: Invalid data in loaded game state.");
-            this.currentPet = null;
             this.currentGameState = null;
             return;
         }
+        this.currentGameState.setEventSink(LoggingEventSink.STDOUT);
+        state.catchUpOfflineTime(System.currentTimeMillis(), GAME_TICK_MS);
         this.currentGameState.startSessionTimer();
-        this.ticksSinceLastItemGrant = 0;
         this.lastDisplayedState = null;
         this.spriteFlipFlop = false;
+        startGameLoop();
         updatePetStatusDisplay();
-        gameTimer.start();
         spriteTimer.start();
         this.repaint(); // Force repaint after loading.
     }
 
+    /**
+     * Starts the simulation thread for the current game.
+     * Ticks, commands and the game rules run on that thread; the EDT is only told
+     * to refresh the display and to announce granted items.
+     */
+    private void startGameLoop() {
+        stopGameLoop();
+        refreshPending.set(false);
+        autoCarePending = false;
+        gameLoop = new GameLoop(new GameSession(currentGameState, GAME_TICK_MS), new GameLoop.Listener() {
+            @Override
+            public void onTick(long tickCount) {
+                // Coalesce: if the EDT is busy (e.g. a dialog is open) only one refresh is queued.
+                if (refreshPending.compareAndSet(false, true)) {
+                    SwingUtilities.invokeLater(GameplayPanel.this::handleGameLoopTicks);
+                }
+            }
+
+            @Override
+            public void onCommand(GameCommand command, boolean accepted) {
+                SwingUtilities.invokeLater(() -> handleCommandResult(command, accepted));
+            }
+
+            @Override
+            public void onCooldownExpired(int petIndex, GameCommand.Type type) {
+                SwingUtilities.invokeLater(() -> handleCooldownExpired(petIndex, type));
+            }
+
+            @Override
+            public void onItemGranted(Item item, boolean emergency) {
+                SwingUtilities.invokeLater(() -> handleItemGranted(item, emergency));
+            }
+        });
+        gameLoop.enableRecording();
+        displayedSnapshot = gameLoop.getSnapshot();
+        commandPanel.showCooldowns(displayedPet());
+        gameLoop.start();
+    }
+
+    /**
+     * Stops the simulation thread, if one is running, and saves its session recording.
+     */
+    private void stopGameLoop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+            saveSessionRecording(gameLoop.getRecorder());
+            gameLoop = null;
+        }
+    }
+
+    /**
+     * Saves the recording of the session that just ended, so it can be replayed
+     * with SessionReplayer. Sessions that never ticked are not saved.
+     */
+    private void saveSessionRecording(SessionRecorder recorder) {
+        if (recorder == null || recorder.getTickCount() == 0 || currentGameState == null) {
+            return;
+        }
+        String timestamp = LocalDateTime.now().format(RECORDING_TIMESTAMP);
+        String filename = currentGameState.getPet().getName().replaceAll("[^A-Za-z0-9_-]", "_") + "-" + timestamp;
+        SaveLoadUtil.saveRecording(recorder.toRecording(), filename);
+    }
+
+    /**
+     * Gets the selected pet from the displayed snapshot, or null if no game is shown.
+     */
+    private PetSnapshot displayedPet() {
+        return displayedSnapshot == null ? null : displayedSnapshot.pet(selectedPetIndex);
+    }
+
+    /**
+     * Gets the selected pet's state from the displayed snapshot, or null if no game is shown.
+     */
+    private PetState displayedState() {
+        PetSnapshot pet = displayedPet();
+        return pet == null ? null : pet.getCurrentState();
+    }
+
+    /**
+     * Selects the household pet that is shown and that commands target.
+     * @param index The pet's position in the household.
+     */
+    void selectPet(int index) {
+        if (displayedSnapshot == null || displayedSnapshot.pet(index) == null || index == selectedPetIndex) {
+            return;
+        }
+        selectedPetIndex = index;
+        lastDisplayedState = null; // Show the new pet's sprite.
+        commandPanel.showCooldowns(displayedPet());
+        if (autoCareEnabled) {
+            loadAutoCarePolicy(PetType.require(displayedPet().getPetType()));
+        }
+        updatePetStatusDisplay();
+        requestFocusInWindow();
+    }
+
     /**
      * Stops the game loop and sprite timer, and resets the current game state.
      */
     public void stopGame() {
-        if (gameTimer != null) {
-            gameTimer.stop();
-        }
+        stopGameLoop();
+        autoCareEnabled = false;
+        commandPanel.setAutoCareActive(false);
         if (spriteTimer != null) {
             spriteTimer.stop();
         }
         if (currentGameState != null) {
             currentGameState.stopSessionTimer();
         }
-        this.currentPet = null;
         this.currentGameState = null;
+        this.displayedSnapshot = null;
     }
     
     /**
      * Pauses the game timers temporarily.
      */
     private void pauseGame() {
-        if (gameTimer != null && gameTimer.isRunning()) {
-            System.out.println("Pausing game timer...");
-            gameTimer.stop();
+        if (gameLoop != null && !gameLoop.isPaused()) {
+            System.out.println("Pausing game loop...");
+            gameLoop.setPaused(true);
         }
         
         if (spriteTimer != null && spriteTimer.isRunning()) {
@@ -296,10 +408,10 @@ public class GameplayPanel extends JPanel implements ActionListener {
      * Resumes the game by restarting timers and updating the UI.
      */
     private void resumeGame() {
-        if (currentPet != null && currentGameState != null) {
-            if (gameTimer != null && !gameTimer.isRunning()) {
-                System.out.println("Resuming game timer...");
-                gameTimer.start();
+        if (currentGameState != null) {
+            if (gameLoop != null && gameLoop.isPaused()) {
+                System.out.println("Resuming game loop...");
+                gameLoop.setPaused(false);
             }
             if (spriteTimer != null && !spriteTimer.isRunning()) {
                 System.out.println("Resuming sprite animation timer...");
@@ -313,54 +425,211 @@ public class GameplayPanel extends JPanel implements ActionListener {
     }
 
     /**
-     * Main actionPerformed method handling game ticks, sprite animation, and command actions.
+     * Runs on the EDT after one or more game loop ticks: refreshes the display
+     * and handles time limits, pet death and auto-care.
      */
-    @Override
-    public void actionPerformed(ActionEvent e) {
-        Object source = e.getSource();
+    private void handleGameLoopTicks() {
+        refreshPending.set(false);
+        if (gameLoop == null || currentGameState == null) {
+            return; // Game stopped while the refresh was queued.
+        }
+        GameStateSnapshot previous = displayedSnapshot;
+        displayedSnapshot = gameLoop.getSnapshot();
+        updatePetStatusDisplay();
 
-        // ---------------------------
-        // Game Loop Tick
-        // ---------------------------
-        if (source == gameTimer) {
-            if (currentPet != null && currentGameState != null) {
-                // Update playtime and process one game tick for the pet.
-                currentGameState.addPlaytimeMillis(GAME_TICK_MS);
-                currentPet.liveOneTick();
-                updatePetStatusDisplay();
-
-                // Check parental time limits if enabled.
-                if (currentGameState.isTimeLimitEnabled()) {
-                    long elapsedMinutes = currentGameState.getElapsedSessionTimeMinutes();
-                    int limitMinutes = currentGameState.getMaxPlaytimeMinutes();
-                    if (elapsedMinutes >= limitMinutes) {
-                        stopGame();
-                        JOptionPane.showMessageDialog(this,
-                            "Playtime limit reached! Your session has ended.",
-                            "Time Limit Reached",
-                            JOptionPane.INFORMATION_MESSAGE);
-                        return;
-                    }
-                }
+        // Check parental time limits if enabled.
+        if (displayedSnapshot.timeLimitEnabled()) {
+            long elapsedMinutes = displayedSnapshot.elapsedSessionTimeMinutes(currentGameState.getClock().millis());
+            int limitMinutes = displayedSnapshot.maxPlaytimeMinutes();
+            if (elapsedMinutes >= limitMinutes) {
+                stopGame();
+                JOptionPane.showMessageDialog(this,
+                    "Playtime limit reached! Your session has ended.",
+                    "Time Limit Reached",
+                    JOptionPane.INFORMATION_MESSAGE);
+                return;
+            }
+        }
 
-                // Handle pet death scenario.
-                if (currentPet.getCurrentState() == PetState.DEAD) {
-                    handlePetDeath();
-                } else {
-                    // Grant a random item after a certain number of ticks.
-                    ticksSinceLastItemGrant++;
-                    if (ticksSinceLastItemGrant >= ITEM_GRANT_INTERVAL_TICKS) {
-                        grantRandomItem();
-                        ticksSinceLastItemGrant = 0;
-                    }
-                }
+        // Handle pet death scenario: the game is over once no pet is left alive.
+        if (isHouseholdDead(displayedSnapshot)) {
+            handlePetDeath();
+        } else {
+            announceDeaths(previous, displayedSnapshot);
+            runAutoCare();
+        }
+    }
+
+    /**
+     * Returns true if no pet in the snapshot is alive.
+     */
+    private static boolean isHouseholdDead(GameStateSnapshot snapshot) {
+        for (PetSnapshot pet : snapshot.pets()) {
+            if (pet.getCurrentState() != PetState.DEAD) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells the player about pets that died since the previous snapshot while
+     * the rest of the household lives on.
+     */
+    private void announceDeaths(GameStateSnapshot previous, GameStateSnapshot current) {
+        if (previous == null) {
+            return;
+        }
+        List<PetSnapshot> before = previous.pets();
+        List<PetSnapshot> after = current.pets();
+        for (int i = 0; i < Math.min(before.size(), after.size()); i++) {
+            if (after.get(i).getCurrentState() == PetState.DEAD && before.get(i).getCurrentState() != PetState.DEAD) {
+                JOptionPane.showMessageDialog(this,
+                        after.get(i).getName() + " has passed away.",
+                        "Pet Lost",
+                        JOptionPane.WARNING_MESSAGE);
             }
         }
+    }
+
+    /**
+     * Switches AI auto-care on or off for the selected pet. The policy for the pet's
+     * type is loaded (or solved, the first time) in the background; auto-care starts
+     * once it is ready.
+     */
+    void toggleAutoCare() {
+        if (currentGameState == null || displayedPet() == null) {
+            return;
+        }
+        autoCareEnabled = !autoCareEnabled;
+        commandPanel.setAutoCareActive(autoCareEnabled);
+        System.out.println("AI auto-care " + (autoCareEnabled ? "enabled" : "disabled"));
+        if (autoCareEnabled) {
+            loadAutoCarePolicy(PetType.require(displayedPet().getPetType()));
+        }
+    }
+
+    /**
+     * Loads the care policy for a pet type in the background, unless it is already loaded.
+     */
+    private void loadAutoCarePolicy(PetType type) {
+        if (autoCarePolicy != null && autoCarePolicy.getPetTypeId().equals(type.getId())) {
+            return;
+        }
+        autoCarePolicy = null;
+        CarePolicies.load(type).whenComplete((policy, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                System.err.println("Error preparing AI auto-care: " + error.getMessage());
+                autoCareEnabled = false;
+                commandPanel.setAutoCareActive(false);
+            } else if (displayedPet() != null && displayedPet().getPetType().equals(type.getId())) {
+                autoCarePolicy = policy;
+            }
+        }));
+    }
+
+    /**
+     * Submits the care policy's command for the selected pet, if auto-care is on.
+     */
+    private void runAutoCare() {
+        PetSnapshot pet = displayedPet();
+        if (!autoCareEnabled || autoCarePolicy == null || autoCarePending || pet == null
+                || !autoCarePolicy.getPetTypeId().equals(pet.getPetType())) {
+            return;
+        }
+        GameCommand command = autoCarePolicy.nextCommand(pet, displayedSnapshot.inventory());
+        if (command != null && GameRules.isCommandAllowed(command.type(), pet.getCurrentState())) {
+            autoCarePending = true;
+            submitCommand(command);
+        }
+    }
+
+    /**
+     * Runs on the EDT after the game loop has applied a command.
+     * Refreshes the display for accepted commands and explains cooldowns.
+     */
+    private void handleCommandResult(GameCommand command, boolean accepted) {
+        if (currentGameState == null) {
+            return;
+        }
+        if (gameLoop != null) {
+            displayedSnapshot = gameLoop.getSnapshot();
+        }
+        autoCarePending = false;
+        if (accepted && command.petIndex() == selectedPetIndex
+                && (command.type() == GameCommand.Type.PLAY || command.type() == GameCommand.Type.VET)) {
+            commandPanel.setCooldownActive(command.type(), true);
+        }
+        if (accepted) {
+            updatePetStatusDisplay();
+        } else if (!autoCareEnabled) {
+            PetSnapshot target = displayedSnapshot == null ? null : displayedSnapshot.pet(command.petIndex());
+            if (target == null || target.getCurrentState() == PetState.DEAD) {
+                // Nothing to explain.
+            } else if (command.type() == GameCommand.Type.VET) {
+                JOptionPane.showMessageDialog(this, target.getName() + " doesn't need the vet right now (cooldown).", "Command Unavailable", JOptionPane.INFORMATION_MESSAGE);
+            } else if (command.type() == GameCommand.Type.PLAY) {
+                JOptionPane.showMessageDialog(this, target.getName() + " doesn't want to play right now (cooldown).", "Command Unavailable", JOptionPane.INFORMATION_MESSAGE);
+            }
+        }
+        repaint();
+    }
+
+    /**
+     * Runs on the EDT when the game loop reports that a cooldown has ended,
+     * and re-enables the command if it belongs to the selected pet.
+     */
+    private void handleCooldownExpired(int petIndex, GameCommand.Type type) {
+        if (currentGameState != null && petIndex == selectedPetIndex) {
+            commandPanel.setCooldownActive(type, false);
+        }
+    }
+
+    /**
+     * Runs on the EDT when the game session has granted an item (every few ticks,
+     * or an emergency ration when a pet is starving) and tells the player about it.
+     */
+    private void handleItemGranted(Item item, boolean emergency) {
+        if (currentGameState == null) {
+            return;
+        }
+        updatePetStatusDisplay();
+        if (emergency) {
+            boolean household = displayedSnapshot != null && displayedSnapshot.pets().size() > 1;
+            JOptionPane.showMessageDialog(this,
+                (household ? "One of your pets is starving!" : "Your pet is starving!")
+                        + " You've received an Emergency Ration.",
+                "Emergency Food",
+                JOptionPane.WARNING_MESSAGE);
+        } else {
+            JOptionPane.showMessageDialog(this,
+                    "You found an item: " + item.getName() + "!",
+                    "Item Found!",
+                    JOptionPane.INFORMATION_MESSAGE);
+        }
+    }
+
+    /**
+     * Queues a command for the selected pet with the game loop.
+     */
+    private void submitCommand(GameCommand command) {
+        if (gameLoop != null) {
+            gameLoop.submit(command.forPet(selectedPetIndex));
+        }
+    }
+
+    /**
+     * Main actionPerformed method handling sprite animation and command actions.
+     */
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        Object source = e.getSource();
+
         // ---------------------------
         // Sprite Animation Tick
         // ---------------------------
-        else if (source == spriteTimer) {
-            if (currentPet != null && currentPet.getCurrentState() != PetState.DEAD) {
+        if (source == spriteTimer) {
+            if (currentGameState != null && displayedState() != PetState.DEAD) {
                 // Alternate the sprite flip-flop flag.
                 spriteFlipFlop = !spriteFlipFlop;
                 // Increase the counter to determine when to trigger movement mode.
@@ -389,7 +658,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
         // ---------------------------
         // Command Button Actions
         // ---------------------------
-        else if (currentPet != null && currentPet.getCurrentState() != PetState.DEAD) {
+        else if (currentGameState != null && displayedState() != PetState.DEAD) {
             // Play sound effect on button click.
             AudioManager.getInstance().playSoundEffect("mainButtonSound.mp3");
             // Check which command button was pressed.
@@ -405,6 +674,8 @@ public class GameplayPanel extends JPanel implements ActionListener {
                 handlePlayCommand();
             } else if (source == commandPanel.getExerciseButton()) {
                 handleExerciseCommand();
+            } else if (source == commandPanel.getAutoCareButton()) {
+                toggleAutoCare();
             } else if (source == commandPanel.getSaveButton()) {
                 handleSaveGameCommand();
             } else if (source == commandPanel.getMainMenuButton()) {
@@ -413,41 +684,39 @@ public class GameplayPanel extends JPanel implements ActionListener {
             updatePetStatusDisplay();
             repaint();
         }
-        // Allow main menu button to work even if pet is dead.
+        // Allow main menu and save buttons to work even if the selected pet is dead.
         else if (source == commandPanel.getMainMenuButton()) {
             handleMainMenuCommand();
+        } else if (source == commandPanel.getSaveButton()) {
+            handleSaveGameCommand();
         }
     }
 
     /**
-     * Updates all pet status displays, including pet info, commands, inventory, and sprite.
+     * Updates all pet status displays, including the household, pet info, commands, inventory, and sprite.
+     * Only the selected pet gets the full panels; the others are shown as household tiles.
      */
     private void updatePetStatusDisplay() {
-        if (currentPet == null) return;
+        if (currentGameState == null || displayedSnapshot == null) return;
+        GameStateSnapshot snapshot = displayedSnapshot;
+        if (snapshot.pet(selectedPetIndex) == null) {
+            selectedPetIndex = 0;
+        }
+        PetSnapshot selected = snapshot.pet(selectedPetIndex);
     
+        // Update the household tiles.
+        householdPanel.updateHousehold(snapshot.pets(), selectedPetIndex);
+        householdPanel.setAdoptEnabled(snapshot.pets().size() < GameState.MAX_PETS && !isHouseholdDead(snapshot));
         // Update pet info panel (name, score, state, etc.)
-        petInfoPanel.updatePetInfo(currentPet, score);
+        petInfoPanel.updatePetInfo(selected, snapshot.score());
         // Update command button availability based on pet state.
-        commandPanel.updateCommandAvailability(currentPet);
+        commandPanel.updateCommandAvailability(selected);
         // Update inventory display.
-        inventoryPanel.updateInventoryDisplay(playerInventory);
+        inventoryPanel.updateInventoryDisplay(snapshot.inventory());
     
-        // Emergency food logic: If the pet is hungry and there's no food, grant an emergency ration.
-        if (currentPet.getCurrentState() == PetState.HUNGRY) {
-            boolean hasFood = playerInventory.getAllItems().keySet().stream()
-                .anyMatch(item -> item instanceof FoodItem);
-            if (!hasFood) {
-                FoodItem emergencyFood = new FoodItem("Emergency Ration", 30);
-                playerInventory.addItem(emergencyFood, 1);
-                JOptionPane.showMessageDialog(this,
-                    "Your pet is starving! You've received an Emergency Ration.",
-                    "Emergency Food",
-                    JOptionPane.WARNING_MESSAGE);
-            }
-        }
+        PetState currentState = selected.getCurrentState();
     
         // If the pet state has changed, update the sprite.
-        PetState currentState = currentPet.getCurrentState();
         if (currentState != lastDisplayedState) {
             lastDisplayedState = currentState;
             spriteFlipFlop = false;
@@ -456,12 +725,15 @@ public class GameplayPanel extends JPanel implements ActionListener {
     }
     
     /**
-     * Handles the pet death scenario by stopping the game loop and showing a Game Over dialog.
+     * Handles the end of the game, when the last pet has died, by stopping the
+     * game loop and showing a Game Over dialog.
      */
     private void handlePetDeath() {
-        gameTimer.stop();
+        stopGameLoop();
         JOptionPane.showMessageDialog(this,
-                currentPet.getName() + " has passed away. Game Over.",
+                (currentGameState.getPetCount() > 1
+                        ? "All your pets have passed away. Game Over."
+                        : currentGameState.getPet().getName() + " has passed away. Game Over."),
                 "Game Over",
                 JOptionPane.WARNING_MESSAGE);
     }
@@ -471,7 +743,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
      * Prompts the user to choose a food item and feeds the pet if the item is available.
      */
     void handleFeedCommand() {
-        Map<Item, Integer> allItems = playerInventory.getAllItems();
+        Map<Item, Integer> allItems = displayedSnapshot.inventory();
         Map<FoodItem, Integer> foodItems = allItems.entrySet().stream()
                 .filter(entry -> entry.getKey() instanceof FoodItem)
                 .collect(Collectors.toMap(entry -> (FoodItem) entry.getKey(), Map.Entry::getValue));
@@ -487,7 +759,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
                 .toArray(String[]::new);
 
         int choiceIndex = JOptionPane.showOptionDialog(this,
-                "Which food would you like to feed " + currentPet.getName() + "?",
+                "Which food would you like to feed " + displayedPet().getName() + "?",
                 "Feed Pet",
                 JOptionPane.DEFAULT_OPTION,
                 JOptionPane.QUESTION_MESSAGE,
@@ -496,11 +768,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
                 choiceStrings[0]);
 
         if (choiceIndex >= 0) {
-            FoodItem selectedFood = choices[choiceIndex];
-            if (playerInventory.removeItem(selectedFood)) {
-                currentPet.feed(selectedFood);
-                increaseScore(10);
-            }
+            submitCommand(GameCommand.feed(choices[choiceIndex]));
         }
     }
 
@@ -508,7 +776,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
      * Handles the Go to Bed command.
      */
     void handleGoToBedCommand() {
-        currentPet.goToBed();
+        submitCommand(GameCommand.of(GameCommand.Type.SLEEP));
     }
 
     /**
@@ -516,7 +784,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
      * Prompts the user to choose a gift item and gives it to the pet if available.
      */
     void handleGiveGiftCommand() {
-        Map<Item, Integer> allItems = playerInventory.getAllItems();
+        Map<Item, Integer> allItems = displayedSnapshot.inventory();
         Map<GiftItem, Integer> giftItems = allItems.entrySet().stream()
                 .filter(entry -> entry.getKey() instanceof GiftItem)
                 .collect(Collectors.toMap(entry -> (GiftItem) entry.getKey(), Map.Entry::getValue));
@@ -532,7 +800,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
                 .toArray(String[]::new);
 
         int choiceIndex = JOptionPane.showOptionDialog(this,
-                "Which gift would you like to give " + currentPet.getName() + "?",
+                "Which gift would you like to give " + displayedPet().getName() + "?",
                 "Give Gift",
                 JOptionPane.DEFAULT_OPTION,
                 JOptionPane.QUESTION_MESSAGE,
@@ -541,43 +809,30 @@ public class GameplayPanel extends JPanel implements ActionListener {
                 choiceStrings[0]);
 
         if (choiceIndex >= 0) {
-            GiftItem selectedGift = choices[choiceIndex];
-            if (playerInventory.removeItem(selectedGift)) {
-                currentPet.receiveGift(selectedGift);
-                increaseScore(15);
-            }
+            submitCommand(GameCommand.gift(choices[choiceIndex]));
         }
     }
 
     /**
      * Handles the Vet command.
-     * If the pet can go to the vet, it does so; otherwise, it informs the user.
+     * If the pet is on vet cooldown, handleCommandResult informs the user.
      */
     void handleVetCommand() {
-        if (!currentPet.takeToVet()) {
-            JOptionPane.showMessageDialog(this, currentPet.getName() + " doesn't need the vet right now (cooldown).", "Command Unavailable", JOptionPane.INFORMATION_MESSAGE);
-        } else {
-            increaseScore(-5);
-        }
+        submitCommand(GameCommand.of(GameCommand.Type.VET));
     }
 
     /**
      * Handles the Play command.
      */
     void handlePlayCommand() {
-        if (!currentPet.play()) {
-            JOptionPane.showMessageDialog(this, currentPet.getName() + " doesn't want to play right now (cooldown).", "Command Unavailable", JOptionPane.INFORMATION_MESSAGE);
-        } else {
-            increaseScore(5);
-        }
+        submitCommand(GameCommand.of(GameCommand.Type.PLAY));
     }
 
     /**
      * Handles the Exercise command.
      */
     void handleExerciseCommand() {
-        currentPet.exercise();
-        increaseScore(3);
+        submitCommand(GameCommand.of(GameCommand.Type.EXERCISE));
     }
 
     /**
@@ -585,7 +840,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
      * Attempts to save the current game state.
      */
     void handleSaveGameCommand() {
-        if (currentPet != null && playerInventory != null) {
+        if (currentGameState != null && playerInventory != null) {
             boolean success = saveGame();
             if (success) {
                 JOptionPane.showMessageDialog(this, "Game saved successfully!", "Game Saved", JOptionPane.INFORMATION_MESSAGE);
@@ -602,11 +857,12 @@ public class GameplayPanel extends JPanel implements ActionListener {
      * @return true if the game was saved successfully, false otherwise.
      */
     private boolean saveGame() {
-        if (currentPet == null || playerInventory == null) {
+        if (currentGameState == null || playerInventory == null) {
             return false;
         }
         
-        String filename = currentPet.getName();
+        // The save is named after the household's first pet.
+        String filename = currentGameState.getPet().getName();
         if (filename == null || filename.trim().isEmpty()) {
             JOptionPane.showMessageDialog(this, "Cannot save game: Pet name is invalid.", "Save Error", JOptionPane.ERROR_MESSAGE);
             return false;
@@ -614,11 +870,12 @@ public class GameplayPanel extends JPanel implements ActionListener {
         
         // Sanitize filename by replacing unwanted characters.
         filename = filename.trim().replaceAll("[^a-zA-Z0-9.-]", "_");
-        GameState stateToSave = (currentGameState != null)
-                ? currentGameState
-                : new GameState(currentPet, playerInventory, score);
+        // Save the latest published snapshot so the game loop is never read mid-tick.
+        GameStateSnapshot snapshot = (gameLoop != null) ? gameLoop.getSnapshot() : displayedSnapshot;
         
-        boolean success = SaveLoadUtil.saveGame(stateToSave, filename);
+        boolean success = (snapshot != null)
+                ? SaveLoadUtil.saveGame(snapshot, filename)
+                : SaveLoadUtil.saveGame(new GameState(currentGameState.getPets(), playerInventory, currentGameState.getScore()), filename);
         if (!success) {
             JOptionPane.showMessageDialog(this, "Failed to save game.", "Save Error", JOptionPane.ERROR_MESSAGE);
         }
@@ -645,7 +902,7 @@ public class GameplayPanel extends JPanel implements ActionListener {
         
         if (confirmResult == JOptionPane.YES_OPTION) {
             // Optionally prompt to save before returning.
-            if (currentPet != null && playerInventory != null) {
+            if (currentGameState != null && playerInventory != null) {
                 int saveResult = JOptionPane.showConfirmDialog(
                     this,
                     "Would you like to save your game before returning to the main menu?",
@@ -688,46 +945,54 @@ public class GameplayPanel extends JPanel implements ActionListener {
     }
 
     /**
-     * Grants a random item to the player inventory.
+     * Handles the Adopt Pet command.
+     * Asks for the new pet's name and type, then adds it to the household. The game
+     * loop is restarted around the change, so the new pet is ticked with the others
+     * and the session recording so far is saved first.
      */
-    private void grantRandomItem() {
-        if (playerInventory != null && !AVAILABLE_ITEMS.isEmpty()) {
-            Item grantedItem;
-            if (score % 2 == 0) {  // Prioritize food every second item.
-                List<FoodItem> foodItems = AVAILABLE_ITEMS.stream()
-                        .filter(item -> item instanceof FoodItem)
-                        .map(item -> (FoodItem) item)
-                        .collect(Collectors.toList());
-                grantedItem = foodItems.get(random.nextInt(foodItems.size()));
-            } else {
-                grantedItem = AVAILABLE_ITEMS.get(random.nextInt(AVAILABLE_ITEMS.size()));
-            }
-    
-            playerInventory.addItem(grantedItem, 1);
-            JOptionPane.showMessageDialog(this,
-                    "You found an item: " + grantedItem.getName() + "!",
-                    "Item Found!",
-                    JOptionPane.INFORMATION_MESSAGE);
-            inventoryPanel.updateInventoryDisplay(playerInventory);
+    void handleAdoptCommand() {
+        if (currentGameState == null || displayedSnapshot == null) {
+            return;
         }
-    }
-
-    /**
-     * Increases the player's score by the given amount and updates the pet status display.
-     * 
-     * @param amount The amount to increase the score.
-     */
-    private void increaseScore(int amount) {
-        this.score += amount;
-        updatePetStatusDisplay();
+        if (displayedSnapshot.pets().size() >= GameState.MAX_PETS) {
+            JOptionPane.showMessageDialog(this, "Your household is full (" + GameState.MAX_PETS + " pets).", "Adopt Pet", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        pauseGame();
+        String name = JOptionPane.showInputDialog(this, "What is your new pet's name?", "Adopt Pet", JOptionPane.QUESTION_MESSAGE);
+        if (name == null || name.trim().isEmpty()) {
+            resumeGame();
+            return;
+        }
+        PetType[] types = PetType.all().toArray(PetType[]::new);
+        PetType type = (PetType) JOptionPane.showInputDialog(this,
+                "Which kind of pet is " + name.trim() + "?",
+                "Adopt Pet",
+                JOptionPane.QUESTION_MESSAGE,
+                null,
+                types,
+                types[0]);
+        if (type == null) {
+            resumeGame();
+            return;
+        }
+        // Stop the loop so this thread may change the household, then start a new one.
+        stopGameLoop();
+        int index = currentGameState.addPet(new Pet(name.trim(), type.getId()));
+        startGameLoop();
+        selectedPetIndex = index;
+        lastDisplayedState = null;
+        commandPanel.showCooldowns(displayedPet());
+        resumeGame();
     }
 
     /**
      * Updates the pet sprite image by delegating to the PetSpritePanel.
      */
     private void updateSpriteImage() {
-        if (currentPet == null) return;
-        petSpritePanel.updateSprite(currentPet.getPetType(), currentPet.getCurrentState(), spriteFlipFlop, movementMode);
+        PetSnapshot pet = displayedPet();
+        if (currentGameState == null || pet == null) return;
+        petSpritePanel.updateSprite(pet.getPetType(), pet.getCurrentState(), spriteFlipFlop, movementMode);
     }
     
     /**
@@ -743,11 +1008,11 @@ public class GameplayPanel extends JPanel implements ActionListener {
     }
 
     /**
-     * Returns the current pet.
+     * Returns the selected pet.
      * 
-     * @return The current Pet object.
+     * @return The selected Pet object, or null if no game is running.
      */
     Pet getCurrentPet() {
-        return currentPet;
+        return currentGameState == null ? null : currentGameState.getPet(selectedPetIndex);
     }
 }
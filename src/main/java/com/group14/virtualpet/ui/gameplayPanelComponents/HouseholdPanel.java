@@ -0,0 +1,200 @@
+/**
+ * Panel showing every pet of the household as a small tile.
+ * Clicking a tile selects the pet that the other panels show and that commands target.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.ui.gameplayPanelComponents;
+
+import java.awt.Color;
+import java.awt.Cursor;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+
+import com.group14.virtualpet.model.PetSnapshot;
+import com.group14.virtualpet.model.PetState;
+
+/**
+ * Strip of pet tiles plus an Adopt button.
+ * Each tile remembers what it last drew and is only repainted when that would
+ * change: the name, the state, the selection or a bar's length in pixels. Stats
+ * fall by a point or two per tick, so most ticks repaint few or none of the tiles.
+ */
+public class HouseholdPanel extends JPanel {
+
+    private static final int TILE_WIDTH = 110;
+    private static final int TILE_HEIGHT = 64;
+    private static final int BAR_WIDTH = TILE_WIDTH - 16;
+    private static final Color TILE_COLOR = Color.WHITE;
+    private static final Color DEAD_TILE_COLOR = new Color(222, 226, 230);
+    private static final Color BAR_BACKGROUND = new Color(233, 236, 239);
+    private static final Font NAME_FONT = new Font("SansSerif", Font.BOLD, 12);
+    private static final Font STATE_FONT = new Font("SansSerif", Font.PLAIN, 10);
+
+    private final List<PetTile> tiles = new ArrayList<>();
+    private final IntConsumer selectCallback;
+    private final JButton adoptButton;
+    private int selectedIndex = -1;
+
+    /**
+     * Creates the panel.
+     * @param selectCallback Called with the pet's position when a tile is clicked.
+     * @param adoptCallback Called when the Adopt button is clicked.
+     */
+    public HouseholdPanel(IntConsumer selectCallback, Runnable adoptCallback) {
+        this.selectCallback = selectCallback;
+        setLayout(new FlowLayout(FlowLayout.LEFT, 8, 4));
+        setBorder(BorderFactory.createEmptyBorder(0, 0, 5, 0));
+        setOpaque(false);
+
+        adoptButton = new JButton("Adopt Pet");
+        adoptButton.setBackground(GameplayPanel.PRIMARY_COLOR);
+        adoptButton.setForeground(Color.WHITE);
+        adoptButton.setFont(new Font("SansSerif", Font.BOLD, 13));
+        adoptButton.setFocusPainted(false);
+        adoptButton.setBorderPainted(false);
+        adoptButton.setOpaque(true);
+        adoptButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        adoptButton.addActionListener(e -> adoptCallback.run());
+        add(adoptButton);
+    }
+
+    /**
+     * Shows the household's pets. Tiles are only added or removed when the number
+     * of pets changes, and only tiles whose drawing changed are repainted.
+     *
+     * @param pets The latest snapshots of the household's pets.
+     * @param selected The position of the selected pet.
+     */
+    public void updateHousehold(List<PetSnapshot> pets, int selected) {
+        if (pets.size() != tiles.size()) {
+            rebuildTiles(pets.size());
+        }
+        for (int i = 0; i < pets.size(); i++) {
+            tiles.get(i).show(pets.get(i), i == selected);
+        }
+        selectedIndex = selected;
+    }
+
+    /** Enables or disables the Adopt button. */
+    public void setAdoptEnabled(boolean enabled) {
+        adoptButton.setEnabled(enabled);
+    }
+
+    /** Gets the position of the selected pet, or -1 before the first update. */
+    public int getSelectedIndex() {
+        return selectedIndex;
+    }
+
+    private void rebuildTiles(int count) {
+        while (tiles.size() > count) {
+            remove(tiles.remove(tiles.size() - 1));
+        }
+        while (tiles.size() < count) {
+            PetTile tile = new PetTile(tiles.size());
+            tiles.add(tile);
+            // Keep the Adopt button after the last tile.
+            add(tile, getComponentCount() - 1);
+        }
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Small custom-painted tile with a pet's name, state and stat bars.
+     */
+    private class PetTile extends JComponent {
+        private final int index;
+        private PetSnapshot shown;
+        private boolean shownSelected;
+        // Bar lengths and state as last drawn, packed into one value.
+        private long shownLook = -1;
+
+        PetTile(int index) {
+            this.index = index;
+            setPreferredSize(new Dimension(TILE_WIDTH, TILE_HEIGHT));
+            setCursor(new Cursor(Cursor.HAND_CURSOR));
+            addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    selectCallback.accept(PetTile.this.index);
+                }
+            });
+        }
+
+        void show(PetSnapshot pet, boolean selected) {
+            long look = barLength(pet.health(), pet.maxHealth())
+                    | (long) barLength(pet.sleep(), pet.maxSleep()) << 8
+                    | (long) barLength(pet.fullness(), pet.maxFullness()) << 16
+                    | (long) barLength(pet.happiness(), pet.maxHappiness()) << 24
+                    | (long) pet.state().ordinal() << 32;
+            boolean sameName = shown != null && shown.name().equals(pet.name());
+            shown = pet;
+            if (look == shownLook && selected == shownSelected && sameName) {
+                return;
+            }
+            shownLook = look;
+            shownSelected = selected;
+            setToolTipText(pet.name() + " (" + pet.state() + ")");
+            repaint();
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            if (shown == null) {
+                return;
+            }
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            boolean dead = shown.state() == PetState.DEAD;
+
+            g2.setColor(dead ? DEAD_TILE_COLOR : TILE_COLOR);
+            g2.fillRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 10, 10);
+            if (shownSelected) {
+                g2.setColor(GameplayPanel.PRIMARY_COLOR);
+                g2.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 10, 10);
+                g2.drawRoundRect(1, 1, getWidth() - 3, getHeight() - 3, 10, 10);
+            }
+
+            g2.setColor(GameplayPanel.DARK_COLOR);
+            g2.setFont(NAME_FONT);
+            g2.drawString(shown.name(), 8, 15);
+            g2.setFont(STATE_FONT);
+            g2.drawString(shown.state().toString(), 8, 27);
+
+            drawBar(g2, 34, (int) (shownLook & 0xFF));
+            drawBar(g2, 41, (int) (shownLook >>> 8 & 0xFF));
+            drawBar(g2, 48, (int) (shownLook >>> 16 & 0xFF));
+            drawBar(g2, 55, (int) (shownLook >>> 24 & 0xFF));
+            g2.dispose();
+        }
+
+        private void drawBar(Graphics2D g2, int y, int length) {
+            g2.setColor(BAR_BACKGROUND);
+            g2.fillRect(8, y, BAR_WIDTH, 4);
+            g2.setColor(length < BAR_WIDTH / 4 ? GameplayPanel.DANGER_COLOR : GameplayPanel.SUCCESS_COLOR);
+            g2.fillRect(8, y, length, 4);
+        }
+    }
+
+    /** Length in pixels of a stat bar's filled part. */
+    private static int barLength(int value, int max) {
+        return max > 0 ? Math.min(BAR_WIDTH, BAR_WIDTH * Math.max(0, value) / max) : 0;
+    }
+}
@@ -23,7 +23,6 @@ import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.border.TitledBorder;
 
-import com.group14.virtualpet.model.Inventory;
 import com.group14.virtualpet.model.Item;
 
 /**
@@ -65,15 +64,14 @@ public class InventoryPanel extends JPanel {
     /**
      * Updates the inventory display based on the current inventory.
      * 
-     * @param inventory The player's inventory
+     * @param items The item counts from the latest game state snapshot
      */
-    public void updateInventoryDisplay(Inventory inventory) {
-        if (inventory == null) {
+    public void updateInventoryDisplay(Map<Item, Integer> items) {
+        if (items == null) {
             inventoryDisplay.setText("Inventory: N/A");
             return;
         }
         
-        Map<Item, Integer> items = inventory.getAllItems();
         if (items.isEmpty()) {
             inventoryDisplay.setText("Inventory is empty.");
         } else {
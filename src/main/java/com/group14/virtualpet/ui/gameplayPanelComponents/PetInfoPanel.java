@@ -15,7 +15,7 @@ import javax.swing.JPanel;
 import javax.swing.JProgressBar;
 import javax.swing.border.TitledBorder;
 
-import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetView;
 
 public class PetInfoPanel extends JPanel {
     
@@ -27,6 +27,10 @@ public class PetInfoPanel extends JPanel {
     private JProgressBar happinessBar;
     private JLabel stateLabel;
     
+    // Pet and score last shown, so unchanged values are not redrawn.
+    private PetView shownPet;
+    private int shownScore;
+    
     private static final double LOW_STAT_THRESHOLD = 0.25;
     
     public PetInfoPanel() {
@@ -100,8 +104,11 @@ public class PetInfoPanel extends JPanel {
         add(statusPanel);
     }
     
-    public void updatePetInfo(Pet pet, int score) {
+    public void updatePetInfo(PetView pet, int score) {
         if (pet == null) return;
+        if (pet.equals(shownPet) && score == shownScore) return;
+        shownPet = pet;
+        shownScore = score;
         
         petNameLabel.setText("Pet Name: " + pet.getName());
         scoreLabel.setText("Score: " + score);
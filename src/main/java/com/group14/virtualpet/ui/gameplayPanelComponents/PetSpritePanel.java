@@ -15,6 +15,7 @@ import javax.swing.JPanel;
 import javax.swing.Timer;
 
 import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
 
 /**
  * Panel that displays the pet sprite with a colorful animated background.
@@ -95,22 +96,17 @@ public void updateSprite(String petType, PetState state, boolean spriteFlipFlop,
     
    /**
  * Loads the pet sprite image based on pet type, state, and movement mode.
+ * Sprite paths are resolved once by the PetType registry.
  */
 private ImageIcon loadPetSprite(String petType, PetState state, boolean movementMode) {
-    if (petType == null || state == null) return null;
-    String fileName;
-    if (state == PetState.NORMAL) {
-        fileName = petType + (movementMode ? "_movement.png" : ".png");
-    } else {
-        String capitalizedState = state.name().substring(0, 1) + state.name().substring(1).toLowerCase();
-        fileName = petType + "_" + capitalizedState + (movementMode ? "_movement.png" : ".png");
-    }
-    String resourcePath = "/images/pets/" + petType + "/" + fileName;
-    URL imageURL = getClass().getResource(resourcePath);
+    PetType type = PetType.forId(petType);
+    if (type == null || state == null) return null;
+    String resourcePath = type.getSpritePath(state, movementMode);
+    URL imageURL = resourcePath != null ? getClass().getResource(resourcePath) : null;
     if (imageURL != null) {
         return new ImageIcon(imageURL);
     } else {
-        System.err.println("Warning: Could not load sprite file: " + resourcePath);
+        System.err.println("Warning: No sprite for " + petType + " in state " + state);
         return null;
     }
 }
@@ -0,0 +1,54 @@
+/**
+ * Interface for the time source used by pet cooldowns and session timing.
+ * Lets the game run on real time while simulations and tests run on simulated time.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.util;
+
+/**
+ * Source of the current time in milliseconds.
+ * Pet and GameState read time only through a GameClock, so a simulation can
+ * swap in a {@link SimulatedClock} or an accelerated clock and run thousands
+ * of times faster than real time without waiting on System.currentTimeMillis().
+ */
+@FunctionalInterface
+public interface GameClock {
+
+    /** Returns the current time in milliseconds. */
+    long millis();
+
+    /**
+     * Gets the wall clock (System.currentTimeMillis()).
+     * This is the default for pets and game states.
+     */
+    static GameClock system() {
+        return System::currentTimeMillis;
+    }
+
+    /**
+     * Creates a clock that starts at the current wall-clock time but then advances
+     * with System.nanoTime(), so it never jumps when the system clock is adjusted.
+     */
+    static GameClock monotonic() {
+        final long originMillis = System.currentTimeMillis();
+        final long originNanos = System.nanoTime();
+        return () -> originMillis + (System.nanoTime() - originNanos) / 1_000_000L;
+    }
+
+    /**
+     * Creates a clock that runs {@code factor} times faster than the given base clock,
+     * starting from the base clock's current time.
+     * @param base The clock to accelerate.
+     * @param factor How many simulated milliseconds pass per base millisecond (must be positive).
+     */
+    static GameClock accelerated(GameClock base, double factor) {
+        if (factor <= 0) {
+            throw new IllegalArgumentException("Acceleration factor must be positive: " + factor);
+        }
+        final long origin = base.millis();
+        return () -> origin + (long) ((base.millis() - origin) * factor);
+    }
+}
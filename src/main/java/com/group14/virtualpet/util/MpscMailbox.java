@@ -0,0 +1,110 @@
+/**
+ * Class providing a lock-free mailbox with many senders and one receiver.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bounded multi-producer, single-consumer queue without locks.
+ * Senders append a node by swapping the tail and then linking the previous
+ * tail to it (one atomic exchange, never a retry loop); the one receiver walks
+ * the links from the head. Messages from one sender arrive in the order they
+ * were sent.
+ * <p>
+ * {@link #offer} may be called from any thread. {@link #poll} and
+ * {@link #isEmpty} belong to the receiving thread, e.g. a game loop.
+ *
+ * @param <T> The type of message.
+ */
+public final class MpscMailbox<T> {
+
+    /** A link in the queue; the head node is always an emptied placeholder. */
+    private static final class Node<T> {
+        private T value;
+        private volatile Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+    private final int capacity;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicReference<Node<T>> tail;
+    // Only touched by the receiver.
+    private Node<T> head;
+
+    /**
+     * Creates an empty mailbox.
+     * @param capacity The most messages that may wait at once.
+     */
+    public MpscMailbox(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.head = new Node<>(null);
+        this.tail = new AtomicReference<>(head);
+    }
+
+    /**
+     * Adds a message, unless the mailbox is full.
+     * @param message The message; must not be null.
+     * @return true if the message was added.
+     */
+    public boolean offer(T message) {
+        if (message == null) {
+            throw new IllegalArgumentException("Message must not be null");
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        Node<T> node = new Node<>(message);
+        Node<T> previous = tail.getAndSet(node);
+        previous.next = node;
+        return true;
+    }
+
+    /**
+     * Removes the oldest message. Receiver only.
+     * @return The message, or null if the mailbox is empty.
+     */
+    public T poll() {
+        Node<T> next = head.next;
+        if (next == null) {
+            if (tail.get() == head) {
+                return null;
+            }
+            // A sender has swapped the tail but not linked it yet; that takes a few instructions.
+            while ((next = head.next) == null) {
+                Thread.onSpinWait();
+            }
+        }
+        T value = next.value;
+        next.value = null;
+        head = next;
+        size.decrementAndGet();
+        return value;
+    }
+
+    /** Returns true if no message is waiting. Receiver only. */
+    public boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    /** Gets the number of waiting messages. Safe to call from any thread, but only a hint. */
+    public int size() {
+        return size.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
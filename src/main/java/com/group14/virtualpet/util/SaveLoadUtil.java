@@ -1,5 +1,7 @@
 package com.group14.virtualpet.util;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -9,7 +11,9 @@ import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.group14.virtualpet.sim.SessionRecording;
 import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.state.GameStateSnapshot;
 
 /**
  * Utility class for saving and loading game state using Java Serialization.
@@ -19,6 +23,8 @@ public class SaveLoadUtil {
 
     private static final String SAVE_DIRECTORY = "saves";
     private static final String SAVE_EXTENSION = ".sav";
+    private static final String RECORDING_DIRECTORY = "recordings";
+    private static final String RECORDING_EXTENSION = ".rec";
 
     /**
      * Saves the given GameState object to a file.
@@ -40,6 +46,7 @@ public class SaveLoadUtil {
         File saveFile = new File(saveDir, filename + SAVE_EXTENSION);
 
         try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(saveFile))) {
+            state.setLastSavedTimeMillis(System.currentTimeMillis());
             oos.writeObject(state);
             System.out.println("Game saved successfully to: " + saveFile.getPath());
             return true;
@@ -50,6 +57,18 @@ public class SaveLoadUtil {
         }
     }
 
+    /**
+     * Saves a snapshot of a running game. The snapshot is converted to a standalone
+     * GameState first, so the save format is the same and the live game is not touched.
+     *
+     * @param snapshot The snapshot to save.
+     * @param filename The base name for the save file (without extension).
+     * @return true if saving was successful, false otherwise.
+     */
+    public static boolean saveGame(GameStateSnapshot snapshot, String filename) {
+        return saveGame(snapshot.toGameState(), filename);
+    }
+
     /**
      * Loads a GameState object from a file.
      *
@@ -75,6 +94,35 @@ public class SaveLoadUtil {
         }
     }
 
+    /**
+     * Saves a recorded game session so it can be replayed with SessionReplayer.
+     * The file will be saved in the RECORDING_DIRECTORY with the specified filename and RECORDING_EXTENSION.
+     *
+     * @param recording The recording to save.
+     * @param filename  The base name for the recording file (without extension).
+     * @return true if saving was successful, false otherwise.
+     */
+    public static boolean saveRecording(SessionRecording recording, String filename) {
+        File recordingDir = new File(RECORDING_DIRECTORY);
+        if (!recordingDir.exists()) {
+            if (!recordingDir.mkdirs()) {
+                System.err.println("Error: Could not create recording directory: " + RECORDING_DIRECTORY);
+                return false;
+            }
+        }
+
+        File recordingFile = new File(recordingDir, filename + RECORDING_EXTENSION);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(recordingFile)))) {
+            recording.writeTo(out);
+            System.out.println("Session recorded to: " + recordingFile.getPath());
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error saving recording to " + recordingFile.getPath() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Lists the names of available save files in the save directory.
      *
@@ -0,0 +1,61 @@
+/**
+ * Class providing a manually advanced clock for simulations and tests.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.util;
+
+/**
+ * A GameClock that only moves when told to.
+ * Useful for deterministic cooldown tests and for headless simulations that
+ * advance time by a fixed amount per game tick.
+ * The clock is meant to be advanced from a single thread; it can be read from any thread.
+ */
+public class SimulatedClock implements GameClock {
+
+    private volatile long currentMillis;
+
+    /** Creates a simulated clock starting at time 0. */
+    public SimulatedClock() {
+        this(0);
+    }
+
+    /**
+     * Creates a simulated clock starting at the given time.
+     * @param startMillis The initial time in milliseconds.
+     */
+    public SimulatedClock(long startMillis) {
+        this.currentMillis = startMillis;
+    }
+
+    @Override
+    public long millis() {
+        return currentMillis;
+    }
+
+    /**
+     * Moves the clock forward.
+     * @param millis The number of milliseconds to advance (must not be negative).
+     */
+    public void advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Cannot move a clock backwards: " + millis);
+        }
+        currentMillis += millis;
+    }
+
+    /**
+     * Sets the clock to an absolute time.
+     * @param millis The new time in milliseconds.
+     */
+    public void setMillis(long millis) {
+        this.currentMillis = millis;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedClock{" + currentMillis + " ms}";
+    }
+}
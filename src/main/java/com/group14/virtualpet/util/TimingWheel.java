@@ -0,0 +1,291 @@
+/**
+ * Class providing a hierarchical timing wheel for scheduling timed game events.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.util;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel with a fixed tick length.
+ * Time is divided into ticks; level 0 has one slot per tick for the next
+ * {@value #SLOTS} ticks, and each higher level has slots {@value #SLOTS} times
+ * wider than the level below. An event is stored in the lowest level whose range
+ * reaches its deadline, and moves down a level each time its slot comes up, so
+ * scheduling, cancelling and firing an event are all O(1), and advancing the
+ * wheel by one tick costs O(1) plus the events it fires or moves.
+ * <p>
+ * With {@value #LEVELS} levels of {@value #SLOTS} slots the wheel spans 2^24 ticks
+ * (about 194 days at one tick per second); later deadlines wait in the top level
+ * and are placed again each time their slot comes up.
+ * <p>
+ * An event fires on the first tick at or after its deadline. Deadlines are
+ * in the same milliseconds as the clock that drives {@link #advanceTo}. The wheel
+ * is not thread-safe; it belongs to the thread that advances it (e.g. the game loop).
+ * Slots are only allocated once an event lands in them, so a wheel that holds a
+ * few cooldowns stays small even when a process hosts many games.
+ *
+ * @param <T> The type of event payload.
+ */
+public final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long SPAN_TICKS = 1L << (SLOT_BITS * LEVELS);
+
+    /**
+     * A scheduled event. Returned by {@link TimingWheel#schedule} so it can be cancelled.
+     *
+     * @param <T> The type of event payload.
+     */
+    public static final class Timeout<T> {
+        private final T payload;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        // Intrusive links of the slot list this timeout is in; null when not scheduled.
+        private Timeout<T> previous;
+        private Timeout<T> next;
+        private Slot slot;
+
+        private Timeout(T payload, long deadlineMillis, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /** Returns true while the event has neither fired nor been cancelled. */
+        public boolean isPending() {
+            return slot != null;
+        }
+    }
+
+    /**
+     * A doubly linked list of timeouts that fall in the same slot. Not generic, so the
+     * wheel can allocate slot arrays without unchecked conversions.
+     */
+    private static final class Slot {
+        private final int level;
+        private Timeout<?> head;
+
+        Slot(int level) {
+            this.level = level;
+        }
+
+        /** Gets the first timeout. A slot belongs to one wheel, so all its timeouts share a payload type. */
+        @SuppressWarnings("unchecked")
+        <T> Timeout<T> head() {
+            return (Timeout<T>) head;
+        }
+
+        <T> void add(Timeout<T> timeout) {
+            Timeout<T> first = head();
+            timeout.slot = this;
+            timeout.previous = null;
+            timeout.next = first;
+            if (first != null) {
+                first.previous = timeout;
+            }
+            head = timeout;
+        }
+
+        <T> void remove(Timeout<T> timeout) {
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.slot = null;
+        }
+
+        /** Empties the slot and returns its former contents as a list linked by next. */
+        <T> Timeout<T> takeAll() {
+            Timeout<T> all = head();
+            head = null;
+            for (Timeout<T> t = all; t != null; t = t.next) {
+                t.slot = null;
+            }
+            return all;
+        }
+    }
+
+    private final long tickMillis;
+    private final long originMillis;
+    // Allocated on first use, per level and per slot.
+    private final Slot[][] levels;
+    // Number of timeouts stored in each level.
+    private final int[] levelSizes = new int[LEVELS];
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates an empty wheel.
+     * @param tickMillis The length of one tick in milliseconds.
+     * @param startMillis The clock time of tick 0.
+     */
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = startMillis;
+        this.levels = new Slot[LEVELS][];
+    }
+
+    /**
+     * Schedules an event. A deadline that has already passed fires on the next tick.
+     * @param deadlineMillis The clock time at which the event is due.
+     * @param payload The event to hand back when it fires.
+     * @return A handle for cancelling the event.
+     */
+    public Timeout<T> schedule(long deadlineMillis, T payload) {
+        // Round up, so an event never fires before its deadline.
+        long ticks = Math.floorDiv(deadlineMillis - originMillis + tickMillis - 1, tickMillis);
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis, Math.max(ticks, currentTick + 1));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a pending event. Does nothing if it has already fired or been cancelled.
+     * @return true if the event was pending.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.slot == null) {
+            return false;
+        }
+        levelSizes[timeout.slot.level]--;
+        timeout.slot.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel to a clock time and fires every event due by then.
+     * Events fire in tick order; events due on the same tick fire in no particular order.
+     * Stretches in which nothing can fire or move are skipped, so a long jump costs
+     * little more than the events it fires.
+     * @param nowMillis The current clock time.
+     * @param handler Receives the payload of each event that fires.
+     * @return The number of events fired.
+     */
+    public int advanceTo(long nowMillis, Consumer<? super T> handler) {
+        long targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        int fired = 0;
+        while (currentTick < targetTick) {
+            int emptyLevels = 0;
+            while (emptyLevels < LEVELS && levelSizes[emptyLevels] == 0) {
+                emptyLevels++;
+            }
+            if (emptyLevels == LEVELS) {
+                // Nothing to fire or move, so skip straight to the target.
+                currentTick = targetTick;
+                break;
+            }
+            if (emptyLevels > 0) {
+                // Nothing happens before the next slot of the lowest non-empty level comes up.
+                int shift = SLOT_BITS * emptyLevels;
+                long nextSlotTick = ((currentTick >>> shift) + 1) << shift;
+                if (nextSlotTick > targetTick) {
+                    currentTick = targetTick;
+                    break;
+                }
+                currentTick = nextSlotTick - 1;
+            }
+            currentTick++;
+            cascade();
+            Timeout<T> due = take(0, (int) (currentTick & SLOT_MASK));
+            while (due != null) {
+                Timeout<T> next = due.next;
+                due.next = null;
+                size--;
+                fired++;
+                handler.accept(due.payload);
+                due = next;
+            }
+        }
+        return fired;
+    }
+
+    /** Gets the number of pending events. */
+    public int size() {
+        return size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Moves the events of every higher-level slot that starts at the current tick
+     * down to the levels below. Higher levels go first, so events can fall through
+     * several levels on the same tick.
+     */
+    private void cascade() {
+        int top = 0;
+        while (top + 1 < LEVELS && (currentTick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            Timeout<T> moving = take(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            while (moving != null) {
+                Timeout<T> next = moving.next;
+                place(moving);
+                moving = next;
+            }
+        }
+    }
+
+    /** Puts a timeout in the lowest level whose range reaches its deadline. */
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        // Past the wheel's span: park in the top level's furthest slot and place again later.
+        long tick = delta < SPAN_TICKS ? timeout.deadlineTick : currentTick + SPAN_TICKS - 1;
+        delta = tick - currentTick;
+        int level = 0;
+        while (level + 1 < LEVELS && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        if (levels[level] == null) {
+            levels[level] = new Slot[SLOTS];
+        }
+        int index = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Slot slot = levels[level][index];
+        if (slot == null) {
+            slot = new Slot(level);
+            levels[level][index] = slot;
+        }
+        slot.add(timeout);
+        levelSizes[level]++;
+    }
+
+    /** Empties one slot and returns its timeouts as a list linked by next. */
+    private Timeout<T> take(int level, int slot) {
+        if (levelSizes[level] == 0 || levels[level][slot] == null) {
+            return null;
+        }
+        Timeout<T> all = levels[level][slot].takeAll();
+        for (Timeout<T> t = all; t != null; t = t.next) {
+            levelSizes[level]--;
+        }
+        return all;
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Unit tests for the Monte Carlo balance lab.
+ * Verifies that runs are reproducible and that the reported totals are consistent.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
+import com.group14.virtualpet.sim.lab.BalanceLab;
+import com.group14.virtualpet.sim.lab.BalanceReport;
+import com.group14.virtualpet.sim.lab.CaretakerStrategies;
+import com.group14.virtualpet.sim.lab.CaretakerStrategy;
+import com.group14.virtualpet.sim.lab.GameResult;
+import com.group14.virtualpet.sim.lab.SimulatedGame;
+
+/**
+ * Tests for BalanceLab
+ */
+public class BalanceLabTest {
+
+    @Test
+    void testSameSeedGivesSameReport() {
+        PetType type = PetType.require("balanced_robot");
+        for (String name : CaretakerStrategies.names()) {
+            CaretakerStrategy strategy = CaretakerStrategies.forName(name);
+            BalanceReport first = new BalanceLab(200, 600, 99).run(type, strategy);
+            BalanceReport second = new BalanceLab(200, 600, 99).run(type, strategy);
+            assertEquals(first.getDeaths(), second.getDeaths(), name);
+            for (double p : new double[] {10, 50, 90}) {
+                assertEquals(first.ticksSurvivedPercentile(p), second.ticksSurvivedPercentile(p), name);
+                assertEquals(first.scorePercentile(p), second.scorePercentile(p), name);
+            }
+            for (PetState state : PetState.values()) {
+                assertEquals(first.getTicksInState(state), second.getTicksInState(state), name);
+            }
+        }
+    }
+
+    @Test
+    void testStateTicksAddUpToSurvival() {
+        PetType type = PetType.require("friendly_robot");
+        CaretakerStrategy strategy = CaretakerStrategies.forName("random");
+        for (long seed = 0; seed < 50; seed++) {
+            GameResult result = new SimulatedGame(type, strategy, seed, 2_000).play();
+            int total = 0;
+            for (int ticks : result.ticksInState()) {
+                total += ticks;
+            }
+            assertEquals(result.ticksSurvived(), total, "seed " + seed);
+            assertEquals(result.died(), result.ticksInState()[PetState.DEAD.ordinal()] == 1, "seed " + seed);
+            assertTrue(result.died() || result.ticksSurvived() == 2_000, "seed " + seed);
+        }
+    }
+
+    @Test
+    void testUnattendedPetsAllDieReproducibly() {
+        PetType type = PetType.require("challenging_robot");
+        BalanceReport first = new BalanceLab(500, 50_000, 7).runUnattended(type);
+        BalanceReport second = new BalanceLab(500, 50_000, 7).runUnattended(type);
+        assertEquals(BalanceLab.UNATTENDED, first.getStrategyName());
+        assertEquals(500, first.getDeaths());
+        assertEquals(500, first.getTicksInState(PetState.DEAD));
+        for (double p : new double[] {10, 50, 90}) {
+            assertEquals(first.ticksSurvivedPercentile(p), second.ticksSurvivedPercentile(p));
+        }
+        for (PetState state : PetState.values()) {
+            assertEquals(first.getTicksInState(state), second.getTicksInState(state), state.name());
+        }
+    }
+
+    @Test
+    void testScriptedScheduleIsValidated() {
+        assertEquals("scripted:10:FEED,5:play", CaretakerStrategies.forName("scripted:10:FEED,5:play").getName());
+        assertThrows(IllegalArgumentException.class, () -> CaretakerStrategies.scripted("10:DANCE"));
+        assertThrows(IllegalArgumentException.class, () -> CaretakerStrategies.scripted("FEED"));
+        assertThrows(IllegalArgumentException.class, () -> CaretakerStrategies.scripted("0:FEED"));
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Unit tests for the AI care policy.
+ * Solves one pet type and checks the table's commands, its file format and how well it cares.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.ai.CarePolicy;
+import com.group14.virtualpet.ai.CarePolicySolver;
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetSnapshot;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
+import com.group14.virtualpet.model.PetView;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameRules;
+import com.group14.virtualpet.sim.lab.CaretakerContext;
+import com.group14.virtualpet.sim.lab.CaretakerStrategies;
+import com.group14.virtualpet.sim.lab.CaretakerStrategy;
+import com.group14.virtualpet.sim.lab.SimulatedGame;
+
+/**
+ * Tests for CarePolicy
+ */
+public class CarePolicyTest {
+
+    private static PetType type;
+    private static CarePolicy policy;
+
+    @BeforeAll
+    static void solvePolicy() {
+        type = PetType.require("balanced_robot");
+        policy = new CarePolicySolver(type).solve();
+    }
+
+    @Test
+    void testPolicyOnlyPicksAvailableCommands() {
+        Pet pet = new Pet("Probe", type.getId());
+        for (PetState state : PetState.values()) {
+            for (int flags = 0; flags < 16; flags++) {
+                GameCommand.Type command = policy.actionFor(new StatsOnly(pet, state),
+                        (flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, (flags & 8) != 0);
+                if (command == null) {
+                    continue;
+                }
+                assertNotEquals(PetState.DEAD, state);
+                assertTrue(GameRules.isCommandAllowed(command, state), command + " while " + state);
+                assertTrue(command != GameCommand.Type.PLAY || (flags & 1) != 0, "play on cooldown");
+                assertTrue(command != GameCommand.Type.VET || (flags & 2) != 0, "vet on cooldown");
+                assertTrue(command != GameCommand.Type.FEED || (flags & 4) != 0, "feed without food");
+                assertTrue(command != GameCommand.Type.GIFT || (flags & 8) != 0, "gift without gift");
+            }
+        }
+
+        // With nothing in the inventory, the chosen command never needs an item.
+        GameCommand command = policy.nextCommand(PetSnapshot.of(pet), Map.of());
+        assertTrue(command == null || command.item() == null);
+        command = policy.nextCommand(PetSnapshot.of(pet), Map.of(new FoodItem("Kibble", 20), 1, new GiftItem("Toy", 15), 1));
+        assertTrue(command == null || command.type() != GameCommand.Type.GRANT);
+    }
+
+    @Test
+    void testPolicyFileRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        policy.writeTo(new DataOutputStream(bytes));
+        CarePolicy loaded = CarePolicy.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(policy.getPetTypeId(), loaded.getPetTypeId());
+        assertEquals(CarePolicySolver.fingerprint(type), loaded.getFingerprint());
+
+        ByteArrayOutputStream again = new ByteArrayOutputStream();
+        loaded.writeTo(new DataOutputStream(again));
+        assertArrayEquals(bytes.toByteArray(), again.toByteArray());
+    }
+
+    @Test
+    void testPolicyOutlivesLazyCaretaker() {
+        CaretakerStrategy ai = new CaretakerStrategy() {
+            @Override
+            public String getName() {
+                return "policy";
+            }
+
+            @Override
+            public GameCommand nextCommand(CaretakerContext context) {
+                FoodItem food = context.largestFood();
+                GiftItem gift = context.largestGift();
+                GameCommand.Type command = policy.actionFor(context.pet(), context.isPlayAvailable(),
+                        context.isVetAvailable(), food != null, gift != null);
+                if (command == null) {
+                    return null;
+                }
+                return command == GameCommand.Type.FEED ? GameCommand.feed(food)
+                        : command == GameCommand.Type.GIFT ? GameCommand.gift(gift) : GameCommand.of(command);
+            }
+        };
+        CaretakerStrategy lazy = CaretakerStrategies.forName("lazy");
+        long aiTicks = 0;
+        long lazyTicks = 0;
+        for (long seed = 0; seed < 20; seed++) {
+            aiTicks += new SimulatedGame(type, ai, seed, 3_000).play().ticksSurvived();
+            lazyTicks += new SimulatedGame(type, lazy, seed, 3_000).play().ticksSurvived();
+        }
+        assertEquals(20 * 3_000, aiTicks, "the policy should keep the pet alive for the whole game");
+        assertTrue(aiTicks > lazyTicks);
+    }
+
+    /** A view of a pet's stats with another state, for probing the table. */
+    private record StatsOnly(Pet pet, PetState state) implements PetView {
+        public String getName() { return pet.getName(); }
+        public String getPetType() { return pet.getPetType(); }
+        public int getHealth() { return pet.getHealth(); }
+        public int getSleep() { return pet.getSleep(); }
+        public int getFullness() { return state == PetState.HUNGRY ? 0 : pet.getFullness(); }
+        public int getHappiness() { return pet.getHappiness(); }
+        public PetState getCurrentState() { return state; }
+        public int getMaxHealth() { return pet.getMaxHealth(); }
+        public int getMaxSleep() { return pet.getMaxSleep(); }
+        public int getMaxFullness() { return pet.getMaxFullness(); }
+        public int getMaxHappiness() { return pet.getMaxHappiness(); }
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Unit tests for the next-event pet simulator.
+ * Verifies that pets advanced from event to event, with commands mixed in,
+ * match pets ticked one tick at a time.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static com.group14.virtualpet.PetAssertions.assertSamePet;
+import static com.group14.virtualpet.PetAssertions.newPets;
+import static com.group14.virtualpet.PetAssertions.randomEffect;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.TimedEffect;
+import com.group14.virtualpet.sim.EventDrivenSimulator;
+
+/**
+ * Tests for EventDrivenSimulator
+ */
+public class EventDrivenSimulatorTest {
+
+    private static final int PETS = 200;
+    private static final int TICKS = 5_000;
+    private static final FoodItem MEAL = new FoodItem("Meal", 100);
+    private static final GiftItem PRESENT = new GiftItem("Present", 100);
+
+    @Test
+    void testMaterializeMatchesTickByTick() {
+        List<Pet> simulated = newPets(PETS, 3);
+        List<Pet> reference = newPets(PETS, 3);
+        EventDrivenSimulator simulator = new EventDrivenSimulator();
+        int[] reportedTransitions = new int[1];
+        simulator.setTransitionListener((pet, tick, from, to) -> reportedTransitions[0]++);
+        for (Pet pet : simulated) {
+            simulator.add(pet);
+        }
+
+        Random random = new Random(23);
+        int transitions = 0;
+        int commands = 0;
+        while (simulator.getCurrentTick() < TICKS) {
+            int step = 1 + random.nextInt(20);
+            simulator.advance(step);
+            for (int t = 0; t < step; t++) {
+                for (Pet pet : reference) {
+                    PetState before = pet.getCurrentState();
+                    pet.liveOneTick();
+                    if (pet.getCurrentState() != before) {
+                        transitions++;
+                    }
+                }
+            }
+
+            // Read a few pets, some of which have been left behind for a long time.
+            for (int k = 0; k < 5; k++) {
+                int i = random.nextInt(PETS);
+                assertSamePet(reference.get(i), simulator.materialize(simulated.get(i)),
+                        "tick " + simulator.getCurrentTick() + ", pet " + i);
+            }
+
+            // Command a few pets, the same way on both sides.
+            for (int k = 0; k < 3; k++) {
+                int i = random.nextInt(PETS);
+                Consumer<Pet> action = randomCommand(random);
+                PetState before = reference.get(i).getCurrentState();
+                action.accept(reference.get(i));
+                if (reference.get(i).getCurrentState() != before) {
+                    transitions++;
+                }
+                simulator.command(simulated.get(i), action);
+                commands++;
+            }
+
+            // Feed the hungry, cheer up the angry and heal the weak so most pets live through the run.
+            for (int i = 0; i < PETS; i++) {
+                Pet pet = reference.get(i);
+                PetState state = pet.getCurrentState();
+                Consumer<Pet> care = state == PetState.HUNGRY ? p -> p.feed(MEAL)
+                        : state == PetState.ANGRY ? p -> p.receiveGift(PRESENT)
+                        : pet.getHealth() < pet.getMaxHealth() / 2 ? p -> p.increaseHealth(pet.getMaxHealth()) : null;
+                if (care != null) {
+                    care.accept(reference.get(i));
+                    if (reference.get(i).getCurrentState() != state) {
+                        transitions++;
+                    }
+                    simulator.command(simulated.get(i), care);
+                    commands++;
+                }
+            }
+        }
+
+        for (int i = 0; i < PETS; i++) {
+            assertSamePet(reference.get(i), simulator.materialize(simulated.get(i)), "final, pet " + i);
+        }
+        assertEquals(transitions, reportedTransitions[0], "reported transitions");
+
+        // Events are due at possible transitions (thresholds, ends of effects, commands), not every tick.
+        long events = simulator.getProcessedEventCount();
+        assertTrue(events <= 4L * (transitions + commands + PETS),
+                events + " events for " + transitions + " transitions and " + commands + " commands");
+        assertTrue(events * 20 < (long) TICKS * PETS, events + " events for " + TICKS * PETS + " pet-ticks");
+    }
+
+    @Test
+    void testRemoveAndUnknownPets() {
+        EventDrivenSimulator simulator = new EventDrivenSimulator();
+        Pet pet = new Pet("Bolt", "balanced_robot");
+        Pet reference = new Pet("Bolt", "balanced_robot");
+        simulator.add(pet);
+        simulator.add(pet);
+        assertEquals(1, simulator.size());
+
+        simulator.advance(75);
+        simulator.remove(pet);
+        reference.advance(75);
+        assertSamePet(reference, pet, "removed pet");
+        assertEquals(Long.MAX_VALUE, simulator.peekNextEventTick());
+
+        // A removed pet is no longer advanced and cannot be read or commanded.
+        simulator.advance(500);
+        assertSamePet(reference, pet, "after removal");
+        assertThrows(IllegalArgumentException.class, () -> simulator.materialize(pet));
+        assertThrows(IllegalArgumentException.class, () -> simulator.command(pet, Pet::goToBed));
+        assertThrows(IllegalArgumentException.class, () -> simulator.advanceTo(10));
+    }
+
+    /** A command that needs no clock, so it has the same effect on both copies of a pet. */
+    private static Consumer<Pet> randomCommand(Random random) {
+        return switch (random.nextInt(5)) {
+            case 0 -> {
+                FoodItem food = new FoodItem("Kibble", 10 + random.nextInt(60));
+                yield pet -> pet.feed(food);
+            }
+            case 1 -> {
+                GiftItem gift = new GiftItem("Toy", 10 + random.nextInt(40));
+                yield pet -> pet.receiveGift(gift);
+            }
+            case 2 -> Pet::goToBed;
+            case 3 -> Pet::exercise;
+            default -> {
+                TimedEffect effect = randomEffect(random);
+                yield pet -> pet.applyEffect(effect);
+            }
+        };
+    }
+}
@@ -0,0 +1,206 @@
+/**
+ * Unit tests for the local HTTP/JSON game API.
+ * Verifies that sessions can be created, commanded, fetched, saved, loaded and stopped over HTTP,
+ * that a session's events are streamed as server-sent events, and that bad requests are answered
+ * with JSON errors.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.group14.virtualpet.api.GameApiServer;
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.sim.GameRules;
+import com.group14.virtualpet.sim.SessionHost;
+import com.group14.virtualpet.state.GameState;
+
+/**
+ * Tests for GameApiServer
+ */
+public class GameApiServerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void testSessionRoundTrip() throws Exception {
+        try (SessionHost host = new SessionHost(1000, 4);
+             GameApiServer server = new GameApiServer(host, 0)) {
+            server.start();
+            String base = "http://localhost:" + server.getPort() + "/sessions";
+
+            HttpResponse<String> created = send("POST", base + "?name=Api%20Pet&type=friendly_robot");
+            assertEquals(201, created.statusCode(), created.body());
+            JsonNode state = MAPPER.readTree(created.body());
+            long id = state.get("id").asLong();
+            assertEquals("Api Pet", state.get("pets").get(0).get("name").asText());
+            assertEquals("RUNNING", state.get("status").asText());
+
+            HttpResponse<String> play = send("POST", base + "/" + id + "/play");
+            assertEquals(202, play.statusCode(), play.body());
+            assertEquals("queued", MAPPER.readTree(play.body()).get("result").asText());
+            // Play is accepted on the loop's next turn and adds to the score.
+            long deadline = System.currentTimeMillis() + 5000;
+            while (MAPPER.readTree(send("GET", base + "/" + id).body()).get("score").asInt() == 0
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(MAPPER.readTree(send("GET", base + "/" + id).body()).get("score").asInt() > 0);
+
+            assertEquals(200, send("POST", base + "/" + id + "/save?file=api_test").statusCode());
+            HttpResponse<String> loaded = send("POST", base + "/load?file=api_test");
+            assertEquals(201, loaded.statusCode(), loaded.body());
+            assertEquals("Api Pet", MAPPER.readTree(loaded.body()).get("pets").get(0).get("name").asText());
+
+            assertEquals(200, send("DELETE", base + "/" + id).statusCode());
+            assertEquals(404, send("GET", base + "/" + id).statusCode());
+            assertEquals(1, host.size());
+        } finally {
+            new File("saves", "api_test.sav").delete();
+        }
+    }
+
+    @Test
+    void testLoadCatchesUpOfflineTime() throws Exception {
+        long offlineTicks = 40;
+        File saveFile = new File("saves", "api_offline.sav");
+        try (SessionHost host = new SessionHost(1000, 1);
+             GameApiServer server = new GameApiServer(host, 0)) {
+            server.start();
+            String base = "http://localhost:" + server.getPort() + "/sessions";
+
+            // Written directly, since saveGame stamps the save with the current time.
+            GameState saved = new GameState(new Pet("Sleepy", "balanced_robot"), new Inventory(), 0);
+            saved.setLastSavedTimeMillis(System.currentTimeMillis() - offlineTicks * GameRules.TICK_MILLIS);
+            saveFile.getParentFile().mkdirs();
+            try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(saveFile))) {
+                out.writeObject(saved);
+            }
+
+            HttpResponse<String> loaded = send("POST", base + "/load?file=api_offline");
+            assertEquals(201, loaded.statusCode(), loaded.body());
+            JsonNode pet = MAPPER.readTree(loaded.body()).get("pets").get(0);
+            // The request takes a moment, so allow for a tick or two more than were missed.
+            boolean matched = false;
+            for (long ticks = offlineTicks; ticks <= offlineTicks + 2 && !matched; ticks++) {
+                Pet expected = new Pet("Sleepy", "balanced_robot");
+                expected.advance(ticks);
+                matched = pet.get("fullness").get("value").asInt() == expected.getFullness()
+                        && pet.get("sleep").get("value").asInt() == expected.getSleep()
+                        && pet.get("happiness").get("value").asInt() == expected.getHappiness()
+                        && pet.get("health").get("value").asInt() == expected.getHealth();
+            }
+            assertTrue(matched, "pet should be advanced by about " + offlineTicks + " ticks: " + pet);
+        } finally {
+            saveFile.delete();
+        }
+    }
+
+    @Test
+    void testEventStreamPushesStatChanges() throws Exception {
+        try (SessionHost host = new SessionHost(5, 1);
+             GameApiServer server = new GameApiServer(host, 0)) {
+            server.start();
+            String base = "http://localhost:" + server.getPort() + "/sessions";
+            long id = MAPPER.readTree(send("POST", base + "?name=Streamer&type=balanced_robot").body()).get("id").asLong();
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/" + id + "/events?buffer=8")).GET().build();
+            HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+            JsonNode stats = null;
+            try (Stream<String> lines = response.body()) {
+                Iterator<String> it = lines.iterator();
+                while (stats == null && it.hasNext()) {
+                    if (it.next().equals("event: stats_changed")) {
+                        String data = it.next();
+                        assertTrue(data.startsWith("data: "), data);
+                        stats = MAPPER.readTree(data.substring("data: ".length()));
+                    }
+                }
+            }
+            assertNotNull(stats, "a stat change should be pushed");
+            assertEquals(0, stats.get("pet").asInt());
+            assertTrue(stats.get("delta").get("fullness").asInt() < 0, "fullness declines as the pet ticks");
+        }
+    }
+
+    @Test
+    void testBadRequestsReturnJsonErrors() throws Exception {
+        try (SessionHost host = new SessionHost(1000, 1);
+             GameApiServer server = new GameApiServer(host, 0)) {
+            server.start();
+            String base = "http://localhost:" + server.getPort() + "/sessions";
+
+            HttpResponse<String> badType = send("POST", base + "?name=X&type=no_such_type");
+            assertEquals(400, badType.statusCode());
+            assertTrue(MAPPER.readTree(badType.body()).has("error"));
+
+            long id = MAPPER.readTree(send("POST", base + "?name=X&type=balanced_robot").body()).get("id").asLong();
+            assertEquals(503, send("POST", base + "?name=Y&type=balanced_robot").statusCode());
+            assertEquals(409, send("POST", base + "/" + id + "/feed").statusCode());
+            assertEquals(404, send("POST", base + "/" + id + "/dance").statusCode());
+            assertEquals(400, send("POST", base + "/" + id + "/sleep?pet=3").statusCode());
+            assertEquals(404, send("GET", base + "/999").statusCode());
+        }
+    }
+
+    @Test
+    void testUnresponsiveSessionIsUnavailable() throws Exception {
+        try (SessionHost host = new SessionHost(1000, 1);
+             GameApiServer server = new GameApiServer(host, 0)) {
+            server.start();
+            String base = "http://localhost:" + server.getPort() + "/sessions";
+            long id = MAPPER.readTree(send("POST", base + "?name=Stuck&type=balanced_robot").body()).get("id").asLong();
+
+            // Hold the session's loop so it cannot answer a view in time.
+            CountDownLatch release = new CountDownLatch(1);
+            assertTrue(host.execute(id, session -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            try {
+                HttpResponse<String> stuck = send("GET", base + "/" + id);
+                assertEquals(503, stuck.statusCode(), stuck.body());
+                assertTrue(MAPPER.readTree(stuck.body()).has("error"));
+                assertEquals(503, send("POST", base + "/" + id + "/save?file=stuck").statusCode());
+            } finally {
+                release.countDown();
+            }
+            assertEquals(200, send("GET", base + "/" + id).statusCode());
+        }
+    }
+
+    private HttpResponse<String> send(String method, String uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Unit tests for the simulation thread.
+ * Verifies that ticks keep running on their own thread, that queued commands and changes are applied there
+ * in each sender's order, and that published snapshots are consistent copies of the game state.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetSnapshot;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameLoop;
+import com.group14.virtualpet.sim.GameSession;
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.state.GameStateSnapshot;
+
+/**
+ * Tests for GameLoop
+ */
+public class GameLoopTest {
+
+    @Test
+    void testCommandsAndTicksRunOnLoopThread() throws InterruptedException {
+        Pet pet = new Pet("Looper", "friendly_robot");
+        Inventory inventory = new Inventory();
+        FoodItem kibble = new FoodItem("Basic Kibble", 20);
+        inventory.addItem(kibble, 1);
+        GameState state = new GameState(pet, inventory, 0);
+
+        Thread testThread = Thread.currentThread();
+        AtomicReference<Thread> commandThread = new AtomicReference<>();
+        AtomicInteger acceptedFeeds = new AtomicInteger();
+        CountDownLatch commandsDone = new CountDownLatch(2);
+        CountDownLatch tenTicks = new CountDownLatch(10);
+
+        GameLoop loop = new GameLoop(state, 5, new GameLoop.Listener() {
+            @Override
+            public void onTick(long tickCount) {
+                tenTicks.countDown();
+            }
+
+            @Override
+            public void onCommand(GameCommand command, boolean accepted) {
+                commandThread.set(Thread.currentThread());
+                if (accepted) {
+                    acceptedFeeds.incrementAndGet();
+                }
+                commandsDone.countDown();
+            }
+        });
+        loop.start();
+        try {
+            loop.submit(GameCommand.feed(kibble));
+            loop.submit(GameCommand.feed(kibble)); // The only kibble is already used.
+            assertTrue(commandsDone.await(5, TimeUnit.SECONDS), "commands should be applied");
+            assertTrue(tenTicks.await(5, TimeUnit.SECONDS), "loop should keep ticking");
+        } finally {
+            loop.stop();
+        }
+
+        assertEquals(1, acceptedFeeds.get(), "only one feed should find food in the inventory");
+        assertNotSame(testThread, commandThread.get(), "commands should run on the loop thread");
+        assertEquals(0, inventory.getItemCount(kibble));
+        assertFalse(loop.isRunning());
+        GameStateSnapshot snapshot = loop.getSnapshot();
+        assertEquals(loop.getTickCount(), snapshot.tick());
+        assertEquals(snapshot.tick() * 5, snapshot.totalPlaytimeMillis());
+        assertEquals(pet.getHealth(), snapshot.pet().getHealth());
+        assertEquals(pet.getCurrentState(), snapshot.pet().getCurrentState());
+        assertTrue(snapshot.inventory().isEmpty(), "snapshot should show the kibble as used");
+    }
+
+    @Test
+    void testHouseholdTicksTogetherAndCommandsTargetOnePet() throws InterruptedException {
+        List<Pet> pets = List.of(new Pet("Alpha", "balanced_robot"),
+                new Pet("Beta", "balanced_robot"), new Pet("Gamma", "balanced_robot"));
+        GameState state = new GameState(pets, new Inventory(), 0);
+        CountDownLatch commandDone = new CountDownLatch(1);
+        CountDownLatch fiveTicks = new CountDownLatch(5);
+
+        GameLoop loop = new GameLoop(state, 5, new GameLoop.Listener() {
+            @Override
+            public void onTick(long tickCount) {
+                fiveTicks.countDown();
+            }
+
+            @Override
+            public void onCommand(GameCommand command, boolean accepted) {
+                commandDone.countDown();
+            }
+        });
+        loop.start();
+        try {
+            loop.submit(GameCommand.of(GameCommand.Type.EXERCISE).forPet(1));
+            assertTrue(commandDone.await(5, TimeUnit.SECONDS), "command should be applied");
+            assertTrue(fiveTicks.await(5, TimeUnit.SECONDS), "loop should keep ticking");
+        } finally {
+            loop.stop();
+        }
+
+        GameStateSnapshot snapshot = loop.getSnapshot();
+        assertEquals(3, snapshot.pets().size());
+        Pet fresh = new Pet("Fresh", "balanced_robot");
+        assertTrue(snapshot.pet(0).getFullness() < fresh.getFullness(), "every pet should be ticked");
+        assertEquals(snapshot.pet(0).getFullness(), snapshot.pet(2).getFullness(), "untouched pets tick alike");
+        assertTrue(snapshot.pet(1).getFullness() < snapshot.pet(0).getFullness(), "only the target pet exercised");
+    }
+
+    @Test
+    void testMailboxKeepsEachSendersOrder() throws Exception {
+        GameState state = new GameState(new Pet("Mailbox", "balanced_robot"), new Inventory(), 0);
+        GameLoop loop = new GameLoop(state, 5, null);
+        loop.start();
+        int senders = 4;
+        int messages = 50;
+        // Only touched on the loop thread.
+        List<int[]> received = new ArrayList<>();
+        try {
+            List<Thread> threads = new ArrayList<>();
+            for (int s = 0; s < senders; s++) {
+                int sender = s;
+                threads.add(Thread.ofPlatform().start(() -> {
+                    for (int i = 0; i < messages; i++) {
+                        int sequence = i;
+                        assertTrue(loop.execute(session -> received.add(new int[] {sender, sequence})));
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Thread loopThread = loop.call(session -> Thread.currentThread()).get(5, TimeUnit.SECONDS);
+            assertNotSame(Thread.currentThread(), loopThread, "changes should run on the loop thread");
+        } finally {
+            loop.stop();
+        }
+
+        assertEquals(senders * messages, received.size());
+        int[] next = new int[senders];
+        for (int[] message : received) {
+            assertEquals(next[message[0]]++, message[1], "each sender's messages arrive in order");
+        }
+    }
+
+    @Test
+    void testBusyMailboxDoesNotHoldBackTicks() throws InterruptedException {
+        GameState state = new GameState(new Pet("Busy", "balanced_robot"), new Inventory(), 0);
+        CountDownLatch fiveTicks = new CountDownLatch(5);
+        GameLoop loop = new GameLoop(state, 5, new GameLoop.Listener() {
+            @Override
+            public void onTick(long tickCount) {
+                fiveTicks.countDown();
+            }
+        });
+        AtomicInteger handled = new AtomicInteger();
+        // A message that sends itself again, so the mailbox is never empty.
+        Consumer<GameSession> resend = new Consumer<>() {
+            @Override
+            public void accept(GameSession session) {
+                handled.incrementAndGet();
+                loop.execute(this);
+            }
+        };
+        loop.start();
+        try {
+            loop.execute(resend);
+            assertTrue(fiveTicks.await(5, TimeUnit.SECONDS), "loop should keep ticking");
+        } finally {
+            loop.stop();
+        }
+        assertTrue(handled.get() > 0, "messages should still be handled");
+    }
+
+    @Test
+    void testSnapshotRoundTripsToGameState() {
+        Pet pet = new Pet("Snappy", "balanced_robot");
+        pet.advance(40);
+        Inventory inventory = new Inventory();
+        inventory.addItem(new FoodItem("Tasty Treat", 40), 2);
+        GameState state = new GameState(pet, inventory, 12);
+        state.setTimeLimitEnabled(true);
+        state.setMaxPlaytimeMinutes(45);
+        state.addPlaytimeMillis(90_000);
+
+        GameStateSnapshot snapshot = GameStateSnapshot.of(state, 7);
+        pet.liveOneTick(); // Later changes must not show up in the snapshot.
+        GameState copy = snapshot.toGameState();
+
+        assertNotSame(pet, copy.getPet());
+        assertEquals(snapshot.pet(), PetSnapshot.of(copy.getPet()));
+        assertEquals(inventory.getAllItems(), copy.getInventory().getAllItems());
+        assertEquals(12, copy.getScore());
+        assertTrue(copy.isTimeLimitEnabled());
+        assertEquals(45, copy.getMaxPlaytimeMinutes());
+        assertEquals(90_000, copy.getTotalPlaytimeMillis());
+    }
+}
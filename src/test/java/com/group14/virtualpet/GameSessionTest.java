@@ -0,0 +1,103 @@
+/**
+ * Unit tests for the headless game session.
+ * Verifies that simulation level of detail demotes idle pets and promotes touched ones,
+ * and that a session with level of detail plays out exactly like one at full rate.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetSnapshot;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameSession;
+import com.group14.virtualpet.sim.SimulationTier;
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.util.SimulatedClock;
+
+/**
+ * Tests for GameSession
+ */
+public class GameSessionTest {
+
+    @Test
+    void testIdlePetsAreDemotedAndTouchedPetsPromoted() {
+        GameSession session = new GameSession(newState(), 1000);
+        session.setLevelOfDetail(true);
+        assertEquals(SimulationTier.FULL, session.getTier(0));
+        tick(session, GameSession.BACKGROUND_AFTER_TICKS);
+        assertEquals(SimulationTier.BACKGROUND, session.getTier(0));
+        tick(session, GameSession.DORMANT_AFTER_TICKS - GameSession.BACKGROUND_AFTER_TICKS);
+        assertEquals(SimulationTier.DORMANT, session.getTier(0));
+
+        // A command counts as a touch, for the commanded pet only.
+        session.apply(GameCommand.of(GameCommand.Type.EXERCISE).forPet(1));
+        assertEquals(SimulationTier.FULL, session.getTier(1));
+        assertEquals(SimulationTier.DORMANT, session.getTier(0));
+        session.touchAll();
+        assertEquals(SimulationTier.FULL, session.getTier(0));
+    }
+
+    @Test
+    void testLevelOfDetailMatchesFullRate() {
+        GameSession full = new GameSession(newState(), 1000);
+        GameSession detailed = new GameSession(newState(), 1000);
+        detailed.setLevelOfDetail(true);
+
+        boolean lagged = false;
+        for (int t = 1; t <= 3000; t++) {
+            full.tick();
+            detailed.tick();
+            if (t % 250 == 0) {
+                // Pet 1 is looked after; the others are left alone and sink to dormant.
+                for (GameSession session : List.of(full, detailed)) {
+                    session.apply(GameCommand.feed(new FoodItem("Tasty Treat", 40)).forPet(1));
+                    session.apply(GameCommand.of(GameCommand.Type.PLAY).forPet(1));
+                }
+            }
+            for (int i = 0; i < 3; i++) {
+                // Pet states are exact on every tick, so the game rules see the same game.
+                assertEquals(full.getState().getPet(i).getCurrentState(),
+                        detailed.getState().getPet(i).getCurrentState(), "pet " + i + " at tick " + t);
+                lagged |= !PetSnapshot.of(full.getState().getPet(i)).equals(PetSnapshot.of(detailed.getState().getPet(i)));
+            }
+            assertEquals(full.getState().getInventory().getAllItems(), detailed.getState().getInventory().getAllItems());
+            assertEquals(full.getState().getScore(), detailed.getState().getScore());
+        }
+        assertTrue(lagged, "some pet should have been simulated below full detail");
+
+        detailed.catchUp();
+        assertEquals(full.snapshot(), detailed.snapshot());
+    }
+
+    private static GameState newState() {
+        List<Pet> pets = new ArrayList<>();
+        for (String type : new String[] {"balanced_robot", "friendly_robot", "challenging_robot"}) {
+            Pet pet = new Pet(type, type);
+            pet.setClock(new SimulatedClock(0));
+            pets.add(pet);
+        }
+        Inventory inventory = new Inventory();
+        inventory.addItem(new FoodItem("Tasty Treat", 40), 20);
+        GameState state = new GameState(pets, inventory, 0);
+        state.setRandomSeed(11);
+        return state;
+    }
+
+    private static void tick(GameSession session, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            session.tick();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Unit tests for the property-based model fuzzer.
+ * Verifies that the pet model keeps its invariants, that the shrinker finds minimal
+ * sequences, and that reproducer files can be read back.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.sim.fuzz.FuzzFailure;
+import com.group14.virtualpet.sim.fuzz.FuzzStep;
+import com.group14.virtualpet.sim.fuzz.InvariantChecker;
+import com.group14.virtualpet.sim.fuzz.ModelFuzzer;
+import com.group14.virtualpet.sim.fuzz.Shrinker;
+
+/**
+ * Tests for ModelFuzzer
+ */
+public class ModelFuzzerTest {
+
+    @Test
+    void testInvariantsHold() {
+        ModelFuzzer fuzzer = new ModelFuzzer(5_000, 200, 16);
+        Map<String, FuzzFailure> failures = fuzzer.run();
+        assertTrue(failures.isEmpty(), () -> "invariants broken: " + failures.values());
+        assertTrue(fuzzer.getStepsRun() > 100_000);
+    }
+
+    @Test
+    void testDeadPetStaysDead() {
+        Pet pet = new Pet("Ghost", "balanced_robot");
+        pet.advance(10_000);
+        assertEquals(PetState.DEAD, pet.getCurrentState());
+        assertFalse(pet.takeToVet());
+        pet.feed(new FoodItem("Tasty Treat", 40));
+        pet.exercise();
+        assertEquals(PetState.DEAD, pet.getCurrentState());
+        assertEquals(0, pet.getHealth());
+
+        List<FuzzStep> steps = List.of(new FuzzStep(FuzzStep.Op.ADVANCE, 399),
+                new FuzzStep(FuzzStep.Op.ADVANCE, 399), new FuzzStep(FuzzStep.Op.PET_VET),
+                new FuzzStep(FuzzStep.Op.PET_FEED, 2), new FuzzStep(FuzzStep.Op.PET_WAKE_UP));
+        assertNull(InvariantChecker.check("challenging_robot", 0, steps));
+    }
+
+    @Test
+    void testShrinkerFindsMinimalSequence() {
+        List<Integer> steps = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            steps.add(i % 10 + 10);
+        }
+        // Fails whenever some value below 15 comes before a 17, whatever else is there.
+        List<Integer> shrunk = Shrinker.shrink(steps, candidate -> {
+            int first = -1;
+            for (int i = 0; i < candidate.size() && first < 0; i++) {
+                if (candidate.get(i) < 15) {
+                    first = i;
+                }
+            }
+            return first >= 0 && candidate.subList(first, candidate.size()).contains(17);
+        }, value -> value > 10 && value < 15 ? List.of(10) : List.of());
+        assertEquals(List.of(10, 17), shrunk);
+    }
+
+    @Test
+    void testReproducerRoundTrip(@TempDir Path directory) throws IOException {
+        List<FuzzStep> steps = List.of(new FuzzStep(FuzzStep.Op.PET_FORCE_SLEEP),
+                new FuzzStep(FuzzStep.Op.WAIT, 61), new FuzzStep(FuzzStep.Op.GRANT, 5),
+                new FuzzStep(FuzzStep.Op.PET_WAKE_UP));
+        FuzzFailure failure = new FuzzFailure("SLEEP_EXIT", "example", "friendly_robot", 42, steps);
+        Path file = ModelFuzzer.writeReproducer(failure, directory);
+
+        List<String> lines = Files.readAllLines(file);
+        assertTrue(lines.contains("type friendly_robot"));
+        assertTrue(lines.contains("WAIT 61"));
+        // The model is fixed, so the sequence passes now.
+        assertNull(ModelFuzzer.readReproducer(file));
+    }
+}
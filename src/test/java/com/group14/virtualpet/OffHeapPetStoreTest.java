@@ -0,0 +1,99 @@
+/**
+ * Unit tests for the off-heap pet store.
+ * Only compiled and run by the "preview" Maven profile.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.OffHeapPetStore;
+import com.group14.virtualpet.model.PackedPetState;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetState;
+
+/**
+ * Tests for OffHeapPetStore
+ */
+public class OffHeapPetStoreTest {
+
+    private static final String[] PET_TYPES = {"friendly_robot", "balanced_robot", "challenging_robot"};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testTickAllMatchesLiveOneTick() {
+        List<Pet> pets = createVariedPets(250, 3);
+        try (OffHeapPetStore store = new OffHeapPetStore(pets.size())) {
+            pets.forEach(store::add);
+            for (int tick = 0; tick < 400; tick++) {
+                pets.forEach(Pet::liveOneTick);
+                store.tickAll();
+                for (int i = 0; i < pets.size(); i++) {
+                    assertEquals(PackedPetState.encode(pets.get(i)), store.pack(i), "tick " + tick + ", pet " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSnapshotRoundTrip() throws IOException {
+        List<Pet> pets = createVariedPets(100, 5);
+        Path file = tempDir.resolve("pets.bin");
+        try (OffHeapPetStore store = new OffHeapPetStore(pets.size())) {
+            pets.forEach(store::add);
+            store.tickAll();
+            store.writeSnapshot(file);
+
+            try (OffHeapPetStore loaded = OffHeapPetStore.readSnapshot(file)) {
+                assertEquals(store.size(), loaded.size());
+                for (int i = 0; i < store.size(); i++) {
+                    assertEquals(store.pack(i), loaded.pack(i), "pet " + i);
+                    assertEquals(store.getType(i), loaded.getType(i));
+                    assertEquals(store.getMaxSleep(i), loaded.getMaxSleep(i));
+                    assertEquals(store.getLastPlayTime(i), loaded.getLastPlayTime(i));
+                    assertEquals(store.getLastVetTime(i), loaded.getLastVetTime(i));
+                }
+                for (PetState state : PetState.values()) {
+                    assertEquals(store.countInState(state), loaded.countInState(state));
+                }
+                Pet restored = loaded.toPet(7, "Restored");
+                assertEquals(store.pack(7), PackedPetState.encode(restored));
+            }
+        }
+    }
+
+    private static List<Pet> createVariedPets(int count, long seed) {
+        Random random = new Random(seed);
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Pet pet = new Pet("Pet" + i, PET_TYPES[i % PET_TYPES.length]);
+            int warmup = random.nextInt(200);
+            for (int t = 0; t < warmup; t++) {
+                switch (random.nextInt(8)) {
+                    case 0 -> pet.feed(new FoodItem("Kibble", 20 + random.nextInt(60)));
+                    case 1 -> pet.receiveGift(new GiftItem("Toy", 15 + random.nextInt(45)));
+                    case 2 -> pet.play();
+                    case 3 -> pet.goToBed();
+                    default -> pet.liveOneTick();
+                }
+            }
+            pets.add(pet);
+        }
+        return pets;
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Unit tests for the sharded parallel pet ticker.
+ * Verifies that a parallel tick gives exactly the same pets as a serial tick,
+ * whatever the shard size.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.group14.virtualpet.PetAssertions.assertSamePet;
+import static com.group14.virtualpet.PetAssertions.newPets;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetPopulation;
+import com.group14.virtualpet.sim.ParallelPetTicker;
+import com.group14.virtualpet.sim.ParallelPetTicker.TickReport;
+
+/**
+ * Tests for ParallelPetTicker
+ */
+public class ParallelPetTickerTest {
+
+    private static final int PETS = 1_003;
+    // One shard, uneven splits, a shard per pet, and more shards than threads.
+    private static final int[] SHARD_SIZES = {PETS, 5_000, 100, 97, 7, 1};
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testPopulationTickMatchesSerialTick() {
+        for (int shardSize : SHARD_SIZES) {
+            PetPopulation serial = newPopulation();
+            PetPopulation parallel = newPopulation();
+            ParallelPetTicker ticker = new ParallelPetTicker(executor, shardSize);
+            for (int tick = 0; tick < 300; tick++) {
+                serial.tickAll();
+                TickReport report = ticker.tick(parallel);
+                assertReport(report, shardSize);
+                for (int i = 0; i < PETS; i++) {
+                    String context = "shard size " + shardSize + ", tick " + tick + ", pet " + i;
+                    assertEquals(serial.pack(i), parallel.pack(i), context);
+                    assertSamePet(serial.toPet(i), parallel.toPet(i), context);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPetListTickMatchesSerialTick() {
+        for (int shardSize : SHARD_SIZES) {
+            List<Pet> serial = newPets(PETS, 17);
+            List<Pet> parallel = newPets(PETS, 17);
+            ParallelPetTicker ticker = new ParallelPetTicker(executor, shardSize);
+            for (int tick = 0; tick < 200; tick++) {
+                for (Pet pet : serial) {
+                    pet.liveOneTick();
+                }
+                assertReport(ticker.tick(parallel), shardSize);
+                for (int i = 0; i < PETS; i++) {
+                    assertSamePet(serial.get(i), parallel.get(i),
+                            "shard size " + shardSize + ", tick " + tick + ", pet " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEmptyPopulationHasNoShards() {
+        TickReport report = new ParallelPetTicker(executor, 8).tick(new PetPopulation());
+        assertEquals(0, report.petCount());
+        assertEquals(0, report.shardCount());
+        assertThrows(IllegalArgumentException.class, () -> new ParallelPetTicker(executor, 0));
+    }
+
+    private static void assertReport(TickReport report, int shardSize) {
+        assertEquals(PETS, report.petCount(), "pet count");
+        assertEquals((PETS + shardSize - 1) / shardSize, report.shardCount(), "shard count for " + shardSize);
+    }
+
+    private static PetPopulation newPopulation() {
+        PetPopulation population = new PetPopulation();
+        for (Pet pet : newPets(PETS, 17, false)) {
+            population.add(pet);
+        }
+        return population;
+    }
+}
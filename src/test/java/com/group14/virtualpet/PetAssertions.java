@@ -0,0 +1,91 @@
+/**
+ * Shared helpers for tests that compare pets simulated in different ways.
+ * Builds reproducible sets of pets and asserts that two pets are in the same state.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetView;
+import com.group14.virtualpet.model.StatEffect;
+import com.group14.virtualpet.model.TimedEffect;
+
+/**
+ * Pet factories and assertions shared by the simulation tests
+ */
+final class PetAssertions {
+
+    static final String[] PET_TYPES = {"friendly_robot", "balanced_robot", "challenging_robot"};
+
+    private PetAssertions() {}
+
+    /**
+     * Creates pets of every type in a spread of states: each has lived a random
+     * number of ticks, and some are asleep, just fed or under a timed effect.
+     * The same count and seed always give the same pets.
+     */
+    static List<Pet> newPets(int count, long seed) {
+        return newPets(count, seed, true);
+    }
+
+    /**
+     * Creates pets as {@link #newPets(int, long)} does, optionally without timed
+     * effects, e.g. for a PetPopulation, which only holds pets at base rates.
+     */
+    static List<Pet> newPets(int count, long seed, boolean withEffects) {
+        Random random = new Random(seed);
+        List<Pet> pets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Pet pet = new Pet("Pet" + i, PET_TYPES[i % PET_TYPES.length]);
+            pet.advance(random.nextInt(250));
+            switch (random.nextInt(5)) {
+                case 0 -> pet.goToBed();
+                case 1 -> pet.feed(new FoodItem("Kibble", 10 + random.nextInt(50)));
+                case 2 -> {
+                    TimedEffect effect = randomEffect(random);
+                    if (withEffects) {
+                        pet.applyEffect(effect);
+                    }
+                }
+                default -> { }
+            }
+            pets.add(pet);
+        }
+        return pets;
+    }
+
+    /** Creates a timed effect of a random kind, rate and duration. */
+    static TimedEffect randomEffect(Random random) {
+        return new TimedEffect(StatEffect.values()[random.nextInt(StatEffect.values().length)],
+                random.nextInt(300), 1 + random.nextInt(200));
+    }
+
+    /** Asserts that two views show the same state, stats and maxima. */
+    static void assertSamePet(PetView expected, PetView actual, String context) {
+        assertEquals(expected.getCurrentState(), actual.getCurrentState(), context + ": state");
+        assertEquals(expected.getHealth(), actual.getHealth(), context + ": health");
+        assertEquals(expected.getSleep(), actual.getSleep(), context + ": sleep");
+        assertEquals(expected.getFullness(), actual.getFullness(), context + ": fullness");
+        assertEquals(expected.getHappiness(), actual.getHappiness(), context + ": happiness");
+        assertEquals(expected.getMaxHealth(), actual.getMaxHealth(), context + ": max health");
+        assertEquals(expected.getMaxSleep(), actual.getMaxSleep(), context + ": max sleep");
+        assertEquals(expected.getMaxFullness(), actual.getMaxFullness(), context + ": max fullness");
+        assertEquals(expected.getMaxHappiness(), actual.getMaxHappiness(), context + ": max happiness");
+    }
+
+    /** Asserts that two pets have the same state, stats, maxima and active timed effects. */
+    static void assertSamePet(Pet expected, Pet actual, String context) {
+        assertSamePet((PetView) expected, actual, context);
+        assertEquals(expected.getEffects(), actual.getEffects(), context + ": effects");
+    }
+}
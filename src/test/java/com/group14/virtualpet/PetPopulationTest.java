@@ -0,0 +1,222 @@
+/**
+ * Unit tests for the struct-of-arrays pet population.
+ * Verifies that ticking a population matches ticking individual Pet objects
+ * and that the packed encoding reports the same stats and state changes.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.group14.virtualpet.PetAssertions.PET_TYPES;
+import static com.group14.virtualpet.PetAssertions.assertSamePet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.PackedPetState;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetPopulation;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetView;
+import com.group14.virtualpet.model.StatEffect;
+import com.group14.virtualpet.model.TickKernel;
+import com.group14.virtualpet.model.TickKernels;
+import com.group14.virtualpet.model.TimedEffect;
+
+/**
+ * Tests for PetPopulation
+ */
+public class PetPopulationTest {
+
+    @Test
+    void testTickAllMatchesLiveOneTick() {
+        Random random = new Random(42);
+        List<Pet> pets = new ArrayList<>();
+        PetPopulation population = new PetPopulation(4);
+
+        // Build pets in a spread of starting states by applying random commands first.
+        for (int i = 0; i < 300; i++) {
+            Pet pet = new Pet("Pet" + i, PET_TYPES[i % PET_TYPES.length]);
+            int warmup = random.nextInt(200);
+            for (int t = 0; t < warmup; t++) {
+                switch (random.nextInt(8)) {
+                    case 0 -> pet.feed(new FoodItem("Kibble", 20 + random.nextInt(60)));
+                    case 1 -> pet.receiveGift(new GiftItem("Toy", 15 + random.nextInt(45)));
+                    case 2 -> pet.exercise();
+                    case 3 -> pet.goToBed();
+                    default -> pet.liveOneTick();
+                }
+            }
+            pets.add(pet);
+            population.add(pet);
+        }
+
+        for (int tick = 0; tick < 400; tick++) {
+            for (Pet pet : pets) {
+                pet.liveOneTick();
+            }
+            population.tickAll();
+            for (int i = 0; i < pets.size(); i++) {
+                assertSamePet(pets.get(i), population.view(i), "tick " + tick + ", pet " + i);
+            }
+        }
+    }
+
+    @Test
+    void testVectorKernelMatchesScalarKernel() {
+        TickKernel vector = TickKernels.vector();
+        assumeTrue(vector != null, "vector kernel needs the 'vector' profile");
+
+        Random random = new Random(11);
+        PetPopulation scalarPopulation = new PetPopulation();
+        PetPopulation vectorPopulation = new PetPopulation();
+        scalarPopulation.setTickKernel(TickKernels.scalar());
+        vectorPopulation.setTickKernel(vector);
+        // An odd count so the scalar tail of the vector kernel is exercised too.
+        for (int i = 0; i < 1001; i++) {
+            Pet pet = new Pet("Pet" + i, PET_TYPES[i % PET_TYPES.length]);
+            pet.advance(random.nextInt(300));
+            if (random.nextInt(4) == 0) {
+                pet.goToBed();
+            }
+            scalarPopulation.add(pet);
+            vectorPopulation.add(pet);
+        }
+
+        for (int tick = 0; tick < 500; tick++) {
+            scalarPopulation.tickAll();
+            vectorPopulation.tickAll();
+            for (int i = 0; i < scalarPopulation.size(); i++) {
+                assertEquals(scalarPopulation.pack(i), vectorPopulation.pack(i), "tick " + tick + ", pet " + i);
+            }
+        }
+    }
+
+    @Test
+    void testTickedStatesAreStableUnderEvaluateStates() {
+        Random random = new Random(5);
+        PetPopulation population = new PetPopulation();
+        for (int i = 0; i < 500; i++) {
+            Pet pet = new Pet("Pet" + i, PET_TYPES[i % PET_TYPES.length]);
+            pet.advance(random.nextInt(400));
+            population.add(pet);
+        }
+        long[] ticked = new long[population.size()];
+        long[] evaluated = new long[population.size()];
+        for (int tick = 0; tick < 300; tick++) {
+            population.tickAll();
+            population.packAll(ticked);
+            population.evaluateStates(0, population.size());
+            population.packAll(evaluated);
+            for (int i = 0; i < population.size(); i++) {
+                assertEquals(ticked[i], evaluated[i], "tick " + tick + ", pet " + i);
+            }
+        }
+    }
+
+    @Test
+    void testToPetPreservesStats() {
+        PetPopulation population = new PetPopulation();
+        int index = population.add("Sparky", "challenging_robot");
+        for (int tick = 0; tick < 50; tick++) {
+            population.tickAll();
+        }
+        Pet pet = population.toPet(index);
+        assertSamePet(pet, population.view(index), "materialized pet");
+    }
+
+    @Test
+    void testPackedStateTracksTickChanges() {
+        PetPopulation population = new PetPopulation();
+        for (int i = 0; i < 90; i++) {
+            population.add("Pet" + i, PET_TYPES[i % PET_TYPES.length]);
+        }
+        long[] before = new long[population.size()];
+        long[] after = new long[population.size()];
+        int[] changed = new int[population.size()];
+
+        for (int tick = 0; tick < 300; tick++) {
+            population.packAll(before);
+            population.tickAll();
+            population.packAll(after);
+
+            int stateChanges = PackedPetState.findChanged(before, after, population.size(),
+                    PackedPetState.STATE_MASK, changed);
+            int expected = 0;
+            for (int i = 0; i < population.size(); i++) {
+                PetView pet = population.view(i);
+                assertEquals(PackedPetState.encode(pet), after[i], "tick " + tick + ", pet " + i);
+                assertEquals(pet.getHealth(), PackedPetState.health(after[i]));
+                assertEquals(pet.getHappiness(), PackedPetState.happiness(after[i]));
+                assertEquals(pet.getCurrentState(), PackedPetState.state(after[i]));
+                if (PackedPetState.state(before[i]) != pet.getCurrentState()) {
+                    assertEquals(i, changed[expected++], "changed index at tick " + tick);
+                }
+            }
+            assertEquals(expected, stateChanges, "state changes at tick " + tick);
+        }
+
+        // Restoring a packed record brings back the earlier state.
+        population.unpack(0, before[0]);
+        assertEquals(before[0], population.pack(0));
+    }
+
+    @Test
+    void testPetsWithActiveEffectsAreRejected() {
+        PetPopulation population = new PetPopulation();
+        Pet buffed = new Pet("Buffed", "balanced_robot");
+        buffed.applyEffect(new TimedEffect(StatEffect.FULLNESS_DECAY, 50, 20));
+        assertThrows(IllegalArgumentException.class, () -> population.add(buffed));
+        assertEquals(0, population.size());
+
+        // Once the effect has run out, the pet ticks at base rates and can be copied.
+        buffed.advance(20);
+        buffed.liveOneTick();
+        int index = population.add(buffed);
+        for (int tick = 0; tick < 100; tick++) {
+            buffed.liveOneTick();
+            population.tickAll();
+            assertSamePet(buffed, population.view(index), "tick " + tick);
+        }
+        assertSamePet(buffed, population.toPet(index), "materialized pet");
+    }
+
+    @Test
+    void testUnpackRejectsInvalidRecords() {
+        PetPopulation population = new PetPopulation();
+        int index = population.add("Sparky", "friendly_robot");
+        PetView pet = population.view(index);
+        long valid = population.pack(index);
+
+        // State ordinals 5 to 7 fit in the 3 state bits but are not PetStates.
+        for (long ordinal = PetState.values().length; ordinal < 8; ordinal++) {
+            long foreign = (valid & ~PackedPetState.STATE_MASK) | (ordinal << 60);
+            assertThrows(IllegalArgumentException.class, () -> population.unpack(index, foreign));
+        }
+        assertThrows(IllegalArgumentException.class, () -> population.unpack(index, valid | Long.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> population.unpack(index, PackedPetState.encode(
+                pet.getMaxHealth() + 1, 0, 0, 0, PetState.NORMAL)));
+        assertThrows(IllegalArgumentException.class, () -> population.unpack(index, PackedPetState.encode(
+                0, pet.getMaxSleep() + 1, 0, 0, PetState.NORMAL)));
+        assertThrows(IllegalArgumentException.class, () -> population.unpack(index, PackedPetState.encode(
+                0, 0, pet.getMaxFullness() + 1, 0, PetState.NORMAL)));
+        assertThrows(IllegalArgumentException.class, () -> population.unpack(index, PackedPetState.encode(
+                0, 0, 0, pet.getMaxHappiness() + 1, PetState.NORMAL)));
+
+        // Rejected records leave the pet as it was; records at the maxima are accepted.
+        assertEquals(valid, population.pack(index));
+        long full = PackedPetState.encode(pet.getMaxHealth(), pet.getMaxSleep(), pet.getMaxFullness(),
+                pet.getMaxHappiness(), PetState.SLEEPING);
+        population.unpack(index, full);
+        assertEquals(full, population.pack(index));
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Unit tests for the pet model.
+ * Verifies tick behaviour and the closed-form catch-up used when loading saves.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.util.Random;
+
+import static com.group14.virtualpet.PetAssertions.PET_TYPES;
+import static com.group14.virtualpet.PetAssertions.assertSamePet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetEvent;
+import com.group14.virtualpet.model.PetEventSink;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.StatEffect;
+import com.group14.virtualpet.model.TimedEffect;
+import com.group14.virtualpet.util.SimulatedClock;
+
+/**
+ * Tests for Pet
+ */
+public class PetTest {
+
+    @Test
+    void testAdvanceMatchesRepeatedTicks() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 500; trial++) {
+            String type = PET_TYPES[trial % PET_TYPES.length];
+            Pet stepped = new Pet("Stepped", type);
+            Pet advanced = new Pet("Advanced", type);
+            for (int round = 0; round < 6; round++) {
+                int ticks = random.nextInt(120);
+                for (int t = 0; t < ticks; t++) {
+                    stepped.liveOneTick();
+                }
+                advanced.advance(ticks);
+                assertSamePet(stepped, advanced, "trial " + trial + ", round " + round);
+
+                // Apply the same command to both so later rounds start from varied states.
+                int command = random.nextInt(6);
+                applyCommand(stepped, command, trial);
+                applyCommand(advanced, command, trial);
+            }
+        }
+    }
+
+    @Test
+    void testAdvanceLongAbsenceEndsDead() {
+        Pet pet = new Pet("Away", "balanced_robot");
+        pet.advance(30L * 24 * 60 * 60); // A month of one-second ticks.
+        assertEquals(PetState.DEAD, pet.getCurrentState());
+    }
+
+    @Test
+    void testCooldownsFollowSimulatedClock() {
+        SimulatedClock clock = new SimulatedClock();
+        Pet pet = new Pet("Clocky", "friendly_robot");
+        pet.setClock(clock);
+
+        assertTrue(pet.play(), "first play should be allowed");
+        assertFalse(pet.isPlayAvailable(), "play should be on cooldown immediately after playing");
+        clock.advance(59_999);
+        assertFalse(pet.play(), "play should still be on cooldown just before one minute");
+        clock.advance(1);
+        assertTrue(pet.isPlayAvailable(), "play should be available after one minute");
+
+        assertTrue(pet.takeToVet(), "first vet visit should be allowed");
+        clock.advance(5 * 60_000 - 1);
+        assertFalse(pet.isVetAvailable(), "vet should be on cooldown for five minutes");
+        clock.advance(1);
+        assertTrue(pet.takeToVet(), "vet should be available after five minutes");
+    }
+
+    @Test
+    void testTimedEffectScalesDeclineUntilItExpires() {
+        // friendly_robot loses 1 happiness per tick; at 50% it loses a point every other tick.
+        Pet pet = new Pet("Buffed", "friendly_robot");
+        pet.receiveGift(new GiftItem("Chew Toy", 15, new TimedEffect(StatEffect.HAPPINESS_DECAY, 50, 10)));
+        int happiness = pet.getHappiness();
+        assertEquals(10, pet.getEffects().getRemainingTicks(StatEffect.HAPPINESS_DECAY));
+
+        for (int t = 0; t < 10; t++) {
+            pet.liveOneTick();
+        }
+        assertEquals(happiness - 5, pet.getHappiness(), "half the decline while the effect lasts");
+        assertEquals(0, pet.getEffects().getRemainingTicks(StatEffect.HAPPINESS_DECAY));
+
+        for (int t = 0; t < 4; t++) {
+            pet.liveOneTick();
+        }
+        assertEquals(happiness - 9, pet.getHappiness(), "normal decline once the effect has ended");
+        assertTrue(pet.getEffects().isEmpty());
+    }
+
+    @Test
+    void testEachStepChangesStateAtMostOnce() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 200; trial++) {
+            Pet pet = new Pet("Counted", PET_TYPES[trial % PET_TYPES.length]);
+            pet.setClock(new SimulatedClock());
+            int[] changes = new int[1];
+            pet.setEventSink(new PetEventSink() {
+                @Override
+                public void onPetEvent(PetEvent event, Pet source, PetState from, PetState to) {
+                    if (event == PetEvent.STATE_CHANGED) {
+                        changes[0]++;
+                    }
+                }
+            });
+            for (int step = 0; step < 400; step++) {
+                changes[0] = 0;
+                PetState before = pet.getCurrentState();
+                switch (random.nextInt(10)) {
+                    case 0 -> pet.feed(new FoodItem("Kibble", 20 + random.nextInt(60)));
+                    case 1 -> pet.receiveGift(new GiftItem("Toy", 15 + random.nextInt(45)));
+                    case 2 -> pet.exercise();
+                    case 3 -> pet.goToBed();
+                    case 4 -> pet.forceSleep();
+                    case 5 -> pet.wakeUp();
+                    default -> pet.liveOneTick();
+                }
+                int expected = before == pet.getCurrentState() ? 0 : 1;
+                assertEquals(expected, changes[0], "trial " + trial + ", step " + step);
+            }
+        }
+    }
+
+    private static void applyCommand(Pet pet, int command, int trial) {
+        switch (command) {
+            case 0 -> pet.feed(new FoodItem("Kibble", 20 + trial % 50));
+            case 1 -> pet.receiveGift(new GiftItem("Toy", 15 + trial % 40));
+            case 2 -> pet.exercise();
+            case 3 -> pet.goToBed();
+            case 4 -> pet.applyEffect(new TimedEffect(StatEffect.values()[trial % StatEffect.values().length],
+                    trial * 37 % 301, 1 + trial % 90));
+            default -> { }
+        }
+    }
+}
@@ -10,9 +10,14 @@ package com.group14.virtualpet;
 
 import java.io.File;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.PetType;
+
 /**
  * Test that required resources are available.
  * 
@@ -33,4 +38,17 @@ class ResourceTest {
         assertTrue(balancedRobotImage.exists(), "balanced_robot image does not exist");
         assertTrue(challengingRobotImage.exists(), "challenging_robot image does not exist");
     }
+
+    @Test
+    void testPetTypeRegistryResolvesSprites() {
+        assertFalse(PetType.all().isEmpty(), "registry should define at least one pet type");
+        for (PetType type : PetType.all()) {
+            for (PetState state : PetState.values()) {
+                String path = type.getSpritePath(state, false);
+                assertNotNull(path, type.getId() + " has no sprite for " + state);
+                assertNotNull(getClass().getResource(path), "missing sprite resource " + path);
+                assertNotNull(type.getSpritePath(state, true), type.getId() + " has no movement sprite for " + state);
+            }
+        }
+    }
 }
@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Test;
 
 import com.group14.virtualpet.model.Inventory;
 import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.StatEffect;
+import com.group14.virtualpet.model.TimedEffect;
 import com.group14.virtualpet.state.GameState;
 import com.group14.virtualpet.util.SaveLoadUtil;
 
@@ -40,8 +42,8 @@ public class SaveGameTest {
     
     @AfterEach
     void tearDown() {
-        // Delete test save file if it exists
-        File saveFile = new File(TEST_SAVE_FILENAME);
+        // Delete test save file if it exists; SaveLoadUtil puts it in saves/ with a .sav extension
+        File saveFile = new File("saves", TEST_SAVE_FILENAME + ".sav");
         if (saveFile.exists()) {
             saveFile.delete();
         }
@@ -62,4 +64,50 @@ public class SaveGameTest {
         assertEquals(testPet.getName(), loadedState.getPet().getName(), "Pet name should be preserved");
         // Add more assertions for pet stats, inventory items, etc.
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testSaveAndLoadHousehold() {
+        testState.addPet(new Pet("SecondPet", "balanced_robot"));
+        testState.addPet(new Pet("ThirdPet", "challenging_robot"));
+        testState.getPet(2).advance(100);
+
+        assertTrue(SaveLoadUtil.saveGame(testState, TEST_SAVE_FILENAME), "Save operation should succeed");
+        GameState loadedState = SaveLoadUtil.loadGame(TEST_SAVE_FILENAME);
+
+        assertNotNull(loadedState, "Loaded state should not be null");
+        assertEquals(3, loadedState.getPetCount(), "Every pet should be saved");
+        assertEquals("SecondPet", loadedState.getPet(1).getName());
+        assertEquals(testState.getPet(2).getFullness(), loadedState.getPet(2).getFullness(),
+                "Pet stats should be preserved");
+    }
+
+    @Test
+    void testSaveAndLoadActiveEffects() {
+        testPet.applyEffect(new TimedEffect(StatEffect.SLEEP_RECOVERY, 200, 30));
+        testPet.applyEffect(new TimedEffect(StatEffect.FULLNESS_DECAY, 50, 60));
+        testPet.advance(7);
+
+        assertTrue(SaveLoadUtil.saveGame(testState, TEST_SAVE_FILENAME), "Save operation should succeed");
+        GameState loadedState = SaveLoadUtil.loadGame(TEST_SAVE_FILENAME);
+
+        assertNotNull(loadedState, "Loaded state should not be null");
+        assertEquals(testPet.getEffects(), loadedState.getPet().getEffects(), "Active effects should be preserved");
+        assertEquals(53, loadedState.getPet().getEffects().getRemainingTicks(StatEffect.FULLNESS_DECAY));
+    }
+
+    @Test
+    void testLoadedSessionTimerIsNotRunning() {
+        testState.addPlaytimeMillis(90_000);
+
+        assertTrue(SaveLoadUtil.saveGame(testState, TEST_SAVE_FILENAME), "Save operation should succeed");
+        GameState loadedState = SaveLoadUtil.loadGame(TEST_SAVE_FILENAME);
+
+        assertNotNull(loadedState, "Loaded state should not be null");
+        assertEquals(-1, loadedState.getCurrentSessionStartTimeMillis(), "Session timer should not be running");
+        assertEquals(0, loadedState.getElapsedSessionTimeMinutes(), "No session time should have elapsed");
+        int sessions = loadedState.getSessionCount();
+        loadedState.stopSessionTimer();
+        assertEquals(90_000, loadedState.getTotalPlaytimeMillis(), "Stopping should add no playtime");
+        assertEquals(sessions, loadedState.getSessionCount(), "Stopping should not count a session");
+    }
+}
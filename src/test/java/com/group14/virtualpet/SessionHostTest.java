@@ -0,0 +1,142 @@
+/**
+ * Unit tests for the headless session host.
+ * Verifies that hosted sessions tick on virtual threads, that suspended sessions stop ticking
+ * until resumed, that the game rules grant items, that the session limit is enforced, and that
+ * slow event subscribers lose or merge their own events without holding up the session.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.sim.EventSubscription;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameRules;
+import com.group14.virtualpet.sim.SessionEvent;
+import com.group14.virtualpet.sim.SessionHost;
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.state.GameStateSnapshot;
+
+/**
+ * Tests for SessionHost
+ */
+public class SessionHostTest {
+
+    @Test
+    void testSessionLifecycle() throws InterruptedException {
+        try (SessionHost host = new SessionHost(1, 4)) {
+            long id = host.create(new GameState(new Pet("Hosted", "friendly_robot"), new Inventory(), 0));
+            assertEquals(SessionHost.Status.RUNNING, host.getStatus(id));
+            waitForTicks(host, id, GameRules.ITEM_GRANT_INTERVAL_TICKS * 2L);
+            // The rules run headless: a regular grant has arrived by now.
+            GameStateSnapshot running = host.getSnapshot(id);
+            assertFalse(running.inventory().isEmpty(), "Expected a granted item");
+
+            assertTrue(host.suspend(id));
+            assertFalse(host.suspend(id));
+            assertEquals(SessionHost.Status.SUSPENDED, host.getStatus(id));
+            long pausedAt = host.getTickCount(id);
+            Thread.sleep(50);
+            assertEquals(pausedAt, host.getTickCount(id));
+
+            // Commands are still applied while suspended.
+            assertTrue(host.submit(id, GameCommand.of(GameCommand.Type.SLEEP)));
+
+            assertTrue(host.resume(id));
+            waitForTicks(host, id, pausedAt + 10);
+
+            GameStateSnapshot last = host.stop(id);
+            assertNotNull(last);
+            assertNull(host.getStatus(id));
+            assertEquals(0, host.size());
+            assertFalse(host.submit(id, GameCommand.of(GameCommand.Type.PLAY)));
+        }
+    }
+
+    @Test
+    void testSessionLimitIsEnforced() {
+        try (SessionHost host = new SessionHost(1000, 2)) {
+            host.create(new GameState(new Pet("One", "friendly_robot"), new Inventory(), 0));
+            long second = host.create(new GameState(new Pet("Two", "friendly_robot"), new Inventory(), 0));
+            assertThrows(IllegalStateException.class,
+                    () -> host.create(new GameState(new Pet("Three", "friendly_robot"), new Inventory(), 0)));
+            host.stop(second);
+            host.create(new GameState(new Pet("Four", "friendly_robot"), new Inventory(), 0));
+            assertEquals(2, host.size());
+        }
+    }
+
+    @Test
+    void testSlowSubscribersNeverStallTheSession() throws InterruptedException {
+        int gifts = 12;
+        GiftItem toy = new GiftItem("Toy", 2);
+        Pet pet = new Pet("Watched", "friendly_robot");
+        pet.decreaseHappiness(2 * gifts + 5); // Room for every gift, without making the pet angry.
+        Inventory inventory = new Inventory();
+        inventory.addItem(toy, gifts);
+        // Ticks are an hour apart, so only the gifts below change the pet while the test runs.
+        try (SessionHost host = new SessionHost(TimeUnit.HOURS.toMillis(1), 4)) {
+            long id = host.create(new GameState(pet, inventory, 0));
+            EventSubscription dropping = host.subscribe(id, 4, EventSubscription.OverflowPolicy.DROP_OLDEST);
+            EventSubscription coalescing = host.subscribe(id, 4, EventSubscription.OverflowPolicy.COALESCE);
+            int happiness = host.view(id).pet().getHappiness();
+            // Nobody reads either subscription while the session handles every gift.
+            for (int i = 0; i < gifts; i++) {
+                assertTrue(host.submit(id, GameCommand.gift(toy)));
+            }
+            // The view is queued behind the gifts, so it returns once they have all been handled.
+            assertEquals(happiness + 2 * gifts, host.view(id).pet().getHappiness());
+
+            List<SessionEvent> kept = drain(dropping);
+            assertEquals(4, kept.size());
+            assertTrue(dropping.takeDroppedCount() > 0, "a full drop-oldest buffer should drop events");
+
+            // Stat changes merge into one event whose deltas span all the gifts.
+            List<SessionEvent> merged = drain(coalescing);
+            assertEquals(1, merged.size());
+            SessionEvent stats = merged.get(0);
+            assertEquals(SessionEvent.Type.STATS_CHANGED, stats.type());
+            assertTrue(stats.pet().getHappiness() - stats.previous().getHappiness() >= 2 * (gifts - 1),
+                    "merged deltas should cover every gift");
+
+            host.stop(id);
+            assertTrue(dropping.isClosed());
+            // Events left from before the stop can still be read; then the subscription ends.
+            drain(coalescing);
+            assertNull(coalescing.poll(10, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static List<SessionEvent> drain(EventSubscription subscription) throws InterruptedException {
+        List<SessionEvent> events = new ArrayList<>();
+        SessionEvent event;
+        while ((event = subscription.poll(0, TimeUnit.MILLISECONDS)) != null) {
+            events.add(event);
+        }
+        return events;
+    }
+
+    private static void waitForTicks(SessionHost host, long id, long ticks) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (host.getTickCount(id) < ticks && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(host.getTickCount(id) >= ticks, "Session did not reach tick " + ticks);
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Unit tests for session recording and replay.
+ * Verifies that seeded randomness repeats, that a recorded game replays to the same state
+ * through the file format, and that a corrupted recording is reported as diverged.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.model.FoodItem;
+import com.group14.virtualpet.model.GiftItem;
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.sim.GameCommand;
+import com.group14.virtualpet.sim.GameLoop;
+import com.group14.virtualpet.sim.GameSession;
+import com.group14.virtualpet.sim.SessionRecorder;
+import com.group14.virtualpet.sim.SessionRecording;
+import com.group14.virtualpet.sim.SessionReplayer;
+import com.group14.virtualpet.state.GameState;
+
+/**
+ * Tests for SessionRecorder and SessionReplayer
+ */
+public class SessionReplayTest {
+
+    @Test
+    void testSameSeedGivesSameRandomEvents() {
+        GameState first = new GameState(new Pet("A", "balanced_robot"), new Inventory(), 0);
+        GameState second = new GameState(new Pet("B", "balanced_robot"), new Inventory(), 0);
+        first.setRandomSeed(42);
+        second.setRandomSeed(42);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first.nextRandom().nextLong(), second.nextRandom().nextLong());
+        }
+        assertEquals(10, first.getRandomDraws());
+    }
+
+    @Test
+    void testRecordedSessionReplaysExactly() throws Exception {
+        SessionRecording recording = recordSession();
+        assertTrue(recording.getCommandCount() > 0);
+        assertTrue(recording.getTickCount() >= 600);
+
+        SessionRecording copy = roundTrip(recording);
+        assertEquals(recording.getEntries(), copy.getEntries());
+
+        SessionReplayer.Result result = SessionReplayer.replay(copy);
+        assertTrue(result.matched(), result.message());
+        assertEquals(recording.getTickCount(), result.ticksReplayed());
+        assertEquals(recording.getCommandCount(), result.commandsReplayed());
+        assertEquals(-1, result.divergedAtTick());
+    }
+
+    @Test
+    void testCorruptedChecksumIsReported() throws Exception {
+        SessionRecording recording = recordSession();
+        byte[] bytes = toBytes(recording);
+        // The file ends with the checksum of the end marker.
+        bytes[bytes.length - 1] ^= 1;
+        SessionRecording corrupted;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            corrupted = SessionRecording.readFrom(in);
+        }
+
+        SessionReplayer.Result result = SessionReplayer.replay(corrupted);
+        assertFalse(result.matched());
+        assertEquals(recording.getTickCount(), result.divergedAtTick(), result.message());
+    }
+
+    /**
+     * Plays a short session on a real loop with 1 ms ticks and the full game rules.
+     * Commands are submitted from the tick callback, so they land wherever the loop
+     * thread happens to pick them up; item grants are recorded as commands.
+     */
+    private static SessionRecording recordSession() throws InterruptedException {
+        Pet pet = new Pet("Replay", "challenging_robot");
+        Inventory inventory = new Inventory();
+        FoodItem food = new FoodItem("Tasty Treat", 40);
+        GiftItem gift = new GiftItem("Ball", 20);
+        inventory.addItem(food, 5);
+        GameState state = new GameState(pet, inventory, 0);
+        state.setRandomSeed(7);
+
+        Random random = new Random(3);
+        CountDownLatch done = new CountDownLatch(600);
+        AtomicReference<GameLoop> loopRef = new AtomicReference<>();
+        GameLoop loop = new GameLoop(new GameSession(state, 1), new GameLoop.Listener() {
+            @Override
+            public void onTick(long tickCount) {
+                if (tickCount % 10 == 0) {
+                    loopRef.get().submit(switch (random.nextInt(6)) {
+                        case 0 -> GameCommand.feed(food);
+                        case 1 -> GameCommand.gift(gift);
+                        case 2 -> GameCommand.of(GameCommand.Type.PLAY);
+                        case 3 -> GameCommand.of(GameCommand.Type.EXERCISE);
+                        case 4 -> GameCommand.grant(gift);
+                        default -> GameCommand.of(GameCommand.Type.SLEEP);
+                    });
+                }
+                done.countDown();
+            }
+        });
+        loopRef.set(loop);
+        SessionRecorder recorder = loop.enableRecording();
+        loop.start();
+        try {
+            assertTrue(done.await(30, TimeUnit.SECONDS), "loop should run 600 ticks");
+        } finally {
+            loop.stop();
+        }
+        return recorder.toRecording();
+    }
+
+    private static byte[] toBytes(SessionRecording recording) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            recording.writeTo(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static SessionRecording roundTrip(SessionRecording recording) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(toBytes(recording)))) {
+            return SessionRecording.readFrom(in);
+        }
+    }
+}
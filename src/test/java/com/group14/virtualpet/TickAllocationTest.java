@@ -0,0 +1,88 @@
+/**
+ * Allocation tests for the pet tick path.
+ * Verifies that ticking a pet, with or without timed effects, creates no garbage
+ * once the JIT has warmed up.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetEventSink;
+import com.group14.virtualpet.model.PetState;
+import com.group14.virtualpet.model.RingBufferEventSink;
+import com.group14.virtualpet.model.StatEffect;
+import com.group14.virtualpet.model.TimedEffect;
+
+/**
+ * Tests for tick allocation
+ */
+public class TickAllocationTest {
+
+    private static final int WARMUP_TICKS = 200_000;
+    private static final int MEASURED_TICKS = 1_000_000;
+    // Re-applied regularly so part of the ticks run with a timed effect active.
+    private static final TimedEffect EFFECT = new TimedEffect(StatEffect.SLEEP_RECOVERY, 150, 300);
+
+    @Test
+    void testTickAllocatesNothingWithDefaultSink() {
+        assertEquals(0, bytesPerTick(null));
+    }
+
+    @Test
+    void testTickAllocatesNothingWithRingBufferSink() {
+        RingBufferEventSink sink = new RingBufferEventSink(1024);
+        assertEquals(0, bytesPerTick(sink));
+        assertTrue(sink.getWrittenCount() > 0, "state changes should have been recorded");
+    }
+
+    /**
+     * Ticks pets of every type through full life cycles (reviving them when they die)
+     * and returns the bytes allocated by this thread per measured tick.
+     */
+    private static long bytesPerTick(PetEventSink sink) {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "JVM does not report per-thread allocation");
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "JVM does not report per-thread allocation");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Pet[] pets = {
+            new Pet("Friendly", "friendly_robot"),
+            new Pet("Balanced", "balanced_robot"),
+            new Pet("Challenging", "challenging_robot")
+        };
+        for (Pet pet : pets) {
+            pet.setEventSink(sink);
+        }
+
+        run(pets, WARMUP_TICKS);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        run(pets, MEASURED_TICKS);
+        long after = threads.getCurrentThreadAllocatedBytes();
+        return (after - before) / MEASURED_TICKS;
+    }
+
+    private static void run(Pet[] pets, int ticks) {
+        for (int t = 0; t < ticks; t++) {
+            Pet pet = pets[t % pets.length];
+            if (pet.getCurrentState() == PetState.DEAD) {
+                pet.revive();
+            }
+            if (t % 1000 == 0) {
+                pet.applyEffect(EFFECT);
+            }
+            pet.liveOneTick();
+        }
+    }
+}
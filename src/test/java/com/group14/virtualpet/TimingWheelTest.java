@@ -0,0 +1,99 @@
+/**
+ * Unit tests for the hierarchical timing wheel.
+ * Verifies that events fire on the first tick at or after their deadline, across
+ * all levels of the wheel, and that cancelled events never fire.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.group14.virtualpet.util.TimingWheel;
+
+/**
+ * Tests for TimingWheel
+ */
+public class TimingWheelTest {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final long START_MILLIS = 12_345;
+
+    @Test
+    void testEventsFireOnFirstTickAtOrAfterDeadline() {
+        Random random = new Random(19);
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+        // Tick on which each pending event is due: the first tick at or after its
+        // deadline, and never earlier than the tick after it was scheduled.
+        Map<Integer, Long> dueTicks = new HashMap<>();
+        List<TimingWheel.Timeout<Integer>> timeouts = new ArrayList<>();
+        long now = START_MILLIS;
+        int nextId = 0;
+
+        for (int step = 0; step < 20_000; step++) {
+            // Deadlines from "already due" to far past the wheel's 2^24-tick span.
+            int kind = random.nextInt(10);
+            long delay = switch (kind) {
+                case 0 -> -random.nextInt(5_000);
+                case 1 -> (long) random.nextInt(1 << 20) * TICK_MILLIS;
+                case 2 -> (1L << 24) * TICK_MILLIS + random.nextInt(100_000) * TICK_MILLIS;
+                default -> random.nextInt(400_000);
+            };
+            int id = nextId++;
+            long deadlineTick = Math.floorDiv(now + delay - START_MILLIS + TICK_MILLIS - 1, TICK_MILLIS);
+            dueTicks.put(id, Math.max(deadlineTick, tickOf(now) + 1));
+            timeouts.add(wheel.schedule(now + delay, id));
+
+            if (random.nextInt(8) == 0) {
+                TimingWheel.Timeout<Integer> victim = timeouts.get(random.nextInt(timeouts.size()));
+                if (wheel.cancel(victim)) {
+                    dueTicks.remove(victim.getPayload());
+                    assertFalse(victim.isPending());
+                }
+            }
+
+            now += random.nextInt(10) == 0 ? random.nextInt(1 << 22) * TICK_MILLIS : random.nextInt(5_000);
+            long tick = tickOf(now);
+            wheel.advanceTo(now, fired -> {
+                Long due = dueTicks.remove(fired);
+                assertTrue(due != null, "event " + fired + " fired twice or after being cancelled");
+                assertTrue(due <= tick, "event " + fired + " fired before its deadline");
+            });
+            for (Map.Entry<Integer, Long> pending : dueTicks.entrySet()) {
+                assertTrue(pending.getValue() > tick, "event " + pending.getKey() + " is overdue at tick " + tick);
+            }
+            assertEquals(dueTicks.size(), wheel.size());
+        }
+    }
+
+    private static long tickOf(long millis) {
+        return Math.floorDiv(millis - START_MILLIS, TICK_MILLIS);
+    }
+
+    @Test
+    void testCancelledEventDoesNotFire() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, 0);
+        TimingWheel.Timeout<String> play = wheel.schedule(60_000, "play");
+        wheel.schedule(300_000, "vet");
+        assertTrue(wheel.cancel(play));
+        assertFalse(wheel.cancel(play), "a cancelled event cannot be cancelled again");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(299_999, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advanceTo(300_000, fired::add);
+        assertEquals(List.of("vet"), fired);
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Benchmark measuring the throughput of the local HTTP/JSON game API.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.group14.virtualpet.api.GameApiServer;
+import com.group14.virtualpet.sim.GameRules;
+import com.group14.virtualpet.sim.SessionHost;
+
+/**
+ * Starts a GameApiServer in this process, creates a number of sessions over HTTP
+ * and then has concurrent clients alternate state fetches and commands on random
+ * sessions. Reports requests per second and latency percentiles.
+ * Not a unit test; run the main method, e.g.:
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.group14.virtualpet.bench.GameApiBenchmark [sessions] [clients] [seconds]
+ * </pre>
+ */
+public class GameApiBenchmark {
+
+    private static final String[] COMMANDS = {"play", "exercise", "sleep", "vet"};
+
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        ObjectMapper mapper = new ObjectMapper();
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        try (SessionHost host = new SessionHost(GameRules.TICK_MILLIS, sessions);
+             GameApiServer server = new GameApiServer(host, 0)) {
+            server.start();
+            String base = "http://localhost:" + server.getPort() + "/sessions";
+
+            long[] ids = new long[sessions];
+            for (int i = 0; i < sessions; i++) {
+                String body = send(client, "POST", base + "?name=Pet" + i + "&type=balanced_robot").body();
+                ids[i] = mapper.readTree(body).get("id").asLong();
+            }
+            System.out.printf("Created %,d sessions%n", sessions);
+
+            AtomicLong errors = new AtomicLong();
+            long end = System.nanoTime() + seconds * 1_000_000_000L;
+            List<long[]> latencies = new ArrayList<>();
+            List<Thread> threads = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                long[] samples = new long[1 << 20];
+                latencies.add(samples);
+                threads.add(Thread.ofVirtual().start(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int n = 0;
+                    try {
+                        while (System.nanoTime() < end && n < samples.length) {
+                            long id = ids[random.nextInt(ids.length)];
+                            boolean fetch = (n & 1) == 0;
+                            String uri = fetch ? base + "/" + id : base + "/" + id + "/" + COMMANDS[random.nextInt(COMMANDS.length)];
+                            long start = System.nanoTime();
+                            HttpResponse<String> response = send(client, fetch ? "GET" : "POST", uri);
+                            samples[n++] = System.nanoTime() - start;
+                            if (response.statusCode() >= 400 && response.statusCode() != 429) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    samples[samples.length - 1] = n;
+                }));
+            }
+            long start = System.nanoTime();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            double elapsed = (System.nanoTime() - start) / 1e9;
+
+            int total = 0;
+            for (long[] samples : latencies) {
+                total += (int) samples[samples.length - 1];
+            }
+            long[] all = new long[total];
+            int offset = 0;
+            for (long[] samples : latencies) {
+                int n = (int) samples[samples.length - 1];
+                System.arraycopy(samples, 0, all, offset, n);
+                offset += n;
+            }
+            Arrays.sort(all);
+            System.out.printf("Requests: %,d in %.1f s (%,.0f/s), errors: %d%n", total, elapsed, total / elapsed, errors.get());
+            if (total > 0) {
+                System.out.printf("Latency p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                        all[total / 2] / 1e6, all[(int) (total * 0.99)] / 1e6, all[total - 1] / 1e6);
+            }
+        }
+    }
+
+    private static HttpResponse<String> send(HttpClient client, String method, String uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Benchmark comparing the game loop's lock-free mailbox with a synchronized session.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.sim.GameLoop;
+import com.group14.virtualpet.state.GameState;
+import com.group14.virtualpet.state.GameStateSnapshot;
+import com.group14.virtualpet.util.MpscMailbox;
+
+/**
+ * Has a growing number of sender threads change one game as fast as they can,
+ * in three ways:
+ * <ul>
+ * <li>mailbox: changes are sent through the lock-free MpscMailbox of a running
+ *     GameLoop, which applies them on its own thread and publishes snapshots;</li>
+ * <li>synchronized: every sender locks the game state and changes it directly,
+ *     then takes its own snapshot, as the code did before the loop owned the state;</li>
+ * <li>raw mailbox: senders and one receiver on a bare MpscMailbox, to show the
+ *     cost of the queue itself.</li>
+ * </ul>
+ * Reports changes per second for each. Not a unit test; run the main method, e.g.:
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes \
+ *     com.group14.virtualpet.bench.MailboxContentionBenchmark [maxSenders] [millisPerRun]
+ * </pre>
+ */
+public class MailboxContentionBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int maxSenders = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        long millis = args.length > 1 ? Long.parseLong(args[1]) : 2000;
+
+        System.out.printf("%8s %16s %16s %16s%n", "senders", "mailbox/s", "synchronized/s", "raw mailbox/s");
+        for (int senders = 1; senders <= maxSenders; senders *= 2) {
+            double mailbox = runLoopMailbox(senders, millis);
+            double locked = runSynchronized(senders, millis);
+            double raw = runRawMailbox(senders, millis);
+            System.out.printf("%8d %,16.0f %,16.0f %,16.0f%n", senders, mailbox, locked, raw);
+        }
+    }
+
+    private static GameState newState() {
+        return new GameState(new Pet("Bench", "balanced_robot"), new Inventory(), 0);
+    }
+
+    /** Senders execute changes through a running game loop; returns changes applied per second. */
+    private static double runLoopMailbox(int senders, long millis) throws InterruptedException {
+        AtomicLong applied = new AtomicLong();
+        // A long tick, so the loop only handles messages during the run.
+        GameLoop loop = new GameLoop(newState(), 60_000, null);
+        loop.start();
+        try {
+            return runSenders(senders, millis, applied, () -> {
+                if (!loop.execute(session -> {
+                    session.getState().addPlaytimeMillis(1);
+                    applied.incrementAndGet();
+                })) {
+                    // Full: let the loop thread catch up.
+                    Thread.yield();
+                }
+            });
+        } finally {
+            loop.stop();
+        }
+    }
+
+    /** Senders lock the state, change it and snapshot it themselves. */
+    private static double runSynchronized(int senders, long millis) throws InterruptedException {
+        AtomicLong applied = new AtomicLong();
+        GameState state = newState();
+        return runSenders(senders, millis, applied, () -> {
+            synchronized (state) {
+                state.addPlaytimeMillis(1);
+                GameStateSnapshot.of(state, 0);
+                applied.incrementAndGet();
+            }
+        });
+    }
+
+    /** Senders offer to a bare mailbox drained by one receiver thread. */
+    private static double runRawMailbox(int senders, long millis) throws InterruptedException {
+        AtomicLong applied = new AtomicLong();
+        MpscMailbox<Runnable> mailbox = new MpscMailbox<>(GameLoop.MAX_PENDING_COMMANDS);
+        GameState state = newState();
+        Runnable change = () -> state.addPlaytimeMillis(1);
+        Thread receiver = Thread.ofPlatform().start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                Runnable message = mailbox.poll();
+                if (message != null) {
+                    message.run();
+                    applied.incrementAndGet();
+                } else {
+                    Thread.yield();
+                }
+            }
+        });
+        try {
+            return runSenders(senders, millis, applied, () -> {
+                if (!mailbox.offer(change)) {
+                    Thread.yield();
+                }
+            });
+        } finally {
+            receiver.interrupt();
+            receiver.join();
+        }
+    }
+
+    private static double runSenders(int senders, long millis, AtomicLong applied, Runnable send)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        long[] window = new long[1];
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < senders; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long end = window[0];
+                while (System.nanoTime() < end) {
+                    send.run();
+                }
+            }));
+        }
+        long begin = System.nanoTime();
+        window[0] = begin + millis * 1_000_000;
+        long before = applied.get();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        return (applied.get() - before) / seconds;
+    }
+}
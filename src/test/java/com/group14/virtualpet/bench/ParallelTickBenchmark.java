@@ -0,0 +1,105 @@
+/**
+ * Benchmark comparing a serial population tick with the sharded parallel ticker.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetPopulation;
+import com.group14.virtualpet.sim.ParallelPetTicker;
+
+/**
+ * Measures pet-ticks per second for a serial PetPopulation.tickAll() and for a
+ * ParallelPetTicker on pools of 1, 2, 4, ... threads up to the number of cores.
+ * Not a unit test; run the main method, e.g.:
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes \
+ *     com.group14.virtualpet.bench.ParallelTickBenchmark [pets] [ticks] [rounds] [shardSize]
+ * </pre>
+ */
+public class ParallelTickBenchmark {
+
+    private static final String[] PET_TYPES = {"friendly_robot", "balanced_robot", "challenging_robot"};
+
+    public static void main(String[] args) {
+        int pets = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int shardSize = args.length > 3 ? Integer.parseInt(args[3]) : ParallelPetTicker.DEFAULT_SHARD_SIZE;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        PetPopulation population = newPopulation(pets);
+        long[] initial = new long[pets];
+        population.packAll(initial);
+
+        System.out.printf("%,d pets, %d ticks per round, %d rounds, shard size %,d, %d cores%n",
+                pets, ticks, rounds, shardSize, cores);
+        // Warm up first so the JIT has compiled the kernel.
+        measure(population, initial, null, ticks, Math.max(1, rounds / 5));
+        double serialRate = measure(population, initial, null, ticks, rounds);
+        System.out.printf("%-12s %,15.0f pet-ticks/s%n", "serial", serialRate);
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(cores);
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ParallelPetTicker ticker = new ParallelPetTicker(pool, shardSize);
+                measure(population, initial, ticker, ticks, Math.max(1, rounds / 5));
+                double rate = measure(population, initial, ticker, ticks, rounds);
+                System.out.printf("%-12s %,15.0f pet-ticks/s  (%.2fx serial)%n",
+                        threads + " threads", rate, rate / serialRate);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Ticks the population for several rounds and returns pet-ticks per second.
+     * Each round starts from the same packed states, so pets stay in a realistic
+     * mix of awake, sleeping and hungry instead of all ending up dead.
+     * @param ticker The ticker to use, or null for a serial tickAll().
+     */
+    private static double measure(PetPopulation population, long[] initial, ParallelPetTicker ticker,
+                                  int ticks, int rounds) {
+        long elapsed = 0;
+        for (int r = 0; r < rounds; r++) {
+            for (int i = 0; i < population.size(); i++) {
+                population.unpack(i, initial[i]);
+            }
+            long start = System.nanoTime();
+            for (int t = 0; t < ticks; t++) {
+                if (ticker == null) {
+                    population.tickAll();
+                } else {
+                    ticker.tick(population);
+                }
+            }
+            elapsed += System.nanoTime() - start;
+        }
+        return (double) population.size() * ticks * rounds / (elapsed / 1e9);
+    }
+
+    private static PetPopulation newPopulation(int pets) {
+        PetPopulation population = new PetPopulation(pets);
+        for (int i = 0; i < pets; i++) {
+            Pet pet = new Pet("Pet" + i, PET_TYPES[i % PET_TYPES.length]);
+            // Vary how long each pet has already lived to spread the states.
+            pet.advance(i % 150);
+            population.add(pet);
+        }
+        return population;
+    }
+}
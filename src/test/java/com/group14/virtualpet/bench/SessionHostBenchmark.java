@@ -0,0 +1,68 @@
+/**
+ * Benchmark hosting many headless games at once on virtual threads.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.bench;
+
+import com.group14.virtualpet.model.Inventory;
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.sim.SessionHost;
+import com.group14.virtualpet.state.GameState;
+
+/**
+ * Creates a number of sessions in one SessionHost, lets them run, and reports the
+ * heap used per session and the ticks per second achieved against the target.
+ * Not a unit test; run the main method, e.g.:
+ * <pre>
+ * mvn test-compile
+ * java -Xmx4g -cp target/classes:target/test-classes \
+ *     com.group14.virtualpet.bench.SessionHostBenchmark [sessions] [tickMillis] [seconds]
+ * </pre>
+ */
+public class SessionHostBenchmark {
+
+    private static final String[] PET_TYPES = {"friendly_robot", "balanced_robot", "challenging_robot"};
+
+    public static void main(String[] args) throws InterruptedException {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long tickMillis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        long heapBefore = usedHeap();
+        try (SessionHost host = new SessionHost(tickMillis, sessions)) {
+            long createStart = System.nanoTime();
+            for (int i = 0; i < sessions; i++) {
+                Pet pet = new Pet("Pet" + i, PET_TYPES[i % PET_TYPES.length]);
+                GameState state = new GameState(pet, new Inventory(), 0);
+                state.setRandomSeed(i);
+                host.create(state);
+            }
+            double createSeconds = (System.nanoTime() - createStart) / 1e9;
+            System.out.printf("Created %,d sessions in %.2f s%n", sessions, createSeconds);
+
+            // Let the first ticks run, then measure a steady stretch.
+            Thread.sleep(Math.max(1000, tickMillis * 2));
+            System.out.printf("Heap per session: %,d bytes%n", (usedHeap() - heapBefore) / sessions);
+
+            long ticksStart = host.getTotalTicks();
+            long start = System.nanoTime();
+            Thread.sleep(seconds * 1000L);
+            long ticks = host.getTotalTicks() - ticksStart;
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            double target = sessions * 1000.0 / tickMillis;
+            System.out.printf("Ticks per second: %,.0f (target %,.0f, %.1f%%)%n",
+                    ticks / elapsed, target, 100.0 * ticks / elapsed / target);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
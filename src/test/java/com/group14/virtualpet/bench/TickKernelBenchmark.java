@@ -0,0 +1,89 @@
+/**
+ * Benchmark comparing the scalar and SIMD population tick kernels.
+ * Run it with the "vector" profile so the SIMD kernel is available.
+ *
+ * @author Group 14
+ * @version 1.0
+ */
+
+package com.group14.virtualpet.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.group14.virtualpet.model.Pet;
+import com.group14.virtualpet.model.PetPopulation;
+import com.group14.virtualpet.model.TickKernel;
+import com.group14.virtualpet.model.TickKernels;
+
+/**
+ * Measures pet-ticks (lanes) per second for each available kernel.
+ * Not a unit test; run the main method, e.g.:
+ * <pre>
+ * mvn -Pvector test-compile
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes \
+ *     com.group14.virtualpet.bench.TickKernelBenchmark [pets] [ticks] [rounds]
+ * </pre>
+ */
+public class TickKernelBenchmark {
+
+    private static final String[] PET_TYPES = {"friendly_robot", "balanced_robot", "challenging_robot"};
+
+    public static void main(String[] args) {
+        int pets = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        List<TickKernel> kernels = new ArrayList<>();
+        kernels.add(TickKernels.scalar());
+        if (TickKernels.vector() != null) {
+            kernels.add(TickKernels.vector());
+        } else {
+            System.out.println("Vector kernel not available (build with -Pvector and add jdk.incubator.vector).");
+        }
+
+        System.out.printf("%d pets, %d ticks per round, %d rounds%n", pets, ticks, rounds);
+        double scalarRate = 0;
+        for (TickKernel kernel : kernels) {
+            // Warm up first so the JIT has compiled (and for SIMD, intrinsified) the kernel.
+            measure(kernel, pets, ticks, Math.max(1, rounds / 5));
+            double rate = measure(kernel, pets, ticks, rounds);
+            if (kernel == TickKernels.scalar()) {
+                scalarRate = rate;
+            }
+            System.out.printf("%-10s %,15.0f lanes/s  (%.2fx scalar)%n",
+                    kernel.getName(), rate, scalarRate > 0 ? rate / scalarRate : 1.0);
+        }
+    }
+
+    /**
+     * Ticks a population for several rounds and returns pet-ticks per second.
+     * Each round starts from the same packed states, so pets stay in a realistic
+     * mix of awake, sleeping and hungry instead of all ending up dead.
+     */
+    private static double measure(TickKernel kernel, int pets, int ticks, int rounds) {
+        PetPopulation population = new PetPopulation(pets);
+        population.setTickKernel(kernel);
+        for (int i = 0; i < pets; i++) {
+            Pet pet = new Pet("Pet" + i, PET_TYPES[i % PET_TYPES.length]);
+            // Vary how long each pet has already lived to spread the states.
+            pet.advance(i % 150);
+            population.add(pet);
+        }
+        long[] initial = new long[pets];
+        population.packAll(initial);
+
+        long elapsed = 0;
+        for (int r = 0; r < rounds; r++) {
+            for (int i = 0; i < pets; i++) {
+                population.unpack(i, initial[i]);
+            }
+            long start = System.nanoTime();
+            for (int t = 0; t < ticks; t++) {
+                population.tickAll();
+            }
+            elapsed += System.nanoTime() - start;
+        }
+        return (double) pets * ticks * rounds / (elapsed / 1e9);
+    }
+}